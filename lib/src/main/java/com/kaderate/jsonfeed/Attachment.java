@@ -6,6 +6,7 @@
  *
  * Change History:
  *    - Nov 3, 2020 - File was created
+ *    - Oct 18, 2026 - Extension values are kept as JSONObject/JSONArray
  *
  * TBD:
  *    -
@@ -19,7 +20,12 @@ package com.kaderate.jsonfeed;
 
 
 /* Import Java stuff */
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 
 
 /* Import JSON stuff */
@@ -159,4 +165,56 @@ public interface Attachment extends JSONString {
     public String toJSONString();
 
 
+    /**
+     * Write the JSON representation of this object to a writer, the writer
+     * is flushed but not closed, the JSON string is written by default
+     *
+     * @param   writer  the writer
+     *
+     * @exception   IOException
+     *              If the writer could not be written
+     */
+    public default void writeTo(final Writer writer) throws IOException {
+
+        writer.write(this.toJSONString());
+        writer.flush();
+
+    }
+
+
+    /**
+     * Write the JSON representation of this object to a stream, UTF-8
+     * encoded, the stream is flushed but not closed, the JSON string is
+     * written by default
+     *
+     * @param   outputStream    the stream
+     *
+     * @exception   IOException
+     *              If the stream could not be written
+     */
+    public default void writeTo(final OutputStream outputStream) throws IOException {
+
+        outputStream.write(this.toJSONString().getBytes(StandardCharsets.UTF_8));
+        outputStream.flush();
+
+    }
+
+
+    /**
+     * Write the JSON representation of this object to a byte buffer, UTF-8
+     * encoded, at the position of the byte buffer which is advanced past it,
+     * the JSON string is written by default
+     *
+     * @param   byteBuffer  the byte buffer
+     *
+     * @exception   java.nio.BufferOverflowException
+     *              If the byte buffer is too small, its position is left unchanged
+     */
+    public default void writeTo(final ByteBuffer byteBuffer) {
+
+        byteBuffer.put(this.toJSONString().getBytes(StandardCharsets.UTF_8));
+
+    }
+
+
 }
@@ -0,0 +1,64 @@
+/**
+ * FeedListener.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.Item;
+
+
+/**
+ * Feed listener interface, receives the feed and its items from
+ * a push parser as soon as they have been parsed
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public interface FeedListener {
+
+
+    /**
+     * Called with the feed when the items are reached, or when the version
+     * is found if it comes after the items, or at the end of the feed if there
+     * are no items, the item list is always empty
+     *
+     * @param   feed    the feed
+     */
+    public void onFeed(Feed feed);
+
+
+    /**
+     * Called with each item once it has been parsed, items which come
+     * before the version are held back until the version is found
+     *
+     * @param   item    the item
+     */
+    public void onItem(Item item);
+
+
+    /**
+     * Called at the end of the feed, feed members located
+     * after the items have been set on the feed
+     *
+     * @param   feed    the feed
+     */
+    public void onEnd(Feed feed);
+
+
+}
@@ -0,0 +1,82 @@
+/**
+ * FeedReader.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed;
+
+
+/* Import Java stuff */
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Iterator;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.Item;
+
+
+/**
+ * Feed reader interface, reads the feed items one at a time
+ * rather than building the whole item list in memory
+ *
+ * Read errors are thrown as UncheckedIOException, invalid URIs
+ * are thrown as IllegalArgumentException by the iterator methods
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public interface FeedReader extends Iterator<Item>, Closeable {
+
+
+    /**
+     * Get the feed, the item list is always empty, feed members
+     * located after the items are set once all the items have been read
+     *
+     * @return  the feed
+     */
+    public Feed getFeed();
+
+
+    /**
+     * Check if there is another item
+     *
+     * @return  true if there is another item
+     */
+    @Override
+    public boolean hasNext();
+
+
+    /**
+     * Get the next item
+     *
+     * @return  the next item
+     */
+    @Override
+    public Item next();
+
+
+    /**
+     * Close the feed reader
+     *
+     * @exception   IOException
+     *              If the feed reader could not be closed
+     */
+    @Override
+    public void close() throws IOException;
+
+
+}
@@ -0,0 +1,324 @@
+/**
+ * ContentDecoder.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.InputStream;
+import java.io.IOException;
+import java.io.PushbackInputStream;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.net.URLConnection;
+import java.nio.ByteBuffer;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+
+/**
+ * Content decoder, inflates gzip and deflate encoded feed streams as they are read
+ *
+ * Feeds fetched from a URI are requested with gzip and deflate content encoding
+ * and inflated according to the content encoding of the response. Feed streams
+ * without a content encoding are recognized by their first bytes, a JSON feed
+ * never starts with the gzip magic number or a zlib header.
+ *
+ * The feed is never inflated as a whole, the inflated bytes are read by the
+ * tokenizer one buffer at a time.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+final class ContentDecoder {
+
+
+    /**
+     * Accepted content encodings
+     */
+    static final String ACCEPT_ENCODING = "gzip, deflate";
+
+
+    /**
+     * Inflater buffer size
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+
+
+    /**
+     * Constructor
+     */
+    private ContentDecoder() {
+
+    }
+
+
+
+    /**
+     * Open a URI, requesting a gzip or deflate encoded response, and
+     * return the response stream, inflated if it is encoded
+     *
+     * @param   uri     the URI
+     *
+     * @return  the response stream
+     *
+     * @exception   MalformedURLException
+     *              If the URI could not be converted to a URL
+     *
+     * @exception   IOException
+     *              If the URI could not be opened, or the content encoding is not supported
+     */
+    static InputStream openUri(final URI uri) throws MalformedURLException, IOException {
+
+        /* Request an encoded response, this is ignored by non-HTTP connections */
+        final URLConnection connection = uri.toURL().openConnection();
+        connection.setRequestProperty("Accept-Encoding", ContentDecoder.ACCEPT_ENCODING);
+
+        /* Decode the response stream */
+        return (ContentDecoder.decode(connection.getInputStream(), connection.getContentEncoding()));
+
+    }
+
+
+
+    /**
+     * Decode a stream according to its content encoding, the stream is
+     * recognized by its first bytes if there is no content encoding
+     *
+     * @param   inputStream         the stream
+     * @param   contentEncoding     the content encoding, may be null
+     *
+     * @return  the decoded stream
+     *
+     * @exception   IOException
+     *              If the stream could not be read, or the content encoding is not supported
+     */
+    static InputStream decode(final InputStream inputStream, final String contentEncoding) throws IOException {
+
+        /* Recognize the stream if there is no content encoding */
+        if ( (contentEncoding == null) || (contentEncoding.isBlank() == true) ) {
+            return (ContentDecoder.detect(inputStream));
+        }
+
+        /* Decode the stream */
+        try {
+            switch ( contentEncoding.trim().toLowerCase(Locale.ROOT) ) {
+                case "identity":
+                    return (ContentDecoder.detect(inputStream));
+                case "gzip":
+                case "x-gzip":
+                    return (new GZIPInputStream(inputStream, ContentDecoder.BUFFER_SIZE));
+                case "deflate":
+                    return (ContentDecoder.inflate(inputStream));
+                default:
+                    throw new IOException("Unsupported content encoding: " + contentEncoding);
+            }
+        }
+        catch ( final IOException exception ) {
+            inputStream.close();
+            throw exception;
+        }
+
+    }
+
+
+
+    /**
+     * Recognize a gzip or zlib encoded stream by its first bytes and inflate it,
+     * other streams are returned with their first bytes intact
+     *
+     * @param   inputStream     the stream
+     *
+     * @return  the decoded stream
+     *
+     * @exception   IOException
+     *              If the stream could not be read
+     */
+    static InputStream detect(final InputStream inputStream) throws IOException {
+
+        /* Peek at the first bytes */
+        final PushbackInputStream pushbackStream = new PushbackInputStream(inputStream, 2);
+        final int header = ContentDecoder.peek(pushbackStream);
+
+        /* Gzip magic number */
+        if ( ContentDecoder.isGzipHeader(header) == true ) {
+            return (new GZIPInputStream(pushbackStream, ContentDecoder.BUFFER_SIZE));
+        }
+
+        /* Zlib header */
+        if ( ContentDecoder.isZlibHeader(header) == true ) {
+            return (ContentDecoder.newInflaterStream(pushbackStream, false));
+        }
+
+        return (pushbackStream);
+
+    }
+
+
+
+    /**
+     * Check if feed bytes are gzip or zlib encoded by their first bytes
+     *
+     * @param   bytes   the bytes
+     *
+     * @return  true if the bytes are gzip or zlib encoded
+     */
+    static boolean isEncoded(final byte[] bytes) {
+
+        if ( bytes.length < 2 ) {
+            return (false);
+        }
+
+        final int header = ((bytes[0] & 0xff) << 8) | (bytes[1] & 0xff);
+        return ((ContentDecoder.isGzipHeader(header) == true) || (ContentDecoder.isZlibHeader(header) == true));
+
+    }
+
+
+
+    /**
+     * Check if a feed byte buffer is gzip or zlib encoded by its first bytes
+     *
+     * @param   byteBuffer  the byte buffer, from its position
+     *
+     * @return  true if the byte buffer is gzip or zlib encoded
+     */
+    static boolean isEncoded(final ByteBuffer byteBuffer) {
+
+        if ( byteBuffer.remaining() < 2 ) {
+            return (false);
+        }
+
+        final int header = ((byteBuffer.get(byteBuffer.position()) & 0xff) << 8) | (byteBuffer.get(byteBuffer.position() + 1) & 0xff);
+        return ((ContentDecoder.isGzipHeader(header) == true) || (ContentDecoder.isZlibHeader(header) == true));
+
+    }
+
+
+
+    /**
+     * Inflate a deflate encoded stream, HTTP deflate is meant to be zlib wrapped
+     * but some servers send raw deflate data, so the zlib header is optional
+     *
+     * @param   inputStream     the stream
+     *
+     * @return  the inflated stream
+     *
+     * @exception   IOException
+     *              If the stream could not be read
+     */
+    private static InputStream inflate(final InputStream inputStream) throws IOException {
+
+        /* Peek at the first bytes */
+        final PushbackInputStream pushbackStream = new PushbackInputStream(inputStream, 2);
+        final boolean nowrap = (ContentDecoder.isZlibHeader(ContentDecoder.peek(pushbackStream)) == false);
+
+        /* Inflate the stream */
+        return (ContentDecoder.newInflaterStream(pushbackStream, nowrap));
+
+    }
+
+
+
+    /**
+     * Create an inflater stream, the inflater is ended when the stream is closed
+     * since it is not the default inflater of the stream
+     *
+     * @param   inputStream     the stream
+     * @param   nowrap          true if the deflate data has no zlib header
+     *
+     * @return  the inflater stream
+     */
+    private static InputStream newInflaterStream(final InputStream inputStream, final boolean nowrap) {
+
+        return (new InflaterInputStream(inputStream, new Inflater(nowrap), ContentDecoder.BUFFER_SIZE) {
+            @Override
+            public void close() throws IOException {
+                super.close();
+                this.inf.end();
+            }
+        });
+
+    }
+
+
+
+    /**
+     * Peek at the first two bytes of a stream
+     *
+     * @param   pushbackStream  the stream
+     *
+     * @return  the first two bytes as a big endian short, -1 if there are fewer than two bytes
+     *
+     * @exception   IOException
+     *              If the stream could not be read
+     */
+    private static int peek(final PushbackInputStream pushbackStream) throws IOException {
+
+        /* Read the first two bytes */
+        final byte[] bytes = new byte[2];
+        int length = 0;
+        while ( length < 2 ) {
+            final int count = pushbackStream.read(bytes, length, 2 - length);
+            if ( count < 0 ) {
+                break;
+            }
+            length += count;
+        }
+
+        /* Push them back */
+        pushbackStream.unread(bytes, 0, length);
+
+        return ((length == 2) ? (((bytes[0] & 0xff) << 8) | (bytes[1] & 0xff)) : -1);
+
+    }
+
+
+
+    /**
+     * Check for the gzip magic number
+     *
+     * @param   header  the first two bytes
+     *
+     * @return  true if the bytes are the gzip magic number
+     */
+    private static boolean isGzipHeader(final int header) {
+
+        return (header == 0x1f8b);
+
+    }
+
+
+
+    /**
+     * Check for a zlib header, deflate compression with a valid header checksum
+     *
+     * @param   header  the first two bytes
+     *
+     * @return  true if the bytes are a zlib header
+     */
+    private static boolean isZlibHeader(final int header) {
+
+        return ((header >= 0) && ((header & 0x0f00) == 0x0800) && ((header >> 12) <= 7) && ((header % 31) == 0));
+
+    }
+
+
+}
@@ -6,6 +6,7 @@
  *
  * Change History:
  *    - Nov 3, 2020 - File was created
+ *    - Oct 18, 2026 - Extension values are kept as JSONObject/JSONArray
  *
  * TBD:
  *    -
@@ -19,11 +20,15 @@ package com.kaderate.jsonfeed.implementation;
 
 
 /* Import Java stuff */
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 
 /* Import JSON stuff */
@@ -33,6 +38,10 @@ import org.json.JSONObject;
 
 /* Import JSONFeed stuff */
 import com.kaderate.jsonfeed.Attachment;
+import com.kaderate.jsonfeed.implementation.JsonByteGenerator;
+import com.kaderate.jsonfeed.implementation.JsonStreamGenerator;
+import com.kaderate.jsonfeed.spi.JsonGenerator;
+import com.kaderate.jsonfeed.spi.JsonParser;
 
 
 /**
@@ -47,7 +56,7 @@ public class DefaultAttachment implements Attachment {
     /**
      * URI
      */
-    private URI uri = null;
+    private LazyUri uri = null;
 
 
     /**
@@ -134,43 +143,150 @@ public class DefaultAttachment implements Attachment {
 
 
     /**
-     * Constructor
+     * Process the JSON array at the tokenizer position and return the attachment object list
      *
-     * @param   jsonObject  the attachment as a JSON object
+     * @param   tokenizer       the JSON tokenizer
+     * @param   parseOptions    the parse options
+     *
+     * @return  the attachment object list
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
      *
      * @exception   URISyntaxException
      *              If the URI is invalid
      */
-    protected DefaultAttachment(final JSONObject jsonObject) throws URISyntaxException {
+    protected static List<Attachment> fromTokenizer(final JsonParser tokenizer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
 
-        /* Get the URI */
-        if ( jsonObject.has("url") == true ) {
-            this.setUri(new URI(jsonObject.getString("url")));
+        /* Create the attachment list */
+        final List<Attachment> attachmentList = new ArrayList<Attachment>();
+
+        /* Process the JSON array */
+        tokenizer.beginArray();
+        while ( tokenizer.hasNext() == true ) {
+            attachmentList.add(new DefaultAttachment(tokenizer, parseOptions));
         }
+        tokenizer.endArray();
 
-        /* Get the mime type */
-        this.setMimeType(jsonObject.optString("mime_type", null));
+        /* Return the attachment list */
+        return (attachmentList);
+
+    }
 
-        /* Get the title */
-        this.setTitle(jsonObject.optString("title", null));
 
-        /* Get the size in bytes */
-        if ( jsonObject.has("size_in_bytes") == true ) {
-            this.setSizeInBytes(jsonObject.getInt("size_in_bytes"));
-        }
 
-        /* Get the duration in seconds */
-        if ( jsonObject.has("duration_in_seconds") == true ) {
-            this.setDurationInSeconds(jsonObject.optInt("duration_in_seconds"));
+    /**
+     * Constructor
+     *
+     * @param   jsonObject  the attachment as a JSON object
+     *
+     * @exception   URISyntaxException
+     *              If the URI is invalid
+     */
+    protected DefaultAttachment(final JSONObject jsonObject) throws URISyntaxException {
+
+        /* Process the JSON object members in a single pass, each member is looked up once */
+        for ( final String key : jsonObject.keySet() ) {
+
+            switch ( key ) {
+
+                /* Get the URI */
+                case "url":
+                    this.uri = LazyUri.fromString(jsonObject.getString(key), true);
+                    break;
+
+                /* Get the mime type */
+                case "mime_type":
+                    this.setMimeType(jsonObject.optString(key, null));
+                    break;
+
+                /* Get the title */
+                case "title":
+                    this.setTitle(jsonObject.optString(key, null));
+                    break;
+
+                /* Get the size in bytes */
+                case "size_in_bytes":
+                    this.setSizeInBytes(jsonObject.getInt(key));
+                    break;
+
+                /* Get the duration in seconds */
+                case "duration_in_seconds":
+                    this.setDurationInSeconds(jsonObject.optInt(key));
+                    break;
+
+                /* Get the extensions, the values are kept as they are, skip anything else */
+                default:
+                    if ( key.startsWith("_") == true ) {
+                        this.extensionsJsonObject.put(key, jsonObject.get(key));
+                    }
+                    break;
+            }
         }
 
+    }
 
-        /* Get the extensions */
-        for ( final Map.Entry<String, Object> entry : jsonObject.toMap().entrySet() ) {
-            if ( entry.getKey().startsWith("_") == true ) {
-                this.extensionsJsonObject.put(entry.getKey(), entry.getValue());
+
+
+    /**
+     * Constructor
+     *
+     * @param   tokenizer       the JSON tokenizer positioned on the attachment JSON object
+     * @param   parseOptions    the parse options
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the URI is invalid
+     */
+    protected DefaultAttachment(final JsonParser tokenizer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Process the JSON object members */
+        tokenizer.beginObject();
+        while ( tokenizer.hasNext() == true ) {
+
+            final String name = tokenizer.nextName();
+
+            switch ( name ) {
+
+                /* Get the URI */
+                case "url":
+                    this.uri = LazyUri.fromTokenizer(tokenizer, parseOptions);
+                    break;
+
+                /* Get the mime type */
+                case "mime_type":
+                    this.setMimeType(parseOptions.intern(tokenizer.nextOptString()));
+                    break;
+
+                /* Get the title */
+                case "title":
+                    this.setTitle(tokenizer.nextOptString());
+                    break;
+
+                /* Get the size in bytes */
+                case "size_in_bytes":
+                    this.setSizeInBytes(tokenizer.nextInt());
+                    break;
+
+                /* Get the duration in seconds */
+                case "duration_in_seconds":
+                    this.setDurationInSeconds(tokenizer.nextOptInt());
+                    break;
+
+                /* Get the extensions, skip anything else */
+                default:
+                    if ( name.startsWith("_") == true ) {
+                        this.extensionsJsonObject.put(name, JsonTokenizer.nextExtensionValue(tokenizer));
+                    }
+                    else {
+                        tokenizer.skipValue();
+                    }
+                    break;
             }
         }
+        tokenizer.endObject();
 
     }
 
@@ -208,7 +324,7 @@ public class DefaultAttachment implements Attachment {
     @Override
     public URI getUri() {
 
-        return (this.uri);
+        return ((this.uri != null) ? this.uri.getUri() : null);
 
     }
 
@@ -224,7 +340,7 @@ public class DefaultAttachment implements Attachment {
     @Override
     public Attachment setUri(URI uri) {
 
-        this.uri = uri;
+        this.uri = LazyUri.fromUri(uri);
         return (this);
 
     }
@@ -409,6 +525,82 @@ public class DefaultAttachment implements Attachment {
 
 
 
+    /**
+     * Encode this object to a JSON generator
+     *
+     * @param   generator   the JSON generator
+     *
+     * @exception   IOException
+     *              If the generator could not be written
+     */
+    public void encode(final JsonGenerator generator) throws IOException {
+
+        generator.beginObject();
+
+        /* Add the URI */
+        if ( this.uri != null ) {
+            generator.name("url").value(this.uri.toString());
+        }
+
+        /* Add the mime type */
+        if ( this.getMimeType() != null ) {
+            generator.name("mime_type").value(this.getMimeType());
+        }
+
+        /* Add the title */
+        if ( this.getTitle() != null ) {
+            generator.name("title").value(this.getTitle());
+        }
+
+        /* Add the size in bytes */
+        if ( this.getSizeInBytes() != null ) {
+            generator.name("size_in_bytes").value(this.getSizeInBytes());
+        }
+
+        /* Add the duration in seconds */
+        if ( this.getDurationInSeconds() != null ) {
+            generator.name("duration_in_seconds").value(this.getDurationInSeconds());
+        }
+
+        /* Add the extensions, the values are passed through as they are */
+        final JSONObject extensionsJsonObject = this.getExtensionsJSONObject();
+        if ( extensionsJsonObject != null ) {
+            for ( final String key : extensionsJsonObject.keySet() ) {
+                if ( key.startsWith("_") == true ) {
+                    generator.name(key).value(extensionsJsonObject.get(key));
+                }
+            }
+        }
+
+        generator.endObject();
+
+    }
+
+
+
+    /**
+     * Encode a attachment to a JSON generator, attachments which are not default attachments
+     * are encoded from their JSON string representation
+     *
+     * @param   attachmentthe attachment
+     * @param   generator   the JSON generator
+     *
+     * @exception   IOException
+     *              If the generator could not be written
+     */
+    static void encode(final Attachment attachment, final JsonGenerator generator) throws IOException {
+
+        if ( attachment instanceof DefaultAttachment ) {
+            ((DefaultAttachment)attachment).encode(generator);
+        }
+        else {
+            generator.value(attachment);
+        }
+
+    }
+
+
+
     /**
      * Return the JSON string representation for this object
      *
@@ -421,14 +613,14 @@ public class DefaultAttachment implements Attachment {
         final JSONObject jsonObject = new JSONObject();
 
         /* Add the URI */
-        jsonObject.put("url", this.getUri().toString());
+        jsonObject.put("url", this.uri.toString());
 
         /* Add the mime type */
-        jsonObject.put("type", this.getMimeType());
+        jsonObject.put("mime_type", this.getMimeType());
 
         /* Add the title */
         if ( this.getTitle() != null ) {
-            jsonObject.put("type", this.getTitle());
+            jsonObject.put("title", this.getTitle());
         }
 
         /* Add the size in bytes */
@@ -441,11 +633,12 @@ public class DefaultAttachment implements Attachment {
             jsonObject.put("duration_in_seconds", this.getDurationInSeconds());
         }
 
-        /* Add the extensions */
-        if ( this.getExtensionsJSONObject() != null ) {
-            for ( final Map.Entry<String, Object> entry : this.getExtensionsJSONObject().toMap().entrySet() ) {
-                if ( entry.getKey().startsWith("_") == true ) {
-                    jsonObject.put(entry.getKey(), entry.getValue());
+        /* Add the extensions, the values are passed through as they are */
+        final JSONObject extensionsJsonObject = this.getExtensionsJSONObject();
+        if ( extensionsJsonObject != null ) {
+            for ( final String key : extensionsJsonObject.keySet() ) {
+                if ( key.startsWith("_") == true ) {
+                    jsonObject.put(key, extensionsJsonObject.get(key));
                 }
             }
         }
@@ -459,4 +652,70 @@ public class DefaultAttachment implements Attachment {
     }
 
 
+
+    /**
+     * Write the JSON representation of this object to a writer, the
+     * attachment is streamed to the writer as it is encoded without building
+     * a JSON object or a string, the writer is flushed but not closed
+     *
+     * @param   writer  the writer
+     *
+     * @exception   IOException
+     *              If the writer could not be written
+     */
+    @Override
+    public void writeTo(final Writer writer) throws IOException {
+
+        final JsonGenerator generator = new JsonStreamGenerator(writer);
+        this.encode(generator);
+        generator.flush();
+
+    }
+
+
+
+    /**
+     * Write the JSON representation of this object to a stream, it is
+     * encoded straight to UTF-8 bytes, the stream is flushed but not closed
+     *
+     * @param   outputStream    the stream
+     *
+     * @exception   IOException
+     *              If the stream could not be written
+     */
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+
+        final JsonGenerator generator = new JsonByteGenerator(outputStream);
+        this.encode(generator);
+        generator.flush();
+
+    }
+
+
+
+    /**
+     * Write the JSON representation of this object to a byte buffer, UTF-8
+     * encoded, at the position of the byte buffer which is advanced past it
+     *
+     * @param   byteBuffer  the byte buffer
+     *
+     * @exception   java.nio.BufferOverflowException
+     *              If the byte buffer is too small, its position is left unchanged
+     */
+    @Override
+    public void writeTo(final ByteBuffer byteBuffer) {
+
+        try {
+            final JsonGenerator generator = new JsonByteGenerator(byteBuffer);
+            this.encode(generator);
+            generator.flush();
+        }
+        catch ( final IOException exception ) {
+            throw new UncheckedIOException(exception);
+        }
+
+    }
+
+
 }
@@ -6,6 +6,7 @@
  *
  * Change History:
  *    - Nov 3, 2020 - File was created
+ *    - Oct 18, 2026 - Extension values are kept as JSONObject/JSONArray
  *
  * TBD:
  *    -
@@ -19,11 +20,15 @@ package com.kaderate.jsonfeed.implementation;
 
 
 /* Import Java stuff */
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 
 /* Import JSON stuff */
@@ -33,6 +38,10 @@ import org.json.JSONObject;
 
 /* Import JSONFeed stuff */
 import com.kaderate.jsonfeed.Author;
+import com.kaderate.jsonfeed.implementation.JsonByteGenerator;
+import com.kaderate.jsonfeed.implementation.JsonStreamGenerator;
+import com.kaderate.jsonfeed.spi.JsonGenerator;
+import com.kaderate.jsonfeed.spi.JsonParser;
 
 
 /**
@@ -53,13 +62,13 @@ public class DefaultAuthor implements Author {
     /**
      * URI
      */
-    private URI uri = null;
+    private LazyUri uri = null;
 
 
     /**
      * Avatar (URI)
      */
-    private URI avatar = null;
+    private LazyUri avatar = null;
 
 
     /**
@@ -127,6 +136,42 @@ public class DefaultAuthor implements Author {
 
 
 
+    /**
+     * Process the JSON array at the tokenizer position and return the author object list
+     *
+     * @param   tokenizer       the JSON tokenizer
+     * @param   parseOptions    the parse options
+     *
+     * @return  the author object list
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the avatar URI is invalid
+     */
+    protected static List<Author> fromTokenizer(final JsonParser tokenizer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Create the author list */
+        final List<Author> authorList = new ArrayList<Author>();
+
+        /* Process the JSON array */
+        tokenizer.beginArray();
+        while ( tokenizer.hasNext() == true ) {
+            authorList.add(new DefaultAuthor(tokenizer, parseOptions));
+        }
+        tokenizer.endArray();
+
+        /* Return the author list */
+        return (authorList);
+
+    }
+
+
+
     /**
      * Constructor
      *
@@ -140,26 +185,91 @@ public class DefaultAuthor implements Author {
      */
     protected DefaultAuthor(final JSONObject jsonObject) throws URISyntaxException {
 
-        /* Get the name */
-        this.setName(jsonObject.optString("name", null));
+        /* Process the JSON object members in a single pass, each member is looked up once */
+        for ( final String key : jsonObject.keySet() ) {
 
-        /* Get the URI */
-        if ( jsonObject.has("url") == true ) {
-            this.setUri(new URI(jsonObject.getString("url")));
-        }
+            switch ( key ) {
+
+                /* Get the name */
+                case "name":
+                    this.setName(jsonObject.optString(key, null));
+                    break;
+
+                /* Get the URI */
+                case "url":
+                    this.uri = LazyUri.fromString(jsonObject.getString(key), true);
+                    break;
+
+                /* Get the avatar (URI) */
+                case "avatar":
+                    this.avatar = LazyUri.fromString(jsonObject.getString(key), true);
+                    break;
 
-        /* Get the avatar (URI) */
-        if ( jsonObject.has("avatar") == true ) {
-            this.setAvatar(new URI(jsonObject.getString("avatar")));
+                /* Get the extensions, the values are kept as they are, skip anything else */
+                default:
+                    if ( key.startsWith("_") == true ) {
+                        this.extensionsJsonObject.put(key, jsonObject.get(key));
+                    }
+                    break;
+            }
         }
 
+    }
+
+
 
-        /* Get the extensions */
-        for ( final Map.Entry<String, Object> entry : jsonObject.toMap().entrySet() ) {
-            if ( entry.getKey().startsWith("_") == true ) {
-                this.extensionsJsonObject.put(entry.getKey(), entry.getValue());
+    /**
+     * Constructor
+     *
+     * @param   tokenizer       the JSON tokenizer positioned on the author JSON object
+     * @param   parseOptions    the parse options
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the avatar URI is invalid
+     */
+    protected DefaultAuthor(final JsonParser tokenizer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Process the JSON object members */
+        tokenizer.beginObject();
+        while ( tokenizer.hasNext() == true ) {
+
+            final String name = tokenizer.nextName();
+
+            switch ( name ) {
+
+                /* Get the name */
+                case "name":
+                    this.setName(parseOptions.intern(tokenizer.nextOptString()));
+                    break;
+
+                /* Get the URI */
+                case "url":
+                    this.uri = LazyUri.fromTokenizer(tokenizer, parseOptions, true);
+                    break;
+
+                /* Get the avatar (URI) */
+                case "avatar":
+                    this.avatar = LazyUri.fromTokenizer(tokenizer, parseOptions, true);
+                    break;
+
+                /* Get the extensions, skip anything else */
+                default:
+                    if ( name.startsWith("_") == true ) {
+                        this.extensionsJsonObject.put(name, JsonTokenizer.nextExtensionValue(tokenizer));
+                    }
+                    else {
+                        tokenizer.skipValue();
+                    }
+                    break;
             }
         }
+        tokenizer.endObject();
 
     }
 
@@ -230,7 +340,7 @@ public class DefaultAuthor implements Author {
     @Override
     public URI getUri() {
 
-        return (this.uri);
+        return ((this.uri != null) ? this.uri.getUri() : null);
 
     }
 
@@ -246,7 +356,7 @@ public class DefaultAuthor implements Author {
     @Override
     public Author setUri(URI uri) {
 
-        this.uri = uri;
+        this.uri = LazyUri.fromUri(uri);
         return (this);
 
     }
@@ -261,7 +371,7 @@ public class DefaultAuthor implements Author {
     @Override
     public URI getAvatar() {
 
-        return (this.avatar);
+        return ((this.avatar != null) ? this.avatar.getUri() : null);
 
     }
 
@@ -277,7 +387,7 @@ public class DefaultAuthor implements Author {
     @Override
     public Author setAvatar(URI avatar) {
 
-        this.avatar = avatar;
+        this.avatar = LazyUri.fromUri(avatar);
         return (this);
 
     }
@@ -342,6 +452,72 @@ public class DefaultAuthor implements Author {
 
 
 
+    /**
+     * Encode this object to a JSON generator
+     *
+     * @param   generator   the JSON generator
+     *
+     * @exception   IOException
+     *              If the generator could not be written
+     */
+    public void encode(final JsonGenerator generator) throws IOException {
+
+        generator.beginObject();
+
+        /* Add the name */
+        if ( this.getName() != null ) {
+            generator.name("name").value(this.getName());
+        }
+
+        /* Add the URI */
+        if ( this.uri != null ) {
+            generator.name("url").value(this.uri.toString());
+        }
+
+        /* Add the avatar (URI) */
+        if ( this.avatar != null ) {
+            generator.name("avatar").value(this.avatar.toString());
+        }
+
+        /* Add the extensions, the values are passed through as they are */
+        final JSONObject extensionsJsonObject = this.getExtensionsJSONObject();
+        if ( extensionsJsonObject != null ) {
+            for ( final String key : extensionsJsonObject.keySet() ) {
+                if ( key.startsWith("_") == true ) {
+                    generator.name(key).value(extensionsJsonObject.get(key));
+                }
+            }
+        }
+
+        generator.endObject();
+
+    }
+
+
+
+    /**
+     * Encode a author to a JSON generator, authors which are not default authors
+     * are encoded from their JSON string representation
+     *
+     * @param   author    the author
+     * @param   generator   the JSON generator
+     *
+     * @exception   IOException
+     *              If the generator could not be written
+     */
+    static void encode(final Author author, final JsonGenerator generator) throws IOException {
+
+        if ( author instanceof DefaultAuthor ) {
+            ((DefaultAuthor)author).encode(generator);
+        }
+        else {
+            generator.value(author);
+        }
+
+    }
+
+
+
     /**
      * Return the JSON string representation for this object
      *
@@ -359,20 +535,21 @@ public class DefaultAuthor implements Author {
         }
 
         /* Add the URI */
-        if ( this.getUri() != null ) {
-            jsonObject.put("url", this.getUri().toString());
+        if ( this.uri != null ) {
+            jsonObject.put("url", this.uri.toString());
         }
 
         /* Add the avatar (URI) */
-        if ( this.getAvatar() != null ) {
-            jsonObject.put("avatar", this.getAvatar().toString());
+        if ( this.avatar != null ) {
+            jsonObject.put("avatar", this.avatar.toString());
         }
 
-        /* Add the extensions */
-        if ( this.getExtensionsJSONObject() != null ) {
-            for ( final Map.Entry<String, Object> entry : this.getExtensionsJSONObject().toMap().entrySet() ) {
-                if ( entry.getKey().startsWith("_") == true ) {
-                    jsonObject.put(entry.getKey(), entry.getValue());
+        /* Add the extensions, the values are passed through as they are */
+        final JSONObject extensionsJsonObject = this.getExtensionsJSONObject();
+        if ( extensionsJsonObject != null ) {
+            for ( final String key : extensionsJsonObject.keySet() ) {
+                if ( key.startsWith("_") == true ) {
+                    jsonObject.put(key, extensionsJsonObject.get(key));
                 }
             }
         }
@@ -386,4 +563,70 @@ public class DefaultAuthor implements Author {
     }
 
 
+
+    /**
+     * Write the JSON representation of this object to a writer, the author is
+     * streamed to the writer as it is encoded without building a JSON object
+     * or a string, the writer is flushed but not closed
+     *
+     * @param   writer  the writer
+     *
+     * @exception   IOException
+     *              If the writer could not be written
+     */
+    @Override
+    public void writeTo(final Writer writer) throws IOException {
+
+        final JsonGenerator generator = new JsonStreamGenerator(writer);
+        this.encode(generator);
+        generator.flush();
+
+    }
+
+
+
+    /**
+     * Write the JSON representation of this object to a stream, it is
+     * encoded straight to UTF-8 bytes, the stream is flushed but not closed
+     *
+     * @param   outputStream    the stream
+     *
+     * @exception   IOException
+     *              If the stream could not be written
+     */
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+
+        final JsonGenerator generator = new JsonByteGenerator(outputStream);
+        this.encode(generator);
+        generator.flush();
+
+    }
+
+
+
+    /**
+     * Write the JSON representation of this object to a byte buffer, UTF-8
+     * encoded, at the position of the byte buffer which is advanced past it
+     *
+     * @param   byteBuffer  the byte buffer
+     *
+     * @exception   java.nio.BufferOverflowException
+     *              If the byte buffer is too small, its position is left unchanged
+     */
+    @Override
+    public void writeTo(final ByteBuffer byteBuffer) {
+
+        try {
+            final JsonGenerator generator = new JsonByteGenerator(byteBuffer);
+            this.encode(generator);
+            generator.flush();
+        }
+        catch ( final IOException exception ) {
+            throw new UncheckedIOException(exception);
+        }
+
+    }
+
+
 }
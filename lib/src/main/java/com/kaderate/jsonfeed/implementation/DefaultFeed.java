@@ -6,6 +6,7 @@
  *
  * Change History:
  *    - Nov 3, 2020 - File was created
+ *    - Oct 18, 2026 - Extension values are kept as JSONObject/JSONArray
  *
  * TBD:
  *    -
@@ -20,16 +21,23 @@ package com.kaderate.jsonfeed.implementation;
 
 /* Import Java stuff */
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Reader;
-import java.lang.StringBuilder;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 
 /* Import JSON stuff */
@@ -43,9 +51,24 @@ import com.kaderate.jsonfeed.Feed;
 import com.kaderate.jsonfeed.Hub;
 import com.kaderate.jsonfeed.Item;
 import com.kaderate.jsonfeed.Version;
+import com.kaderate.jsonfeed.implementation.ContentDecoder;
 import com.kaderate.jsonfeed.implementation.DefaultAuthor;
 import com.kaderate.jsonfeed.implementation.DefaultHub;
 import com.kaderate.jsonfeed.implementation.DefaultItem;
+import com.kaderate.jsonfeed.implementation.FeedHeader;
+import com.kaderate.jsonfeed.implementation.JsonByteGenerator;
+import com.kaderate.jsonfeed.implementation.JsonStreamGenerator;
+import com.kaderate.jsonfeed.implementation.LazyItemList;
+import com.kaderate.jsonfeed.implementation.LazyUri;
+import com.kaderate.jsonfeed.implementation.OrgJsonProvider;
+import com.kaderate.jsonfeed.implementation.ParseLimit;
+import com.kaderate.jsonfeed.implementation.ParseLimitException;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+import com.kaderate.jsonfeed.implementation.TokenizerJsonProvider;
+import com.kaderate.jsonfeed.spi.JsonGenerator;
+import com.kaderate.jsonfeed.spi.JsonParser;
+import com.kaderate.jsonfeed.spi.JsonProvider;
+import com.kaderate.jsonfeed.spi.JsonProviders;
 
 
 /**
@@ -72,13 +95,13 @@ public class DefaultFeed implements Feed {
     /**
      * Home page URI
      */
-    private URI homePageUri = null;
+    private LazyUri homePageUri = null;
 
 
     /**
      * Feed URI
      */
-    private URI feedUri = null;
+    private LazyUri feedUri = null;
 
 
     /**
@@ -96,19 +119,19 @@ public class DefaultFeed implements Feed {
     /**
      * Next URI
      */
-    private URI nextUri = null;
+    private LazyUri nextUri = null;
 
 
     /**
      * Icon (URI)
      */
-    private URI icon = null;
+    private LazyUri icon = null;
 
 
     /**
      * Favicon (URI)
      */
-    private URI favicon = null;
+    private LazyUri favicon = null;
 
 
     /**
@@ -153,19 +176,784 @@ public class DefaultFeed implements Feed {
     private JSONObject extensionsJsonObject = new JSONObject();
 
 
+    /**
+     * Truncated flag, set when items past the maximum item count were skipped
+     */
+    private boolean truncated = false;
+
+
 
     /**
      * Fetch a feed URI and return the feed
      *
      * @param   feedUri  the feed URI
      *
-     * @return  the feed object
+     * @return  the feed object
+     *
+     * @exception   MalformedURLException
+     *              If the feed URI could not be converted to a URL
+     *
+     * @exception   IOException
+     *              If the feed URI could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static Feed fromUri(final URI feedUri) throws MalformedURLException, URISyntaxException, IOException {
+
+        /* Parse with the default options */
+        return (DefaultFeed.fromUri(feedUri, new ParseOptions()));
+
+    }
+
+
+    /**
+     * Fetch a feed URI and return the feed
+     *
+     * @param   feedUri         the feed URI
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed object
+     *
+     * @exception   MalformedURLException
+     *              If the feed URI could not be converted to a URL
+     *
+     * @exception   IOException
+     *              If the feed URI could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static Feed fromUri(final URI feedUri, final ParseOptions parseOptions) throws MalformedURLException, URISyntaxException, IOException {
+
+        /* Fetch a URI, the response is inflated as it is read if it is encoded */
+        try ( final InputStream feedStream = ContentDecoder.openUri(feedUri) )  {
+
+            /* Parse the returned JSON bytes */
+            final Feed feed = DefaultFeed.fromInputStream(feedStream, parseOptions);
+
+            /* Return the feed */
+            return (feed);
+
+        }
+
+    }
+
+
+    /**
+     * Fetch a feed URI and parse the feed asynchronously on the executor, the
+     * future completes exceptionally with the exceptions thrown by fromUri()
+     *
+     * @param   feedUri     the feed URI
+     * @param   executor    the executor the feed is fetched and parsed on
+     *
+     * @return  the feed future
+     */
+    public static CompletableFuture<Feed> fromUriAsync(final URI feedUri, final Executor executor) {
+
+        /* Fetch and parse on the same executor with the default options */
+        return (DefaultFeed.fromUriAsync(feedUri, executor, executor, new ParseOptions()));
+
+    }
+
+
+    /**
+     * Fetch a feed URI and parse the feed asynchronously, the feed is read
+     * whole on the fetch executor and parsed on the parse executor, the
+     * future completes exceptionally with the exceptions thrown by fromUri()
+     *
+     * Fetching blocks a fetch executor thread while the feed is read, a
+     * virtual thread executor avoids holding a platform thread per feed.
+     *
+     * @param   feedUri         the feed URI
+     * @param   fetchExecutor   the executor the feed is fetched on
+     * @param   parseExecutor   the executor the feed is parsed on
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed future
+     */
+    public static CompletableFuture<Feed> fromUriAsync(final URI feedUri, final Executor fetchExecutor, final Executor parseExecutor, final ParseOptions parseOptions) {
+
+        /* Fetch the URI, the response is inflated as it is read if it is encoded */
+        return (DefaultFeed.fromInputStreamAsync(() -> ContentDecoder.openUri(feedUri), fetchExecutor, parseExecutor, parseOptions));
+
+    }
+
+
+    /**
+     * Read a UTF-8 encoded feed stream and parse the feed asynchronously on the
+     * executor, the feed stream is opened by the supplier and closed once read,
+     * the future completes exceptionally with the exception thrown by the supplier
+     * or the exceptions thrown by fromInputStream()
+     *
+     * @param   feedStreamSupplier  the feed stream supplier
+     * @param   executor            the executor the feed is read and parsed on
+     *
+     * @return  the feed future
+     */
+    public static CompletableFuture<Feed> fromInputStreamAsync(final Callable<InputStream> feedStreamSupplier, final Executor executor) {
+
+        /* Read and parse on the same executor with the default options */
+        return (DefaultFeed.fromInputStreamAsync(feedStreamSupplier, executor, executor, new ParseOptions()));
+
+    }
+
+
+    /**
+     * Read a UTF-8 encoded feed stream and parse the feed asynchronously, the
+     * feed stream is opened by the supplier and read whole on the fetch executor,
+     * then closed, and the feed is parsed on the parse executor, the future
+     * completes exceptionally with the exception thrown by the supplier or the
+     * exceptions thrown by fromInputStream()
+     *
+     * @param   feedStreamSupplier  the feed stream supplier
+     * @param   fetchExecutor       the executor the feed stream is read on
+     * @param   parseExecutor       the executor the feed is parsed on
+     * @param   parseOptions        the parse options
+     *
+     * @return  the feed future
+     */
+    public static CompletableFuture<Feed> fromInputStreamAsync(final Callable<InputStream> feedStreamSupplier, final Executor fetchExecutor,
+            final Executor parseExecutor, final ParseOptions parseOptions) {
+
+        /* Read the feed stream */
+        final CompletableFuture<byte[]> feedBytesFuture = CompletableFuture.supplyAsync(() -> {
+            try ( final InputStream feedStream = ContentDecoder.detect(feedStreamSupplier.call()) ) {
+                return (DefaultFeed.readAllBytes(feedStream, parseOptions));
+            }
+            catch ( final Exception exception ) {
+                throw DefaultFeed.toCompletionException(exception);
+            }
+        }, fetchExecutor);
+
+        /* Parse the feed bytes */
+        return (feedBytesFuture.thenApplyAsync((feedBytes) -> {
+            try {
+                return (DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), parseOptions));
+            }
+            catch ( final URISyntaxException | IOException exception ) {
+                throw DefaultFeed.toCompletionException(exception);
+            }
+        }, parseExecutor));
+
+    }
+
+
+    /**
+     * Read the feed reader and return the feed
+     *
+     * @param   feedReader  the JSON string reader
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the feed reader could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static Feed fromReader(final Reader feedReader) throws URISyntaxException, IOException {
+
+        /* Parse with the default options */
+        return (DefaultFeed.fromReader(feedReader, new ParseOptions()));
+
+    }
+
+
+    /**
+     * Read the feed reader and return the feed
+     *
+     * @param   feedReader      the JSON string reader
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the feed reader could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static Feed fromReader(final Reader feedReader, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Parse the feed reader as it is read */
+        final Feed feed = new DefaultFeed(DefaultFeed.createParser(feedReader, parseOptions), parseOptions);
+
+        /* Return the feed */
+        return (feed);
+
+    }
+
+
+    /**
+     * Read the UTF-8 encoded feed stream and return the feed, the stream
+     * is decoded as it is read, a leading byte order mark is skipped, and
+     * a gzip or deflate encoded stream is inflated as it is read
+     *
+     * @param   feedStream  the feed stream
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the feed stream could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static Feed fromInputStream(final InputStream feedStream) throws URISyntaxException, IOException {
+
+        /* Parse with the default options */
+        return (DefaultFeed.fromInputStream(feedStream, new ParseOptions()));
+
+    }
+
+
+    /**
+     * Read the UTF-8 encoded feed stream and return the feed, the stream
+     * is decoded as it is read, a leading byte order mark is skipped, and
+     * a gzip or deflate encoded stream is inflated as it is read
+     *
+     * @param   feedStream      the feed stream
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the feed stream could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static Feed fromInputStream(final InputStream feedStream, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Inflate the feed stream as it is read if it is gzip or deflate encoded */
+        final InputStream decodedFeedStream = ContentDecoder.detect(feedStream);
+
+        /* Lazy and parallel items and lazy content are decoded from the feed bytes, so read the whole stream */
+        if ( (parseOptions.isFeedBytesNeeded() == true) && (parseOptions.hasWatermark() == false) ) {
+            return (DefaultFeed.fromByteBuffer(ByteBuffer.wrap(DefaultFeed.readAllBytes(decodedFeedStream, parseOptions)), parseOptions));
+        }
+
+        /* Parse the feed stream as it is read */
+        final Feed feed = new DefaultFeed(DefaultFeed.createParser(decodedFeedStream, parseOptions), parseOptions);
+
+        /* Return the feed */
+        return (feed);
+
+    }
+
+
+    /**
+     * Parse the UTF-8 encoded feed byte buffer from its position to its limit
+     * and return the feed, a leading byte order mark is skipped
+     *
+     * @param   feedByteBuffer  the feed byte buffer
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the feed byte buffer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static Feed fromByteBuffer(final ByteBuffer feedByteBuffer) throws URISyntaxException, IOException {
+
+        /* Parse with the default options */
+        return (DefaultFeed.fromByteBuffer(feedByteBuffer, new ParseOptions()));
+
+    }
+
+
+    /**
+     * Parse the UTF-8 encoded feed byte buffer from its position to its limit
+     * and return the feed, a leading byte order mark is skipped
+     *
+     * @param   feedByteBuffer  the feed byte buffer
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the feed byte buffer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static Feed fromByteBuffer(final ByteBuffer feedByteBuffer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Parse the feed byte buffer */
+        final Feed feed = new DefaultFeed(DefaultFeed.createParser(feedByteBuffer, parseOptions), parseOptions);
+
+        /* Return the feed */
+        return (feed);
+
+    }
+
+
+    /**
+     * Parse the UTF-8 encoded feed file and return the feed, the file is
+     * read through a read-only memory mapping rather than copied onto the heap
+     *
+     * @param   feedPath    the feed file path
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the feed file could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static Feed fromPath(final Path feedPath) throws URISyntaxException, IOException {
+
+        /* Parse with the default options */
+        return (DefaultFeed.fromPath(feedPath, new ParseOptions()));
+
+    }
+
+
+    /**
+     * Parse the UTF-8 encoded feed file and return the feed, the file is
+     * read through a read-only memory mapping rather than copied onto the heap
+     *
+     * @param   feedPath        the feed file path
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the feed file could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the file is too large for the options which need the feed bytes
+     */
+    public static Feed fromPath(final Path feedPath, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Map the feed file */
+        try ( final MappedFileInputStream feedStream = new MappedFileInputStream(feedPath) ) {
+
+            /* Lazy and parallel items and lazy content are decoded from a mapping of the whole file, the mapping stays valid once the file is closed */
+            if ( parseOptions.isFeedBytesNeeded() == true ) {
+                final ByteBuffer feedByteBuffer = DefaultFeed.mapFeedFile(feedStream, parseOptions);
+                if ( feedByteBuffer != null ) {
+                    return (DefaultFeed.fromByteBuffer(feedByteBuffer, parseOptions));
+                }
+            }
+
+            /* Parse the mapped feed file, gzip and deflate encoded files are inflated as they are read */
+            final Feed feed = DefaultFeed.fromInputStream(feedStream, parseOptions);
+
+            /* Return the feed */
+            return (feed);
+
+        }
+
+    }
+
+
+    /**
+     * Parse the feed from a JSON parser and return the feed, the parser
+     * is usually created by a JSON provider
+     *
+     * @param   parser  the JSON parser
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the parser could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static Feed fromParser(final JsonParser parser) throws URISyntaxException, IOException {
+
+        /* Parse with the default options */
+        return (DefaultFeed.fromParser(parser, new ParseOptions()));
+
+    }
+
+
+    /**
+     * Parse the feed from a JSON parser and return the feed, the parser
+     * is usually created by a JSON provider, lazy and parallel items are
+     * only decoded lazily and in parallel by the built-in tokenizer
+     *
+     * @param   parser          the JSON parser
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the parser could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static Feed fromParser(final JsonParser parser, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Parse the feed */
+        final Feed feed = new DefaultFeed(parser, parseOptions);
+
+        /* Return the feed */
+        return (feed);
+
+    }
+
+
+    /**
+     * Parse the header of the UTF-8 encoded feed byte buffer from its position to its limit,
+     * the top-level feed fields are decoded and the items are skipped without being decoded,
+     * a gzip or deflate encoded byte buffer is inflated as it is read
+     *
+     * @param   feedByteBuffer  the feed byte buffer
+     *
+     * @return  the feed header
+     *
+     * @exception   IOException
+     *              If the feed byte buffer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static FeedHeader parseHeader(final ByteBuffer feedByteBuffer) throws URISyntaxException, IOException {
+
+        /* Parse with the default options */
+        return (DefaultFeed.parseHeader(feedByteBuffer, new ParseOptions()));
+
+    }
+
+
+    /**
+     * Parse the header of the UTF-8 encoded feed byte buffer from its position to its limit,
+     * the top-level feed fields are decoded and the items are skipped without being decoded,
+     * a gzip or deflate encoded byte buffer is inflated as it is read
+     *
+     * @param   feedByteBuffer  the feed byte buffer
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed header
+     *
+     * @exception   IOException
+     *              If the feed byte buffer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static FeedHeader parseHeader(final ByteBuffer feedByteBuffer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Gzip and deflate encoded byte buffers are inflated as they are read */
+        if ( ContentDecoder.isEncoded(feedByteBuffer) == true ) {
+            return (DefaultFeed.parseHeader(new JsonTokenizer.ByteBufferInputStream(feedByteBuffer.duplicate()), parseOptions));
+        }
+
+        /* Parse the feed byte buffer header */
+        return (DefaultFeed.parseHeader(new JsonTokenizer(feedByteBuffer), parseOptions));
+
+    }
+
+
+    /**
+     * Parse the header of the UTF-8 encoded feed stream, the top-level feed fields
+     * are decoded and the items are skipped without being decoded, a gzip or
+     * deflate encoded stream is inflated as it is read
+     *
+     * @param   feedStream  the feed stream
+     *
+     * @return  the feed header
+     *
+     * @exception   IOException
+     *              If the feed stream could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static FeedHeader parseHeader(final InputStream feedStream) throws URISyntaxException, IOException {
+
+        /* Parse with the default options */
+        return (DefaultFeed.parseHeader(feedStream, new ParseOptions()));
+
+    }
+
+
+    /**
+     * Parse the header of the UTF-8 encoded feed stream, the top-level feed fields
+     * are decoded and the items are skipped without being decoded, a gzip or
+     * deflate encoded stream is inflated as it is read
+     *
+     * @param   feedStream      the feed stream
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed header
+     *
+     * @exception   IOException
+     *              If the feed stream could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static FeedHeader parseHeader(final InputStream feedStream, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Parse the feed stream header as it is read, gzip and deflate encoded streams are inflated as they are read */
+        return (DefaultFeed.parseHeader(new JsonTokenizer(ContentDecoder.detect(feedStream)), parseOptions));
+
+    }
+
+
+    /**
+     * Parse the header of the UTF-8 encoded feed file, the top-level feed fields
+     * are decoded and the items are skipped without being decoded, a gzip or
+     * deflate encoded file is inflated as it is read
+     *
+     * @param   feedPath    the feed file path
      *
-     * @exception   MalformedURLException
-     *              If the feed URI could not be converted to a URL
+     * @return  the feed header
      *
      * @exception   IOException
-     *              If the feed URI could not be read
+     *              If the feed file could not be read
      *
      * @exception   URISyntaxException
      *              If the home page URI is invalid
@@ -185,34 +973,26 @@ public class DefaultFeed implements Feed {
      * @exception   IllegalArgumentException
      *              If the version is missing or invalid
      */
-    public static Feed fromUri(final URI feedUri) throws MalformedURLException, URISyntaxException, IOException {
-
-        /* Fetch a URI  */
-        try ( final InputStream feedStream = feedUri.toURL().openStream() )  {
-
-            /* Create the feed reader  */
-            final Reader feedReader = new InputStreamReader(feedStream);
-
-            /* Parse the returned JSON string */
-            final Feed feed = DefaultFeed.fromReader(feedReader);
+    public static FeedHeader parseHeader(final Path feedPath) throws URISyntaxException, IOException {
 
-            /* Return the feed */
-            return (feed);
-
-        }
+        /* Parse with the default options */
+        return (DefaultFeed.parseHeader(feedPath, new ParseOptions()));
 
     }
 
 
     /**
-     * Read the feed reader and return the feed
+     * Parse the header of the UTF-8 encoded feed file, the top-level feed fields
+     * are decoded and the items are skipped without being decoded, a gzip or
+     * deflate encoded file is inflated as it is read
      *
-     * @param   feedReader  the JSON string reader
+     * @param   feedPath        the feed file path
+     * @param   parseOptions    the parse options
      *
-     * @return  the feed object
+     * @return  the feed header
      *
      * @exception   IOException
-     *              If the feed reader could not be read
+     *              If the feed file could not be read
      *
      * @exception   URISyntaxException
      *              If the home page URI is invalid
@@ -232,29 +1012,19 @@ public class DefaultFeed implements Feed {
      * @exception   IllegalArgumentException
      *              If the version is missing or invalid
      */
-    public static Feed fromReader(final Reader feedReader) throws URISyntaxException, IOException {
-
-        /* Variables to read the JSON string */
-        final StringBuilder feedStringBuilder = new StringBuilder();
-        final char[] feedReaderBuffer = new char[4096];
-        int charactersRead = 0;
+    public static FeedHeader parseHeader(final Path feedPath, final ParseOptions parseOptions) throws URISyntaxException, IOException {
 
-        /* Read the feed into the feed string builder */
-        while ( (charactersRead = feedReader.read(feedReaderBuffer)) >= 0 ) {
-            feedStringBuilder.append(feedReaderBuffer, 0, charactersRead);
+        /* Map the feed file and parse its header, gzip and deflate encoded files are inflated as they are read */
+        try ( final MappedFileInputStream feedStream = new MappedFileInputStream(feedPath) ) {
+            return (DefaultFeed.parseHeader(new JsonTokenizer(ContentDecoder.detect(feedStream)), parseOptions));
         }
 
-        /* Parse the feed string  */
-        final Feed feed = DefaultFeed.fromString(feedStringBuilder.toString());
-
-        /* Return the feed */
-        return (feed);
-
     }
 
 
     /**
-     * Parse a JSON feed string and return the feed
+     * Parse a JSON feed string and return the feed, the string is decoded
+     * by org.json unless another JSON provider is the default
      *
      * @param   feedString  the JSON feed string
      *
@@ -280,6 +1050,18 @@ public class DefaultFeed implements Feed {
      */
     public static Feed fromString(final String feedString) throws URISyntaxException {
 
+        /* Parse the JSON string with the JSON provider if another provider decodes the feed */
+        final ParseOptions parseOptions = new ParseOptions();
+        final JsonProvider provider = DefaultFeed.getJsonProvider(parseOptions);
+        if ( (provider != null) && ((provider instanceof OrgJsonProvider) == false) ) {
+            try {
+                return (new DefaultFeed(provider.createParser(new StringReader(feedString)), parseOptions));
+            }
+            catch ( final IOException exception ) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+
         /* Parse the JSON string to a JSON object */
         final JSONObject jsonObject = new JSONObject(feedString);
 
@@ -317,89 +1099,201 @@ public class DefaultFeed implements Feed {
      */
     protected DefaultFeed(final JSONObject jsonObject) throws URISyntaxException {
 
-        /* Get the version, required */
-        if ( jsonObject.has("version") == true ) {
-            this.version = Version.fromString(jsonObject.getString("version"));
-            if ( this.version == null ) {
-                throw new IllegalArgumentException("Invalid version value");
+        /* Version found flag and item list */
+        boolean versionFound = false;
+        List<Item> itemList = new ArrayList<Item>();
+
+        /* Process the JSON object members in a single pass, each member is looked up once */
+        for ( final String key : jsonObject.keySet() ) {
+
+            switch ( key ) {
+
+                /* Get the version */
+                case "version":
+                    this.version = Version.fromString(jsonObject.getString(key));
+                    if ( this.version == null ) {
+                        throw new IllegalArgumentException("Invalid version value");
+                    }
+                    versionFound = true;
+                    break;
+
+                /* Get the title */
+                case "title":
+                    this.setTitle(jsonObject.optString(key, null));
+                    break;
+
+                /* Get the home page URI */
+                case "home_page_url":
+                    this.homePageUri = LazyUri.fromString(jsonObject.getString(key), true);
+                    break;
+
+                /* Get the feed URI */
+                case "feed_url":
+                    this.feedUri = LazyUri.fromString(jsonObject.getString(key), true);
+                    break;
+
+                /* Get the description */
+                case "description":
+                    this.setDescription(jsonObject.optString(key, null));
+                    break;
+
+                /* Get the user comment */
+                case "user_comment":
+                    this.setUserComment(jsonObject.optString(key, null));
+                    break;
+
+                /* Get the next URI */
+                case "next_url":
+                    this.nextUri = LazyUri.fromString(jsonObject.getString(key), true);
+                    break;
+
+                /* Get the icon (URI) */
+                case "icon":
+                    this.icon = LazyUri.fromString(jsonObject.getString(key), true);
+                    break;
+
+                /* Get the favicon (URI) */
+                case "favicon":
+                    this.favicon = LazyUri.fromString(jsonObject.getString(key), true);
+                    break;
+
+                /* Get the language */
+                case "language":
+                    this.setLanguage(jsonObject.getString(key));
+                    break;
+
+                /* Get the expired */
+                case "expired":
+                    this.setExpired(jsonObject.getBoolean(key));
+                    break;
+
+                /* Get the author */
+                case "author":
+                    this.setAuthor(new DefaultAuthor(jsonObject.getJSONObject(key)));
+                    break;
+
+                /* Get the authors */
+                case "authors":
+                    this.setAuthorList(DefaultAuthor.fromJsonArray(jsonObject.getJSONArray(key)));
+                    break;
+
+                /* Get the hubs */
+                case "hubs":
+                    this.setHubList(DefaultHub.fromJsonArray(jsonObject.getJSONArray(key)));
+                    break;
+
+                /* Get the items */
+                case "items":
+                    itemList = DefaultItem.fromJsonArray(jsonObject.getJSONArray(key));
+                    break;
+
+                /* Get the extensions, the values are kept as they are, skip anything else */
+                default:
+                    if ( key.startsWith("_") == true ) {
+                        this.extensionsJsonObject.put(key, jsonObject.get(key));
+                    }
+                    break;
             }
         }
-        else {
+
+        /* Check the version, required */
+        if ( versionFound == false ) {
             throw new IllegalArgumentException("Missing version");
         }
 
-        /* Get the title */
-        this.setTitle(jsonObject.optString("title", null));
+        /* Set the items once the version is known */
+        this.setItemList(itemList);
 
-        /* Get the home page URI */
-        if ( jsonObject.has("home_page_url") == true ) {
-            this.setHomePageUri(new URI(jsonObject.getString("home_page_url")));
-        }
 
-        /* Get the feed URI */
-        if ( jsonObject.has("feed_url") == true ) {
-            this.setFeedUri(new URI(jsonObject.getString("feed_url")));
-        }
+        /* Normalize the feed */
+        this.normalize();
 
-        /* Get the description */
-        this.setDescription(jsonObject.optString("description", null));
+    }
 
-        /* Get the user comment */
-        this.setUserComment(jsonObject.optString("user_comment", null));
 
-        /* Get the next URI */
-        if ( jsonObject.has("next_url") == true ) {
-            this.setNextUri(new URI(jsonObject.getString("next_url")));
-        }
 
-        /* Get the icon (URI) */
-        if ( jsonObject.has("icon") == true ) {
-            this.setIcon(new URI(jsonObject.getString("icon")));
-        }
+    /**
+     * Constructor
+     *
+     * @param   tokenizer       the JSON tokenizer positioned on the feed JSON object
+     * @param   parseOptions    the parse options, fields which are not selected are skipped
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    protected DefaultFeed(final JsonParser tokenizer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
 
-        /* Get the favicon (URI) */
-        if ( jsonObject.has("favicon") == true ) {
-            this.setFavicon(new URI(jsonObject.getString("favicon")));
-        }
+        /* Version found flag and item list */
+        boolean versionFound = false;
+        List<Item> itemList = new ArrayList<Item>();
 
-        /* Get the language */
-        if ( jsonObject.has("language") == true ) {
-            this.setLanguage(jsonObject.getString("language"));
-        }
+        /* Set the tokenizer limits */
+        JsonTokenizer.setLimits(tokenizer, parseOptions);
 
-        /* Get the expired */
-        if ( jsonObject.has("expired") == true ) {
-            this.setExpired(jsonObject.getBoolean("expired"));
-        }
+        /* Process the JSON object members */
+        tokenizer.beginObject();
+        while ( tokenizer.hasNext() == true ) {
 
-        /* Get the author */
-        if ( jsonObject.has("author") == true ) {
-            this.setAuthor(new DefaultAuthor(jsonObject.getJSONObject("author")));
-        }
+            final String name = tokenizer.nextName();
 
-        /* Get the authors */
-        if ( jsonObject.has("authors") == true ) {
-            this.setAuthorList(DefaultAuthor.fromJsonArray(jsonObject.getJSONArray("authors")));
-        }
+            /* Skip the fields which are not selected */
+            if ( parseOptions.isFeedFieldSelected(name) == false ) {
+                tokenizer.skipValue();
+            }
 
-        /* Get the hubs */
-        if ( jsonObject.has("hubs") == true ) {
-            this.setHubList(DefaultHub.fromJsonArray(jsonObject.getJSONArray("hubs")));
-        }
+            /* Get the items, decoded in turn up to a watermark, lazy and parallel items are located first if the feed bytes are available */
+            else if ( name.equals("items") == true ) {
+                if ( parseOptions.hasWatermark() == true ) {
+                    itemList = DefaultItem.fromTokenizer(tokenizer, parseOptions, this);
+                }
+                else if ( (parseOptions.isLazyItems() == true) && (JsonTokenizer.getByteBuffer(tokenizer) != null) ) {
+                    itemList = LazyItemList.fromTokenizer((JsonTokenizer)tokenizer, parseOptions, this);
+                }
+                else if ( (parseOptions.isParallelItems() == true) && (JsonTokenizer.getByteBuffer(tokenizer) != null) ) {
+                    itemList = LazyItemList.fromTokenizer((JsonTokenizer)tokenizer, parseOptions, this).decodeAll(parseOptions.getExecutor(), parseOptions.getItemChunkSize());
+                }
+                else {
+                    itemList = DefaultItem.fromTokenizer(tokenizer, parseOptions, this);
+                }
+            }
 
-        /* Get the items */
-        if ( jsonObject.has("items") == true ) {
-            this.setItemList(DefaultItem.fromJsonArray(jsonObject.getJSONArray("items")));
+            /* Get everything else */
+            else {
+                if ( name.equals("version") == true ) {
+                    versionFound = true;
+                }
+                this.decodeMember(name, tokenizer, parseOptions);
+            }
         }
+        tokenizer.endObject();
+        tokenizer.endDocument();
 
-
-        /* Get the extensions */
-        for ( final Map.Entry<String, Object> entry : jsonObject.toMap().entrySet() ) {
-            if ( entry.getKey().startsWith("_") == true ) {
-                this.extensionsJsonObject.put(entry.getKey(), entry.getValue());
-            }
+        /* Check the version, required */
+        if ( versionFound == false ) {
+            throw new IllegalArgumentException("Missing version");
         }
 
+        /* Set the items once the version is known */
+        this.setItemList(itemList);
+
 
         /* Normalize the feed */
         this.normalize();
@@ -485,23 +1379,209 @@ public class DefaultFeed implements Feed {
     @Override
     public URI getHomePageUri() {
 
-        return (this.homePageUri);
+        return ((this.homePageUri != null) ? this.homePageUri.getUri() : null);
+
+    }
+
+
+
+    /**
+     * Set the home page URI
+     *
+     * @param   homePageUri     the home page URI
+     *
+     * @return  the feed
+     */
+    @Override
+    public Feed setHomePageUri(URI homePageUri) {
+
+        this.homePageUri = LazyUri.fromUri(homePageUri);
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the feed URI
+     *
+     * @return  the feed URI, null if not specified
+     */
+    @Override
+    public URI getFeedUri() {
+
+        return ((this.feedUri != null) ? this.feedUri.getUri() : null);
+
+    }
+
+
+
+    /**
+     * Set the feed URI
+     *
+     * @param   feedUri     the feed URI
+     *
+     * @return  the feed
+     */
+    @Override
+    public Feed setFeedUri(URI feedUri) {
+
+        this.feedUri = LazyUri.fromUri(feedUri);
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the description
+     *
+     * @return  the description, null if not specified
+     */
+    @Override
+    public String getDescription() {
+
+        return (this.description);
+
+    }
+
+
+
+    /**
+     * Set the description
+     *
+     * @param   description  the description
+     *
+     * @return  the feed
+     */
+    @Override
+    public Feed setDescription(String description) {
+
+        this.description = description;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the user comment
+     *
+     * @return  the user comment, null if not specified
+     */
+    @Override
+    public String getUserComment() {
+
+        return (this.userComment);
+
+    }
+
+
+
+    /**
+     * Set the user comment
+     *
+     * @param   userComment  the user comment
+     *
+     * @return  the feed
+     */
+    @Override
+    public Feed setUserComment(String userComment) {
+
+        this.userComment = userComment;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the next URI
+     *
+     * @return  the next URI, null if not specified
+     */
+    @Override
+    public URI getNextUri() {
+
+        return ((this.nextUri != null) ? this.nextUri.getUri() : null);
+
+    }
+
+
+
+    /**
+     * Set the next URI
+     *
+     * @param   nextUri     the next URI
+     *
+     * @return  the feed
+     */
+    @Override
+    public Feed setNextUri(URI nextUri) {
+
+       this.nextUri = LazyUri.fromUri(nextUri);
+       return (this);
+
+    }
+
+
+
+    /**
+     * Get the icon (URI)
+     *
+     * @return  the icon URI, null if not specified
+     */
+    @Override
+    public URI getIcon() {
+
+        return ((this.icon != null) ? this.icon.getUri() : null);
+
+    }
+
+
+
+    /**
+     * Set the icon (URI)
+     *
+     * @param   icon     the icon URI
+     *
+     * @return  the feed
+     */
+    @Override
+    public Feed setIcon(URI icon) {
+
+        this.icon = LazyUri.fromUri(icon);
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the favicon (URI)
+     *
+     * @return  the favicon URI, null if not specified
+     */
+    @Override
+    public URI getFavicon() {
+
+        return ((this.favicon != null) ? this.favicon.getUri() : null);
 
     }
 
 
 
     /**
-     * Set the home page URI
+     * Set the favicon (URI)
      *
-     * @param   homePageUri     the home page URI
+     * @param   favicon     the favicon URI
      *
      * @return  the feed
      */
     @Override
-    public Feed setHomePageUri(URI homePageUri) {
+    public Feed setFavicon(URI favicon) {
 
-        this.homePageUri = homePageUri;
+        this.favicon = LazyUri.fromUri(favicon);
         return (this);
 
     }
@@ -509,30 +1589,30 @@ public class DefaultFeed implements Feed {
 
 
     /**
-     * Get the feed URI
+     * Get the author
      *
-     * @return  the feed URI, null if not specified
+     * @return  the author, null if not specified
      */
     @Override
-    public URI getFeedUri() {
+    public Author getAuthor() {
 
-        return (this.feedUri);
+        return (this.author);
 
     }
 
 
 
     /**
-     * Set the feed URI
+     * Set the author
      *
-     * @param   feedUri     the feed URI
+     * @param   author     the author
      *
      * @return  the feed
      */
     @Override
-    public Feed setFeedUri(URI feedUri) {
+    public Feed setAuthor(Author author) {
 
-        this.feedUri = feedUri;
+        this.author = author;
         return (this);
 
     }
@@ -540,30 +1620,30 @@ public class DefaultFeed implements Feed {
 
 
     /**
-     * Get the description
+     * Get the author list (JSON Feed 1.1 only)
      *
-     * @return  the description, null if not specified
+     * @return  the author list, empty list if there are no authors
      */
     @Override
-    public String getDescription() {
+    public List<Author> getAuthorList() {
 
-        return (this.description);
+        return (this.authorList);
 
     }
 
 
 
     /**
-     * Set the description
+     * Set the author list (JSON Feed 1.1 only)
      *
-     * @param   description  the description
+     * @param   authorList  the author list
      *
      * @return  the feed
      */
     @Override
-    public Feed setDescription(String description) {
+    public Feed setAuthorList(List<Author> authorList) {
 
-        this.description = description;
+        this.authorList = authorList;
         return (this);
 
     }
@@ -571,30 +1651,30 @@ public class DefaultFeed implements Feed {
 
 
     /**
-     * Get the user comment
+     * Get the language (JSON Feed 1.1 only)
      *
-     * @return  the user comment, null if not specified
+     * @return  the language, null if not specified
      */
     @Override
-    public String getUserComment() {
+    public String getLanguage() {
 
-        return (this.userComment);
+        return (this.language);
 
     }
 
 
 
     /**
-     * Set the user comment
+     * Set the language (JSON Feed 1.1 only)
      *
-     * @param   userComment  the user comment
+     * @param   language  the language
      *
      * @return  the feed
      */
     @Override
-    public Feed setUserComment(String userComment) {
+    public Feed setLanguage(String language) {
 
-        this.userComment = userComment;
+        this.language = language;
         return (this);
 
     }
@@ -602,61 +1682,61 @@ public class DefaultFeed implements Feed {
 
 
     /**
-     * Get the next URI
+     * Get the expired
      *
-     * @return  the next URI, null if not specified
+     * @return  the expired, null if not specified
      */
     @Override
-    public URI getNextUri() {
+    public Boolean getExpired() {
 
-        return (this.nextUri);
+        return (this.expired);
 
     }
 
 
 
     /**
-     * Set the next URI
+     * Set the expired
      *
-     * @param   nextUri     the next URI
+     * @param   expired     the expired
      *
      * @return  the feed
      */
     @Override
-    public Feed setNextUri(URI nextUri) {
+    public Feed setExpired(Boolean expired) {
 
-       this.nextUri = nextUri;
-       return (this);
+        this.expired = expired;
+        return (this);
 
     }
 
 
 
     /**
-     * Get the icon (URI)
+     * Get the hub list
      *
-     * @return  the icon URI, null if not specified
+     * @return  the hub list, empty list if there are no hubs
      */
     @Override
-    public URI getIcon() {
+    public List<Hub> getHubList() {
 
-        return (this.icon);
+        return (this.hubList);
 
     }
 
 
 
     /**
-     * Set the icon (URI)
+     * Set the hub list
      *
-     * @param   icon     the icon URI
+     * @param   hubList  the hub list
      *
      * @return  the feed
      */
     @Override
-    public Feed setIcon(URI icon) {
+    public Feed setHubList(List<Hub> hubList) {
 
-        this.icon = icon;
+        this.hubList = hubList;
         return (this);
 
     }
@@ -664,30 +1744,37 @@ public class DefaultFeed implements Feed {
 
 
     /**
-     * Get the favicon (URI)
+     * Get the item list
      *
-     * @return  the favicon URI, null if not specified
+     * @return  the item list, empty list if there are no items
      */
     @Override
-    public URI getFavicon() {
+    public List<Item> getItemList() {
 
-        return (this.favicon);
+        return (this.itemList);
 
     }
 
 
 
     /**
-     * Set the favicon (URI)
+     * Set the item list
      *
-     * @param   favicon     the favicon URI
+     * @param   itemList  the item list
      *
      * @return  the feed
      */
     @Override
-    public Feed setFavicon(URI favicon) {
+    public Feed setItemList(List<Item> itemList) {
+
+        /* Upgrade every item */
+        if ( itemList != null ) {
+            for ( final Item item : DefaultFeed.getDecodedItemList(itemList) ) {
+                ((DefaultItem)item).upgrade(this.getVersion());
+            }
+        }
 
-        this.favicon = favicon;
+        this.itemList = itemList;
         return (this);
 
     }
@@ -695,30 +1782,30 @@ public class DefaultFeed implements Feed {
 
 
     /**
-     * Get the author
+     * Get feed extensions as a JSON object
      *
-     * @return  the author, null if not specified
+     * @return  the extensions JSON object
      */
     @Override
-    public Author getAuthor() {
+    public JSONObject getExtensionsJSONObject() {
 
-        return (this.author);
+        return (this.extensionsJsonObject);
 
     }
 
 
 
     /**
-     * Set the author
+     * Set the feed extensions JSON object
      *
-     * @param   author     the author
+     * @param   extensionsJsonObject  the extensions JSON object
      *
      * @return  the feed
      */
     @Override
-    public Feed setAuthor(Author author) {
+    public Feed setExtensionsJSONObject(JSONObject extensionsJsonObject) {
 
-        this.author = author;
+        this.extensionsJsonObject = extensionsJsonObject;
         return (this);
 
     }
@@ -726,265 +1813,487 @@ public class DefaultFeed implements Feed {
 
 
     /**
-     * Get the author list (JSON Feed 1.1 only)
+     * Check if items were left out of the feed when it was parsed because
+     * it had more items than the parse options allowed
      *
-     * @return  the author list, empty list if there are no authors
+     * @return  true if the feed items were truncated
      */
     @Override
-    public List<Author> getAuthorList() {
+    public boolean isTruncated() {
 
-        return (this.authorList);
+        return (this.truncated);
 
     }
 
 
 
     /**
-     * Set the author list (JSON Feed 1.1 only)
-     *
-     * @param   authorList  the author list
+     * Set whether items were left out of the feed when it was parsed
      *
-     * @return  the feed
+     * @param   truncated   true if the feed items were truncated
      */
-    @Override
-    public Feed setAuthorList(List<Author> authorList) {
+    void setTruncated(final boolean truncated) {
 
-        this.authorList = authorList;
-        return (this);
+        this.truncated = truncated;
 
     }
 
 
 
     /**
-     * Get the language (JSON Feed 1.1 only)
+     * Check the validity of the feed object
      *
-     * @return  the language, null if not specified
+     * @return  true if the feed object is valid
      */
     @Override
-    public String getLanguage() {
+    public boolean isValid() {
 
-        return (this.language);
+        /* Check the feed fields */
+        if ( this.getVersion() == null ) {
+            return (false);
+        }
+
+        if ( this.getTitle() == null ) {
+            return (false);
+        }
+
+        if ( this.getItemList() == null ) {
+            return (false);
+        }
+
+        if ( this.getItemList().isEmpty() == true ) {
+            return (false);
+        }
+
+        return (true);
 
     }
 
 
 
     /**
-     * Set the language (JSON Feed 1.1 only)
+     * Upgrade this feed to the passed version
      *
-     * @param   language  the language
+     * @param   toVersion       to version
      *
-     * @return  the feed
+     * @return  true if the feed was upgraded
      */
-    @Override
-    public Feed setLanguage(String language) {
+    public boolean upgrade(final Version toVersion) {
 
-        this.language = language;
-        return (this);
+        /* Upgrade flag */
+        boolean feedUpgraded = false;
+
+        /* Upgrade to version 1.1 */
+        if ( toVersion == Version.VERSION_1_1 ) {
+
+            /* Upgrade the feed author */
+            if ( this.getAuthor() != null ) {
+                this.authorList.add(this.getAuthor());
+                this.setAuthor(null);
+                feedUpgraded = true;
+            }
+
+            /* Upgrade every item */
+            for ( final Item item : DefaultFeed.getDecodedItemList(this.getItemList()) ) {
+                feedUpgraded |= ((DefaultItem)item).upgrade(toVersion);
+            }
+
+            /* Update the version number */
+            if ( this.getVersion() != toVersion ) {
+                this.version = toVersion;
+                feedUpgraded = true;
+            }
+        }
+
+        /* Feed was not upgraded */
+        return (feedUpgraded);
 
     }
 
 
 
     /**
-     * Get the expired
+     * Decode a feed member from the tokenizer, the items member is
+     * not handled here since the caller decides how items are read
      *
-     * @return  the expired, null if not specified
+     * @param   name            the member name
+     * @param   tokenizer       the JSON tokenizer positioned on the member value
+     * @param   parseOptions    the parse options
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is invalid
      */
-    @Override
-    public Boolean getExpired() {
+    void decodeMember(final String name, final JsonParser tokenizer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
 
-        return (this.expired);
+        switch ( name ) {
+
+            /* Get the version */
+            case "version":
+                this.version = Version.fromString(tokenizer.nextString());
+                if ( this.version == null ) {
+                    throw new IllegalArgumentException("Invalid version value");
+                }
+                break;
+
+            /* Get the title */
+            case "title":
+                this.setTitle(tokenizer.nextOptString());
+                break;
+
+            /* Get the home page URI */
+            case "home_page_url":
+                this.homePageUri = LazyUri.fromTokenizer(tokenizer, parseOptions);
+                break;
+
+            /* Get the feed URI */
+            case "feed_url":
+                this.feedUri = LazyUri.fromTokenizer(tokenizer, parseOptions);
+                break;
+
+            /* Get the description */
+            case "description":
+                this.setDescription(tokenizer.nextOptString());
+                break;
+
+            /* Get the user comment */
+            case "user_comment":
+                this.setUserComment(tokenizer.nextOptString());
+                break;
+
+            /* Get the next URI */
+            case "next_url":
+                this.nextUri = LazyUri.fromTokenizer(tokenizer, parseOptions);
+                break;
+
+            /* Get the icon (URI) */
+            case "icon":
+                this.icon = LazyUri.fromTokenizer(tokenizer, parseOptions);
+                break;
+
+            /* Get the favicon (URI) */
+            case "favicon":
+                this.favicon = LazyUri.fromTokenizer(tokenizer, parseOptions);
+                break;
+
+            /* Get the language */
+            case "language":
+                this.setLanguage(parseOptions.intern(tokenizer.nextString()));
+                break;
+
+            /* Get the expired */
+            case "expired":
+                this.setExpired(tokenizer.nextBoolean());
+                break;
+
+            /* Get the author */
+            case "author":
+                this.setAuthor(new DefaultAuthor(tokenizer, parseOptions));
+                break;
+
+            /* Get the authors */
+            case "authors":
+                this.setAuthorList(DefaultAuthor.fromTokenizer(tokenizer, parseOptions));
+                break;
+
+            /* Get the hubs */
+            case "hubs":
+                this.setHubList(DefaultHub.fromTokenizer(tokenizer, parseOptions));
+                break;
+
+            /* Get the extensions, skip anything else */
+            default:
+                if ( name.startsWith("_") == true ) {
+                    this.extensionsJsonObject.put(name, JsonTokenizer.nextExtensionValue(tokenizer));
+                }
+                else {
+                    tokenizer.skipValue();
+                }
+                break;
+        }
 
     }
 
 
 
     /**
-     * Set the expired
+     * Parse the feed header from the tokenizer, the items are skipped
+     * over structurally wherever they are in the feed
      *
-     * @param   expired     the expired
+     * @param   tokenizer       the JSON tokenizer
+     * @param   parseOptions    the parse options, fields which are not selected are skipped
      *
-     * @return  the feed
+     * @return  the feed header
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the home page URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the feed URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the next URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the icon (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the favicon (URI) is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
      */
-    @Override
-    public Feed setExpired(Boolean expired) {
+    private static FeedHeader parseHeader(final JsonTokenizer tokenizer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
 
-        this.expired = expired;
-        return (this);
+        /* Feed, version found flag and items offsets */
+        final DefaultFeed feed = new DefaultFeed();
+        boolean versionFound = false;
+        long itemsOffset = -1;
+        long itemsEndOffset = -1;
 
-    }
+        /* Set the tokenizer limits */
+        tokenizer.setLimits(parseOptions);
+
+        /* Process the JSON object members */
+        tokenizer.beginObject();
+        while ( tokenizer.hasNext() == true ) {
+
+            final String name = tokenizer.nextName();
+
+            /* Skip the items, recording where they are */
+            if ( name.equals("items") == true ) {
+                tokenizer.peek();
+                itemsOffset = tokenizer.getTokenOffset();
+                tokenizer.skipValue();
+                itemsEndOffset = tokenizer.getOffset();
+            }
+
+            /* Skip the fields which are not selected */
+            else if ( parseOptions.isFeedFieldSelected(name) == false ) {
+                tokenizer.skipValue();
+            }
 
+            /* Get everything else */
+            else {
+                if ( name.equals("version") == true ) {
+                    versionFound = true;
+                }
+                feed.decodeMember(name, tokenizer, parseOptions);
+            }
+        }
+        tokenizer.endObject();
+        tokenizer.endDocument();
 
+        /* Check the version, required */
+        if ( versionFound == false ) {
+            throw new IllegalArgumentException("Missing version");
+        }
 
-    /**
-     * Get the hub list
-     *
-     * @return  the hub list, empty list if there are no hubs
-     */
-    @Override
-    public List<Hub> getHubList() {
+        /* Normalize the feed */
+        feed.normalize();
 
-        return (this.hubList);
+        /* Return the feed header */
+        return (new FeedHeader(feed, itemsOffset, itemsEndOffset));
 
     }
 
 
 
     /**
-     * Set the hub list
+     * Read a whole feed stream, failing as soon as the stream exceeds the maximum byte count
      *
-     * @param   hubList  the hub list
+     * @param   feedStream      the feed stream
+     * @param   parseOptions    the parse options
      *
-     * @return  the feed
+     * @return  the feed bytes
+     *
+     * @exception   IOException
+     *              If the feed stream could not be read
+     *
+     * @exception   ParseLimitException
+     *              If the feed stream exceeds the maximum byte count
      */
-    @Override
-    public Feed setHubList(List<Hub> hubList) {
+    static byte[] readAllBytes(final InputStream feedStream, final ParseOptions parseOptions) throws IOException {
 
-        this.hubList = hubList;
-        return (this);
+        /* There is no limit */
+        if ( parseOptions.getMaxBytes() == 0 ) {
+            return (feedStream.readAllBytes());
+        }
+
+        /* Read one byte past the limit to find out if it is exceeded */
+        final byte[] feedBytes = feedStream.readNBytes((int)Math.min(parseOptions.getMaxBytes() + 1, Integer.MAX_VALUE - 8));
+        if ( feedBytes.length > parseOptions.getMaxBytes() ) {
+            throw new ParseLimitException(ParseLimit.BYTES, parseOptions.getMaxBytes());
+        }
+
+        return (feedBytes);
 
     }
 
 
 
     /**
-     * Get the item list
+     * Map a whole feed file for the parse options which need the feed bytes,
+     * a byte buffer can not hold a file larger than Integer.MAX_VALUE bytes,
+     * and gzip and deflate encoded files need to be inflated instead
      *
-     * @return  the item list, empty list if there are no items
+     * @param   feedStream      the mapped feed file
+     * @param   parseOptions    the parse options
+     *
+     * @return  the byte buffer for the whole file, null if the file is encoded
+     *
+     * @exception   IOException
+     *              If the file could not be mapped
+     *
+     * @exception   IllegalArgumentException
+     *              If the file is too large to be mapped
      */
-    @Override
-    public List<Item> getItemList() {
+    static ByteBuffer mapFeedFile(final MappedFileInputStream feedStream, final ParseOptions parseOptions) throws IOException {
 
-        return (this.itemList);
+        if ( feedStream.size() > Integer.MAX_VALUE ) {
+            throw new IllegalArgumentException("Feed file of " + feedStream.size() + " bytes is too large for " + parseOptions.getFeedBytesOptionName() +
+                    ", the maximum is " + Integer.MAX_VALUE + " bytes");
+        }
+
+        final ByteBuffer feedByteBuffer = feedStream.map(0, (int)feedStream.size());
+
+        return ((ContentDecoder.isEncoded(feedByteBuffer) == true) ? null : feedByteBuffer);
 
     }
 
 
 
     /**
-     * Set the item list
+     * Get the JSON provider which decodes a feed, the provider named in the
+     * parse options, otherwise the default provider, the default org.json
+     * provider keeps the built-in decoding unless it is named by the system
+     * property
      *
-     * @param   itemList  the item list
+     * @param   parseOptions    the parse options
      *
-     * @return  the feed
+     * @return  the JSON provider, null for the built-in decoding
+     *
+     * @exception   IllegalArgumentException
+     *              If the named provider does not exist
      */
-    @Override
-    public Feed setItemList(List<Item> itemList) {
+    static JsonProvider getJsonProvider(final ParseOptions parseOptions) {
 
-        /* Upgrade every item */
-        if ( itemList != null ) {
-            for ( final Item item : itemList ) {
-                ((DefaultItem)item).upgrade(this.getVersion());
-            }
+        /* Get the provider named in the parse options */
+        if ( parseOptions.getJsonProvider() != null ) {
+            return (JsonProviders.getProvider(parseOptions.getJsonProvider()));
         }
 
-        this.itemList = itemList;
-        return (this);
+        /* Get the default provider, the org.json provider is the built-in decoding unless it is named */
+        final JsonProvider provider = JsonProviders.getProvider();
+        if ( (provider instanceof OrgJsonProvider) && (System.getProperty(JsonProviders.PROVIDER_PROPERTY) == null) ) {
+            return (null);
+        }
+
+        return (provider);
 
     }
 
 
 
     /**
-     * Get feed extensions as a JSON object
+     * Create a parser for a UTF-8 encoded feed stream, the streaming
+     * tokenizer unless another JSON provider decodes the feed
      *
-     * @return  the extensions JSON object
+     * @param   feedStream      the feed stream
+     * @param   parseOptions    the parse options
+     *
+     * @return  the parser
+     *
+     * @exception   IOException
+     *              If the parser could not be created
      */
-    @Override
-    public JSONObject getExtensionsJSONObject() {
+    static JsonParser createParser(final InputStream feedStream, final ParseOptions parseOptions) throws IOException {
 
-        return (this.extensionsJsonObject);
+        final JsonProvider provider = DefaultFeed.getJsonProvider(parseOptions);
+
+        return (((provider == null) || (provider instanceof TokenizerJsonProvider)) ? new JsonTokenizer(feedStream) : provider.createParser(feedStream));
 
     }
 
 
 
     /**
-     * Set the feed extensions JSON object
+     * Create a parser for a feed reader, the streaming tokenizer unless
+     * another JSON provider decodes the feed
      *
-     * @param   extensionsJsonObject  the extensions JSON object
+     * @param   feedReader      the feed reader
+     * @param   parseOptions    the parse options
      *
-     * @return  the feed
+     * @return  the parser
+     *
+     * @exception   IOException
+     *              If the parser could not be created
      */
-    @Override
-    public Feed setExtensionsJSONObject(JSONObject extensionsJsonObject) {
+    static JsonParser createParser(final Reader feedReader, final ParseOptions parseOptions) throws IOException {
 
-        this.extensionsJsonObject = extensionsJsonObject;
-        return (this);
+        final JsonProvider provider = DefaultFeed.getJsonProvider(parseOptions);
+
+        return (((provider == null) || (provider instanceof TokenizerJsonProvider)) ? new JsonTokenizer(feedReader) : provider.createParser(feedReader));
 
     }
 
 
 
     /**
-     * Check the validity of the feed object
+     * Create a parser for a UTF-8 encoded feed byte buffer, the streaming
+     * tokenizer unless another JSON provider decodes the feed, which reads
+     * the byte buffer from its position to its limit
      *
-     * @return  true if the feed object is valid
+     * @param   feedByteBuffer  the feed byte buffer
+     * @param   parseOptions    the parse options
+     *
+     * @return  the parser
+     *
+     * @exception   IOException
+     *              If the parser could not be created
      */
-    @Override
-    public boolean isValid() {
-
-        /* Check the feed fields */
-        if ( this.getVersion() == null ) {
-            return (false);
-        }
-
-        if ( this.getTitle() == null ) {
-            return (false);
-        }
-
-        if ( this.getItemList() == null ) {
-            return (false);
-        }
+    static JsonParser createParser(final ByteBuffer feedByteBuffer, final ParseOptions parseOptions) throws IOException {
 
-        if ( this.getItemList().isEmpty() == true ) {
-            return (false);
-        }
+        final JsonProvider provider = DefaultFeed.getJsonProvider(parseOptions);
 
-        return (true);
+        return (((provider == null) || (provider instanceof TokenizerJsonProvider)) ? new JsonTokenizer(feedByteBuffer) :
+                provider.createParser(new JsonTokenizer.ByteBufferInputStream(feedByteBuffer.duplicate())));
 
     }
 
 
 
     /**
-     * Upgrade this feed to the passed version
+     * Wrap an exception for a future, unchecked exceptions are wrapped
+     * too so the future cause is always the exception itself
      *
-     * @param   toVersion       to version
+     * @param   exception   the exception
      *
-     * @return  true if the feed was upgraded
+     * @return  the completion exception
      */
-    public boolean upgrade(final Version toVersion) {
-
-        /* Upgrade flag */
-        boolean feedUpgraded = false;
-
-        /* Upgrade to version 1.1 */
-        if ( toVersion == Version.VERSION_1_1 ) {
-
-            /* Upgrade the feed author */
-            if ( this.getAuthor() != null ) {
-                this.authorList.add(this.getAuthor());
-                this.setAuthor(null);
-                feedUpgraded = true;
-            }
-
-            /* Upgrade every item */
-            for ( final Item item : this.getItemList() ) {
-                feedUpgraded |= ((DefaultItem)item).upgrade(toVersion);
-            }
+    private static CompletionException toCompletionException(final Exception exception) {
 
-            /* Update the version number */
-            if ( this.getVersion() != toVersion ) {
-                this.version = toVersion;
-                feedUpgraded = true;
-            }
-        }
-
-        /* Feed was not upgraded */
-        return (feedUpgraded);
+        return ((exception instanceof CompletionException) ? (CompletionException)exception : new CompletionException(exception));
 
     }
 
@@ -995,7 +2304,7 @@ public class DefaultFeed implements Feed {
      *
      * @return  true if the feed was normalized
      */
-    private boolean normalize() {
+    boolean normalize() {
 
         /* Detected versions */
         boolean detectedVersion_1_0 = false;
@@ -1016,8 +2325,11 @@ public class DefaultFeed implements Feed {
             detectedVersion_1_0 = true;
         }
 
-        /* Check item language / author list / author */
-        for ( final Item item : this.getItemList() ) {
+        /* Check item language / author list / author, lazy items were checked when they were located */
+        if ( (this.getItemList() instanceof LazyItemList) && (((LazyItemList)this.getItemList()).isVersion_1_1Detected() == true) ) {
+            detectedVersion_1_1 = true;
+        }
+        for ( final Item item : DefaultFeed.getDecodedItemList(this.getItemList()) ) {
             if ( item.getLanguage() != null ) {
                 detectedVersion_1_1 = true;
             }
@@ -1053,6 +2365,144 @@ public class DefaultFeed implements Feed {
 
 
 
+    /**
+     * Get the items of an item list which have been decoded, lazy items
+     * which have not been decoded yet are left out
+     *
+     * @param   itemList    the item list
+     *
+     * @return  the decoded item list
+     */
+    private static List<Item> getDecodedItemList(final List<Item> itemList) {
+
+        if ( itemList instanceof LazyItemList ) {
+            return (((LazyItemList)itemList).getDecodedItemList());
+        }
+
+        return (itemList);
+
+    }
+
+
+
+    /**
+     * Encode this object to a JSON generator, the feed is normalized first
+     *
+     * @param   generator   the JSON generator
+     *
+     * @exception   IOException
+     *              If the generator could not be written
+     */
+    public void encode(final JsonGenerator generator) throws IOException {
+
+        /* Normalize the feed */
+        this.normalize();
+
+        generator.beginObject();
+
+        /* Add the version */
+        if ( this.getVersion() != null ) {
+            generator.name("version").value(this.getVersion().getVersionName());
+        }
+
+        /* Add the title */
+        if ( this.getTitle() != null ) {
+            generator.name("title").value(this.getTitle());
+        }
+
+        /* Add the home page URI */
+        if ( this.homePageUri != null ) {
+            generator.name("home_page_url").value(this.homePageUri.toString());
+        }
+
+        /* Add the feed URI */
+        if ( this.feedUri != null ) {
+            generator.name("feed_url").value(this.feedUri.toString());
+        }
+
+        /* Add the description */
+        if ( this.getDescription() != null ) {
+            generator.name("description").value(this.getDescription());
+        }
+
+        /* Add the user comment */
+        if ( this.getUserComment() != null ) {
+            generator.name("user_comment").value(this.getUserComment());
+        }
+
+        /* Add the next URI */
+        if ( this.nextUri != null ) {
+            generator.name("next_url").value(this.nextUri.toString());
+        }
+
+        /* Add the icon (URI) */
+        if ( this.icon != null ) {
+            generator.name("icon").value(this.icon.toString());
+        }
+
+        /* Add the favicon (URI) */
+        if ( this.favicon != null ) {
+            generator.name("favicon").value(this.favicon.toString());
+        }
+
+        /* Add the authors */
+        if ( (this.getAuthorList() != null) && (this.getAuthorList().size() > 0) ) {
+            generator.name("authors").beginArray();
+            for ( final Author author : this.getAuthorList() ) {
+                DefaultAuthor.encode(author, generator);
+            }
+            generator.endArray();
+        }
+        /* Add the author */
+        else if ( this.getAuthor() != null ) {
+            generator.name("author");
+            DefaultAuthor.encode(this.getAuthor(), generator);
+        }
+
+        /* Add the language */
+        if ( this.getLanguage() != null ) {
+            generator.name("language").value(this.getLanguage());
+        }
+
+        /* Add the expired */
+        if ( this.getExpired() != null ) {
+            generator.name("expired").value(this.getExpired().booleanValue());
+        }
+
+        /* Add the hubs */
+        if ( (this.getHubList() != null) && (this.getHubList().size() > 0) ) {
+            generator.name("hubs").beginArray();
+            for ( final Hub hub : this.getHubList() ) {
+                DefaultHub.encode(hub, generator);
+            }
+            generator.endArray();
+        }
+
+        /* Add the items */
+        if ( (this.getItemList() != null) && (this.getItemList().size() > 0) ) {
+            generator.name("items").beginArray();
+            for ( final Item item : this.getItemList() ) {
+                DefaultItem.encode(item, generator);
+            }
+            generator.endArray();
+        }
+
+        /* Add the extensions, the values are passed through as they are */
+        final JSONObject extensionsJsonObject = this.getExtensionsJSONObject();
+        if ( extensionsJsonObject != null ) {
+            for ( final String key : extensionsJsonObject.keySet() ) {
+                if ( key.startsWith("_") == true ) {
+                    generator.name(key).value(extensionsJsonObject.get(key));
+                }
+            }
+        }
+
+        generator.endObject();
+
+    }
+
+
+
     /**
      * Return the JSON string representation for this object
      *
@@ -1077,13 +2527,13 @@ public class DefaultFeed implements Feed {
         jsonObject.put("title", this.getTitle());
 
         /* Add the home page URI */
-        if ( this.getHomePageUri() != null ) {
-            jsonObject.put("home_page_url", this.getHomePageUri().toString());
+        if ( this.homePageUri != null ) {
+            jsonObject.put("home_page_url", this.homePageUri.toString());
         }
 
         /* Add the feed URI */
-        if ( this.getFeedUri() != null ) {
-            jsonObject.put("feed_url", this.getFeedUri().toString());
+        if ( this.feedUri != null ) {
+            jsonObject.put("feed_url", this.feedUri.toString());
         }
 
         /* Add the description */
@@ -1097,18 +2547,18 @@ public class DefaultFeed implements Feed {
         }
 
         /* Add the next URI */
-        if ( this.getFeedUri() != null ) {
-            jsonObject.put("next_url", this.getFeedUri().toString());
+        if ( this.nextUri != null ) {
+            jsonObject.put("next_url", this.nextUri.toString());
         }
 
         /* Add the icon (URI) */
-        if ( this.getIcon() != null ) {
-            jsonObject.put("icon", this.getIcon().toString());
+        if ( this.icon != null ) {
+            jsonObject.put("icon", this.icon.toString());
         }
 
         /* Add the favicon (URI) */
-        if ( this.getFavicon() != null ) {
-            jsonObject.put("favicon", this.getFavicon().toString());
+        if ( this.favicon != null ) {
+            jsonObject.put("favicon", this.favicon.toString());
         }
 
         /* Add the authors */
@@ -1140,11 +2590,12 @@ public class DefaultFeed implements Feed {
             jsonObject.put("items", this.getItemList());
         }
 
-        /* Add the extensions */
-        if ( this.getExtensionsJSONObject() != null ) {
-            for ( final Map.Entry<String, Object> entry : this.getExtensionsJSONObject().toMap().entrySet() ) {
-                if ( entry.getKey().startsWith("_") == true ) {
-                    jsonObject.put(entry.getKey(), entry.getValue());
+        /* Add the extensions, the values are passed through as they are */
+        final JSONObject extensionsJsonObject = this.getExtensionsJSONObject();
+        if ( extensionsJsonObject != null ) {
+            for ( final String key : extensionsJsonObject.keySet() ) {
+                if ( key.startsWith("_") == true ) {
+                    jsonObject.put(key, extensionsJsonObject.get(key));
                 }
             }
         }
@@ -1158,4 +2609,71 @@ public class DefaultFeed implements Feed {
     }
 
 
+
+    /**
+     * Write the JSON representation of this object to a writer, the feed is
+     * normalized first, it is streamed to the writer as it is encoded without
+     * building a JSON object or a string, the writer is flushed but not closed
+     *
+     * @param   writer  the writer
+     *
+     * @exception   IOException
+     *              If the writer could not be written
+     */
+    @Override
+    public void writeTo(final Writer writer) throws IOException {
+
+        final JsonGenerator generator = new JsonStreamGenerator(writer);
+        this.encode(generator);
+        generator.flush();
+
+    }
+
+
+
+    /**
+     * Write the JSON representation of this object to a stream, it is
+     * encoded straight to UTF-8 bytes, the stream is flushed but not closed
+     *
+     * @param   outputStream    the stream
+     *
+     * @exception   IOException
+     *              If the stream could not be written
+     */
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+
+        final JsonGenerator generator = new JsonByteGenerator(outputStream);
+        this.encode(generator);
+        generator.flush();
+
+    }
+
+
+
+    /**
+     * Write the JSON representation of this object to a byte buffer, UTF-8
+     * encoded, at the position of the byte buffer which is advanced past it,
+     * the feed is normalized first
+     *
+     * @param   byteBuffer  the byte buffer
+     *
+     * @exception   java.nio.BufferOverflowException
+     *              If the byte buffer is too small, its position is left unchanged
+     */
+    @Override
+    public void writeTo(final ByteBuffer byteBuffer) {
+
+        try {
+            final JsonGenerator generator = new JsonByteGenerator(byteBuffer);
+            this.encode(generator);
+            generator.flush();
+        }
+        catch ( final IOException exception ) {
+            throw new UncheckedIOException(exception);
+        }
+
+    }
+
+
 }
@@ -0,0 +1,650 @@
+/**
+ * DefaultFeedReader.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.InputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.FeedReader;
+import com.kaderate.jsonfeed.Item;
+import com.kaderate.jsonfeed.implementation.ContentDecoder;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
+import com.kaderate.jsonfeed.implementation.DefaultItem;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+import com.kaderate.jsonfeed.spi.JsonParser;
+
+
+/**
+ * Default implementation for FeedReader
+ *
+ * The feed members are decoded up to the items, the items are then
+ * decoded one at a time as they are requested, so memory use does not
+ * depend on the number of items in the feed. If a watermark is set
+ * the items end at the watermark item, the rest are skipped.
+ *
+ * If the items come before the version they are read ahead and held
+ * back until the version is found so they are upgraded to it, and none
+ * are returned if it is missing.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class DefaultFeedReader implements FeedReader {
+
+
+    /**
+     * JSON tokenizer
+     */
+    private final JsonParser tokenizer;
+
+
+    /**
+     * Parse options
+     */
+    private final ParseOptions parseOptions;
+
+
+    /**
+     * Feed
+     */
+    private final DefaultFeed feed = new DefaultFeed();
+
+
+    /**
+     * Version found flag
+     */
+    private boolean versionFound = false;
+
+
+    /**
+     * Reading items flag
+     */
+    private boolean readingItems = false;
+
+
+    /**
+     * Next item, decoded ahead to check the watermark, null if none
+     */
+    private Item nextItem = null;
+
+
+    /**
+     * Number of items decoded
+     */
+    private int itemCount = 0;
+
+
+    /**
+     * Items read ahead because they came before the version
+     */
+    private final Queue<DefaultItem> pendingItemQueue = new ArrayDeque<DefaultItem>();
+
+
+
+    /**
+     * Create a feed reader for the JSON string reader
+     *
+     * @param   feedReader  the JSON string reader
+     *
+     * @return  the feed reader
+     *
+     * @exception   IOException
+     *              If the feed reader could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static FeedReader fromReader(final Reader feedReader) throws URISyntaxException, IOException {
+
+        /* Create the feed reader with the default options */
+        return (DefaultFeedReader.fromReader(feedReader, new ParseOptions()));
+
+    }
+
+
+
+    /**
+     * Create a feed reader for the JSON string reader
+     *
+     * @param   feedReader      the JSON string reader
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed reader
+     *
+     * @exception   IOException
+     *              If the feed reader could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static FeedReader fromReader(final Reader feedReader, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Create the feed reader */
+        return (new DefaultFeedReader(DefaultFeed.createParser(feedReader, parseOptions), parseOptions));
+
+    }
+
+
+
+    /**
+     * Create a feed reader for the UTF-8 encoded feed stream, a gzip or
+     * deflate encoded stream is inflated as it is read
+     *
+     * @param   feedStream  the feed stream
+     *
+     * @return  the feed reader
+     *
+     * @exception   IOException
+     *              If the feed stream could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static FeedReader fromInputStream(final InputStream feedStream) throws URISyntaxException, IOException {
+
+        /* Create the feed reader with the default options */
+        return (DefaultFeedReader.fromInputStream(feedStream, new ParseOptions()));
+
+    }
+
+
+
+    /**
+     * Create a feed reader for the UTF-8 encoded feed stream, a gzip or
+     * deflate encoded stream is inflated as it is read
+     *
+     * @param   feedStream      the feed stream
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed reader
+     *
+     * @exception   IOException
+     *              If the feed stream could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static FeedReader fromInputStream(final InputStream feedStream, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Create the feed reader, inflating the feed stream as it is read if it is gzip or deflate encoded */
+        return (new DefaultFeedReader(DefaultFeed.createParser(ContentDecoder.detect(feedStream), parseOptions), parseOptions));
+
+    }
+
+
+
+    /**
+     * Create a feed reader for the UTF-8 encoded feed byte buffer,
+     * the byte buffer is read from its position to its limit
+     *
+     * @param   feedByteBuffer  the feed byte buffer
+     *
+     * @return  the feed reader
+     *
+     * @exception   IOException
+     *              If the feed byte buffer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static FeedReader fromByteBuffer(final ByteBuffer feedByteBuffer) throws URISyntaxException, IOException {
+
+        /* Create the feed reader with the default options */
+        return (DefaultFeedReader.fromByteBuffer(feedByteBuffer, new ParseOptions()));
+
+    }
+
+
+
+    /**
+     * Create a feed reader for the UTF-8 encoded feed byte buffer,
+     * the byte buffer is read from its position to its limit
+     *
+     * @param   feedByteBuffer  the feed byte buffer
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed reader
+     *
+     * @exception   IOException
+     *              If the feed byte buffer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static FeedReader fromByteBuffer(final ByteBuffer feedByteBuffer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Create the feed reader */
+        return (new DefaultFeedReader(DefaultFeed.createParser(feedByteBuffer, parseOptions), parseOptions));
+
+    }
+
+
+
+    /**
+     * Create a feed reader for the UTF-8 encoded feed file, the file is read
+     * through a read-only memory mapping, so files of any size can be read,
+     * the file is closed when the feed reader is closed
+     *
+     * @param   feedPath    the feed file path
+     *
+     * @return  the feed reader
+     *
+     * @exception   IOException
+     *              If the feed file could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static FeedReader fromPath(final Path feedPath) throws URISyntaxException, IOException {
+
+        /* Create the feed reader with the default options */
+        return (DefaultFeedReader.fromPath(feedPath, new ParseOptions()));
+
+    }
+
+
+
+    /**
+     * Create a feed reader for the UTF-8 encoded feed file, the file is read
+     * through a read-only memory mapping, so files of any size can be read,
+     * the file is closed when the feed reader is closed
+     *
+     * @param   feedPath        the feed file path
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed reader
+     *
+     * @exception   IOException
+     *              If the feed file could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static FeedReader fromPath(final Path feedPath, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Map the feed file */
+        final JsonParser parser = DefaultFeed.createParser(new MappedFileInputStream(feedPath), parseOptions);
+
+        /* Create the feed reader, closing the file if the feed members could not be read */
+        try {
+            return (new DefaultFeedReader(parser, parseOptions));
+        }
+        catch ( final IOException | URISyntaxException | RuntimeException exception ) {
+            parser.close();
+            throw exception;
+        }
+
+    }
+
+
+
+    /**
+     * Create a feed reader for a JSON parser, the parser is usually created
+     * by a JSON provider and is closed when the feed reader is closed
+     *
+     * @param   parser          the JSON parser
+     * @param   parseOptions    the parse options
+     *
+     * @return  the feed reader
+     *
+     * @exception   IOException
+     *              If the parser could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public static FeedReader fromParser(final JsonParser parser, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Create the feed reader */
+        return (new DefaultFeedReader(parser, parseOptions));
+
+    }
+
+
+
+    /**
+     * Constructor, reads the feed members up to the items
+     *
+     * @param   tokenizer       the JSON tokenizer
+     * @param   parseOptions    the parse options
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    protected DefaultFeedReader(final JsonParser tokenizer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        this.tokenizer = tokenizer;
+        this.parseOptions = parseOptions;
+
+        /* Set the tokenizer limits */
+        JsonTokenizer.setLimits(this.tokenizer, this.parseOptions);
+
+        /* Read the feed members up to the items */
+        this.tokenizer.beginObject();
+        this.readMembers();
+
+    }
+
+
+
+    /**
+     * Get the feed, the item list is always empty, feed members
+     * located after the items are set once all the items have been read
+     *
+     * @return  the feed
+     */
+    @Override
+    public Feed getFeed() {
+
+        return (this.feed);
+
+    }
+
+
+
+    /**
+     * Check if there is another item
+     *
+     * @return  true if there is another item
+     */
+    @Override
+    public boolean hasNext() {
+
+        try {
+
+            /* Check for an item which was decoded ahead */
+            if ( (this.nextItem != null) || (this.pendingItemQueue.isEmpty() == false) ) {
+                return (true);
+            }
+
+            /* Read the members following the items when we get to the end of the items */
+            while ( this.readingItems == true ) {
+
+                /* Skip the items past the item limit if they are truncated */
+                if ( (this.tokenizer.hasNext() == true) && (this.parseOptions.checkItemLimit(this.itemCount) == false) ) {
+                    while ( this.tokenizer.hasNext() == true ) {
+                        this.tokenizer.skipValue();
+                    }
+                    this.feed.setTruncated(true);
+                }
+
+                if ( this.tokenizer.hasNext() == true ) {
+
+                    /* Items are decoded when they are requested unless there is a watermark */
+                    if ( this.parseOptions.hasWatermark() == false ) {
+                        return (true);
+                    }
+
+                    /* Decode the item ahead, skipping the rest of the items if it is the watermark item */
+                    final Item item = this.decodeItem();
+                    if ( this.parseOptions.isWatermarkItem(item) == false ) {
+                        this.nextItem = item;
+                        return (true);
+                    }
+                    while ( this.tokenizer.hasNext() == true ) {
+                        this.tokenizer.skipValue();
+                    }
+                }
+                this.tokenizer.endArray();
+                this.readingItems = false;
+                this.readMembers();
+            }
+
+            return (false);
+
+        }
+        catch ( final IOException exception ) {
+            throw new UncheckedIOException(exception);
+        }
+        catch ( final URISyntaxException exception ) {
+            throw new IllegalArgumentException(exception);
+        }
+
+    }
+
+
+
+    /**
+     * Get the next item
+     *
+     * @return  the next item
+     */
+    @Override
+    public Item next() {
+
+        if ( this.hasNext() == false ) {
+            throw new NoSuchElementException();
+        }
+
+        /* Return the item which was decoded ahead */
+        if ( this.nextItem != null ) {
+            final Item item = this.nextItem;
+            this.nextItem = null;
+            return (item);
+        }
+
+        /* Return the next item which was read ahead */
+        if ( this.pendingItemQueue.isEmpty() == false ) {
+            return (this.pendingItemQueue.remove());
+        }
+
+        try {
+
+            /* Decode the item */
+            return (this.decodeItem());
+
+        }
+        catch ( final IOException exception ) {
+            throw new UncheckedIOException(exception);
+        }
+        catch ( final URISyntaxException exception ) {
+            throw new IllegalArgumentException(exception);
+        }
+
+    }
+
+
+
+    /**
+     * Close the feed reader
+     *
+     * @exception   IOException
+     *              If the feed reader could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+
+        this.tokenizer.close();
+
+    }
+
+
+
+    /**
+     * Decode the next item and upgrade it to the feed version
+     *
+     * @return  the item
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If an item URI is invalid
+     */
+    private Item decodeItem() throws URISyntaxException, IOException {
+
+        final DefaultItem item = new DefaultItem(this.tokenizer, this.parseOptions);
+        item.upgrade(this.feed.getVersion());
+        this.itemCount++;
+
+        return (item);
+
+    }
+
+
+
+    /**
+     * Read the feed members until the items or the end of the feed
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    private void readMembers() throws URISyntaxException, IOException {
+
+        /* Read the members */
+        while ( this.tokenizer.hasNext() == true ) {
+
+            final String name = this.tokenizer.nextName();
+
+            /* Skip the fields which are not selected */
+            if ( this.parseOptions.isFeedFieldSelected(name) == false ) {
+                this.tokenizer.skipValue();
+                continue;
+            }
+
+            /* Stop at the items, they are read ahead if the version has not been found yet */
+            if ( name.equals("items") == true ) {
+                this.tokenizer.beginArray();
+                if ( this.versionFound == false ) {
+                    this.readItemsAhead();
+                    continue;
+                }
+                this.readingItems = true;
+                this.feed.normalize();
+                return;
+            }
+
+            /* Decode the member */
+            if ( name.equals("version") == true ) {
+                this.versionFound = true;
+            }
+            this.feed.decodeMember(name, this.tokenizer, this.parseOptions);
+        }
+
+        /* End of the feed */
+        this.tokenizer.endObject();
+        this.tokenizer.endDocument();
+
+        /* Check the version */
+        if ( this.versionFound == false ) {
+            throw new IllegalArgumentException("Missing version");
+        }
+
+        /* Normalize the feed */
+        this.feed.normalize();
+
+        /* Upgrade the items which were read ahead to the feed version */
+        for ( final DefaultItem item : this.pendingItemQueue ) {
+            item.upgrade(this.feed.getVersion());
+        }
+
+    }
+
+
+
+    /**
+     * Read all the items ahead, up to the item limit or the watermark item
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If an item URI is invalid
+     */
+    private void readItemsAhead() throws URISyntaxException, IOException {
+
+        while ( this.tokenizer.hasNext() == true ) {
+
+            /* Skip the items past the item limit if they are truncated */
+            if ( this.parseOptions.checkItemLimit(this.itemCount) == false ) {
+                while ( this.tokenizer.hasNext() == true ) {
+                    this.tokenizer.skipValue();
+                }
+                this.feed.setTruncated(true);
+                break;
+            }
+
+            /* Decode the item, skipping the rest of the items if it is the watermark item */
+            final DefaultItem item = new DefaultItem(this.tokenizer, this.parseOptions);
+            this.itemCount++;
+            if ( this.parseOptions.isWatermarkItem(item) == true ) {
+                while ( this.tokenizer.hasNext() == true ) {
+                    this.tokenizer.skipValue();
+                }
+                break;
+            }
+            this.pendingItemQueue.add(item);
+        }
+        this.tokenizer.endArray();
+
+    }
+
+
+}
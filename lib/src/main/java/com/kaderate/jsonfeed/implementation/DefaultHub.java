@@ -6,6 +6,7 @@
  *
  * Change History:
  *    - Nov 3, 2020 - File was created
+ *    - Oct 18, 2026 - Extension values are kept as JSONObject/JSONArray
  *
  * TBD:
  *    -
@@ -19,11 +20,15 @@ package com.kaderate.jsonfeed.implementation;
 
 
 /* Import Java stuff */
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 
 /* Import JSON stuff */
@@ -33,6 +38,10 @@ import org.json.JSONObject;
 
 /* Import JSONFeed stuff */
 import com.kaderate.jsonfeed.Hub;
+import com.kaderate.jsonfeed.implementation.JsonByteGenerator;
+import com.kaderate.jsonfeed.implementation.JsonStreamGenerator;
+import com.kaderate.jsonfeed.spi.JsonGenerator;
+import com.kaderate.jsonfeed.spi.JsonParser;
 
 
 /**
@@ -53,7 +62,7 @@ public class DefaultHub implements Hub {
     /**
      * URI
      */
-    private URI uri = null;
+    private LazyUri uri = null;
 
 
     /**
@@ -115,6 +124,39 @@ public class DefaultHub implements Hub {
 
 
 
+    /**
+     * Process the JSON array at the tokenizer position and return the hub object list
+     *
+     * @param   tokenizer       the JSON tokenizer
+     * @param   parseOptions    the parse options
+     *
+     * @return  the hub object list
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the URI is invalid
+     */
+    protected static List<Hub> fromTokenizer(final JsonParser tokenizer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Create the hub list */
+        final List<Hub> hubList = new ArrayList<Hub>();
+
+        /* Process the JSON array */
+        tokenizer.beginArray();
+        while ( tokenizer.hasNext() == true ) {
+            hubList.add(new DefaultHub(tokenizer, parseOptions));
+        }
+        tokenizer.endArray();
+
+        /* Return the hub list */
+        return (hubList);
+
+    }
+
+
+
     /**
      * Constructor
      *
@@ -125,21 +167,78 @@ public class DefaultHub implements Hub {
      */
     protected DefaultHub(final JSONObject jsonObject) throws URISyntaxException {
 
-        /* Get the type */
-        this.setType(jsonObject.optString("type", null));
+        /* Process the JSON object members in a single pass, each member is looked up once */
+        for ( final String key : jsonObject.keySet() ) {
+
+            switch ( key ) {
 
-        /* Get the URI */
-        if ( jsonObject.has("url") == true ) {
-            this.setUri(new URI(jsonObject.getString("url")));
+                /* Get the type */
+                case "type":
+                    this.setType(jsonObject.optString(key, null));
+                    break;
+
+                /* Get the URI */
+                case "url":
+                    this.uri = LazyUri.fromString(jsonObject.getString(key), true);
+                    break;
+
+                /* Get the extensions, the values are kept as they are, skip anything else */
+                default:
+                    if ( key.startsWith("_") == true ) {
+                        this.extensionsJsonObject.put(key, jsonObject.get(key));
+                    }
+                    break;
+            }
         }
 
+    }
+
 
-        /* Get the extensions */
-        for ( final Map.Entry<String, Object> entry : jsonObject.toMap().entrySet() ) {
-            if ( entry.getKey().startsWith("_") == true ) {
-                this.extensionsJsonObject.put(entry.getKey(), entry.getValue());
+
+    /**
+     * Constructor
+     *
+     * @param   tokenizer       the JSON tokenizer positioned on the hub JSON object
+     * @param   parseOptions    the parse options
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the URI is invalid
+     */
+    protected DefaultHub(final JsonParser tokenizer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        /* Process the JSON object members */
+        tokenizer.beginObject();
+        while ( tokenizer.hasNext() == true ) {
+
+            final String name = tokenizer.nextName();
+
+            switch ( name ) {
+
+                /* Get the type */
+                case "type":
+                    this.setType(parseOptions.intern(tokenizer.nextOptString()));
+                    break;
+
+                /* Get the URI */
+                case "url":
+                    this.uri = LazyUri.fromTokenizer(tokenizer, parseOptions, true);
+                    break;
+
+                /* Get the extensions, skip anything else */
+                default:
+                    if ( name.startsWith("_") == true ) {
+                        this.extensionsJsonObject.put(name, JsonTokenizer.nextExtensionValue(tokenizer));
+                    }
+                    else {
+                        tokenizer.skipValue();
+                    }
+                    break;
             }
         }
+        tokenizer.endObject();
 
     }
 
@@ -208,7 +307,7 @@ public class DefaultHub implements Hub {
     @Override
     public URI getUri() {
 
-        return (this.uri);
+        return ((this.uri != null) ? this.uri.getUri() : null);
 
     }
 
@@ -224,7 +323,7 @@ public class DefaultHub implements Hub {
     @Override
     public Hub setUri(URI uri) {
 
-        this.uri = uri;
+        this.uri = LazyUri.fromUri(uri);
         return (this);
 
     }
@@ -285,6 +384,67 @@ public class DefaultHub implements Hub {
 
 
 
+    /**
+     * Encode this object to a JSON generator
+     *
+     * @param   generator   the JSON generator
+     *
+     * @exception   IOException
+     *              If the generator could not be written
+     */
+    public void encode(final JsonGenerator generator) throws IOException {
+
+        generator.beginObject();
+
+        /* Add the type */
+        if ( this.getType() != null ) {
+            generator.name("type").value(this.getType());
+        }
+
+        /* Add the URI */
+        if ( this.uri != null ) {
+            generator.name("url").value(this.uri.toString());
+        }
+
+        /* Add the extensions, the values are passed through as they are */
+        final JSONObject extensionsJsonObject = this.getExtensionsJSONObject();
+        if ( extensionsJsonObject != null ) {
+            for ( final String key : extensionsJsonObject.keySet() ) {
+                if ( key.startsWith("_") == true ) {
+                    generator.name(key).value(extensionsJsonObject.get(key));
+                }
+            }
+        }
+
+        generator.endObject();
+
+    }
+
+
+
+    /**
+     * Encode a hub to a JSON generator, hubs which are not default hubs
+     * are encoded from their JSON string representation
+     *
+     * @param   hub       the hub
+     * @param   generator   the JSON generator
+     *
+     * @exception   IOException
+     *              If the generator could not be written
+     */
+    static void encode(final Hub hub, final JsonGenerator generator) throws IOException {
+
+        if ( hub instanceof DefaultHub ) {
+            ((DefaultHub)hub).encode(generator);
+        }
+        else {
+            generator.value(hub);
+        }
+
+    }
+
+
+
     /**
      * Return the JSON string representation for this object
      *
@@ -300,13 +460,14 @@ public class DefaultHub implements Hub {
         jsonObject.put("type", this.getType());
 
         /* Add the URI */
-        jsonObject.put("url", this.getUri().toString());
-
-        /* Add the extensions */
-        if ( this.getExtensionsJSONObject() != null ) {
-            for ( final Map.Entry<String, Object> entry : this.getExtensionsJSONObject().toMap().entrySet() ) {
-                if ( entry.getKey().startsWith("_") == true ) {
-                    jsonObject.put(entry.getKey(), entry.getValue());
+        jsonObject.put("url", this.uri.toString());
+
+        /* Add the extensions, the values are passed through as they are */
+        final JSONObject extensionsJsonObject = this.getExtensionsJSONObject();
+        if ( extensionsJsonObject != null ) {
+            for ( final String key : extensionsJsonObject.keySet() ) {
+                if ( key.startsWith("_") == true ) {
+                    jsonObject.put(key, extensionsJsonObject.get(key));
                 }
             }
         }
@@ -320,4 +481,70 @@ public class DefaultHub implements Hub {
     }
 
 
+
+    /**
+     * Write the JSON representation of this object to a writer, the hub is
+     * streamed to the writer as it is encoded without building a JSON object
+     * or a string, the writer is flushed but not closed
+     *
+     * @param   writer  the writer
+     *
+     * @exception   IOException
+     *              If the writer could not be written
+     */
+    @Override
+    public void writeTo(final Writer writer) throws IOException {
+
+        final JsonGenerator generator = new JsonStreamGenerator(writer);
+        this.encode(generator);
+        generator.flush();
+
+    }
+
+
+
+    /**
+     * Write the JSON representation of this object to a stream, it is
+     * encoded straight to UTF-8 bytes, the stream is flushed but not closed
+     *
+     * @param   outputStream    the stream
+     *
+     * @exception   IOException
+     *              If the stream could not be written
+     */
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+
+        final JsonGenerator generator = new JsonByteGenerator(outputStream);
+        this.encode(generator);
+        generator.flush();
+
+    }
+
+
+
+    /**
+     * Write the JSON representation of this object to a byte buffer, UTF-8
+     * encoded, at the position of the byte buffer which is advanced past it
+     *
+     * @param   byteBuffer  the byte buffer
+     *
+     * @exception   java.nio.BufferOverflowException
+     *              If the byte buffer is too small, its position is left unchanged
+     */
+    @Override
+    public void writeTo(final ByteBuffer byteBuffer) {
+
+        try {
+            final JsonGenerator generator = new JsonByteGenerator(byteBuffer);
+            this.encode(generator);
+            generator.flush();
+        }
+        catch ( final IOException exception ) {
+            throw new UncheckedIOException(exception);
+        }
+
+    }
+
+
 }
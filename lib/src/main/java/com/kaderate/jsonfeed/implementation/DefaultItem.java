@@ -6,6 +6,7 @@
  *
  * Change History:
  *    - Nov 3, 2020 - File was created
+ *    - Oct 18, 2026 - Extension values are kept as JSONObject/JSONArray
  *
  * TBD:
  *    -
@@ -19,13 +20,16 @@ package com.kaderate.jsonfeed.implementation;
 
 
 /* Import Java stuff */
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
 import java.time.Instant;
-import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 
 /* Import JSON stuff */
@@ -41,9 +45,19 @@ import com.kaderate.jsonfeed.Hub;
 import com.kaderate.jsonfeed.Item;
 import com.kaderate.jsonfeed.implementation.DefaultAttachment;
 import com.kaderate.jsonfeed.implementation.DefaultAuthor;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
 import com.kaderate.jsonfeed.implementation.DefaultHub;
 import com.kaderate.jsonfeed.implementation.DefaultItem;
+import com.kaderate.jsonfeed.implementation.JsonByteGenerator;
+import com.kaderate.jsonfeed.implementation.JsonStreamGenerator;
+import com.kaderate.jsonfeed.implementation.LazyText;
+import com.kaderate.jsonfeed.implementation.LazyUri;
+import com.kaderate.jsonfeed.implementation.ParseCache;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+import com.kaderate.jsonfeed.implementation.Rfc3339DateCodec;
 import com.kaderate.jsonfeed.Version;
+import com.kaderate.jsonfeed.spi.JsonGenerator;
+import com.kaderate.jsonfeed.spi.JsonParser;
 
 
 /**
@@ -64,13 +78,13 @@ public class DefaultItem implements Item {
     /**
      * URI
      */
-    private URI uri = null;
+    private LazyUri uri = null;
 
 
     /**
      * External URI
      */
-    private URI externalUri = null;
+    private LazyUri externalUri = null;
 
 
     /**
@@ -80,15 +94,15 @@ public class DefaultItem implements Item {
 
 
     /**
-     * Content text
+     * Content text, a string or a lazy text
      */
-    private String contentText = null;
+    private CharSequence contentText = null;
 
 
     /**
-     * Content HTML
+     * Content HTML, a string or a lazy text
      */
-    private String contentHtml = null;
+    private CharSequence contentHtml = null;
 
 
     /**
@@ -106,13 +120,13 @@ public class DefaultItem implements Item {
     /**
      * Image (URI)
      */
-    private URI image = null;
+    private LazyUri image = null;
 
 
     /**
      * Banner image (URI)
      */
-    private URI bannerImage = null;
+    private LazyUri bannerImage = null;
 
 
     /**
@@ -234,9 +248,21 @@ public class DefaultItem implements Item {
 
 
     /**
-     * Constructor
+     * Process the JSON array at the tokenizer position and return the item object list,
+     * stopping at the watermark item if there is one and skipping the items which follow,
+     * items past the maximum item count are skipped too if they are truncated
      *
-     * @param   jsonObject  the item as a JSON object
+     * @param   tokenizer       the JSON tokenizer
+     * @param   parseOptions    the parse options
+     * @param   feed            the feed, marked as truncated if items are skipped
+     *
+     * @return  the item object list
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   ParseLimitException
+     *              If there are more items than the maximum item count and they are not truncated
      *
      * @exception   URISyntaxException
      *              If the URI is invalid
@@ -250,89 +276,300 @@ public class DefaultItem implements Item {
      * @exception   URISyntaxException
      *              If the banner image (URI) is invalid
      */
-    protected DefaultItem(final JSONObject jsonObject) throws URISyntaxException {
+    protected static List<Item> fromTokenizer(final JsonParser tokenizer, final ParseOptions parseOptions, final DefaultFeed feed) throws URISyntaxException, IOException {
 
-        /* Get the ID */
-        this.setID(jsonObject.optString("id", null));
+        /* Create the item list */
+        final List<Item> itemList = new ArrayList<Item>();
 
-        /* Get the URI */
-        if ( jsonObject.has("url") == true ) {
-            this.setUri(new URI(jsonObject.getString("url")));
-        }
+        /* Process the JSON array */
+        tokenizer.beginArray();
+        while ( tokenizer.hasNext() == true ) {
 
-        /* Get the external URI */
-        if ( jsonObject.has("external_url") == true ) {
-            this.setExternalUri(new URI(jsonObject.getString("external_url")));
-        }
+            /* Stop at the item limit, skipping the items which follow */
+            if ( parseOptions.checkItemLimit(itemList.size()) == false ) {
+                while ( tokenizer.hasNext() == true ) {
+                    tokenizer.skipValue();
+                }
+                feed.setTruncated(true);
+                break;
+            }
 
-        /* Get the title */
-        this.setTitle(jsonObject.optString("title", null));
+            final DefaultItem item = new DefaultItem(tokenizer, parseOptions);
 
-        /* Get the content text */
-        this.setContentText(jsonObject.optString("content_text", null));
+            /* Stop at the watermark item, skipping the items which follow */
+            if ( parseOptions.isWatermarkItem(item) == true ) {
+                while ( tokenizer.hasNext() == true ) {
+                    tokenizer.skipValue();
+                }
+                break;
+            }
 
-        /* Get the content HTML */
-        this.setContentHtml(jsonObject.optString("content_html", null));
+            itemList.add(item);
+        }
+        tokenizer.endArray();
 
-        /* Get the summary */
-        this.setSummary(jsonObject.optString("summary", null));
+        /* Return the item list */
+        return (itemList);
 
-        /* Get the image (URI) */
-        if ( jsonObject.has("image") == true ) {
-            this.setImage(new URI(jsonObject.getString("image")));
-        }
+    }
 
-        /* Get the banner image (URI) */
-        if ( jsonObject.has("banner_image") == true ) {
-            this.setBannerImage(new URI(jsonObject.getString("banner_image")));
-        }
 
-        /* Get the date published */
-        if ( jsonObject.has("date_published") == true ) {
-            this.setDatePublished(OffsetDateTime.parse(jsonObject.getString("date_published")).toInstant());
-        }
+    /**
+     * Constructor
+     *
+     * @param   jsonObject  the item as a JSON object
+     *
+     * @exception   URISyntaxException
+     *              If the URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the external URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the image (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the banner image (URI) is invalid
+     */
+    protected DefaultItem(final JSONObject jsonObject) throws URISyntaxException {
 
-        /* Get the date modified */
-        if ( jsonObject.has("date_modified") == true ) {
-            this.setDateModified(OffsetDateTime.parse(jsonObject.getString("date_modified")).toInstant());
+        /* Process the JSON object members in a single pass, each member is looked up once */
+        for ( final String key : jsonObject.keySet() ) {
+
+            switch ( key ) {
+
+                /* Get the ID */
+                case "id":
+                    this.setID(jsonObject.optString(key, null));
+                    break;
+
+                /* Get the URI */
+                case "url":
+                    this.uri = LazyUri.fromString(jsonObject.getString(key), true);
+                    break;
+
+                /* Get the external URI */
+                case "external_url":
+                    this.externalUri = LazyUri.fromString(jsonObject.getString(key), true);
+                    break;
+
+                /* Get the title */
+                case "title":
+                    this.setTitle(jsonObject.optString(key, null));
+                    break;
+
+                /* Get the content text */
+                case "content_text":
+                    this.setContentText(jsonObject.optString(key, null));
+                    break;
+
+                /* Get the content HTML */
+                case "content_html":
+                    this.setContentHtml(jsonObject.optString(key, null));
+                    break;
+
+                /* Get the summary */
+                case "summary":
+                    this.setSummary(jsonObject.optString(key, null));
+                    break;
+
+                /* Get the image (URI) */
+                case "image":
+                    this.image = LazyUri.fromString(jsonObject.getString(key), true);
+                    break;
+
+                /* Get the banner image (URI) */
+                case "banner_image":
+                    this.bannerImage = LazyUri.fromString(jsonObject.getString(key), true);
+                    break;
+
+                /* Get the date published */
+                case "date_published":
+                    this.setDatePublished(Rfc3339DateCodec.parse(jsonObject.getString(key)));
+                    break;
+
+                /* Get the date modified */
+                case "date_modified":
+                    this.setDateModified(Rfc3339DateCodec.parse(jsonObject.getString(key)));
+                    break;
+
+                /* Get the language */
+                case "language":
+                    this.setLanguage(jsonObject.getString(key));
+                    break;
+
+                /* Get the author */
+                case "author":
+                    this.setAuthor(new DefaultAuthor(jsonObject.getJSONObject(key)));
+                    break;
+
+                /* Get the authors */
+                case "authors":
+                    this.setAuthorList(DefaultAuthor.fromJsonArray(jsonObject.getJSONArray(key)));
+                    break;
+
+                /* Get the tags */
+                case "tags":
+                    final List<String> tagList = new ArrayList<String>();
+                    for ( final Object object : jsonObject.getJSONArray(key) ) {
+                        tagList.add((String)object);
+                    }
+                    this.setTagList(tagList);
+                    break;
+
+                /* Get the attachments */
+                case "attachments":
+                    this.setAttachmentList(DefaultAttachment.fromJsonArray(jsonObject.getJSONArray(key)));
+                    break;
+
+                /* Get the extensions, the values are kept as they are, skip anything else */
+                default:
+                    if ( key.startsWith("_") == true ) {
+                        this.extensionsJsonObject.put(key, jsonObject.get(key));
+                    }
+                    break;
+            }
         }
 
-        /* Get the language */
-        if ( jsonObject.has("language") == true ) {
-            this.setLanguage(jsonObject.getString("language"));
-        }
+    }
 
-        /* Get the author */
-        if ( jsonObject.has("author") == true ) {
-            this.setAuthor(new DefaultAuthor(jsonObject.getJSONObject("author")));
-        }
 
-        /* Get the authors */
-        if ( jsonObject.has("authors") == true ) {
-            this.setAuthorList(DefaultAuthor.fromJsonArray(jsonObject.getJSONArray("authors")));
-        }
 
-        /* Get the tags */
-        if ( jsonObject.has("tags") == true ) {
-            final List<String> tagList = new ArrayList<String>();
-            for ( Object object : jsonObject.getJSONArray("tags") ) {
-                tagList.add((String)object);
-            }
-            this.setTagList(tagList);
-        }
+    /**
+     * Constructor
+     *
+     * @param   tokenizer       the JSON tokenizer positioned on the item JSON object
+     * @param   parseOptions    the parse options, fields which are not selected are skipped
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the external URI is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the image (URI) is invalid
+     *
+     * @exception   URISyntaxException
+     *              If the banner image (URI) is invalid
+     */
+    protected DefaultItem(final JsonParser tokenizer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
 
-        /* Get the attachments */
-        if ( jsonObject.has("attachments") == true ) {
-            this.setAttachmentList(DefaultAttachment.fromJsonArray(jsonObject.getJSONArray("attachments")));
-        }
+        /* Process the JSON object members */
+        tokenizer.beginObject();
+        while ( tokenizer.hasNext() == true ) {
 
+            final String name = tokenizer.nextName();
 
-        /* Get the extensions */
-        for ( final Map.Entry<String, Object> entry : jsonObject.toMap().entrySet() ) {
-            if ( entry.getKey().startsWith("_") == true ) {
-                this.extensionsJsonObject.put(entry.getKey(), entry.getValue());
+            /* Skip the fields which are not selected */
+            if ( parseOptions.isItemFieldSelected(name) == false ) {
+                tokenizer.skipValue();
+                continue;
+            }
+
+            switch ( name ) {
+
+                /* Get the ID */
+                case "id":
+                    this.setID(tokenizer.nextOptString());
+                    break;
+
+                /* Get the URI */
+                case "url":
+                    this.uri = LazyUri.fromTokenizer(tokenizer, parseOptions);
+                    break;
+
+                /* Get the external URI */
+                case "external_url":
+                    this.externalUri = LazyUri.fromTokenizer(tokenizer, parseOptions);
+                    break;
+
+                /* Get the title */
+                case "title":
+                    this.setTitle(tokenizer.nextOptString());
+                    break;
+
+                /* Get the content text */
+                case "content_text":
+                    this.contentText = LazyText.fromTokenizer(tokenizer, parseOptions);
+                    break;
+
+                /* Get the content HTML */
+                case "content_html":
+                    this.contentHtml = LazyText.fromTokenizer(tokenizer, parseOptions);
+                    break;
+
+                /* Get the summary */
+                case "summary":
+                    this.setSummary(tokenizer.nextOptString());
+                    break;
+
+                /* Get the image (URI) */
+                case "image":
+                    this.image = LazyUri.fromTokenizer(tokenizer, parseOptions);
+                    break;
+
+                /* Get the banner image (URI) */
+                case "banner_image":
+                    this.bannerImage = LazyUri.fromTokenizer(tokenizer, parseOptions);
+                    break;
+
+                /* Get the date published */
+                case "date_published":
+                    this.setDatePublished(DefaultItem.nextDate(tokenizer));
+                    break;
+
+                /* Get the date modified */
+                case "date_modified":
+                    this.setDateModified(DefaultItem.nextDate(tokenizer));
+                    break;
+
+                /* Get the language */
+                case "language":
+                    this.setLanguage(parseOptions.intern(tokenizer.nextString()));
+                    break;
+
+                /* Get the author */
+                case "author":
+                    this.setAuthor(new DefaultAuthor(tokenizer, parseOptions));
+                    break;
+
+                /* Get the authors */
+                case "authors":
+                    this.setAuthorList(DefaultAuthor.fromTokenizer(tokenizer, parseOptions));
+                    break;
+
+                /* Get the tags */
+                case "tags":
+                    final List<String> tagList = new ArrayList<String>();
+                    tokenizer.beginArray();
+                    while ( tokenizer.hasNext() == true ) {
+                        tagList.add(parseOptions.intern(tokenizer.nextString()));
+                    }
+                    tokenizer.endArray();
+                    this.setTagList(tagList);
+                    break;
+
+                /* Get the attachments */
+                case "attachments":
+                    this.setAttachmentList(DefaultAttachment.fromTokenizer(tokenizer, parseOptions));
+                    break;
+
+                /* Get the extensions, skip anything else */
+                default:
+                    if ( name.startsWith("_") == true ) {
+                        this.extensionsJsonObject.put(name, JsonTokenizer.nextExtensionValue(tokenizer));
+                    }
+                    else {
+                        tokenizer.skipValue();
+                    }
+                    break;
             }
         }
+        tokenizer.endObject();
 
     }
 
@@ -399,7 +636,7 @@ public class DefaultItem implements Item {
     @Override
     public URI getUri() {
 
-        return (this.uri);
+        return ((this.uri != null) ? this.uri.getUri() : null);
 
     }
 
@@ -415,7 +652,7 @@ public class DefaultItem implements Item {
     @Override
     public Item setUri(URI uri) {
 
-        this.uri = uri;
+        this.uri = LazyUri.fromUri(uri);
         return (this);
 
     }
@@ -430,7 +667,7 @@ public class DefaultItem implements Item {
     @Override
     public URI getExternalUri() {
 
-        return (this.externalUri);
+        return ((this.externalUri != null) ? this.externalUri.getUri() : null);
 
     }
 
@@ -446,7 +683,7 @@ public class DefaultItem implements Item {
     @Override
     public Item setExternalUri(URI externalUri) {
 
-        this.externalUri = externalUri;
+        this.externalUri = LazyUri.fromUri(externalUri);
         return (this);
 
     }
@@ -492,7 +729,7 @@ public class DefaultItem implements Item {
     @Override
     public String getContentText() {
 
-        return (this.contentText);
+        return ((this.contentText != null) ? this.contentText.toString() : null);
 
     }
 
@@ -515,6 +752,21 @@ public class DefaultItem implements Item {
 
 
 
+    /**
+     * Get the content text as a character sequence, which is a view over
+     * the feed bytes if the item was parsed with lazy content
+     *
+     * @return  the content text, null if not specified
+     */
+    @Override
+    public CharSequence getContentTextSequence() {
+
+        return (this.contentText);
+
+    }
+
+
+
     /**
      * Get the content HTML
      *
@@ -523,7 +775,7 @@ public class DefaultItem implements Item {
     @Override
     public String getContentHtml() {
 
-        return (this.contentHtml);
+        return ((this.contentHtml != null) ? this.contentHtml.toString() : null);
 
     }
 
@@ -546,6 +798,21 @@ public class DefaultItem implements Item {
 
 
 
+    /**
+     * Get the content HTML as a character sequence, which is a view over
+     * the feed bytes if the item was parsed with lazy content
+     *
+     * @return  the content HTML, null if not specified
+     */
+    @Override
+    public CharSequence getContentHtmlSequence() {
+
+        return (this.contentHtml);
+
+    }
+
+
+
     /**
      * Get the summary
      *
@@ -585,7 +852,7 @@ public class DefaultItem implements Item {
     @Override
     public URI getImage() {
 
-        return (this.image);
+        return ((this.image != null) ? this.image.getUri() : null);
 
     }
 
@@ -601,7 +868,7 @@ public class DefaultItem implements Item {
     @Override
     public Item setImage(URI image) {
 
-        this.image = image;
+        this.image = LazyUri.fromUri(image);
         return (this);
 
     }
@@ -616,7 +883,7 @@ public class DefaultItem implements Item {
     @Override
     public URI getBannerImage() {
 
-        return (this.bannerImage);
+        return ((this.bannerImage != null) ? this.bannerImage.getUri() : null);
 
     }
 
@@ -632,7 +899,7 @@ public class DefaultItem implements Item {
     @Override
     public Item setBannerImage(URI bannerImage) {
 
-        this.bannerImage = bannerImage;
+        this.bannerImage = LazyUri.fromUri(bannerImage);
         return (this);
 
     }
@@ -935,6 +1202,149 @@ public class DefaultItem implements Item {
 
 
 
+    /**
+     * Encode this object to a JSON generator
+     *
+     * @param   generator   the JSON generator
+     *
+     * @exception   IOException
+     *              If the generator could not be written
+     */
+    public void encode(final JsonGenerator generator) throws IOException {
+
+        generator.beginObject();
+
+        /* Add the ID */
+        if ( this.getID() != null ) {
+            generator.name("id").value(this.getID());
+        }
+
+        /* Add the URI */
+        if ( this.uri != null ) {
+            generator.name("url").value(this.uri.toString());
+        }
+
+        /* Add the external URI */
+        if ( this.externalUri != null ) {
+            generator.name("external_url").value(this.externalUri.toString());
+        }
+
+        /* Add the title */
+        if ( this.getTitle() != null ) {
+            generator.name("title").value(this.getTitle());
+        }
+
+        /* Add the content text */
+        if ( this.getContentText() != null ) {
+            generator.name("content_text").value(this.getContentText());
+        }
+
+        /* Add the content HTML */
+        if ( this.getContentHtml() != null ) {
+            generator.name("content_html").value(this.getContentHtml());
+        }
+
+        /* Add the summary */
+        if ( this.getSummary() != null ) {
+            generator.name("summary").value(this.getSummary());
+        }
+
+        /* Add the image (URI) */
+        if ( this.image != null ) {
+            generator.name("image").value(this.image.toString());
+        }
+
+        /* Add the banner image (URI) */
+        if ( this.bannerImage != null ) {
+            generator.name("banner_image").value(this.bannerImage.toString());
+        }
+
+        /* Add the date published */
+        if ( this.getDatePublished() != null ) {
+            generator.name("date_published").value(Rfc3339DateCodec.format(this.getDatePublished()));
+        }
+
+        /* Add the date modified */
+        if ( this.getDateModified() != null ) {
+            generator.name("date_modified").value(Rfc3339DateCodec.format(this.getDateModified()));
+        }
+
+        /* Add the authors */
+        if ( (this.getAuthorList() != null) && (this.getAuthorList().size() > 0) ) {
+            generator.name("authors").beginArray();
+            for ( final Author author : this.getAuthorList() ) {
+                DefaultAuthor.encode(author, generator);
+            }
+            generator.endArray();
+        }
+        /* Add the author */
+        else if ( this.getAuthor() != null ) {
+            generator.name("author");
+            DefaultAuthor.encode(this.getAuthor(), generator);
+        }
+
+        /* Add the tags */
+        if ( (this.getTagList() != null) && (this.getTagList().size() > 0) ) {
+            generator.name("tags").beginArray();
+            for ( final String tag : this.getTagList() ) {
+                generator.value(tag);
+            }
+            generator.endArray();
+        }
+
+        /* Add the language */
+        if ( this.getLanguage() != null ) {
+            generator.name("language").value(this.getLanguage());
+        }
+
+        /* Add the attachments */
+        if ( (this.getAttachmentList() != null) && (this.getAttachmentList().size() > 0) ) {
+            generator.name("attachments").beginArray();
+            for ( final Attachment attachment : this.getAttachmentList() ) {
+                DefaultAttachment.encode(attachment, generator);
+            }
+            generator.endArray();
+        }
+
+        /* Add the extensions, the values are passed through as they are */
+        final JSONObject extensionsJsonObject = this.getExtensionsJSONObject();
+        if ( extensionsJsonObject != null ) {
+            for ( final String key : extensionsJsonObject.keySet() ) {
+                if ( key.startsWith("_") == true ) {
+                    generator.name(key).value(extensionsJsonObject.get(key));
+                }
+            }
+        }
+
+        generator.endObject();
+
+    }
+
+
+
+    /**
+     * Encode a item to a JSON generator, items which are not default items
+     * are encoded from their JSON string representation
+     *
+     * @param   item      the item
+     * @param   generator   the JSON generator
+     *
+     * @exception   IOException
+     *              If the generator could not be written
+     */
+    static void encode(final Item item, final JsonGenerator generator) throws IOException {
+
+        if ( item instanceof DefaultItem ) {
+            ((DefaultItem)item).encode(generator);
+        }
+        else {
+            generator.value(item);
+        }
+
+    }
+
+
+
     /**
      * Return the JSON string representation for this object
      *
@@ -950,13 +1360,13 @@ public class DefaultItem implements Item {
         jsonObject.put("id", this.getID());
 
         /* Add the URI */
-        if ( this.getUri() != null ) {
-            jsonObject.put("url", this.getUri().toString());
+        if ( this.uri != null ) {
+            jsonObject.put("url", this.uri.toString());
         }
 
         /* Add the external URI */
-        if ( this.getExternalUri() != null ) {
-            jsonObject.put("external", this.getExternalUri().toString());
+        if ( this.externalUri != null ) {
+            jsonObject.put("external", this.externalUri.toString());
         }
 
         /* Add the title */
@@ -980,23 +1390,23 @@ public class DefaultItem implements Item {
         }
 
         /* Add the image (URI) */
-        if ( this.getImage() != null ) {
-            jsonObject.put("image", this.getImage().toString());
+        if ( this.image != null ) {
+            jsonObject.put("image", this.image.toString());
         }
 
         /* Add the banner image (URI) */
-        if ( this.getBannerImage() != null ) {
-            jsonObject.put("banner_image", this.getBannerImage().toString());
+        if ( this.bannerImage != null ) {
+            jsonObject.put("banner_image", this.bannerImage.toString());
         }
 
         /* Add the date published */
         if ( this.getDatePublished() != null ) {
-            jsonObject.put("date_published", this.getDatePublished().toString());
+            jsonObject.put("date_published", Rfc3339DateCodec.format(this.getDatePublished()));
         }
 
         /* Add the date modified */
         if ( this.getDateModified() != null ) {
-            jsonObject.put("date_modified", this.getDateModified().toString());
+            jsonObject.put("date_modified", Rfc3339DateCodec.format(this.getDateModified()));
         }
 
         /* Add the authors */
@@ -1023,11 +1433,12 @@ public class DefaultItem implements Item {
             jsonObject.put("attachments", this.getAttachmentList());
         }
 
-        /* Add the extensions */
-        if ( this.getExtensionsJSONObject() != null ) {
-            for ( final Map.Entry<String, Object> entry : this.getExtensionsJSONObject().toMap().entrySet() ) {
-                if ( entry.getKey().startsWith("_") == true ) {
-                    jsonObject.put(entry.getKey(), entry.getValue());
+        /* Add the extensions, the values are passed through as they are */
+        final JSONObject extensionsJsonObject = this.getExtensionsJSONObject();
+        if ( extensionsJsonObject != null ) {
+            for ( final String key : extensionsJsonObject.keySet() ) {
+                if ( key.startsWith("_") == true ) {
+                    jsonObject.put(key, extensionsJsonObject.get(key));
                 }
             }
         }
@@ -1041,4 +1452,92 @@ public class DefaultItem implements Item {
     }
 
 
+
+    /**
+     * Get the next string value of the tokenizer as a date, going through
+     * the parse cache of the tokenizer if it has one
+     *
+     * @param   tokenizer   the JSON tokenizer
+     *
+     * @return  the date
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     */
+    private static Instant nextDate(final JsonParser tokenizer) throws IOException {
+
+        final String string = tokenizer.nextString();
+        final ParseCache parseCache = JsonTokenizer.getParseCache(tokenizer);
+
+        return ((parseCache != null) ? parseCache.parseDate(string) : Rfc3339DateCodec.parse(string));
+
+    }
+
+
+
+    /**
+     * Write the JSON representation of this object to a writer, the item is
+     * streamed to the writer as it is encoded without building a JSON object
+     * or a string, the writer is flushed but not closed
+     *
+     * @param   writer  the writer
+     *
+     * @exception   IOException
+     *              If the writer could not be written
+     */
+    @Override
+    public void writeTo(final Writer writer) throws IOException {
+
+        final JsonGenerator generator = new JsonStreamGenerator(writer);
+        this.encode(generator);
+        generator.flush();
+
+    }
+
+
+
+    /**
+     * Write the JSON representation of this object to a stream, it is
+     * encoded straight to UTF-8 bytes, the stream is flushed but not closed
+     *
+     * @param   outputStream    the stream
+     *
+     * @exception   IOException
+     *              If the stream could not be written
+     */
+    @Override
+    public void writeTo(final OutputStream outputStream) throws IOException {
+
+        final JsonGenerator generator = new JsonByteGenerator(outputStream);
+        this.encode(generator);
+        generator.flush();
+
+    }
+
+
+
+    /**
+     * Write the JSON representation of this object to a byte buffer, UTF-8
+     * encoded, at the position of the byte buffer which is advanced past it
+     *
+     * @param   byteBuffer  the byte buffer
+     *
+     * @exception   java.nio.BufferOverflowException
+     *              If the byte buffer is too small, its position is left unchanged
+     */
+    @Override
+    public void writeTo(final ByteBuffer byteBuffer) {
+
+        try {
+            final JsonGenerator generator = new JsonByteGenerator(byteBuffer);
+            this.encode(generator);
+            generator.flush();
+        }
+        catch ( final IOException exception ) {
+            throw new UncheckedIOException(exception);
+        }
+
+    }
+
+
 }
@@ -0,0 +1,275 @@
+/**
+ * FeedBatch.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.implementation.FeedBatchResult;
+
+
+/**
+ * Feed batch, the results of parsing a batch of documents in document
+ * order, and the batch throughput statistics
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class FeedBatch {
+
+
+    /**
+     * Result list
+     */
+    private final List<FeedBatchResult> resultList;
+
+
+    /**
+     * Elapsed time in nanoseconds
+     */
+    private final long elapsedNanos;
+
+
+    /**
+     * Parsed document count
+     */
+    private int parsedCount = 0;
+
+
+    /**
+     * Item count
+     */
+    private long itemCount = 0;
+
+
+    /**
+     * Byte count
+     */
+    private long byteCount = 0;
+
+
+    /**
+     * Parse time in nanoseconds, summed over the documents
+     */
+    private long parseNanos = 0;
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   resultList      the result list, in document order
+     * @param   elapsedNanos    the time spent parsing the batch in nanoseconds
+     */
+    FeedBatch(final List<FeedBatchResult> resultList, final long elapsedNanos) {
+
+        this.resultList = Collections.unmodifiableList(resultList);
+        this.elapsedNanos = elapsedNanos;
+
+        /* Total up the results */
+        for ( final FeedBatchResult result : resultList ) {
+            if ( result.isParsed() == true ) {
+                this.parsedCount++;
+                this.itemCount += result.getFeed().getItemList().size();
+            }
+            this.byteCount += result.getByteCount();
+            this.parseNanos += result.getElapsedNanos();
+        }
+
+    }
+
+
+
+    /**
+     * Get the result list
+     *
+     * @return  the result list, in document order
+     */
+    public List<FeedBatchResult> getResultList() {
+
+        return (this.resultList);
+
+    }
+
+
+
+    /**
+     * Get the list of the feeds which were parsed
+     *
+     * @return  the feed list, in document order
+     */
+    public List<Feed> getFeedList() {
+
+        final List<Feed> feedList = new ArrayList<Feed>(this.parsedCount);
+        for ( final FeedBatchResult result : this.resultList ) {
+            if ( result.isParsed() == true ) {
+                feedList.add(result.getFeed());
+            }
+        }
+
+        return (feedList);
+
+    }
+
+
+
+    /**
+     * Get the list of the results for the documents which could not be parsed
+     *
+     * @return  the error result list, in document order
+     */
+    public List<FeedBatchResult> getErrorList() {
+
+        final List<FeedBatchResult> errorList = new ArrayList<FeedBatchResult>(this.getErrorCount());
+        for ( final FeedBatchResult result : this.resultList ) {
+            if ( result.isParsed() == false ) {
+                errorList.add(result);
+            }
+        }
+
+        return (errorList);
+
+    }
+
+
+
+    /**
+     * Get the number of documents in the batch
+     *
+     * @return  the document count
+     */
+    public int getDocumentCount() {
+
+        return (this.resultList.size());
+
+    }
+
+
+
+    /**
+     * Get the number of documents which were parsed
+     *
+     * @return  the parsed document count
+     */
+    public int getParsedCount() {
+
+        return (this.parsedCount);
+
+    }
+
+
+
+    /**
+     * Get the number of documents which could not be parsed
+     *
+     * @return  the error count
+     */
+    public int getErrorCount() {
+
+        return (this.resultList.size() - this.parsedCount);
+
+    }
+
+
+
+    /**
+     * Get the number of items in the feeds which were parsed
+     *
+     * @return  the item count
+     */
+    public long getItemCount() {
+
+        return (this.itemCount);
+
+    }
+
+
+
+    /**
+     * Get the number of bytes read
+     *
+     * @return  the byte count
+     */
+    public long getByteCount() {
+
+        return (this.byteCount);
+
+    }
+
+
+
+    /**
+     * Get the time spent parsing the batch, from the first document
+     * being submitted to the last document being parsed
+     *
+     * @return  the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+
+        return (this.elapsedNanos);
+
+    }
+
+
+
+    /**
+     * Get the time spent parsing the documents, summed over the documents,
+     * more than the elapsed time when documents are parsed in parallel
+     *
+     * @return  the parse time in nanoseconds
+     */
+    public long getParseNanos() {
+
+        return (this.parseNanos);
+
+    }
+
+
+
+    /**
+     * Get the number of documents parsed per second
+     *
+     * @return  the documents per second, 0 if no time elapsed
+     */
+    public double getDocumentsPerSecond() {
+
+        return ((this.elapsedNanos > 0) ? (this.resultList.size() * 1e9d) / this.elapsedNanos : 0d);
+
+    }
+
+
+
+    /**
+     * Get the number of bytes read per second
+     *
+     * @return  the bytes per second, 0 if no time elapsed
+     */
+    public double getBytesPerSecond() {
+
+        return ((this.elapsedNanos > 0) ? (this.byteCount * 1e9d) / this.elapsedNanos : 0d);
+
+    }
+
+
+}
@@ -0,0 +1,440 @@
+/**
+ * FeedBatchParser.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.function.BiFunction;
+import java.util.stream.Stream;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.implementation.ContentDecoder;
+import com.kaderate.jsonfeed.implementation.FeedBatch;
+import com.kaderate.jsonfeed.implementation.FeedBatchResult;
+import com.kaderate.jsonfeed.implementation.FeedParser;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+import com.kaderate.jsonfeed.implementation.StringPool;
+
+
+/**
+ * Feed batch parser, parses a batch of documents (files, byte arrays or
+ * streams) on an executor and returns the results in document order
+ *
+ * Each executor thread parses with its own feed parser, so the tokenizer
+ * buffers and the member name symbol table are reused from document to
+ * document. Repeated values are shared across the whole batch through the
+ * string pool of the parse options, the default batch parser has one.
+ *
+ * A document which cannot be parsed does not stop the batch, the exception
+ * is kept in its result. The documents are read from the sources as they
+ * are submitted, with a bound on the number of documents pending on the
+ * executor, so a large batch is not read into memory ahead of the parsing.
+ *
+ * Byte arrays and streams may be gzip or deflate encoded, streams are
+ * closed once they are parsed.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class FeedBatchParser {
+
+
+    /**
+     * Default maximum number of documents pending on the executor
+     */
+    public static final int DEFAULT_MAX_PENDING_DOCUMENTS = 256;
+
+
+    /**
+     * Parse options
+     */
+    private final ParseOptions parseOptions;
+
+
+    /**
+     * Executor
+     */
+    private final Executor executor;
+
+
+    /**
+     * Maximum number of documents pending on the executor
+     */
+    private final int maxPendingDocuments;
+
+
+    /**
+     * Feed parser for each executor thread
+     */
+    private final ThreadLocal<FeedParser> feedParserThreadLocal;
+
+
+
+    /**
+     * Constructor, parses on the common fork join pool with the default options
+     * and a string pool shared by the batch
+     */
+    public FeedBatchParser() {
+
+        this(new ParseOptions().setStringPool(new StringPool()), ForkJoinPool.commonPool());
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   parseOptions    the parse options
+     * @param   executor        the executor on which the documents are parsed
+     */
+    public FeedBatchParser(final ParseOptions parseOptions, final Executor executor) {
+
+        this(parseOptions, executor, FeedBatchParser.DEFAULT_MAX_PENDING_DOCUMENTS);
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   parseOptions            the parse options
+     * @param   executor                the executor on which the documents are parsed
+     * @param   maxPendingDocuments     the maximum number of documents pending on the executor
+     *
+     * @exception   IllegalArgumentException
+     *              If the maximum number of pending documents is less than 1
+     */
+    public FeedBatchParser(final ParseOptions parseOptions, final Executor executor, final int maxPendingDocuments) {
+
+        if ( maxPendingDocuments < 1 ) {
+            throw new IllegalArgumentException("Invalid maximum number of pending documents: " + maxPendingDocuments);
+        }
+
+        this.parseOptions = parseOptions;
+        this.executor = executor;
+        this.maxPendingDocuments = maxPendingDocuments;
+        this.feedParserThreadLocal = ThreadLocal.withInitial(() -> new FeedParser(parseOptions));
+
+    }
+
+
+
+    /**
+     * Get the parse options
+     *
+     * @return  the parse options
+     */
+    public ParseOptions getParseOptions() {
+
+        return (this.parseOptions);
+
+    }
+
+
+
+    /**
+     * Parse a batch of UTF-8 encoded feed files, the files are read through
+     * read-only memory mappings
+     *
+     * @param   feedPathStream  the feed file paths
+     *
+     * @return  the feed batch
+     */
+    public FeedBatch parsePaths(final Stream<Path> feedPathStream) {
+
+        return (this.parse(feedPathStream.iterator(), this::parsePath));
+
+    }
+
+
+
+    /**
+     * Parse a batch of UTF-8 encoded feed byte arrays
+     *
+     * @param   feedBytesStream     the feed byte arrays
+     *
+     * @return  the feed batch
+     */
+    public FeedBatch parseByteArrays(final Stream<byte[]> feedBytesStream) {
+
+        return (this.parse(feedBytesStream.iterator(), this::parseByteArray));
+
+    }
+
+
+
+    /**
+     * Parse a batch of UTF-8 encoded feed streams, the streams are closed once they are parsed
+     *
+     * @param   feedStreams     the feed streams
+     *
+     * @return  the feed batch
+     */
+    public FeedBatch parseInputStreams(final Iterable<InputStream> feedStreams) {
+
+        return (this.parse(feedStreams.iterator(), this::parseInputStream));
+
+    }
+
+
+
+    /**
+     * Parse a batch of documents, submitting them to the executor in turn
+     *
+     * @param   documentIterator    the document iterator
+     * @param   documentParser      the document parser, from the document index and the document to the result
+     *
+     * @return  the feed batch
+     */
+    private <T> FeedBatch parse(final Iterator<T> documentIterator, final BiFunction<Integer, T, FeedBatchResult> documentParser) {
+
+        final long startNanos = System.nanoTime();
+        final Semaphore pendingSemaphore = new Semaphore(this.maxPendingDocuments);
+        final List<CompletableFuture<FeedBatchResult>> resultFutureList = new ArrayList<CompletableFuture<FeedBatchResult>>();
+
+        /* Submit the documents, waiting while too many are pending */
+        while ( documentIterator.hasNext() == true ) {
+
+            final int index = resultFutureList.size();
+            final T document = documentIterator.next();
+
+            pendingSemaphore.acquireUninterruptibly();
+            try {
+                resultFutureList.add(CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return (documentParser.apply(index, document));
+                    }
+                    finally {
+                        pendingSemaphore.release();
+                    }
+                }, this.executor));
+            }
+            catch ( final RejectedExecutionException exception ) {
+                pendingSemaphore.release();
+                resultFutureList.add(CompletableFuture.completedFuture(new FeedBatchResult(index, null, null, exception, 0, 0)));
+            }
+        }
+
+        /* Collect the results in document order */
+        final List<FeedBatchResult> resultList = new ArrayList<FeedBatchResult>(resultFutureList.size());
+        for ( final CompletableFuture<FeedBatchResult> resultFuture : resultFutureList ) {
+            resultList.add(resultFuture.join());
+        }
+
+        return (new FeedBatch(resultList, System.nanoTime() - startNanos));
+
+    }
+
+
+
+    /**
+     * Parse a feed file
+     *
+     * @param   index       the document index
+     * @param   feedPath    the feed file path
+     *
+     * @return  the result
+     */
+    private FeedBatchResult parsePath(final int index, final Path feedPath) {
+
+        final long startNanos = System.nanoTime();
+        long byteCount = 0;
+
+        try {
+            byteCount = Files.size(feedPath);
+            final Feed feed = this.feedParserThreadLocal.get().parse(feedPath);
+            return (new FeedBatchResult(index, feedPath, feed, null, byteCount, System.nanoTime() - startNanos));
+        }
+        catch ( final URISyntaxException | IOException | RuntimeException exception ) {
+            return (new FeedBatchResult(index, feedPath, null, exception, byteCount, System.nanoTime() - startNanos));
+        }
+
+    }
+
+
+
+    /**
+     * Parse a feed byte array, plain feed bytes are parsed in place
+     *
+     * @param   index       the document index
+     * @param   feedBytes   the feed bytes
+     *
+     * @return  the result
+     */
+    private FeedBatchResult parseByteArray(final int index, final byte[] feedBytes) {
+
+        final long startNanos = System.nanoTime();
+
+        try {
+            final FeedParser feedParser = this.feedParserThreadLocal.get();
+            final Feed feed = (ContentDecoder.isEncoded(feedBytes) == true) ? feedParser.parse(new ByteArrayInputStream(feedBytes)) :
+                    feedParser.parse(ByteBuffer.wrap(feedBytes));
+            return (new FeedBatchResult(index, null, feed, null, feedBytes.length, System.nanoTime() - startNanos));
+        }
+        catch ( final URISyntaxException | IOException | RuntimeException exception ) {
+            return (new FeedBatchResult(index, null, null, exception, feedBytes.length, System.nanoTime() - startNanos));
+        }
+
+    }
+
+
+
+    /**
+     * Parse a feed stream and close it
+     *
+     * @param   index       the document index
+     * @param   feedStream  the feed stream
+     *
+     * @return  the result
+     */
+    private FeedBatchResult parseInputStream(final int index, final InputStream feedStream) {
+
+        final long startNanos = System.nanoTime();
+        final CountingInputStream countingStream = new CountingInputStream(feedStream);
+
+        try ( countingStream ) {
+            final Feed feed = this.feedParserThreadLocal.get().parse(countingStream);
+            return (new FeedBatchResult(index, null, feed, null, countingStream.byteCount, System.nanoTime() - startNanos));
+        }
+        catch ( final URISyntaxException | IOException | RuntimeException exception ) {
+            return (new FeedBatchResult(index, null, null, exception, countingStream.byteCount, System.nanoTime() - startNanos));
+        }
+
+    }
+
+
+
+    /**
+     * Input stream which counts the bytes read from it
+     */
+    private static final class CountingInputStream extends FilterInputStream {
+
+
+        /**
+         * Byte count
+         */
+        private long byteCount = 0;
+
+
+
+        /**
+         * Constructor
+         *
+         * @param   inputStream     the input stream
+         */
+        CountingInputStream(final InputStream inputStream) {
+
+            super(inputStream);
+
+        }
+
+
+
+        /**
+         * Read a byte
+         *
+         * @return  the byte, -1 at the end of the stream
+         *
+         * @exception   IOException
+         *              If the stream could not be read
+         */
+        @Override
+        public int read() throws IOException {
+
+            final int b = super.read();
+            if ( b >= 0 ) {
+                this.byteCount++;
+            }
+
+            return (b);
+
+        }
+
+
+
+        /**
+         * Read bytes
+         *
+         * @param   bytes   the byte array
+         * @param   offset  the offset in the byte array
+         * @param   length  the maximum number of bytes to read
+         *
+         * @return  the number of bytes read, -1 at the end of the stream
+         *
+         * @exception   IOException
+         *              If the stream could not be read
+         */
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+
+            final int count = super.read(bytes, offset, length);
+            if ( count > 0 ) {
+                this.byteCount += count;
+            }
+
+            return (count);
+
+        }
+
+
+
+        /**
+         * Skip bytes
+         *
+         * @param   length  the number of bytes to skip
+         *
+         * @return  the number of bytes skipped
+         *
+         * @exception   IOException
+         *              If the stream could not be read
+         */
+        @Override
+        public long skip(final long length) throws IOException {
+
+            final long count = super.skip(length);
+            this.byteCount += count;
+
+            return (count);
+
+        }
+
+
+    }
+
+
+}
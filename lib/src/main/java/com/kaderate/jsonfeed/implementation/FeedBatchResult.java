@@ -0,0 +1,189 @@
+/**
+ * FeedBatchResult.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.nio.file.Path;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+
+
+/**
+ * Feed batch result, the outcome of parsing one document of a batch,
+ * either the feed or the exception which was thrown parsing it
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class FeedBatchResult {
+
+
+    /**
+     * Document index in the batch
+     */
+    private final int index;
+
+
+    /**
+     * Document path, null if the document is not a file
+     */
+    private final Path path;
+
+
+    /**
+     * Feed, null if the document could not be parsed
+     */
+    private final Feed feed;
+
+
+    /**
+     * Exception, null if the document was parsed
+     */
+    private final Exception exception;
+
+
+    /**
+     * Byte count
+     */
+    private final long byteCount;
+
+
+    /**
+     * Elapsed time in nanoseconds
+     */
+    private final long elapsedNanos;
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   index           the document index in the batch
+     * @param   path            the document path, null if the document is not a file
+     * @param   feed            the feed, null if the document could not be parsed
+     * @param   exception       the exception, null if the document was parsed
+     * @param   byteCount       the number of bytes read
+     * @param   elapsedNanos    the time spent parsing the document in nanoseconds
+     */
+    FeedBatchResult(final int index, final Path path, final Feed feed, final Exception exception, final long byteCount, final long elapsedNanos) {
+
+        this.index = index;
+        this.path = path;
+        this.feed = feed;
+        this.exception = exception;
+        this.byteCount = byteCount;
+        this.elapsedNanos = elapsedNanos;
+
+    }
+
+
+
+    /**
+     * Get the document index in the batch
+     *
+     * @return  the document index
+     */
+    public int getIndex() {
+
+        return (this.index);
+
+    }
+
+
+
+    /**
+     * Get the document path
+     *
+     * @return  the document path, null if the document is not a file
+     */
+    public Path getPath() {
+
+        return (this.path);
+
+    }
+
+
+
+    /**
+     * Check if the document was parsed
+     *
+     * @return  true if the document was parsed
+     */
+    public boolean isParsed() {
+
+        return (this.exception == null);
+
+    }
+
+
+
+    /**
+     * Get the feed
+     *
+     * @return  the feed, null if the document could not be parsed
+     */
+    public Feed getFeed() {
+
+        return (this.feed);
+
+    }
+
+
+
+    /**
+     * Get the exception thrown parsing the document
+     *
+     * @return  the exception, null if the document was parsed
+     */
+    public Exception getException() {
+
+        return (this.exception);
+
+    }
+
+
+
+    /**
+     * Get the number of bytes read, as stored (e.g. gzip encoded)
+     *
+     * @return  the byte count
+     */
+    public long getByteCount() {
+
+        return (this.byteCount);
+
+    }
+
+
+
+    /**
+     * Get the time spent parsing the document
+     *
+     * @return  the elapsed time in nanoseconds
+     */
+    public long getElapsedNanos() {
+
+        return (this.elapsedNanos);
+
+    }
+
+
+}
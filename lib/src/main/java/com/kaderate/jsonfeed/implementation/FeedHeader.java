@@ -0,0 +1,113 @@
+/**
+ * FeedHeader.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+
+
+/**
+ * Feed header, the top-level feed fields and the location of the items
+ * in the feed bytes, the items themselves are not decoded
+ *
+ * Offsets are byte offsets from the start of the input, which is the
+ * position of a byte buffer, a leading byte order mark is counted. The
+ * offsets of a gzip or deflate encoded feed are in the inflated bytes.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class FeedHeader {
+
+
+    /**
+     * Feed, the item list is always empty
+     */
+    private final Feed feed;
+
+
+    /**
+     * Offset of the items array, -1 if there are no items
+     */
+    private final long itemsOffset;
+
+
+    /**
+     * Offset after the end of the items array, -1 if there are no items
+     */
+    private final long itemsEndOffset;
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   feed            the feed
+     * @param   itemsOffset     the offset of the items array, -1 if there are no items
+     * @param   itemsEndOffset  the offset after the end of the items array, -1 if there are no items
+     */
+    FeedHeader(final Feed feed, final long itemsOffset, final long itemsEndOffset) {
+
+        this.feed = feed;
+        this.itemsOffset = itemsOffset;
+        this.itemsEndOffset = itemsEndOffset;
+
+    }
+
+
+
+    /**
+     * Get the feed, the item list is always empty
+     *
+     * @return  the feed
+     */
+    public Feed getFeed() {
+
+        return (this.feed);
+
+    }
+
+
+
+    /**
+     * Get the offset of the items array, the offset of its opening bracket
+     *
+     * @return  the offset of the items array, -1 if there are no items
+     */
+    public long getItemsOffset() {
+
+        return (this.itemsOffset);
+
+    }
+
+
+
+    /**
+     * Get the offset after the end of the items array, the offset after its closing bracket
+     *
+     * @return  the offset after the end of the items array, -1 if there are no items
+     */
+    public long getItemsEndOffset() {
+
+        return (this.itemsEndOffset);
+
+    }
+
+
+}
@@ -0,0 +1,362 @@
+/**
+ * FeedItemPublisher.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.FeedReader;
+import com.kaderate.jsonfeed.Item;
+
+
+/**
+ * Publisher for the items of a feed reader, items are only read and decoded
+ * as the subscriber requests them, so a slow subscriber throttles the reading
+ *
+ * Items are read and signalled on the executor, one signal at a time. The feed
+ * reader can only be read once so the publisher accepts a single subscriber,
+ * further subscribers are signalled an IllegalStateException. The feed reader
+ * is closed when the items are exhausted, on error and on cancellation. Only
+ * errors from the feed reader are signalled to the subscriber, a subscriber
+ * which throws from a signal is treated as having cancelled the subscription.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class FeedItemPublisher implements Flow.Publisher<Item> {
+
+
+    /**
+     * Feed reader
+     */
+    private final FeedReader feedReader;
+
+
+    /**
+     * Executor
+     */
+    private final Executor executor;
+
+
+    /**
+     * Subscribed flag
+     */
+    private final AtomicBoolean subscribed = new AtomicBoolean(false);
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   feedReader  the feed reader
+     * @param   executor    the executor the items are read and signalled on
+     */
+    public FeedItemPublisher(final FeedReader feedReader, final Executor executor) {
+
+        this.feedReader = feedReader;
+        this.executor = executor;
+
+    }
+
+
+
+    /**
+     * Subscribe to the items
+     *
+     * @param   subscriber  the subscriber
+     */
+    @Override
+    public void subscribe(final Flow.Subscriber<? super Item> subscriber) {
+
+        /* Reject further subscribers */
+        if ( this.subscribed.compareAndSet(false, true) == false ) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(final long n) {
+                }
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("The feed items can only be subscribed to once"));
+            return;
+        }
+
+        /* Subscribe */
+        subscriber.onSubscribe(new ItemSubscription(subscriber));
+
+    }
+
+
+
+    /**
+     * Item subscription, requests are drained on the executor by one task at a time
+     */
+    private final class ItemSubscription implements Flow.Subscription, Runnable {
+
+
+        /**
+         * Subscriber
+         */
+        private final Flow.Subscriber<? super Item> subscriber;
+
+
+        /**
+         * Requested item count
+         */
+        private final AtomicLong demand = new AtomicLong(0);
+
+
+        /**
+         * Pending drain count, a drain task is running when it is not zero
+         */
+        private final AtomicInteger pendingDrains = new AtomicInteger(0);
+
+
+        /**
+         * Cancelled flag
+         */
+        private volatile boolean cancelled = false;
+
+
+        /**
+         * Invalid request flag
+         */
+        private volatile boolean invalidRequest = false;
+
+
+        /**
+         * Done flag, only used by the drain task
+         */
+        private boolean done = false;
+
+
+
+        /**
+         * Constructor
+         *
+         * @param   subscriber  the subscriber
+         */
+        ItemSubscription(final Flow.Subscriber<? super Item> subscriber) {
+
+            this.subscriber = subscriber;
+
+        }
+
+
+
+        /**
+         * Request more items
+         *
+         * @param   n   the number of items
+         */
+        @Override
+        public void request(final long n) {
+
+            /* Add to the demand, capping it at Long.MAX_VALUE */
+            if ( n <= 0 ) {
+                this.invalidRequest = true;
+            }
+            else {
+                this.demand.getAndUpdate((demand) -> ((demand + n) < 0) ? Long.MAX_VALUE : (demand + n));
+            }
+
+            this.drain();
+
+        }
+
+
+
+        /**
+         * Cancel the subscription, the feed reader is closed
+         */
+        @Override
+        public void cancel() {
+
+            this.cancelled = true;
+            this.drain();
+
+        }
+
+
+
+        /**
+         * Schedule a drain task unless one is running
+         */
+        private void drain() {
+
+            if ( this.pendingDrains.getAndIncrement() == 0 ) {
+                FeedItemPublisher.this.executor.execute(this);
+            }
+
+        }
+
+
+
+        /**
+         * Drain the requests, signalling the items
+         */
+        @Override
+        public void run() {
+
+            int drains = 1;
+
+            do {
+
+                /* Signal the items while there is demand */
+                while ( this.done == false ) {
+
+                    /* Stop on cancellation */
+                    if ( this.cancelled == true ) {
+                        this.finish();
+                        continue;
+                    }
+
+                    /* Signal invalid requests */
+                    if ( this.invalidRequest == true ) {
+                        this.finish();
+                        this.signalError(new IllegalArgumentException("The number of items requested must be positive"));
+                        continue;
+                    }
+
+                    /* Check for the end of the items, without waiting for demand, and read the next item if it was requested */
+                    final boolean hasNext;
+                    Item item = null;
+                    try {
+                        hasNext = FeedItemPublisher.this.feedReader.hasNext();
+                        if ( (hasNext == true) && (this.demand.get() > 0) ) {
+                            item = FeedItemPublisher.this.feedReader.next();
+                        }
+                    }
+                    catch ( final RuntimeException exception ) {
+                        this.finish();
+                        this.signalError(exception);
+                        continue;
+                    }
+
+                    /* Signal the end of the items */
+                    if ( hasNext == false ) {
+                        this.finish();
+                        this.signalComplete();
+                    }
+
+                    /* Signal the next item */
+                    else if ( item != null ) {
+                        if ( this.demand.get() != Long.MAX_VALUE ) {
+                            this.demand.decrementAndGet();
+                        }
+                        this.signalNext(item);
+                    }
+
+                    /* Wait for demand */
+                    else {
+                        break;
+                    }
+                }
+
+                drains = this.pendingDrains.addAndGet(-drains);
+
+            } while ( drains != 0 );
+
+        }
+
+
+
+        /**
+         * Signal the next item, a subscriber which throws is treated as
+         * having cancelled the subscription and is not signalled again
+         *
+         * @param   item    the item
+         */
+        private void signalNext(final Item item) {
+
+            try {
+                this.subscriber.onNext(item);
+            }
+            catch ( final RuntimeException exception ) {
+                this.cancelled = true;
+                this.finish();
+            }
+
+        }
+
+
+
+        /**
+         * Signal the end of the items, the subscription is finished
+         */
+        private void signalComplete() {
+
+            try {
+                this.subscriber.onComplete();
+            }
+            catch ( final RuntimeException exception ) {
+                /* The subscription is over, the subscriber is not signalled again */
+            }
+
+        }
+
+
+
+        /**
+         * Signal an error, the subscription is finished
+         *
+         * @param   throwable   the error
+         */
+        private void signalError(final Throwable throwable) {
+
+            try {
+                this.subscriber.onError(throwable);
+            }
+            catch ( final RuntimeException exception ) {
+                /* The subscription is over, the subscriber is not signalled again */
+            }
+
+        }
+
+
+
+        /**
+         * Finish the subscription, closing the feed reader
+         */
+        private void finish() {
+
+            this.done = true;
+
+            try {
+                FeedItemPublisher.this.feedReader.close();
+            }
+            catch ( final IOException exception ) {
+                /* The subscription is over, there is no one left to tell */
+            }
+
+        }
+
+
+    }
+
+
+}
@@ -0,0 +1,272 @@
+/**
+ * FeedParser.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.InputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.implementation.ContentDecoder;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
+import com.kaderate.jsonfeed.implementation.ParseCache;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+
+
+/**
+ * Reusable feed parser, parses one feed after another with the same tokenizer
+ * buffers, member name symbol table, and date and URI caches, so there is
+ * no setup cost per feed
+ *
+ * The tokenizer and the caches are reset at the start of each feed, the
+ * symbol table is kept since member names are the same from feed to feed.
+ * Lazy and parallel items are decoded with their own tokenizers.
+ *
+ * A feed parser is not safe for concurrent access, it can be held per
+ * thread (e.g. in a ThreadLocal) or in a pool.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class FeedParser {
+
+
+    /**
+     * Parse options
+     */
+    private final ParseOptions parseOptions;
+
+
+    /**
+     * JSON tokenizer
+     */
+    private final JsonTokenizer tokenizer = new JsonTokenizer();
+
+
+    /**
+     * Parse cache
+     */
+    private final ParseCache parseCache = new ParseCache();
+
+
+
+    /**
+     * Constructor, parses with the default options
+     */
+    public FeedParser() {
+
+        this(new ParseOptions());
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   parseOptions    the parse options
+     */
+    public FeedParser(final ParseOptions parseOptions) {
+
+        this.parseOptions = parseOptions;
+        this.tokenizer.setParseCache(this.parseCache);
+
+    }
+
+
+
+    /**
+     * Get the parse options
+     *
+     * @return  the parse options
+     */
+    public ParseOptions getParseOptions() {
+
+        return (this.parseOptions);
+
+    }
+
+
+
+    /**
+     * Parse the JSON feed reader and return the feed
+     *
+     * @param   feedReader  the JSON feed reader
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the feed reader could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public Feed parse(final Reader feedReader) throws URISyntaxException, IOException {
+
+        /* Parse the feed reader as it is read */
+        this.tokenizer.reset(feedReader);
+        return (this.parse());
+
+    }
+
+
+
+    /**
+     * Parse the UTF-8 encoded feed stream and return the feed
+     *
+     * @param   feedStream  the feed stream
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the feed stream could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public Feed parse(final InputStream feedStream) throws URISyntaxException, IOException {
+
+        /* Inflate the feed stream as it is read if it is gzip or deflate encoded */
+        final InputStream decodedFeedStream = ContentDecoder.detect(feedStream);
+
+        /* Lazy and parallel items and lazy content are decoded from the feed bytes, so read the whole stream */
+        if ( (this.parseOptions.isFeedBytesNeeded() == true) && (this.parseOptions.hasWatermark() == false) ) {
+            return (this.parse(ByteBuffer.wrap(DefaultFeed.readAllBytes(decodedFeedStream, this.parseOptions))));
+        }
+
+        /* Parse the feed stream as it is read */
+        this.tokenizer.reset(decodedFeedStream);
+        return (this.parse());
+
+    }
+
+
+
+    /**
+     * Parse the UTF-8 encoded feed byte buffer from its position to its limit
+     * and return the feed
+     *
+     * @param   feedByteBuffer  the feed byte buffer
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the feed byte buffer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    public Feed parse(final ByteBuffer feedByteBuffer) throws URISyntaxException, IOException {
+
+        /* Parse the feed byte buffer */
+        this.tokenizer.reset(feedByteBuffer);
+        return (this.parse());
+
+    }
+
+
+
+    /**
+     * Parse the UTF-8 encoded feed file and return the feed, the file is
+     * read through a read-only memory mapping
+     *
+     * @param   feedPath    the feed file path
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the feed file could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the file is too large for the options which need the feed bytes
+     */
+    public Feed parse(final Path feedPath) throws URISyntaxException, IOException {
+
+        /* Map the feed file */
+        try ( final MappedFileInputStream feedStream = new MappedFileInputStream(feedPath) ) {
+
+            /* Lazy and parallel items and lazy content are decoded from a mapping of the whole file */
+            if ( this.parseOptions.isFeedBytesNeeded() == true ) {
+                final ByteBuffer feedByteBuffer = DefaultFeed.mapFeedFile(feedStream, this.parseOptions);
+                if ( feedByteBuffer != null ) {
+                    return (this.parse(feedByteBuffer));
+                }
+            }
+
+            /* Parse the mapped feed file, gzip and deflate encoded files are inflated as they are read */
+            return (this.parse(feedStream));
+
+        }
+
+    }
+
+
+
+    /**
+     * Parse the feed the tokenizer was reset to, releasing the input afterwards
+     *
+     * @return  the feed object
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing or invalid
+     */
+    private Feed parse() throws URISyntaxException, IOException {
+
+        /* Clear the caches from the previous feed */
+        this.parseCache.clear();
+
+        /* Parse the feed */
+        try {
+            return (new DefaultFeed(this.tokenizer, this.parseOptions));
+        }
+        finally {
+            this.tokenizer.release();
+        }
+
+    }
+
+
+}
@@ -0,0 +1,852 @@
+/**
+ * FeedPushParser.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/* Import JSON stuff */
+import org.json.JSONException;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.FeedListener;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
+import com.kaderate.jsonfeed.implementation.DefaultItem;
+import com.kaderate.jsonfeed.implementation.ParseCache;
+import com.kaderate.jsonfeed.implementation.ParseLimit;
+import com.kaderate.jsonfeed.implementation.ParseLimitException;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+
+
+/**
+ * Non-blocking push parser, the feed bytes are pushed in chunks as they
+ * arrive and the feed and its items are passed to the listener as soon
+ * as they have been parsed
+ *
+ * The chunks are scanned structurally, keeping the scanner state across
+ * chunk boundaries, and only the bytes of the feed member or item being
+ * scanned are kept, each one is decoded by the tokenizer once it is complete.
+ * So memory use depends on the largest member or item rather than on the
+ * size of the feed.
+ *
+ * The feed is passed to the listener once its version has been found, items
+ * which come before the version member are held back until it is found so
+ * they are upgraded to the feed version, and none are passed if it is missing.
+ *
+ * The limits in the parse options are checked as the chunks are pushed,
+ * the nesting depth of a member or an item is counted from the member or
+ * item value rather than from the feed object.
+ *
+ * Syntax errors are thrown as JSONException, once an exception has been
+ * thrown the parser can not be used any more. A push parser is not safe
+ * for concurrent access.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class FeedPushParser {
+
+
+    /**
+     * Modes
+     */
+    private static final int MODE_BEFORE_FEED = 0;
+    private static final int MODE_MEMBERS = 1;
+    private static final int MODE_ITEMS = 2;
+    private static final int MODE_AFTER_FEED = 3;
+    private static final int MODE_ENDED = 4;
+
+
+    /**
+     * Item states
+     */
+    private static final int ITEMS_STARTED = 0;
+    private static final int ITEMS_AFTER_ITEM = 1;
+    private static final int ITEMS_AFTER_COMMA = 2;
+
+
+    /**
+     * UTF-8 byte order mark
+     */
+    private static final byte[] BYTE_ORDER_MARK = { (byte)0xEF, (byte)0xBB, (byte)0xBF };
+
+
+    /**
+     * Feed listener
+     */
+    private final FeedListener feedListener;
+
+
+    /**
+     * Parse options
+     */
+    private final ParseOptions parseOptions;
+
+
+    /**
+     * Feed
+     */
+    private final DefaultFeed feed = new DefaultFeed();
+
+
+    /**
+     * JSON tokenizer, decodes the members and items
+     */
+    private final JsonTokenizer tokenizer = new JsonTokenizer();
+
+
+    /**
+     * Buffer, holds the bytes from the member or item being scanned
+     */
+    private byte[] buffer = new byte[8192];
+
+
+    /**
+     * Buffer limit
+     */
+    private int limit = 0;
+
+
+    /**
+     * Scan position in the buffer
+     */
+    private int position = 0;
+
+
+    /**
+     * Offset of the start of the buffer in the input
+     */
+    private long bufferOffset = 0;
+
+
+    /**
+     * Mode
+     */
+    private int mode = FeedPushParser.MODE_BEFORE_FEED;
+
+
+    /**
+     * Nesting depth, the feed object is at depth 1 and the items array at depth 2
+     */
+    private int depth = 0;
+
+
+    /**
+     * In string flag
+     */
+    private boolean inString = false;
+
+
+    /**
+     * Escape flag
+     */
+    private boolean escape = false;
+
+
+    /**
+     * Byte order mark length
+     */
+    private int byteOrderMarkLength = 0;
+
+
+    /**
+     * Start of the member being scanned, -1 if the rest of the member is the items
+     */
+    private int memberStart = -1;
+
+
+    /**
+     * Colon of the member being scanned, -1 if not found yet
+     */
+    private int colonIndex = -1;
+
+
+    /**
+     * Number of members scanned
+     */
+    private int memberCount = 0;
+
+
+    /**
+     * Items state
+     */
+    private int itemsState = FeedPushParser.ITEMS_STARTED;
+
+
+    /**
+     * Start of the item being scanned, -1 if none
+     */
+    private int itemStart = -1;
+
+
+    /**
+     * Decode items flag, cleared when the items are not selected or the watermark is reached
+     */
+    private boolean decodeItems = true;
+
+
+    /**
+     * Number of items decoded
+     */
+    private int itemCount = 0;
+
+
+    /**
+     * Version found flag
+     */
+    private boolean versionFound = false;
+
+
+    /**
+     * Feed passed to the listener flag
+     */
+    private boolean feedSignalled = false;
+
+
+    /**
+     * Items decoded before the version was found, held back until it is found
+     */
+    private final List<DefaultItem> pendingItemList = new ArrayList<DefaultItem>();
+
+
+
+    /**
+     * Constructor, parses with the default options
+     *
+     * @param   feedListener    the feed listener
+     */
+    public FeedPushParser(final FeedListener feedListener) {
+
+        this(feedListener, new ParseOptions());
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   feedListener    the feed listener
+     * @param   parseOptions    the parse options
+     */
+    public FeedPushParser(final FeedListener feedListener, final ParseOptions parseOptions) {
+
+        this.feedListener = feedListener;
+        this.parseOptions = parseOptions;
+        this.tokenizer.setParseCache(new ParseCache());
+        this.tokenizer.setLimits(parseOptions);
+        this.tokenizer.setTransientInput(true);
+
+    }
+
+
+
+    /**
+     * Get the feed, the item list is always empty
+     *
+     * @return  the feed
+     */
+    public Feed getFeed() {
+
+        return (this.feed);
+
+    }
+
+
+
+    /**
+     * Push the next chunk of UTF-8 encoded feed bytes, the chunk is read from
+     * its position to its limit, the listener is called for the feed and for
+     * each item completed by the chunk
+     *
+     * @param   chunk   the chunk
+     *
+     * @exception   IOException
+     *              If a member or an item could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed or item URI is invalid
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is invalid
+     *
+     * @exception   ParseLimitException
+     *              If a limit in the parse options is exceeded
+     *
+     * @exception   IllegalStateException
+     *              If the parser has ended
+     */
+    public void feed(final ByteBuffer chunk) throws URISyntaxException, IOException {
+
+        if ( this.mode == FeedPushParser.MODE_ENDED ) {
+            throw new IllegalStateException("The parser has ended");
+        }
+
+        /* Check the byte count */
+        final int length = chunk.remaining();
+        if ( (this.parseOptions.getMaxBytes() > 0) && ((this.bufferOffset + this.limit + length) > this.parseOptions.getMaxBytes()) ) {
+            this.mode = FeedPushParser.MODE_ENDED;
+            throw new ParseLimitException(ParseLimit.BYTES, this.parseOptions.getMaxBytes());
+        }
+
+        /* Add the chunk to the buffer */
+        if ( this.limit + length > this.buffer.length ) {
+            this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.limit + length));
+        }
+        chunk.get(this.buffer, this.limit, length);
+        this.limit += length;
+
+        /* Scan the chunk */
+        try {
+            this.scan();
+        }
+        catch ( final IOException | URISyntaxException | RuntimeException exception ) {
+            this.mode = FeedPushParser.MODE_ENDED;
+            throw exception;
+        }
+
+        /* Drop the bytes which are no longer needed */
+        this.compact();
+
+    }
+
+
+
+    /**
+     * End the feed, the listener is called for the end of the feed
+     *
+     * @exception   IllegalArgumentException
+     *              If the version is missing
+     *
+     * @exception   IllegalStateException
+     *              If the parser has ended
+     */
+    public void end() {
+
+        if ( this.mode == FeedPushParser.MODE_ENDED ) {
+            throw new IllegalStateException("The parser has ended");
+        }
+
+        /* Check the feed is complete */
+        final int mode = this.mode;
+        this.mode = FeedPushParser.MODE_ENDED;
+        if ( (mode != FeedPushParser.MODE_AFTER_FEED) || (this.inString == true) ) {
+            throw this.syntaxError("Unexpected end of input", this.limit);
+        }
+
+        /* Check the version */
+        if ( this.versionFound == false ) {
+            throw new IllegalArgumentException("Missing version");
+        }
+
+        /* Normalize the feed and signal it */
+        this.signalFeed();
+        this.feed.normalize();
+        this.feedListener.onEnd(this.feed);
+
+    }
+
+
+
+    /**
+     * Scan the buffer from the scan position
+     *
+     * @exception   IOException
+     *              If a member or an item could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed or item URI is invalid
+     */
+    private void scan() throws URISyntaxException, IOException {
+
+        while ( this.position < this.limit ) {
+
+            final int index = this.position++;
+            final byte b = this.buffer[index];
+
+            /* Skip over strings */
+            if ( this.inString == true ) {
+                if ( this.escape == true ) {
+                    this.escape = false;
+                }
+                else if ( b == '\\' ) {
+                    this.escape = true;
+                }
+                else if ( b == '"' ) {
+                    this.inString = false;
+                }
+                continue;
+            }
+
+            switch ( this.mode ) {
+
+                case FeedPushParser.MODE_BEFORE_FEED:
+                    this.scanBeforeFeed(index, b);
+                    break;
+
+                case FeedPushParser.MODE_MEMBERS:
+                    this.scanMember(index, b);
+                    break;
+
+                case FeedPushParser.MODE_ITEMS:
+                    this.scanItem(index, b);
+                    break;
+
+                default:
+                    if ( FeedPushParser.isWhitespace(b) == false ) {
+                        throw this.syntaxError("Unexpected data after the end of the document", index);
+                    }
+                    break;
+            }
+        }
+
+    }
+
+
+
+    /**
+     * Scan a byte before the feed object
+     *
+     * @param   index   the byte index
+     * @param   b       the byte
+     */
+    private void scanBeforeFeed(final int index, final byte b) {
+
+        final long offset = this.bufferOffset + index;
+
+        /* Byte order mark */
+        if ( (offset == this.byteOrderMarkLength) && (offset < FeedPushParser.BYTE_ORDER_MARK.length) && (b == FeedPushParser.BYTE_ORDER_MARK[(int)offset]) ) {
+            this.byteOrderMarkLength++;
+        }
+
+        /* Start of the feed object */
+        else if ( (b == '{') && ((this.byteOrderMarkLength == 0) || (this.byteOrderMarkLength == FeedPushParser.BYTE_ORDER_MARK.length)) ) {
+            this.mode = FeedPushParser.MODE_MEMBERS;
+            this.depth = 1;
+            this.memberStart = index + 1;
+            this.colonIndex = -1;
+        }
+
+        else if ( (FeedPushParser.isWhitespace(b) == false) || ((this.byteOrderMarkLength > 0) && (this.byteOrderMarkLength < FeedPushParser.BYTE_ORDER_MARK.length)) ) {
+            throw this.syntaxError("Expected a '{'", index);
+        }
+
+    }
+
+
+
+    /**
+     * Scan a byte of the feed members
+     *
+     * @param   index   the byte index
+     * @param   b       the byte
+     *
+     * @exception   IOException
+     *              If a member could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     */
+    private void scanMember(final int index, final byte b) throws URISyntaxException, IOException {
+
+        /* Only a separator can follow the items */
+        if ( (this.memberStart < 0) && (b != ',') && (b != '}') && (FeedPushParser.isWhitespace(b) == false) ) {
+            throw this.syntaxError("Expected a ',' or '}'", index);
+        }
+
+        /* Strings */
+        if ( b == '"' ) {
+            this.inString = true;
+        }
+
+        /* Feed object structure */
+        else if ( this.depth == 1 ) {
+
+            if ( (b == ':') && (this.colonIndex < 0) ) {
+                this.colonIndex = index;
+            }
+
+            /* End of a member */
+            else if ( b == ',' ) {
+                this.endMember(index, false);
+                this.memberStart = index + 1;
+                this.colonIndex = -1;
+            }
+
+            /* End of the feed */
+            else if ( b == '}' ) {
+                this.endMember(index, true);
+                this.memberStart = -1;
+                this.mode = FeedPushParser.MODE_AFTER_FEED;
+                this.depth = 0;
+            }
+
+            /* Start of the items, they are scanned one at a time, the feed is passed once the version is found */
+            else if ( (b == '[') && (this.colonIndex >= 0) && (this.decodeName().equals("items") == true) ) {
+                this.decodeItems = this.parseOptions.isFeedFieldSelected("items");
+                if ( this.versionFound == true ) {
+                    this.signalFeed();
+                }
+                this.mode = FeedPushParser.MODE_ITEMS;
+                this.depth = 2;
+                this.itemsState = FeedPushParser.ITEMS_STARTED;
+                this.memberStart = -1;
+                this.memberCount++;
+            }
+
+            else if ( (b == '{') || (b == '[') ) {
+                this.depth++;
+            }
+
+            else if ( b == ']' ) {
+                throw this.syntaxError("Unexpected ']'", index);
+            }
+        }
+
+        /* Nested values */
+        else if ( (b == '{') || (b == '[') ) {
+            this.depth++;
+        }
+        else if ( (b == '}') || (b == ']') ) {
+            this.depth--;
+        }
+
+    }
+
+
+
+    /**
+     * Scan a byte of the items
+     *
+     * @param   index   the byte index
+     * @param   b       the byte
+     *
+     * @exception   IOException
+     *              If an item could not be read
+     *
+     * @exception   URISyntaxException
+     *              If an item URI is invalid
+     */
+    private void scanItem(final int index, final byte b) throws URISyntaxException, IOException {
+
+        /* Inside an item, it ends when its object is closed */
+        if ( this.depth > 2 ) {
+            if ( b == '"' ) {
+                this.inString = true;
+            }
+            else if ( (b == '{') || (b == '[') ) {
+                this.depth++;
+            }
+            else if ( (b == '}') || (b == ']') ) {
+                this.depth--;
+                if ( this.depth == 2 ) {
+                    this.endItem(this.itemStart, index + 1);
+                }
+            }
+            return;
+        }
+
+        /* Scalar items end at the next separator or whitespace */
+        if ( this.itemStart >= 0 ) {
+            if ( (b != ',') && (b != ']') && (FeedPushParser.isWhitespace(b) == false) ) {
+                return;
+            }
+            this.endItem(this.itemStart, index);
+        }
+
+        /* Separator */
+        if ( b == ',' ) {
+            if ( this.itemsState != FeedPushParser.ITEMS_AFTER_ITEM ) {
+                throw this.syntaxError("Expected an item", index);
+            }
+            this.itemsState = FeedPushParser.ITEMS_AFTER_COMMA;
+        }
+
+        /* End of the items */
+        else if ( b == ']' ) {
+            if ( this.itemsState == FeedPushParser.ITEMS_AFTER_COMMA ) {
+                throw this.syntaxError("Expected an item", index);
+            }
+            this.mode = FeedPushParser.MODE_MEMBERS;
+            this.depth = 1;
+        }
+
+        /* Start of an item */
+        else if ( FeedPushParser.isWhitespace(b) == false ) {
+            if ( this.itemsState == FeedPushParser.ITEMS_AFTER_ITEM ) {
+                throw this.syntaxError("Expected a ',' or ']'", index);
+            }
+            else if ( b == '}' ) {
+                throw this.syntaxError("Unexpected '}'", index);
+            }
+            this.itemStart = index;
+            if ( b == '"' ) {
+                this.inString = true;
+            }
+            else if ( (b == '{') || (b == '[') ) {
+                this.depth++;
+            }
+        }
+
+    }
+
+
+
+    /**
+     * End the member being scanned, decoding it
+     *
+     * @param   index   the index of the separator after the member
+     * @param   last    true if it is the last member
+     *
+     * @exception   IOException
+     *              If the member could not be read
+     *
+     * @exception   URISyntaxException
+     *              If a feed URI is invalid
+     */
+    private void endMember(final int index, final boolean last) throws URISyntaxException, IOException {
+
+        /* The member was the items */
+        if ( this.memberStart < 0 ) {
+            return;
+        }
+
+        /* Check for a member, only an empty feed object has none */
+        if ( this.colonIndex < 0 ) {
+            if ( (last == true) && (this.memberCount == 0) && (FeedPushParser.isBlank(this.buffer, this.memberStart, index) == true) ) {
+                return;
+            }
+            throw this.syntaxError("Expected a key", index);
+        }
+        this.memberCount++;
+
+        /* Skip the members which are not selected, items which are not an array are skipped too */
+        final String name = this.decodeName();
+        if ( (this.parseOptions.isFeedFieldSelected(name) == false) || (name.equals("items") == true) ) {
+            this.tokenizer.reset(ByteBuffer.wrap(this.buffer, this.colonIndex + 1, index - this.colonIndex - 1));
+            this.tokenizer.skipValue();
+            this.tokenizer.endDocument();
+            return;
+        }
+
+        /* Decode the member */
+        if ( name.equals("version") == true ) {
+            this.versionFound = true;
+        }
+        this.tokenizer.reset(ByteBuffer.wrap(this.buffer, this.colonIndex + 1, index - this.colonIndex - 1));
+        this.feed.decodeMember(name, this.tokenizer, this.parseOptions);
+        this.tokenizer.endDocument();
+
+        /* Pass the feed and the items held back once the version is found after the items */
+        if ( (name.equals("version") == true) && (this.pendingItemList.isEmpty() == false) ) {
+            this.signalFeed();
+            for ( final DefaultItem item : this.pendingItemList ) {
+                item.upgrade(this.feed.getVersion());
+                this.feedListener.onItem(item);
+            }
+            this.pendingItemList.clear();
+        }
+
+    }
+
+
+
+    /**
+     * End an item, decoding it and passing it to the listener
+     *
+     * @param   start   the index of the start of the item
+     * @param   end     the index after the end of the item
+     *
+     * @exception   IOException
+     *              If the item could not be read
+     *
+     * @exception   URISyntaxException
+     *              If an item URI is invalid
+     */
+    private void endItem(final int start, final int end) throws URISyntaxException, IOException {
+
+        this.itemStart = -1;
+        this.itemsState = FeedPushParser.ITEMS_AFTER_ITEM;
+
+        /* Skip the items past the item limit if they are truncated */
+        if ( (this.decodeItems == true) && (this.parseOptions.checkItemLimit(this.itemCount) == false) ) {
+            this.decodeItems = false;
+            this.feed.setTruncated(true);
+        }
+
+        /* Skip the items if they are not wanted, they are still checked */
+        if ( this.decodeItems == false ) {
+            this.tokenizer.reset(ByteBuffer.wrap(this.buffer, start, end - start));
+            this.tokenizer.skipValue();
+            this.tokenizer.endDocument();
+            return;
+        }
+        this.itemCount++;
+
+        /* Decode the item */
+        this.tokenizer.reset(ByteBuffer.wrap(this.buffer, start, end - start));
+        final DefaultItem item = new DefaultItem(this.tokenizer, this.parseOptions);
+        this.tokenizer.endDocument();
+
+        /* Stop at the watermark item */
+        if ( this.parseOptions.isWatermarkItem(item) == true ) {
+            this.decodeItems = false;
+            return;
+        }
+
+        /* Hold the item back until the version is found */
+        if ( this.versionFound == false ) {
+            this.pendingItemList.add(item);
+            return;
+        }
+
+        /* Upgrade the item to the feed version and pass it */
+        item.upgrade(this.feed.getVersion());
+        this.feedListener.onItem(item);
+
+    }
+
+
+
+    /**
+     * Decode the name of the member being scanned
+     *
+     * @return  the name
+     *
+     * @exception   IOException
+     *              If the name could not be read
+     */
+    private String decodeName() throws IOException {
+
+        this.tokenizer.reset(ByteBuffer.wrap(this.buffer, this.memberStart, this.colonIndex - this.memberStart));
+        final String name = this.tokenizer.nextString();
+        this.tokenizer.endDocument();
+
+        return (name);
+
+    }
+
+
+
+    /**
+     * Pass the feed to the listener once
+     */
+    private void signalFeed() {
+
+        if ( this.feedSignalled == false ) {
+            this.feedSignalled = true;
+            this.feed.normalize();
+            this.feedListener.onFeed(this.feed);
+        }
+
+    }
+
+
+
+    /**
+     * Drop the bytes before the member or item being scanned
+     */
+    private void compact() {
+
+        /* Get the first byte to keep */
+        int keep = this.position;
+        if ( (this.mode == FeedPushParser.MODE_MEMBERS) && (this.memberStart >= 0) ) {
+            keep = this.memberStart;
+        }
+        else if ( (this.mode == FeedPushParser.MODE_ITEMS) && (this.itemStart >= 0) ) {
+            keep = this.itemStart;
+        }
+
+        /* Move the bytes to keep to the start of the buffer */
+        if ( keep > 0 ) {
+            System.arraycopy(this.buffer, keep, this.buffer, 0, this.limit - keep);
+            this.limit -= keep;
+            this.position -= keep;
+            this.bufferOffset += keep;
+            this.memberStart = (this.memberStart >= 0) ? this.memberStart - keep : -1;
+            this.colonIndex = (this.colonIndex >= 0) ? this.colonIndex - keep : -1;
+            this.itemStart = (this.itemStart >= 0) ? this.itemStart - keep : -1;
+        }
+
+    }
+
+
+
+    /**
+     * Create a syntax error
+     *
+     * @param   message     the message
+     * @param   index       the index of the byte in error
+     *
+     * @return  the syntax error
+     */
+    private JSONException syntaxError(final String message, final int index) {
+
+        return (new JSONException(message + " at offset " + (this.bufferOffset + index)));
+
+    }
+
+
+
+    /**
+     * Check if a byte is whitespace
+     *
+     * @param   b   the byte
+     *
+     * @return  true if the byte is whitespace
+     */
+    private static boolean isWhitespace(final byte b) {
+
+        return ((b == ' ') || (b == '\n') || (b == '\r') || (b == '\t'));
+
+    }
+
+
+
+    /**
+     * Check if a range of bytes is blank
+     *
+     * @param   bytes   the bytes
+     * @param   start   the start of the range
+     * @param   end     the end of the range
+     *
+     * @return  true if the range is blank
+     */
+    private static boolean isBlank(final byte[] bytes, final int start, final int end) {
+
+        for ( int i = start; i < end; i++ ) {
+            if ( FeedPushParser.isWhitespace(bytes[i]) == false ) {
+                return (false);
+            }
+        }
+
+        return (true);
+
+    }
+
+
+}
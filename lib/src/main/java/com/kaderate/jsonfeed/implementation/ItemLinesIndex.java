@@ -0,0 +1,317 @@
+/**
+ * ItemLinesIndex.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.InputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.implementation.ContentDecoder;
+
+
+/**
+ * Item lines index, the byte offsets of every nth line of a JSON Lines file,
+ * so a reader can be opened at any line by seeking to the nearest indexed
+ * line before it and skipping the few lines in between
+ *
+ * The index is built by scanning the file for newlines once, without
+ * decoding the lines, and holds one offset per interval of lines. It
+ * can be written out and read back so it is only built once, and it
+ * stays valid for a file to which lines are only appended.
+ *
+ * Gzip and deflate encoded files cannot be indexed since their lines
+ * cannot be located without inflating everything before them.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class ItemLinesIndex {
+
+
+    /**
+     * Default interval, the number of lines between indexed lines
+     */
+    public static final int DEFAULT_INTERVAL = 1024;
+
+
+    /**
+     * Buffer size
+     */
+    private static final int BUFFER_SIZE = 65536;
+
+
+    /**
+     * Interval
+     */
+    private final int interval;
+
+
+    /**
+     * Line count
+     */
+    private final long lineCount;
+
+
+    /**
+     * Offsets of the indexed lines, line i * interval starts at offset i
+     */
+    private final long[] offsets;
+
+
+
+    /**
+     * Build the index of a UTF-8 encoded JSON Lines file with the default interval
+     *
+     * @param   path    the file path
+     *
+     * @return  the index
+     *
+     * @exception   IOException
+     *              If the file could not be read or is gzip or deflate encoded
+     */
+    public static ItemLinesIndex fromPath(final Path path) throws IOException {
+
+        return (ItemLinesIndex.fromPath(path, ItemLinesIndex.DEFAULT_INTERVAL));
+
+    }
+
+
+
+    /**
+     * Build the index of a UTF-8 encoded JSON Lines file
+     *
+     * @param   path        the file path
+     * @param   interval    the number of lines between indexed lines
+     *
+     * @return  the index
+     *
+     * @exception   IOException
+     *              If the file could not be read or is gzip or deflate encoded
+     *
+     * @exception   IllegalArgumentException
+     *              If the interval is less than 1
+     */
+    public static ItemLinesIndex fromPath(final Path path, final int interval) throws IOException {
+
+        if ( interval < 1 ) {
+            throw new IllegalArgumentException("Invalid interval: " + interval);
+        }
+
+        long[] offsets = new long[16];
+        int offsetCount = 0;
+        long lineCount = 0;
+
+        try ( final InputStream inputStream = Files.newInputStream(path) ) {
+
+            final byte[] buffer = new byte[ItemLinesIndex.BUFFER_SIZE];
+            long offset = 0;
+            boolean lineStart = true;
+            int count;
+
+            while ( (count = inputStream.read(buffer)) >= 0 ) {
+
+                /* Encoded files cannot be indexed */
+                if ( (offset == 0) && (ContentDecoder.isEncoded(Arrays.copyOf(buffer, count)) == true) ) {
+                    throw new IOException("Encoded files cannot be indexed: " + path);
+                }
+
+                for ( int i = 0; i < count; i++ ) {
+
+                    /* Index every nth line as it starts */
+                    if ( lineStart == true ) {
+                        if ( (lineCount % interval) == 0 ) {
+                            if ( offsetCount == offsets.length ) {
+                                offsets = Arrays.copyOf(offsets, offsetCount * 2);
+                            }
+                            offsets[offsetCount++] = offset + i;
+                        }
+                        lineCount++;
+                        lineStart = false;
+                    }
+
+                    if ( buffer[i] == '\n' ) {
+                        lineStart = true;
+                    }
+                }
+
+                offset += count;
+            }
+        }
+
+        return (new ItemLinesIndex(interval, lineCount, Arrays.copyOf(offsets, offsetCount)));
+
+    }
+
+
+
+    /**
+     * Read an index which was written out
+     *
+     * @param   inputStream     the stream
+     *
+     * @return  the index
+     *
+     * @exception   IOException
+     *              If the stream could not be read or is not an index
+     */
+    public static ItemLinesIndex fromInputStream(final InputStream inputStream) throws IOException {
+
+        final DataInputStream dataInputStream = new DataInputStream(inputStream);
+
+        /* Read the interval, the line count and the offsets */
+        final int interval = dataInputStream.readInt();
+        final long lineCount = dataInputStream.readLong();
+        final int offsetCount = dataInputStream.readInt();
+        if ( (interval < 1) || (lineCount < 0) || (offsetCount < 0) || (offsetCount != ((lineCount + interval - 1) / interval)) ) {
+            throw new IOException("Invalid item lines index");
+        }
+
+        final long[] offsets = new long[offsetCount];
+        for ( int i = 0; i < offsetCount; i++ ) {
+            offsets[i] = dataInputStream.readLong();
+        }
+
+        return (new ItemLinesIndex(interval, lineCount, offsets));
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   interval    the number of lines between indexed lines
+     * @param   lineCount   the line count
+     * @param   offsets     the offsets of the indexed lines
+     */
+    private ItemLinesIndex(final int interval, final long lineCount, final long[] offsets) {
+
+        this.interval = interval;
+        this.lineCount = lineCount;
+        this.offsets = offsets;
+
+    }
+
+
+
+    /**
+     * Get the number of lines between indexed lines
+     *
+     * @return  the interval
+     */
+    public int getInterval() {
+
+        return (this.interval);
+
+    }
+
+
+
+    /**
+     * Get the number of lines in the file when it was indexed
+     *
+     * @return  the line count
+     */
+    public long getLineCount() {
+
+        return (this.lineCount);
+
+    }
+
+
+
+    /**
+     * Get the nearest indexed line at or before a line
+     *
+     * @param   lineNumber  the line number
+     *
+     * @return  the indexed line number
+     */
+    public long getIndexedLineNumber(final long lineNumber) {
+
+        if ( this.offsets.length == 0 ) {
+            return (0);
+        }
+
+        return (Math.min(lineNumber / this.interval, this.offsets.length - 1) * this.interval);
+
+    }
+
+
+
+    /**
+     * Get the byte offset of an indexed line
+     *
+     * @param   indexedLineNumber   the indexed line number
+     *
+     * @return  the byte offset
+     *
+     * @exception   IllegalArgumentException
+     *              If the line is not indexed
+     */
+    public long getOffset(final long indexedLineNumber) {
+
+        /* An empty file */
+        if ( (indexedLineNumber == 0) && (this.offsets.length == 0) ) {
+            return (0);
+        }
+
+        if ( (indexedLineNumber < 0) || ((indexedLineNumber % this.interval) != 0) || ((indexedLineNumber / this.interval) >= this.offsets.length) ) {
+            throw new IllegalArgumentException("Line is not indexed: " + indexedLineNumber);
+        }
+
+        return (this.offsets[(int)(indexedLineNumber / this.interval)]);
+
+    }
+
+
+
+    /**
+     * Write the index out, it can be read back with fromInputStream()
+     *
+     * @param   outputStream    the stream
+     *
+     * @exception   IOException
+     *              If the stream could not be written
+     */
+    public void writeTo(final OutputStream outputStream) throws IOException {
+
+        final DataOutputStream dataOutputStream = new DataOutputStream(outputStream);
+
+        /* Write the interval, the line count and the offsets */
+        dataOutputStream.writeInt(this.interval);
+        dataOutputStream.writeLong(this.lineCount);
+        dataOutputStream.writeInt(this.offsets.length);
+        for ( final long offset : this.offsets ) {
+            dataOutputStream.writeLong(offset);
+        }
+        dataOutputStream.flush();
+
+    }
+
+
+}
@@ -0,0 +1,646 @@
+/**
+ * ItemLinesReader.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.Closeable;
+import java.io.InputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+
+/* Import JSON stuff */
+import org.json.JSONException;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Item;
+import com.kaderate.jsonfeed.implementation.ContentDecoder;
+import com.kaderate.jsonfeed.implementation.DefaultItem;
+import com.kaderate.jsonfeed.implementation.ItemLinesIndex;
+import com.kaderate.jsonfeed.implementation.JsonTokenizer;
+import com.kaderate.jsonfeed.implementation.ParseLimit;
+import com.kaderate.jsonfeed.implementation.ParseLimitException;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+
+
+/**
+ * Item lines reader, reads items from newline-delimited JSON (JSON Lines),
+ * one item JSON object per line, decoded as the elements of the feed items
+ * are decoded but with no feed around them
+ *
+ * Lines are read one at a time through a fixed buffer and decoded with the
+ * same tokenizer, so memory use does not grow with the number of lines, only
+ * with the longest line. Blank lines are skipped, lines may end with CR LF.
+ * Line numbers start at 0 and count the blank lines. The limits in the parse
+ * options apply to each line, the maximum byte count to the line length.
+ *
+ * Lines can be skipped without being decoded, and a file can be opened at a
+ * line with an item lines index, which locates the line without reading the
+ * lines before it.
+ *
+ * Read errors are thrown as UncheckedIOException, invalid URIs are thrown as
+ * IllegalArgumentException, and invalid JSON is thrown as JSONException with
+ * the line number, by the iterator methods.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class ItemLinesReader implements Iterator<Item>, Closeable {
+
+
+    /**
+     * Buffer size
+     */
+    private static final int BUFFER_SIZE = 65536;
+
+
+    /**
+     * Input stream
+     */
+    private final InputStream inputStream;
+
+
+    /**
+     * Parse options
+     */
+    private final ParseOptions parseOptions;
+
+
+    /**
+     * JSON tokenizer
+     */
+    private final JsonTokenizer tokenizer = new JsonTokenizer();
+
+
+    /**
+     * Buffer
+     */
+    private final byte[] buffer = new byte[ItemLinesReader.BUFFER_SIZE];
+
+
+    /**
+     * Buffer position
+     */
+    private int position = 0;
+
+
+    /**
+     * Buffer limit
+     */
+    private int limit = 0;
+
+
+    /**
+     * Line bytes, for lines which span buffer reads
+     */
+    private byte[] lineBytes = new byte[1024];
+
+
+    /**
+     * End of input flag
+     */
+    private boolean endOfInput = false;
+
+
+    /**
+     * Number of the next line to read
+     */
+    private long nextLineNumber;
+
+
+    /**
+     * Line number of the last item returned, -1 if none was returned
+     */
+    private long lineNumber = -1;
+
+
+    /**
+     * Next item, decoded ahead by hasNext()
+     */
+    private Item nextItem = null;
+
+
+    /**
+     * Line number of the next item
+     */
+    private long nextItemLineNumber = -1;
+
+
+
+    /**
+     * Create an item lines reader for a UTF-8 encoded stream, a gzip or
+     * deflate encoded stream is inflated as it is read
+     *
+     * @param   inputStream     the stream
+     *
+     * @return  the item lines reader
+     *
+     * @exception   IOException
+     *              If the stream could not be read
+     */
+    public static ItemLinesReader fromInputStream(final InputStream inputStream) throws IOException {
+
+        /* Create the item lines reader with the default options */
+        return (ItemLinesReader.fromInputStream(inputStream, new ParseOptions()));
+
+    }
+
+
+
+    /**
+     * Create an item lines reader for a UTF-8 encoded stream, a gzip or
+     * deflate encoded stream is inflated as it is read
+     *
+     * @param   inputStream     the stream
+     * @param   parseOptions    the parse options
+     *
+     * @return  the item lines reader
+     *
+     * @exception   IOException
+     *              If the stream could not be read
+     */
+    public static ItemLinesReader fromInputStream(final InputStream inputStream, final ParseOptions parseOptions) throws IOException {
+
+        /* Create the item lines reader, inflating the stream as it is read if it is gzip or deflate encoded */
+        return (new ItemLinesReader(ContentDecoder.detect(inputStream), parseOptions, 0));
+
+    }
+
+
+
+    /**
+     * Create an item lines reader for a UTF-8 encoded file, a gzip or deflate
+     * encoded file is inflated as it is read, the file is closed when the
+     * item lines reader is closed
+     *
+     * @param   path    the file path
+     *
+     * @return  the item lines reader
+     *
+     * @exception   IOException
+     *              If the file could not be read
+     */
+    public static ItemLinesReader fromPath(final Path path) throws IOException {
+
+        /* Create the item lines reader with the default options */
+        return (ItemLinesReader.fromPath(path, new ParseOptions()));
+
+    }
+
+
+
+    /**
+     * Create an item lines reader for a UTF-8 encoded file, a gzip or deflate
+     * encoded file is inflated as it is read, the file is closed when the
+     * item lines reader is closed
+     *
+     * @param   path            the file path
+     * @param   parseOptions    the parse options
+     *
+     * @return  the item lines reader
+     *
+     * @exception   IOException
+     *              If the file could not be read
+     */
+    public static ItemLinesReader fromPath(final Path path, final ParseOptions parseOptions) throws IOException {
+
+        /* Open the file, closing it if it could not be read */
+        final InputStream inputStream = Files.newInputStream(path);
+        try {
+            return (ItemLinesReader.fromInputStream(inputStream, parseOptions));
+        }
+        catch ( final IOException | RuntimeException exception ) {
+            inputStream.close();
+            throw exception;
+        }
+
+    }
+
+
+
+    /**
+     * Create an item lines reader for a UTF-8 encoded file starting at a line,
+     * the file is positioned at the nearest indexed line before the line and
+     * the lines in between are skipped without being decoded, the file is
+     * closed when the item lines reader is closed
+     *
+     * The index must have been created from the file, or from an earlier
+     * version of the file if lines were only appended to it since.
+     *
+     * @param   path            the file path
+     * @param   index           the item lines index of the file
+     * @param   lineNumber      the line number of the first line to read
+     * @param   parseOptions    the parse options
+     *
+     * @return  the item lines reader
+     *
+     * @exception   IOException
+     *              If the file could not be read
+     *
+     * @exception   IllegalArgumentException
+     *              If the line number is negative
+     */
+    public static ItemLinesReader fromPath(final Path path, final ItemLinesIndex index, final long lineNumber, final ParseOptions parseOptions) throws IOException {
+
+        if ( lineNumber < 0 ) {
+            throw new IllegalArgumentException("Invalid line number: " + lineNumber);
+        }
+
+        /* Open the file at the nearest indexed line */
+        final long indexedLineNumber = index.getIndexedLineNumber(lineNumber);
+        final FileChannel fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            fileChannel.position(index.getOffset(indexedLineNumber));
+
+            /* Skip the lines up to the line */
+            final ItemLinesReader itemLinesReader = new ItemLinesReader(Channels.newInputStream(fileChannel), parseOptions, indexedLineNumber);
+            itemLinesReader.skipLines(lineNumber - indexedLineNumber);
+
+            return (itemLinesReader);
+        }
+        catch ( final IOException | RuntimeException exception ) {
+            fileChannel.close();
+            throw exception;
+        }
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   inputStream     the UTF-8 encoded stream
+     * @param   parseOptions    the parse options
+     * @param   lineNumber      the line number of the first line in the stream
+     */
+    protected ItemLinesReader(final InputStream inputStream, final ParseOptions parseOptions, final long lineNumber) {
+
+        this.inputStream = inputStream;
+        this.parseOptions = parseOptions;
+        this.tokenizer.setTransientInput(true);
+        this.nextLineNumber = lineNumber;
+
+    }
+
+
+
+    /**
+     * Get the line number of the last item returned
+     *
+     * @return  the line number, -1 if no item was returned
+     */
+    public long getLineNumber() {
+
+        return (this.lineNumber);
+
+    }
+
+
+
+    /**
+     * Skip lines without decoding them
+     *
+     * @param   lineCount   the number of lines to skip
+     *
+     * @return  the number of lines skipped, fewer than the line count at the end of the input
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public long skipLines(final long lineCount) throws IOException {
+
+        /* Lines already read count, the item decoded ahead is dropped */
+        long skippedCount = 0;
+        if ( (this.nextItem != null) && (lineCount > 0) ) {
+            this.nextItem = null;
+            skippedCount++;
+        }
+
+        /* Skip the lines */
+        while ( skippedCount < lineCount ) {
+
+            /* Fill the buffer */
+            if ( (this.position == this.limit) && (this.fill() == false) ) {
+                break;
+            }
+
+            /* Look for the end of the line */
+            final int newlineIndex = this.indexOfNewline();
+            if ( newlineIndex >= 0 ) {
+                this.position = newlineIndex + 1;
+                this.nextLineNumber++;
+                skippedCount++;
+            }
+            else {
+                this.position = this.limit;
+
+                /* A last line with no newline */
+                if ( this.fill() == false ) {
+                    this.nextLineNumber++;
+                    skippedCount++;
+                    break;
+                }
+            }
+        }
+
+        return (skippedCount);
+
+    }
+
+
+
+    /**
+     * Check if there is another item
+     *
+     * @return  true if there is another item
+     */
+    @Override
+    public boolean hasNext() {
+
+        try {
+
+            /* Check for an item which was decoded ahead */
+            if ( this.nextItem != null ) {
+                return (true);
+            }
+
+            /* Decode the next line which is not blank */
+            ByteBuffer lineByteBuffer;
+            while ( (lineByteBuffer = this.readLine()) != null ) {
+                final long lineNumber = this.nextLineNumber - 1;
+                if ( ItemLinesReader.isBlank(lineByteBuffer) == false ) {
+                    this.nextItem = this.decodeItem(lineByteBuffer, lineNumber);
+                    this.nextItemLineNumber = lineNumber;
+                    return (true);
+                }
+            }
+
+            return (false);
+
+        }
+        catch ( final IOException exception ) {
+            throw new UncheckedIOException(exception);
+        }
+        catch ( final URISyntaxException exception ) {
+            throw new IllegalArgumentException(exception);
+        }
+
+    }
+
+
+
+    /**
+     * Get the next item
+     *
+     * @return  the next item
+     */
+    @Override
+    public Item next() {
+
+        if ( this.hasNext() == false ) {
+            throw new NoSuchElementException();
+        }
+
+        final Item item = this.nextItem;
+        this.nextItem = null;
+        this.lineNumber = this.nextItemLineNumber;
+
+        return (item);
+
+    }
+
+
+
+    /**
+     * Close the item lines reader and the stream
+     *
+     * @exception   IOException
+     *              If the stream could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+
+        this.tokenizer.release();
+        this.inputStream.close();
+
+    }
+
+
+
+    /**
+     * Decode the item on a line
+     *
+     * @param   lineByteBuffer  the line
+     * @param   lineNumber      the line number
+     *
+     * @return  the item
+     *
+     * @exception   IOException
+     *              If the line could not be read
+     *
+     * @exception   URISyntaxException
+     *              If an item URI is invalid
+     *
+     * @exception   JSONException
+     *              If the line is not an item JSON object
+     */
+    private Item decodeItem(final ByteBuffer lineByteBuffer, final long lineNumber) throws URISyntaxException, IOException {
+
+        this.tokenizer.reset(lineByteBuffer);
+        try {
+            this.tokenizer.setLimits(this.parseOptions);
+            final Item item = new DefaultItem(this.tokenizer, this.parseOptions);
+            this.tokenizer.endDocument();
+            return (item);
+        }
+        catch ( final ParseLimitException exception ) {
+            throw new ParseLimitException(exception.getLimit(), exception.getMaximum(), "Invalid item on line " + lineNumber + ": " + exception.getMessage());
+        }
+        catch ( final JSONException exception ) {
+            throw new JSONException("Invalid item on line " + lineNumber + ": " + exception.getMessage(), exception);
+        }
+        finally {
+            this.tokenizer.release();
+        }
+
+    }
+
+
+
+    /**
+     * Read the next line, without its line terminator
+     *
+     * @return  the line, valid until the next line is read, null at the end of the input
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private ByteBuffer readLine() throws IOException {
+
+        int lineLength = 0;
+
+        while ( true ) {
+
+            /* Fill the buffer, the last line may have no newline */
+            if ( (this.position == this.limit) && (this.fill() == false) ) {
+                if ( lineLength == 0 ) {
+                    return (null);
+                }
+                this.nextLineNumber++;
+                return (ItemLinesReader.trimCarriageReturn(ByteBuffer.wrap(this.lineBytes, 0, lineLength)));
+            }
+
+            /* Look for the end of the line */
+            final int newlineIndex = this.indexOfNewline();
+
+            /* The line is in the buffer, it is decoded in place */
+            if ( (newlineIndex >= 0) && (lineLength == 0) ) {
+                final ByteBuffer lineByteBuffer = ByteBuffer.wrap(this.buffer, this.position, newlineIndex - this.position);
+                this.position = newlineIndex + 1;
+                this.nextLineNumber++;
+                return (ItemLinesReader.trimCarriageReturn(lineByteBuffer));
+            }
+
+            /* The line spans buffer reads, it is gathered in the line bytes */
+            final int end = (newlineIndex >= 0) ? newlineIndex : this.limit;
+            final int length = end - this.position;
+            if ( (this.parseOptions.getMaxBytes() > 0) && ((lineLength + length) > this.parseOptions.getMaxBytes()) ) {
+                throw new ParseLimitException(ParseLimit.BYTES, this.parseOptions.getMaxBytes(), "Invalid item on line " + this.nextLineNumber + ": line exceeds the maximum byte count of " + this.parseOptions.getMaxBytes());
+            }
+            if ( (lineLength + length) > this.lineBytes.length ) {
+                this.lineBytes = Arrays.copyOf(this.lineBytes, Math.max(this.lineBytes.length * 2, lineLength + length));
+            }
+            System.arraycopy(this.buffer, this.position, this.lineBytes, lineLength, length);
+            lineLength += length;
+
+            if ( newlineIndex >= 0 ) {
+                this.position = newlineIndex + 1;
+                this.nextLineNumber++;
+                return (ItemLinesReader.trimCarriageReturn(ByteBuffer.wrap(this.lineBytes, 0, lineLength)));
+            }
+            this.position = this.limit;
+        }
+
+    }
+
+
+
+    /**
+     * Get the index of the next newline in the buffer
+     *
+     * @return  the newline index, -1 if there is no newline in the buffer
+     */
+    private int indexOfNewline() {
+
+        for ( int i = this.position; i < this.limit; i++ ) {
+            if ( this.buffer[i] == '\n' ) {
+                return (i);
+            }
+        }
+
+        return (-1);
+
+    }
+
+
+
+    /**
+     * Fill the buffer from the input
+     *
+     * @return  true if bytes were read, false at the end of the input
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private boolean fill() throws IOException {
+
+        if ( this.endOfInput == true ) {
+            return (false);
+        }
+
+        final int count = this.inputStream.read(this.buffer, 0, this.buffer.length);
+        if ( count < 0 ) {
+            this.endOfInput = true;
+            this.position = 0;
+            this.limit = 0;
+            return (false);
+        }
+
+        this.position = 0;
+        this.limit = count;
+
+        return (true);
+
+    }
+
+
+
+    /**
+     * Remove the carriage return at the end of a line
+     *
+     * @param   lineByteBuffer  the line
+     *
+     * @return  the line
+     */
+    private static ByteBuffer trimCarriageReturn(final ByteBuffer lineByteBuffer) {
+
+        if ( (lineByteBuffer.remaining() > 0) && (lineByteBuffer.get(lineByteBuffer.limit() - 1) == '\r') ) {
+            lineByteBuffer.limit(lineByteBuffer.limit() - 1);
+        }
+
+        return (lineByteBuffer);
+
+    }
+
+
+
+    /**
+     * Check if a line is blank
+     *
+     * @param   lineByteBuffer  the line
+     *
+     * @return  true if the line is only white space
+     */
+    private static boolean isBlank(final ByteBuffer lineByteBuffer) {
+
+        for ( int i = lineByteBuffer.position(); i < lineByteBuffer.limit(); i++ ) {
+            final byte b = lineByteBuffer.get(i);
+            if ( (b != ' ') && (b != '\t') && (b != '\r') ) {
+                return (false);
+            }
+        }
+
+        return (true);
+
+    }
+
+
+}
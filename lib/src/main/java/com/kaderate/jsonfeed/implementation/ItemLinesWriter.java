@@ -0,0 +1,201 @@
+/**
+ * ItemLinesWriter.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Item;
+import com.kaderate.jsonfeed.implementation.DefaultItem;
+import com.kaderate.jsonfeed.implementation.JsonStreamGenerator;
+
+
+/**
+ * Item lines writer, writes items as newline-delimited JSON (JSON Lines),
+ * one item JSON object per line, encoded as the elements of the feed items
+ * are encoded but with no feed around them
+ *
+ * Items are streamed to the output as they are written, line and paragraph
+ * separators in strings are escaped so every item is on a single line.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class ItemLinesWriter implements Closeable, Flushable {
+
+
+    /**
+     * Writer
+     */
+    private final Writer writer;
+
+
+    /**
+     * Line count
+     */
+    private long lineCount = 0;
+
+
+
+    /**
+     * Create an item lines writer for a stream, the items are UTF-8 encoded
+     *
+     * @param   outputStream    the stream
+     *
+     * @return  the item lines writer
+     */
+    public static ItemLinesWriter fromOutputStream(final OutputStream outputStream) {
+
+        return (new ItemLinesWriter(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))));
+
+    }
+
+
+
+    /**
+     * Create an item lines writer for a file, the file is created or truncated
+     *
+     * @param   path    the file path
+     *
+     * @return  the item lines writer
+     *
+     * @exception   IOException
+     *              If the file could not be opened
+     */
+    public static ItemLinesWriter fromPath(final Path path) throws IOException {
+
+        return (ItemLinesWriter.fromPath(path, false));
+
+    }
+
+
+
+    /**
+     * Create an item lines writer for a file, the file is created if needed
+     *
+     * @param   path    the file path
+     * @param   append  true to append to the file, false to truncate it
+     *
+     * @return  the item lines writer
+     *
+     * @exception   IOException
+     *              If the file could not be opened
+     */
+    public static ItemLinesWriter fromPath(final Path path, final boolean append) throws IOException {
+
+        final OutputStream outputStream = (append == true) ?
+                Files.newOutputStream(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND) :
+                Files.newOutputStream(path);
+
+        return (ItemLinesWriter.fromOutputStream(outputStream));
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   writer  the writer
+     */
+    protected ItemLinesWriter(final Writer writer) {
+
+        this.writer = writer;
+
+    }
+
+
+
+    /**
+     * Write an item on its own line
+     *
+     * @param   item    the item
+     *
+     * @return  the item lines writer
+     *
+     * @exception   IOException
+     *              If the item could not be written
+     */
+    public ItemLinesWriter write(final Item item) throws IOException {
+
+        DefaultItem.encode(item, new JsonStreamGenerator(this.writer));
+        this.writer.write('\n');
+        this.lineCount++;
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the number of lines written
+     *
+     * @return  the line count
+     */
+    public long getLineCount() {
+
+        return (this.lineCount);
+
+    }
+
+
+
+    /**
+     * Flush the item lines writer
+     *
+     * @exception   IOException
+     *              If the output could not be flushed
+     */
+    @Override
+    public void flush() throws IOException {
+
+        this.writer.flush();
+
+    }
+
+
+
+    /**
+     * Close the item lines writer and the output
+     *
+     * @exception   IOException
+     *              If the output could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+
+        this.writer.close();
+
+    }
+
+
+}
@@ -0,0 +1,797 @@
+/**
+ * JsonByteGenerator.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 18, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/* Import JSON stuff */
+import org.json.JSONException;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.spi.JsonGenerator;
+
+
+/**
+ * Streaming JSON generator which writes UTF-8 bytes to a stream or a byte
+ * buffer, there is no writer and no separate character to byte encoding
+ *
+ * The member names of the JSON Feed format are written from pre-encoded
+ * bytes, and strings are encoded straight into the buffer, runs of ASCII
+ * characters which need no escaping are copied one byte per character.
+ * Strings are escaped as they are by the streaming JSON generator, so the
+ * output is the same as its output UTF-8 encoded.
+ *
+ * When writing to a byte buffer backed by an array the bytes are written
+ * in place, other byte buffers are written through a buffer. The position
+ * of the byte buffer is advanced when the generator is flushed, and a
+ * BufferOverflowException is thrown if the JSON does not fit, in which case
+ * the position is left where it was.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+final class JsonByteGenerator implements JsonGenerator {
+
+
+    /**
+     * Scopes
+     */
+    private static final int SCOPE_EMPTY_DOCUMENT = 0;
+    private static final int SCOPE_NONEMPTY_DOCUMENT = 1;
+    private static final int SCOPE_EMPTY_OBJECT = 2;
+    private static final int SCOPE_DANGLING_NAME = 3;
+    private static final int SCOPE_NONEMPTY_OBJECT = 4;
+    private static final int SCOPE_EMPTY_ARRAY = 5;
+    private static final int SCOPE_NONEMPTY_ARRAY = 6;
+
+
+    /**
+     * Buffer size
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+
+    /**
+     * Hexadecimal digits
+     */
+    private static final byte[] HEX_DIGITS = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+
+    /**
+     * Literal bytes
+     */
+    private static final byte[] TRUE_BYTES = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE_BYTES = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL_BYTES = "null".getBytes(StandardCharsets.US_ASCII);
+
+
+    /**
+     * Member names of the JSON Feed format
+     */
+    private static final String[] NAMES = {
+            "attachments", "author", "authors", "avatar", "banner_image", "content_html", "content_text",
+            "date_modified", "date_published", "description", "duration_in_seconds", "expired", "external_url",
+            "favicon", "feed_url", "home_page_url", "hubs", "icon", "id", "image", "items", "language",
+            "mime_type", "name", "next_url", "size_in_bytes", "summary", "tags", "title", "type", "url",
+            "user_comment", "version"
+        };
+
+
+    /**
+     * Member name bytes map, the quoted name followed by the colon
+     */
+    private static final Map<String, byte[]> NAME_BYTES_MAP = new HashMap<String, byte[]>();
+
+    static {
+        for ( final String name : JsonByteGenerator.NAMES ) {
+            JsonByteGenerator.NAME_BYTES_MAP.put(name, ("\"" + name + "\":").getBytes(StandardCharsets.US_ASCII));
+        }
+    }
+
+
+    /**
+     * Output stream, null if writing to a byte buffer
+     */
+    private final OutputStream outputStream;
+
+
+    /**
+     * Byte buffer, null if writing to a stream
+     */
+    private final ByteBuffer byteBuffer;
+
+
+    /**
+     * Byte buffer start position
+     */
+    private final int byteBufferStart;
+
+
+    /**
+     * In place flag, true if the byte buffer array is written in place
+     */
+    private final boolean inPlace;
+
+
+    /**
+     * Buffer, the byte buffer array if it is written in place
+     */
+    private final byte[] buffer;
+
+
+    /**
+     * Buffer start, the offset of the bytes not yet written out
+     */
+    private final int bufferStart;
+
+
+    /**
+     * Buffer position
+     */
+    private int position;
+
+
+    /**
+     * Buffer limit
+     */
+    private final int limit;
+
+
+    /**
+     * Scope stack
+     */
+    private int[] scopeStack = new int[32];
+
+
+    /**
+     * Scope stack size
+     */
+    private int scopeStackSize = 0;
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   outputStream    the stream
+     */
+    JsonByteGenerator(final OutputStream outputStream) {
+
+        this.outputStream = outputStream;
+        this.byteBuffer = null;
+        this.byteBufferStart = 0;
+        this.inPlace = false;
+        this.buffer = new byte[JsonByteGenerator.BUFFER_SIZE];
+        this.bufferStart = 0;
+        this.position = 0;
+        this.limit = this.buffer.length;
+        this.scopeStack[this.scopeStackSize++] = JsonByteGenerator.SCOPE_EMPTY_DOCUMENT;
+
+    }
+
+
+
+    /**
+     * Constructor, the JSON is written at the position of the byte buffer
+     *
+     * @param   byteBuffer  the byte buffer
+     */
+    JsonByteGenerator(final ByteBuffer byteBuffer) {
+
+        this.outputStream = null;
+        this.byteBuffer = byteBuffer;
+        this.byteBufferStart = byteBuffer.position();
+
+        /* Write in place if the byte buffer is backed by an array */
+        this.inPlace = byteBuffer.hasArray();
+        if ( this.inPlace == true ) {
+            this.buffer = byteBuffer.array();
+            this.bufferStart = byteBuffer.arrayOffset() + byteBuffer.position();
+            this.limit = byteBuffer.arrayOffset() + byteBuffer.limit();
+        }
+        else {
+            this.buffer = new byte[JsonByteGenerator.BUFFER_SIZE];
+            this.bufferStart = 0;
+            this.limit = this.buffer.length;
+        }
+        this.position = this.bufferStart;
+
+        this.scopeStack[this.scopeStackSize++] = JsonByteGenerator.SCOPE_EMPTY_DOCUMENT;
+
+    }
+
+
+
+    /**
+     * Start an object
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator beginObject() throws IOException {
+
+        this.beforeValue();
+        this.writeByte('{');
+        this.push(JsonByteGenerator.SCOPE_EMPTY_OBJECT);
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * End an object
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator endObject() throws IOException {
+
+        final int scope = this.scopeStack[this.scopeStackSize - 1];
+        if ( (scope != JsonByteGenerator.SCOPE_EMPTY_OBJECT) && (scope != JsonByteGenerator.SCOPE_NONEMPTY_OBJECT) ) {
+            throw new JSONException("Unexpected end of object");
+        }
+
+        this.scopeStackSize--;
+        this.writeByte('}');
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Start an array
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator beginArray() throws IOException {
+
+        this.beforeValue();
+        this.writeByte('[');
+        this.push(JsonByteGenerator.SCOPE_EMPTY_ARRAY);
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * End an array
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator endArray() throws IOException {
+
+        final int scope = this.scopeStack[this.scopeStackSize - 1];
+        if ( (scope != JsonByteGenerator.SCOPE_EMPTY_ARRAY) && (scope != JsonByteGenerator.SCOPE_NONEMPTY_ARRAY) ) {
+            throw new JSONException("Unexpected end of array");
+        }
+
+        this.scopeStackSize--;
+        this.writeByte(']');
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write an object member name, the value must follow, the member names
+     * of the JSON Feed format are written from their pre-encoded bytes
+     *
+     * @param   name    the name
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator name(final String name) throws IOException {
+
+        switch ( this.scopeStack[this.scopeStackSize - 1] ) {
+
+            case JsonByteGenerator.SCOPE_EMPTY_OBJECT:
+                break;
+
+            case JsonByteGenerator.SCOPE_NONEMPTY_OBJECT:
+                this.writeByte(',');
+                break;
+
+            default:
+                throw new JSONException("Unexpected name '" + name + "'");
+        }
+
+        final byte[] nameBytes = JsonByteGenerator.NAME_BYTES_MAP.get(name);
+        if ( nameBytes != null ) {
+            this.writeBytes(nameBytes);
+        }
+        else {
+            this.writeString(name);
+            this.writeByte(':');
+        }
+        this.scopeStack[this.scopeStackSize - 1] = JsonByteGenerator.SCOPE_DANGLING_NAME;
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write a string value
+     *
+     * @param   value   the string, null is written as null
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator value(final String value) throws IOException {
+
+        if ( value == null ) {
+            return (this.nullValue());
+        }
+
+        this.beforeValue();
+        this.writeString(value);
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write a boolean value
+     *
+     * @param   value   the boolean
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator value(final boolean value) throws IOException {
+
+        this.beforeValue();
+        this.writeBytes((value == true) ? JsonByteGenerator.TRUE_BYTES : JsonByteGenerator.FALSE_BYTES);
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write a number value
+     *
+     * @param   value   the number, null is written as null
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator value(final Number value) throws IOException {
+
+        if ( value == null ) {
+            return (this.nullValue());
+        }
+
+        /* JSON has no infinite or NaN numbers */
+        if ( (((value instanceof Double) == true) && (Double.isFinite(value.doubleValue()) == false)) ||
+                (((value instanceof Float) == true) && (Float.isFinite(value.floatValue()) == false)) ) {
+            throw new JSONException("Non-finite numbers are not allowed");
+        }
+
+        this.beforeValue();
+
+        /* Numbers are ASCII */
+        final String string = value.toString();
+        for ( int i = 0; i < string.length(); i++ ) {
+            this.writeByte(string.charAt(i));
+        }
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write a null value
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator nullValue() throws IOException {
+
+        this.beforeValue();
+        this.writeBytes(JsonByteGenerator.NULL_BYTES);
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Flush the generator, the buffered bytes are written to the stream and
+     * the stream is flushed, or the byte buffer position is advanced past
+     * the bytes written
+     *
+     * @exception   IOException
+     *              If the stream could not be written
+     */
+    @Override
+    public void flush() throws IOException {
+
+        /* Stream */
+        if ( this.outputStream != null ) {
+            this.flushBuffer();
+            this.outputStream.flush();
+        }
+
+        /* Byte buffer written in place */
+        else if ( this.inPlace == true ) {
+            this.byteBuffer.position(this.byteBufferStart + (this.position - this.bufferStart));
+        }
+
+        /* Byte buffer written through the buffer */
+        else {
+            this.flushBuffer();
+        }
+
+    }
+
+
+
+    /**
+     * Close the generator, flushing it, and the stream
+     *
+     * @exception   IOException
+     *              If the stream could not be written or closed
+     */
+    @Override
+    public void close() throws IOException {
+
+        this.flush();
+        if ( this.outputStream != null ) {
+            this.outputStream.close();
+        }
+
+    }
+
+
+
+    /**
+     * Update the scope before a value, writing the separator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    private void beforeValue() throws IOException {
+
+        switch ( this.scopeStack[this.scopeStackSize - 1] ) {
+
+            case JsonByteGenerator.SCOPE_EMPTY_DOCUMENT:
+                this.scopeStack[this.scopeStackSize - 1] = JsonByteGenerator.SCOPE_NONEMPTY_DOCUMENT;
+                break;
+
+            case JsonByteGenerator.SCOPE_EMPTY_ARRAY:
+                this.scopeStack[this.scopeStackSize - 1] = JsonByteGenerator.SCOPE_NONEMPTY_ARRAY;
+                break;
+
+            case JsonByteGenerator.SCOPE_NONEMPTY_ARRAY:
+                this.writeByte(',');
+                break;
+
+            case JsonByteGenerator.SCOPE_DANGLING_NAME:
+                this.scopeStack[this.scopeStackSize - 1] = JsonByteGenerator.SCOPE_NONEMPTY_OBJECT;
+                break;
+
+            case JsonByteGenerator.SCOPE_NONEMPTY_DOCUMENT:
+                throw new JSONException("Only one document can be written");
+
+            default:
+                throw new JSONException("Expected a name");
+        }
+
+    }
+
+
+
+    /**
+     * Push a scope
+     *
+     * @param   scope   the scope
+     */
+    private void push(final int scope) {
+
+        if ( this.scopeStackSize == this.scopeStack.length ) {
+            this.scopeStack = Arrays.copyOf(this.scopeStack, this.scopeStackSize * 2);
+        }
+
+        this.scopeStack[this.scopeStackSize++] = scope;
+
+    }
+
+
+
+    /**
+     * Write a quoted string, encoded to UTF-8 as it is written, runs of ASCII
+     * characters which need no escaping are copied one byte per character
+     *
+     * @param   string  the string
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    private void writeString(final String string) throws IOException {
+
+        this.writeByte('"');
+
+        final byte[] buffer = this.buffer;
+        final int length = string.length();
+        int i = 0;
+        while ( i < length ) {
+
+            /* Copy the ASCII run which needs no escaping, as much of it as fits */
+            if ( this.position == this.limit ) {
+                this.flushBuffer();
+            }
+            int position = this.position;
+            final int end = Math.min(length, i + (this.limit - position));
+            while ( i < end ) {
+                final char c = string.charAt(i);
+                if ( (c < ' ') || (c >= 0x80) || (c == '"') || (c == '\\') ) {
+                    break;
+                }
+                buffer[position++] = (byte)c;
+                i++;
+            }
+            this.position = position;
+
+            /* The run ended at the end of the string or of the buffer */
+            if ( i == end ) {
+                continue;
+            }
+
+            /* Encode the character which ended the run */
+            final char c = string.charAt(i++);
+
+            /* Escaped ASCII character */
+            if ( c < 0x80 ) {
+                this.writeEscape(c);
+            }
+
+            /* Two byte sequence */
+            else if ( c < 0x800 ) {
+                this.ensure(2);
+                this.buffer[this.position++] = (byte)(0xC0 | (c >> 6));
+                this.buffer[this.position++] = (byte)(0x80 | (c & 0x3F));
+            }
+
+            /* Four byte sequence for a surrogate pair, lone surrogates are written as '?' as the UTF-8 encoder does */
+            else if ( Character.isSurrogate(c) == true ) {
+                if ( (Character.isHighSurrogate(c) == true) && (i < length) && (Character.isLowSurrogate(string.charAt(i)) == true) ) {
+                    final int codePoint = Character.toCodePoint(c, string.charAt(i++));
+                    this.ensure(4);
+                    this.buffer[this.position++] = (byte)(0xF0 | (codePoint >> 18));
+                    this.buffer[this.position++] = (byte)(0x80 | ((codePoint >> 12) & 0x3F));
+                    this.buffer[this.position++] = (byte)(0x80 | ((codePoint >> 6) & 0x3F));
+                    this.buffer[this.position++] = (byte)(0x80 | (codePoint & 0x3F));
+                }
+                else {
+                    this.writeByte('?');
+                }
+            }
+
+            /* Line and paragraph separators are escaped so the output is valid JavaScript */
+            else if ( (c == '\u2028') || (c == '\u2029') ) {
+                this.writeEscape(c);
+            }
+
+            /* Three byte sequence */
+            else {
+                this.ensure(3);
+                this.buffer[this.position++] = (byte)(0xE0 | (c >> 12));
+                this.buffer[this.position++] = (byte)(0x80 | ((c >> 6) & 0x3F));
+                this.buffer[this.position++] = (byte)(0x80 | (c & 0x3F));
+            }
+        }
+
+        this.writeByte('"');
+
+    }
+
+
+
+    /**
+     * Write an escaped character
+     *
+     * @param   c   the character
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    private void writeEscape(final char c) throws IOException {
+
+        this.ensure(6);
+        this.buffer[this.position++] = '\\';
+
+        switch ( c ) {
+            case '"':
+                this.buffer[this.position++] = '"';
+                break;
+            case '\\':
+                this.buffer[this.position++] = '\\';
+                break;
+            case '\b':
+                this.buffer[this.position++] = 'b';
+                break;
+            case '\f':
+                this.buffer[this.position++] = 'f';
+                break;
+            case '\n':
+                this.buffer[this.position++] = 'n';
+                break;
+            case '\r':
+                this.buffer[this.position++] = 'r';
+                break;
+            case '\t':
+                this.buffer[this.position++] = 't';
+                break;
+            default:
+                this.buffer[this.position++] = 'u';
+                this.buffer[this.position++] = JsonByteGenerator.HEX_DIGITS[(c >> 12) & 0xf];
+                this.buffer[this.position++] = JsonByteGenerator.HEX_DIGITS[(c >> 8) & 0xf];
+                this.buffer[this.position++] = JsonByteGenerator.HEX_DIGITS[(c >> 4) & 0xf];
+                this.buffer[this.position++] = JsonByteGenerator.HEX_DIGITS[c & 0xf];
+                break;
+        }
+
+    }
+
+
+
+    /**
+     * Write an ASCII character
+     *
+     * @param   c   the character
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    private void writeByte(final char c) throws IOException {
+
+        if ( this.position == this.limit ) {
+            this.flushBuffer();
+        }
+
+        this.buffer[this.position++] = (byte)c;
+
+    }
+
+
+
+    /**
+     * Write bytes, they must fit in an empty buffer
+     *
+     * @param   bytes   the bytes
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    private void writeBytes(final byte[] bytes) throws IOException {
+
+        this.ensure(bytes.length);
+        System.arraycopy(bytes, 0, this.buffer, this.position, bytes.length);
+        this.position += bytes.length;
+
+    }
+
+
+
+    /**
+     * Make sure there is room in the buffer
+     *
+     * @param   count   the number of bytes needed
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    private void ensure(final int count) throws IOException {
+
+        if ( (this.limit - this.position) < count ) {
+            this.flushBuffer();
+        }
+
+    }
+
+
+
+    /**
+     * Write the buffered bytes out, the buffer can not be emptied when the
+     * byte buffer is written in place, so it has overflowed
+     *
+     * @exception   IOException
+     *              If the stream could not be written
+     */
+    private void flushBuffer() throws IOException {
+
+        /* Stream */
+        if ( this.outputStream != null ) {
+            this.outputStream.write(this.buffer, 0, this.position);
+            this.position = 0;
+        }
+
+        /* Byte buffer written through the buffer, if it has room */
+        else if ( (this.inPlace == false) && (this.byteBuffer.remaining() >= this.position) ) {
+            this.byteBuffer.put(this.buffer, 0, this.position);
+            this.position = 0;
+        }
+
+        /* Byte buffer overflow, the byte buffer is left as it was */
+        else {
+            this.byteBuffer.position(this.byteBufferStart);
+            throw new BufferOverflowException();
+        }
+
+    }
+
+
+}
@@ -0,0 +1,477 @@
+/**
+ * JsonStreamGenerator.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+
+
+/* Import JSON stuff */
+import org.json.JSONException;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.spi.JsonGenerator;
+
+
+/**
+ * Streaming JSON generator, tokens are written to the writer as they are
+ * generated, nothing is buffered other than by the writer
+ *
+ * Strings are escaped as JSON requires, the line and paragraph
+ * separators are escaped as well so the output is valid JavaScript.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+final class JsonStreamGenerator implements JsonGenerator {
+
+
+    /**
+     * Scopes
+     */
+    private static final int SCOPE_EMPTY_DOCUMENT = 0;
+    private static final int SCOPE_NONEMPTY_DOCUMENT = 1;
+    private static final int SCOPE_EMPTY_OBJECT = 2;
+    private static final int SCOPE_DANGLING_NAME = 3;
+    private static final int SCOPE_NONEMPTY_OBJECT = 4;
+    private static final int SCOPE_EMPTY_ARRAY = 5;
+    private static final int SCOPE_NONEMPTY_ARRAY = 6;
+
+
+    /**
+     * Hexadecimal digits
+     */
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+
+    /**
+     * Writer
+     */
+    private final Writer writer;
+
+
+    /**
+     * Scope stack
+     */
+    private int[] scopeStack = new int[32];
+
+
+    /**
+     * Scope stack size
+     */
+    private int scopeStackSize = 0;
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   writer  the JSON writer
+     */
+    JsonStreamGenerator(final Writer writer) {
+
+        this.writer = writer;
+        this.scopeStack[this.scopeStackSize++] = JsonStreamGenerator.SCOPE_EMPTY_DOCUMENT;
+
+    }
+
+
+
+    /**
+     * Start an object
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator beginObject() throws IOException {
+
+        this.beforeValue();
+        this.writer.write('{');
+        this.push(JsonStreamGenerator.SCOPE_EMPTY_OBJECT);
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * End an object
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator endObject() throws IOException {
+
+        final int scope = this.scopeStack[this.scopeStackSize - 1];
+        if ( (scope != JsonStreamGenerator.SCOPE_EMPTY_OBJECT) && (scope != JsonStreamGenerator.SCOPE_NONEMPTY_OBJECT) ) {
+            throw new JSONException("Unexpected end of object");
+        }
+
+        this.scopeStackSize--;
+        this.writer.write('}');
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Start an array
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator beginArray() throws IOException {
+
+        this.beforeValue();
+        this.writer.write('[');
+        this.push(JsonStreamGenerator.SCOPE_EMPTY_ARRAY);
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * End an array
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator endArray() throws IOException {
+
+        final int scope = this.scopeStack[this.scopeStackSize - 1];
+        if ( (scope != JsonStreamGenerator.SCOPE_EMPTY_ARRAY) && (scope != JsonStreamGenerator.SCOPE_NONEMPTY_ARRAY) ) {
+            throw new JSONException("Unexpected end of array");
+        }
+
+        this.scopeStackSize--;
+        this.writer.write(']');
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write an object member name, the value must follow
+     *
+     * @param   name    the name
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator name(final String name) throws IOException {
+
+        switch ( this.scopeStack[this.scopeStackSize - 1] ) {
+
+            case JsonStreamGenerator.SCOPE_EMPTY_OBJECT:
+                break;
+
+            case JsonStreamGenerator.SCOPE_NONEMPTY_OBJECT:
+                this.writer.write(',');
+                break;
+
+            default:
+                throw new JSONException("Unexpected name '" + name + "'");
+        }
+
+        this.writeString(name);
+        this.writer.write(':');
+        this.scopeStack[this.scopeStackSize - 1] = JsonStreamGenerator.SCOPE_DANGLING_NAME;
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write a string value
+     *
+     * @param   value   the string, null is written as null
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator value(final String value) throws IOException {
+
+        if ( value == null ) {
+            return (this.nullValue());
+        }
+
+        this.beforeValue();
+        this.writeString(value);
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write a boolean value
+     *
+     * @param   value   the boolean
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator value(final boolean value) throws IOException {
+
+        this.beforeValue();
+        this.writer.write((value == true) ? "true" : "false");
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write a number value
+     *
+     * @param   value   the number, null is written as null
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator value(final Number value) throws IOException {
+
+        if ( value == null ) {
+            return (this.nullValue());
+        }
+
+        /* JSON has no infinite or NaN numbers */
+        if ( (((value instanceof Double) == true) && (Double.isFinite(value.doubleValue()) == false)) ||
+                (((value instanceof Float) == true) && (Float.isFinite(value.floatValue()) == false)) ) {
+            throw new JSONException("Non-finite numbers are not allowed");
+        }
+
+        this.beforeValue();
+        this.writer.write(value.toString());
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write a null value
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator nullValue() throws IOException {
+
+        this.beforeValue();
+        this.writer.write("null");
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Flush the writer
+     *
+     * @exception   IOException
+     *              If the writer could not be flushed
+     */
+    @Override
+    public void flush() throws IOException {
+
+        this.writer.flush();
+
+    }
+
+
+
+    /**
+     * Close the generator and the writer
+     *
+     * @exception   IOException
+     *              If the writer could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+
+        this.writer.close();
+
+    }
+
+
+
+    /**
+     * Update the scope before a value, writing the separator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    private void beforeValue() throws IOException {
+
+        switch ( this.scopeStack[this.scopeStackSize - 1] ) {
+
+            case JsonStreamGenerator.SCOPE_EMPTY_DOCUMENT:
+                this.scopeStack[this.scopeStackSize - 1] = JsonStreamGenerator.SCOPE_NONEMPTY_DOCUMENT;
+                break;
+
+            case JsonStreamGenerator.SCOPE_EMPTY_ARRAY:
+                this.scopeStack[this.scopeStackSize - 1] = JsonStreamGenerator.SCOPE_NONEMPTY_ARRAY;
+                break;
+
+            case JsonStreamGenerator.SCOPE_NONEMPTY_ARRAY:
+                this.writer.write(',');
+                break;
+
+            case JsonStreamGenerator.SCOPE_DANGLING_NAME:
+                this.scopeStack[this.scopeStackSize - 1] = JsonStreamGenerator.SCOPE_NONEMPTY_OBJECT;
+                break;
+
+            case JsonStreamGenerator.SCOPE_NONEMPTY_DOCUMENT:
+                throw new JSONException("Only one document can be written");
+
+            default:
+                throw new JSONException("Expected a name");
+        }
+
+    }
+
+
+
+    /**
+     * Push a scope
+     *
+     * @param   scope   the scope
+     */
+    private void push(final int scope) {
+
+        if ( this.scopeStackSize == this.scopeStack.length ) {
+            this.scopeStack = Arrays.copyOf(this.scopeStack, this.scopeStackSize * 2);
+        }
+
+        this.scopeStack[this.scopeStackSize++] = scope;
+
+    }
+
+
+
+    /**
+     * Write a quoted string, runs of characters which need no escaping are written as they are
+     *
+     * @param   string  the string
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    private void writeString(final String string) throws IOException {
+
+        this.writer.write('"');
+
+        int start = 0;
+        final int length = string.length();
+        for ( int i = 0; i < length; i++ ) {
+
+            final char c = string.charAt(i);
+
+            /* Most characters need no escaping */
+            if ( (c >= ' ') && (c != '"') && (c != '\\') && (c != '\u2028') && (c != '\u2029') ) {
+                continue;
+            }
+
+            /* Write the run before the character, and the escaped character */
+            this.writer.write(string, start, i - start);
+            start = i + 1;
+
+            switch ( c ) {
+                case '"':
+                    this.writer.write("\\\"");
+                    break;
+                case '\\':
+                    this.writer.write("\\\\");
+                    break;
+                case '\b':
+                    this.writer.write("\\b");
+                    break;
+                case '\f':
+                    this.writer.write("\\f");
+                    break;
+                case '\n':
+                    this.writer.write("\\n");
+                    break;
+                case '\r':
+                    this.writer.write("\\r");
+                    break;
+                case '\t':
+                    this.writer.write("\\t");
+                    break;
+                default:
+                    this.writer.write("\\u");
+                    this.writer.write(JsonStreamGenerator.HEX_DIGITS[(c >> 12) & 0xf]);
+                    this.writer.write(JsonStreamGenerator.HEX_DIGITS[(c >> 8) & 0xf]);
+                    this.writer.write(JsonStreamGenerator.HEX_DIGITS[(c >> 4) & 0xf]);
+                    this.writer.write(JsonStreamGenerator.HEX_DIGITS[c & 0xf]);
+                    break;
+            }
+        }
+
+        /* Write the last run */
+        this.writer.write(string, start, length - start);
+        this.writer.write('"');
+
+    }
+
+
+}
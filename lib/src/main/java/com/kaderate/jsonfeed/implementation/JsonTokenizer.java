@@ -0,0 +1,2049 @@
+/**
+ * JsonTokenizer.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.InputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+
+/* Import JSON stuff */
+import org.json.JSONException;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.implementation.LazyText;
+import com.kaderate.jsonfeed.implementation.ParseLimit;
+import com.kaderate.jsonfeed.implementation.ParseLimitException;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+import com.kaderate.jsonfeed.spi.JsonParser;
+import com.kaderate.jsonfeed.spi.JsonToken;
+
+
+/**
+ * Pull tokenizer for UTF-8 encoded JSON
+ *
+ * The input is read through a fixed size byte buffer so documents of any
+ * size can be tokenized in constant memory, values are only turned into
+ * objects when they are requested, everything else is checked and skipped.
+ *
+ * The limits in the parse options are checked as the input is read, so the
+ * memory and time spent on an input which exceeds one are bounded by the
+ * limit rather than by the input.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+final class JsonTokenizer implements JsonParser {
+
+
+    /**
+     * Buffer size
+     */
+    private static final int BUFFER_SIZE = 8192;
+
+
+    /**
+     * Maximum buffer sizes kept when the tokenizer is reset
+     */
+    private static final int MAX_RETAINED_BUFFER_SIZE = 1024 * 1024;
+
+
+    /**
+     * Scopes
+     */
+    private static final int SCOPE_EMPTY_DOCUMENT = 0;
+    private static final int SCOPE_NONEMPTY_DOCUMENT = 1;
+    private static final int SCOPE_EMPTY_OBJECT = 2;
+    private static final int SCOPE_DANGLING_NAME = 3;
+    private static final int SCOPE_NONEMPTY_OBJECT = 4;
+    private static final int SCOPE_EMPTY_ARRAY = 5;
+    private static final int SCOPE_NONEMPTY_ARRAY = 6;
+    private static final int SCOPE_CLOSED = 7;
+
+
+    /**
+     * Input stream, null if the whole input is in the buffer
+     */
+    private InputStream inputStream;
+
+
+    /**
+     * Byte buffer starting at the input, null if the input is not a byte buffer
+     */
+    private ByteBuffer byteBuffer;
+
+
+    /**
+     * Buffer
+     */
+    private byte[] buffer;
+
+
+    /**
+     * Buffer used to read input streams, kept when the tokenizer is reset
+     */
+    private byte[] streamBuffer = null;
+
+
+    /**
+     * Buffer position
+     */
+    private int position = 0;
+
+
+    /**
+     * Buffer limit
+     */
+    private int limit = 0;
+
+
+    /**
+     * Offset of the start of the buffer in the input
+     */
+    private long bufferOffset = 0;
+
+
+    /**
+     * Buffer mark, bytes from the mark are kept when the buffer is refilled, -1 if not set
+     */
+    private int mark = -1;
+
+
+    /**
+     * Scope stack
+     */
+    private int[] scopeStack = new int[32];
+
+
+    /**
+     * Scope stack size
+     */
+    private int scopeStackSize = 0;
+
+
+    /**
+     * Peeked token, null if no token was peeked
+     */
+    private JsonToken peekedToken = null;
+
+
+    /**
+     * Peeked boolean value
+     */
+    private boolean peekedBoolean = false;
+
+
+    /**
+     * Offset of the peeked token in the input
+     */
+    private long tokenOffset = 0;
+
+
+    /**
+     * Character buffer used to decode strings
+     */
+    private char[] charBuffer = new char[256];
+
+
+    /**
+     * Parse cache, null if there is none
+     */
+    private ParseCache parseCache = null;
+
+
+    /**
+     * Transient input flag, set if the input bytes are overwritten once they are decoded
+     */
+    private boolean transientInput = false;
+
+
+    /**
+     * Maximum byte count
+     */
+    private long maxBytes = Long.MAX_VALUE;
+
+
+    /**
+     * Maximum string length
+     */
+    private int maxStringLength = Integer.MAX_VALUE;
+
+
+    /**
+     * Maximum nesting depth
+     */
+    private int maxDepth = Integer.MAX_VALUE;
+
+
+    /**
+     * Maximum extension size
+     */
+    private int maxExtensionSize = Integer.MAX_VALUE;
+
+
+    /**
+     * Offset past which the value being decoded exceeds the maximum extension size
+     */
+    private long valueLimitOffset = Long.MAX_VALUE;
+
+
+
+    /**
+     * Constructor, the tokenizer must be reset to an input before it is used
+     */
+    JsonTokenizer() {
+
+        this.release();
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   inputStream     the UTF-8 encoded input stream
+     */
+    JsonTokenizer(final InputStream inputStream) {
+
+        this.reset(inputStream);
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   reader  the reader
+     */
+    JsonTokenizer(final Reader reader) {
+
+        this.reset(reader);
+
+    }
+
+
+
+    /**
+     * Constructor, the byte buffer is read from its position to its limit,
+     * heap byte buffers are tokenized in place
+     *
+     * @param   byteBuffer  the UTF-8 encoded byte buffer
+     */
+    JsonTokenizer(final ByteBuffer byteBuffer) {
+
+        this.reset(byteBuffer);
+
+    }
+
+
+
+    /**
+     * Reset the tokenizer to read a new input stream, the buffers are kept
+     *
+     * @param   inputStream     the UTF-8 encoded input stream
+     */
+    void reset(final InputStream inputStream) {
+
+        /* Read the input stream through the stream buffer */
+        this.inputStream = inputStream;
+        this.byteBuffer = null;
+        this.buffer = this.getStreamBuffer();
+        this.position = 0;
+        this.limit = 0;
+        this.bufferOffset = 0;
+
+        this.resetState();
+
+    }
+
+
+
+    /**
+     * Reset the tokenizer to read a new reader, the buffers are kept
+     *
+     * @param   reader  the reader
+     */
+    void reset(final Reader reader) {
+
+        this.reset(new ReaderInputStream(reader));
+
+    }
+
+
+
+    /**
+     * Reset the tokenizer to read a new byte buffer from its position to its limit,
+     * heap byte buffers are tokenized in place, the buffers are kept
+     *
+     * @param   byteBuffer  the UTF-8 encoded byte buffer
+     */
+    void reset(final ByteBuffer byteBuffer) {
+
+        /* Keep the byte buffer, its offsets match the input offsets */
+        this.byteBuffer = byteBuffer.slice();
+
+        /* Tokenize the backing array in place */
+        if ( (byteBuffer.hasArray() == true) && (byteBuffer.isReadOnly() == false) ) {
+            this.inputStream = null;
+            this.buffer = byteBuffer.array();
+            this.position = byteBuffer.arrayOffset() + byteBuffer.position();
+            this.limit = byteBuffer.arrayOffset() + byteBuffer.limit();
+            this.bufferOffset = -this.position;
+        }
+
+        /* Read everything else through the stream buffer */
+        else {
+            this.inputStream = new ByteBufferInputStream(byteBuffer.duplicate());
+            this.buffer = this.getStreamBuffer();
+            this.position = 0;
+            this.limit = 0;
+            this.bufferOffset = 0;
+        }
+
+        this.resetState();
+
+    }
+
+
+
+    /**
+     * Release the input so it is not held by the tokenizer, the input is not closed
+     * and the tokenizer must be reset before it is used again
+     */
+    void release() {
+
+        this.inputStream = null;
+        this.byteBuffer = null;
+        this.buffer = this.streamBuffer;
+        this.position = 0;
+        this.limit = 0;
+        this.scopeStackSize = 1;
+        this.scopeStack[0] = JsonTokenizer.SCOPE_CLOSED;
+
+    }
+
+
+
+    /**
+     * Get the parse cache
+     *
+     * @return  the parse cache, null if there is none
+     */
+    ParseCache getParseCache() {
+
+        return (this.parseCache);
+
+    }
+
+
+
+    /**
+     * Set the parse cache, member names are looked up in its symbol table
+     *
+     * @param   parseCache  the parse cache, null for none
+     */
+    void setParseCache(final ParseCache parseCache) {
+
+        this.parseCache = parseCache;
+
+    }
+
+
+
+    /**
+     * Peek at the next token without consuming it
+     *
+     * @return  the next token
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     *
+     * @exception   JSONException
+     *              If the input is not valid JSON
+     */
+    @Override
+    public JsonToken peek() throws IOException {
+
+        /* Return the peeked token if there is one */
+        if ( this.peekedToken != null ) {
+            return (this.peekedToken);
+        }
+
+        /* Get the first byte of the next value, dealing with separators along the way */
+        final int scope = this.scopeStack[this.scopeStackSize - 1];
+        int c = 0;
+
+        switch ( scope ) {
+
+            case JsonTokenizer.SCOPE_EMPTY_ARRAY:
+                this.scopeStack[this.scopeStackSize - 1] = JsonTokenizer.SCOPE_NONEMPTY_ARRAY;
+                c = this.nextNonWhitespace();
+                if ( c == ']' ) {
+                    return (this.setPeekedToken(JsonToken.END_ARRAY));
+                }
+                break;
+
+            case JsonTokenizer.SCOPE_NONEMPTY_ARRAY:
+                c = this.nextNonWhitespace();
+                if ( c == ']' ) {
+                    return (this.setPeekedToken(JsonToken.END_ARRAY));
+                }
+                else if ( c != ',' ) {
+                    throw this.syntaxError("Expected a ',' or ']'");
+                }
+                c = this.nextNonWhitespace();
+                break;
+
+            case JsonTokenizer.SCOPE_EMPTY_OBJECT:
+            case JsonTokenizer.SCOPE_NONEMPTY_OBJECT:
+                c = this.nextNonWhitespace();
+                if ( c == '}' ) {
+                    return (this.setPeekedToken(JsonToken.END_OBJECT));
+                }
+                if ( scope == JsonTokenizer.SCOPE_NONEMPTY_OBJECT ) {
+                    if ( c != ',' ) {
+                        throw this.syntaxError("Expected a ',' or '}'");
+                    }
+                    c = this.nextNonWhitespace();
+                }
+                if ( c != '"' ) {
+                    throw this.syntaxError("Expected a key");
+                }
+                this.scopeStack[this.scopeStackSize - 1] = JsonTokenizer.SCOPE_DANGLING_NAME;
+                return (this.setPeekedToken(JsonToken.NAME));
+
+            case JsonTokenizer.SCOPE_DANGLING_NAME:
+                if ( this.nextNonWhitespace() != ':' ) {
+                    throw this.syntaxError("Expected a ':' after a key");
+                }
+                this.scopeStack[this.scopeStackSize - 1] = JsonTokenizer.SCOPE_NONEMPTY_OBJECT;
+                c = this.nextNonWhitespace();
+                break;
+
+            case JsonTokenizer.SCOPE_EMPTY_DOCUMENT:
+                this.scopeStack[this.scopeStackSize - 1] = JsonTokenizer.SCOPE_NONEMPTY_DOCUMENT;
+                this.skipByteOrderMark();
+                c = this.nextNonWhitespace();
+                break;
+
+            case JsonTokenizer.SCOPE_NONEMPTY_DOCUMENT:
+                c = this.nextNonWhitespace();
+                if ( c == -1 ) {
+                    return (this.setPeekedToken(JsonToken.END_DOCUMENT));
+                }
+                throw this.syntaxError("Unexpected data after the end of the document");
+
+            default:
+                throw new IllegalStateException("The tokenizer is closed");
+        }
+
+        /* Get the value token from its first byte */
+        switch ( c ) {
+
+            case '{':
+                return (this.setPeekedToken(JsonToken.BEGIN_OBJECT));
+
+            case '[':
+                return (this.setPeekedToken(JsonToken.BEGIN_ARRAY));
+
+            case '"':
+                return (this.setPeekedToken(JsonToken.STRING));
+
+            case 't':
+                this.setPeekedToken(JsonToken.BOOLEAN);
+                this.readLiteral("rue");
+                this.peekedBoolean = true;
+                return (JsonToken.BOOLEAN);
+
+            case 'f':
+                this.setPeekedToken(JsonToken.BOOLEAN);
+                this.readLiteral("alse");
+                this.peekedBoolean = false;
+                return (JsonToken.BOOLEAN);
+
+            case 'n':
+                this.setPeekedToken(JsonToken.NULL);
+                this.readLiteral("ull");
+                return (JsonToken.NULL);
+
+            case -1:
+                throw this.syntaxError("Unexpected end of input");
+
+            default:
+                if ( (c == '-') || ((c >= '0') && (c <= '9')) ) {
+                    this.position--;
+                    return (this.setPeekedToken(JsonToken.NUMBER));
+                }
+                throw this.syntaxError("Unexpected character '" + (char)c + "'");
+        }
+
+    }
+
+
+
+    /**
+     * Check if the current object or array has another element
+     *
+     * @return  true if there is another element
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public boolean hasNext() throws IOException {
+
+        final JsonToken token = this.peek();
+        return ((token != JsonToken.END_OBJECT) && (token != JsonToken.END_ARRAY) && (token != JsonToken.END_DOCUMENT));
+
+    }
+
+
+
+    /**
+     * Consume the start of an object
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void beginObject() throws IOException {
+
+        this.expect(JsonToken.BEGIN_OBJECT);
+        this.push(JsonTokenizer.SCOPE_EMPTY_OBJECT);
+
+    }
+
+
+
+    /**
+     * Consume the end of an object
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void endObject() throws IOException {
+
+        this.expect(JsonToken.END_OBJECT);
+        this.scopeStackSize--;
+
+    }
+
+
+
+    /**
+     * Consume the start of an array
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void beginArray() throws IOException {
+
+        this.expect(JsonToken.BEGIN_ARRAY);
+        this.push(JsonTokenizer.SCOPE_EMPTY_ARRAY);
+
+    }
+
+
+
+    /**
+     * Consume the end of an array
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void endArray() throws IOException {
+
+        this.expect(JsonToken.END_ARRAY);
+        this.scopeStackSize--;
+
+    }
+
+
+
+    /**
+     * Consume the end of the document
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void endDocument() throws IOException {
+
+        if ( this.peek() != JsonToken.END_DOCUMENT ) {
+            throw this.syntaxError("Unexpected data after the end of the document");
+        }
+
+    }
+
+
+
+    /**
+     * Get the next object member name
+     *
+     * @return  the name
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public String nextName() throws IOException {
+
+        this.expect(JsonToken.NAME);
+        return ((this.parseCache != null) ? this.readName() : this.readString());
+
+    }
+
+
+
+    /**
+     * Get the next string value, the value must be a string
+     *
+     * @return  the string
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public String nextString() throws IOException {
+
+        this.expect(JsonToken.STRING);
+        return (this.readString());
+
+    }
+
+
+
+    /**
+     * Get the next value as a string, null values are returned as null and
+     * other values are returned as their JSON text
+     *
+     * @return  the string, null if the value is null
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public String nextOptString() throws IOException {
+
+        switch ( this.peek() ) {
+
+            case STRING:
+                return (this.nextString());
+
+            case NULL:
+                this.nextNull();
+                return (null);
+
+            default:
+                return (this.nextRawValue());
+        }
+
+    }
+
+
+
+    /**
+     * Get the next boolean value, the strings "true" and "false" are accepted
+     *
+     * @return  the boolean
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public boolean nextBoolean() throws IOException {
+
+        /* Boolean value */
+        if ( this.peek() == JsonToken.BOOLEAN ) {
+            this.peekedToken = null;
+            return (this.peekedBoolean);
+        }
+
+        /* Boolean string */
+        else if ( this.peek() == JsonToken.STRING ) {
+            final String string = this.nextString();
+            if ( string.equalsIgnoreCase("true") == true ) {
+                return (true);
+            }
+            else if ( string.equalsIgnoreCase("false") == true ) {
+                return (false);
+            }
+        }
+
+        throw this.syntaxError("Expected a boolean");
+
+    }
+
+
+
+    /**
+     * Consume the next null value
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void nextNull() throws IOException {
+
+        this.expect(JsonToken.NULL);
+
+    }
+
+
+
+    /**
+     * Get the next number as its JSON text
+     *
+     * @return  the number text
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public String nextNumber() throws IOException {
+
+        this.expect(JsonToken.NUMBER);
+        return (this.readNumber());
+
+    }
+
+
+
+    /**
+     * Get the next value as raw JSON text
+     *
+     * @return  the JSON text
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    String nextRawValue() throws IOException {
+
+        switch ( this.peek() ) {
+
+            case NUMBER:
+                return (this.nextNumber());
+
+            case BOOLEAN:
+                return ((this.nextBoolean() == true) ? "true" : "false");
+
+            case NULL:
+                this.nextNull();
+                return ("null");
+
+            default:
+                /* Mark the opening byte, it was consumed when the token was peeked */
+                this.mark = this.position - 1;
+                try {
+                    this.skipValue();
+                    return (new String(this.buffer, this.mark, this.position - this.mark, StandardCharsets.UTF_8));
+                }
+                finally {
+                    this.mark = -1;
+                }
+        }
+
+    }
+
+
+
+    /**
+     * Skip the next value, the value is checked but not decoded
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void skipValue() throws IOException {
+
+        final JsonToken token = this.peek();
+        this.peekedToken = null;
+
+        switch ( token ) {
+
+            case BEGIN_OBJECT:
+            case BEGIN_ARRAY:
+                this.skipContainer(token);
+                break;
+
+            case NAME:
+            case STRING:
+                this.skipString(false);
+                break;
+
+            case NUMBER:
+                this.skipNumber();
+                break;
+
+            case BOOLEAN:
+            case NULL:
+                break;
+
+            default:
+                this.peekedToken = token;
+                throw this.syntaxError("Expected a value but was " + token);
+        }
+
+    }
+
+
+
+    /**
+     * Set whether the input bytes are overwritten once they are decoded, in which
+     * case no text views are kept over them, the flag is kept when the tokenizer is reset
+     *
+     * @param   transientInput  true if the input bytes are overwritten once they are decoded
+     */
+    void setTransientInput(final boolean transientInput) {
+
+        this.transientInput = transientInput;
+
+    }
+
+
+
+    /**
+     * Get the next string value as a text view over the byte buffer being tokenized,
+     * the string is skipped without being decoded, its escapes and its length are
+     * checked
+     *
+     * @return  the text, null if the next value is not a string, the input is not
+     *          a byte buffer or the input is transient, nothing is consumed then
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    LazyText nextLazyText() throws IOException {
+
+        if ( (this.byteBuffer == null) || (this.transientInput == true) || (this.peek() != JsonToken.STRING) ) {
+            return (null);
+        }
+
+        /* Skip the string, checking its escapes and its length, the token offset is the offset of the opening quote */
+        final long start = this.tokenOffset;
+        this.peekedToken = null;
+        this.skipString(true);
+
+        return (LazyText.fromByteBuffer(this.byteBuffer, (int)start, (int)this.getOffset()));
+
+    }
+
+
+
+    /**
+     * Get the next string value of a parser as a text view over the input bytes
+     *
+     * @param   parser  the parser
+     *
+     * @return  the text, null if the parser is not a tokenizer or it can not return a text view
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    static LazyText nextLazyText(final JsonParser parser) throws IOException {
+
+        return ((parser instanceof JsonTokenizer) ? ((JsonTokenizer)parser).nextLazyText() : null);
+
+    }
+
+
+
+    /**
+     * Set the limits from the parse options, they are kept when the tokenizer is reset,
+     * the size of a byte buffer input is checked straight away
+     *
+     * @param   parseOptions    the parse options
+     *
+     * @exception   ParseLimitException
+     *              If the byte buffer input exceeds the maximum byte count
+     */
+    void setLimits(final ParseOptions parseOptions) {
+
+        this.maxBytes = (parseOptions.getMaxBytes() > 0) ? parseOptions.getMaxBytes() : Long.MAX_VALUE;
+        this.maxStringLength = (parseOptions.getMaxStringLength() > 0) ? parseOptions.getMaxStringLength() : Integer.MAX_VALUE;
+        this.maxDepth = (parseOptions.getMaxDepth() > 0) ? parseOptions.getMaxDepth() : Integer.MAX_VALUE;
+        this.maxExtensionSize = (parseOptions.getMaxExtensionSize() > 0) ? parseOptions.getMaxExtensionSize() : Integer.MAX_VALUE;
+
+        /* The whole input is in the buffer */
+        if ( (this.inputStream == null) && ((this.bufferOffset + this.limit) > this.maxBytes) ) {
+            throw this.limitError(ParseLimit.BYTES, this.maxBytes);
+        }
+
+    }
+
+
+
+    /**
+     * Set the limits of a parser from the parse options, other parsers
+     * are left as they are
+     *
+     * @param   parser          the parser
+     * @param   parseOptions    the parse options
+     *
+     * @exception   ParseLimitException
+     *              If the byte buffer input exceeds the maximum byte count
+     */
+    static void setLimits(final JsonParser parser, final ParseOptions parseOptions) {
+
+        if ( parser instanceof JsonTokenizer ) {
+            ((JsonTokenizer)parser).setLimits(parseOptions);
+        }
+
+    }
+
+
+
+    /**
+     * Get the next value as an extension value, checking its size as it is read
+     *
+     * @return  the value
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     *
+     * @exception   ParseLimitException
+     *              If the value exceeds the maximum extension size
+     */
+    Object nextExtensionValue() throws IOException {
+
+        /* There is no limit */
+        if ( this.maxExtensionSize == Integer.MAX_VALUE ) {
+            return (this.nextValue());
+        }
+
+        /* Every token of the value is checked against the limit offset as it is peeked */
+        this.peek();
+        this.valueLimitOffset = this.tokenOffset + this.maxExtensionSize;
+        try {
+            final Object value = this.nextValue();
+            if ( this.getOffset() > this.valueLimitOffset ) {
+                throw this.limitError(ParseLimit.EXTENSION_SIZE, this.maxExtensionSize);
+            }
+            return (value);
+        }
+        finally {
+            this.valueLimitOffset = Long.MAX_VALUE;
+        }
+
+    }
+
+
+
+    /**
+     * Get the next value of a parser as an extension value, only the
+     * tokenizer checks the extension size
+     *
+     * @param   parser  the parser
+     *
+     * @return  the value
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     *
+     * @exception   ParseLimitException
+     *              If the value exceeds the maximum extension size
+     */
+    static Object nextExtensionValue(final JsonParser parser) throws IOException {
+
+        return ((parser instanceof JsonTokenizer) ? ((JsonTokenizer)parser).nextExtensionValue() : parser.nextValue());
+
+    }
+
+
+
+    /**
+     * Get the offset of the peeked token in the input
+     *
+     * @return  the token offset
+     */
+    long getTokenOffset() {
+
+        return (this.tokenOffset);
+
+    }
+
+
+
+    /**
+     * Get the offset of the current position in the input
+     *
+     * @return  the offset
+     */
+    long getOffset() {
+
+        return (this.bufferOffset + this.position);
+
+    }
+
+
+
+    /**
+     * Get the byte buffer being tokenized, the byte buffer starts at the input
+     * so input offsets can be used as byte buffer indexes
+     *
+     * @return  the byte buffer, null if the input is not a byte buffer
+     */
+    ByteBuffer getByteBuffer() {
+
+        return (this.byteBuffer);
+
+    }
+
+
+
+    /**
+     * Get the byte buffer being tokenized by a parser
+     *
+     * @param   parser  the parser
+     *
+     * @return  the byte buffer, null if the parser is not a tokenizer or the input is not a byte buffer
+     */
+    static ByteBuffer getByteBuffer(final JsonParser parser) {
+
+        return ((parser instanceof JsonTokenizer) ? ((JsonTokenizer)parser).getByteBuffer() : null);
+
+    }
+
+
+
+    /**
+     * Get the parse cache of a parser
+     *
+     * @param   parser  the parser
+     *
+     * @return  the parse cache, null if the parser is not a tokenizer or there is none
+     */
+    static ParseCache getParseCache(final JsonParser parser) {
+
+        return ((parser instanceof JsonTokenizer) ? ((JsonTokenizer)parser).getParseCache() : null);
+
+    }
+
+
+
+    /**
+     * Close the tokenizer and the underlying input
+     *
+     * @exception   IOException
+     *              If the input could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+
+        this.peekedToken = null;
+        this.scopeStackSize = 1;
+        this.scopeStack[0] = JsonTokenizer.SCOPE_CLOSED;
+
+        if ( this.inputStream != null ) {
+            this.inputStream.close();
+        }
+
+    }
+
+
+
+    /**
+     * Consume the peeked token, checking that it is the expected token
+     *
+     * @param   token   the expected token
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private void expect(final JsonToken token) throws IOException {
+
+        if ( this.peek() != token ) {
+            throw this.syntaxError("Expected " + token + " but was " + this.peek());
+        }
+
+        this.peekedToken = null;
+
+    }
+
+
+
+    /**
+     * Set the peeked token, recording its offset
+     *
+     * @param   token   the token
+     *
+     * @return  the token
+     */
+    private JsonToken setPeekedToken(final JsonToken token) {
+
+        /* The first byte of the token was consumed, except for numbers */
+        this.tokenOffset = this.bufferOffset + this.position - ((token == JsonToken.NUMBER) ? 0 : 1);
+        this.peekedToken = token;
+
+        /* Check the extension value being decoded */
+        if ( this.tokenOffset > this.valueLimitOffset ) {
+            this.valueLimitOffset = Long.MAX_VALUE;
+            throw this.limitError(ParseLimit.EXTENSION_SIZE, this.maxExtensionSize);
+        }
+
+        return (token);
+
+    }
+
+
+
+    /**
+     * Reset the scopes and the peeked token for a new input, large character buffers are dropped
+     */
+    private void resetState() {
+
+        this.mark = -1;
+        this.scopeStackSize = 0;
+        this.push(JsonTokenizer.SCOPE_EMPTY_DOCUMENT);
+        this.peekedToken = null;
+        this.peekedBoolean = false;
+        this.tokenOffset = 0;
+        this.valueLimitOffset = Long.MAX_VALUE;
+
+        if ( this.charBuffer.length > JsonTokenizer.MAX_RETAINED_BUFFER_SIZE ) {
+            this.charBuffer = new char[256];
+        }
+
+    }
+
+
+
+    /**
+     * Get the stream buffer, allocating it if there is none or if it grew too large
+     *
+     * @return  the stream buffer
+     */
+    private byte[] getStreamBuffer() {
+
+        if ( (this.streamBuffer == null) || (this.streamBuffer.length > JsonTokenizer.MAX_RETAINED_BUFFER_SIZE) ) {
+            this.streamBuffer = new byte[JsonTokenizer.BUFFER_SIZE];
+        }
+
+        return (this.streamBuffer);
+
+    }
+
+
+
+    /**
+     * Push a scope, the document scope is at the bottom of the stack so
+     * the stack size is the nesting depth of the scope being pushed
+     *
+     * @param   scope   the scope
+     */
+    private void push(final int scope) {
+
+        if ( this.scopeStackSize > this.maxDepth ) {
+            throw this.limitError(ParseLimit.DEPTH, this.maxDepth);
+        }
+
+        if ( this.scopeStackSize == this.scopeStack.length ) {
+            this.scopeStack = Arrays.copyOf(this.scopeStack, this.scopeStackSize * 2);
+        }
+
+        this.scopeStack[this.scopeStackSize++] = scope;
+
+    }
+
+
+
+    /**
+     * Make sure there are at least the minimum number of bytes in the buffer
+     * after the position, reading more input if needed
+     *
+     * @param   minimum     the minimum number of bytes
+     *
+     * @return  true if the bytes are available
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private boolean fill(final int minimum) throws IOException {
+
+        /* The whole input is in the buffer */
+        if ( this.inputStream == null ) {
+            return ((this.limit - this.position) >= minimum);
+        }
+
+        /* Move the bytes we need to keep to the start of the buffer */
+        final int keep = (this.mark >= 0) ? this.mark : this.position;
+        if ( keep > 0 ) {
+            System.arraycopy(this.buffer, keep, this.buffer, 0, this.limit - keep);
+            this.limit -= keep;
+            this.position -= keep;
+            this.bufferOffset += keep;
+            if ( this.mark >= 0 ) {
+                this.mark -= keep;
+            }
+        }
+
+        /* Read until we have the bytes, growing the buffer if it is full */
+        while ( (this.limit - this.position) < minimum ) {
+            if ( this.limit == this.buffer.length ) {
+                this.buffer = Arrays.copyOf(this.buffer, this.buffer.length * 2);
+                this.streamBuffer = this.buffer;
+            }
+            final int bytesRead = this.inputStream.read(this.buffer, this.limit, this.buffer.length - this.limit);
+            if ( bytesRead < 0 ) {
+                return (false);
+            }
+            this.limit += bytesRead;
+            if ( (this.bufferOffset + this.limit) > this.maxBytes ) {
+                throw this.limitError(ParseLimit.BYTES, this.maxBytes);
+            }
+        }
+
+        return (true);
+
+    }
+
+
+
+    /**
+     * Skip a UTF-8 byte order mark at the start of the input, UTF-16 and
+     * UTF-32 byte order marks are rejected since JSON must be UTF-8 encoded
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private void skipByteOrderMark() throws IOException {
+
+        /* Get the first bytes */
+        this.fill(3);
+        final int available = this.limit - this.position;
+
+        /* UTF-8 byte order mark */
+        if ( (available >= 3) && (this.buffer[this.position] == (byte)0xEF) &&
+                (this.buffer[this.position + 1] == (byte)0xBB) && (this.buffer[this.position + 2] == (byte)0xBF) ) {
+            this.position += 3;
+        }
+
+        /* UTF-16 and UTF-32 byte order marks */
+        else if ( (available >= 2) && (((this.buffer[this.position] == (byte)0xFE) && (this.buffer[this.position + 1] == (byte)0xFF)) ||
+                ((this.buffer[this.position] == (byte)0xFF) && (this.buffer[this.position + 1] == (byte)0xFE))) ) {
+            throw this.syntaxError("Unsupported byte order mark, JSON must be UTF-8 encoded");
+        }
+
+    }
+
+
+
+    /**
+     * Get the next byte that is not whitespace
+     *
+     * @return  the byte, unsigned, -1 at the end of the input
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private int nextNonWhitespace() throws IOException {
+
+        while ( (this.position < this.limit) || (this.fill(1) == true) ) {
+            final int c = this.buffer[this.position++] & 0xFF;
+            if ( (c != ' ') && (c != '\n') && (c != '\r') && (c != '\t') ) {
+                return (c);
+            }
+        }
+
+        return (-1);
+
+    }
+
+
+
+    /**
+     * Read the rest of a literal
+     *
+     * @param   literal     the rest of the literal
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private void readLiteral(final String literal) throws IOException {
+
+        /* Check the literal */
+        if ( this.fill(literal.length()) == false ) {
+            throw this.syntaxError("Unexpected end of input");
+        }
+
+        for ( int i = 0; i < literal.length(); i++ ) {
+            if ( this.buffer[this.position++] != literal.charAt(i) ) {
+                throw this.syntaxError("Invalid literal");
+            }
+        }
+
+    }
+
+
+
+    /**
+     * Read a member name through the symbol table, the opening quote has been consumed
+     *
+     * @return  the name
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private String readName() throws IOException {
+
+        /* Look up an ASCII name without escapes which is all in the buffer, long names are read as strings */
+        for ( int index = this.position; index < this.limit; index++ ) {
+            final byte b = this.buffer[index];
+            if ( b == '"' ) {
+                if ( (index - this.position) > this.maxStringLength ) {
+                    break;
+                }
+                final String name = this.parseCache.getSymbol(this.buffer, this.position, index - this.position);
+                this.position = index + 1;
+                return (name);
+            }
+            else if ( (b == '\\') || (b < 0x20) ) {
+                break;
+            }
+        }
+
+        /* Read anything else as a string */
+        return (this.readString());
+
+    }
+
+
+
+    /**
+     * Read a string, the opening quote has been consumed
+     *
+     * @return  the string
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private String readString() throws IOException {
+
+        /* Fast path for an ASCII string without escapes or control characters which is all in the buffer */
+        int index = this.position;
+        while ( index < this.limit ) {
+            final byte b = this.buffer[index];
+            if ( b == '"' ) {
+                if ( (index - this.position) > this.maxStringLength ) {
+                    throw this.limitError(ParseLimit.STRING_LENGTH, this.maxStringLength);
+                }
+                final String string = new String(this.buffer, this.position, index - this.position, StandardCharsets.ISO_8859_1);
+                this.position = index + 1;
+                return (string);
+            }
+            else if ( (b == '\\') || (b < 0x20) ) {
+                break;
+            }
+            index++;
+        }
+
+        /* Copy the ASCII prefix */
+        int length = 0;
+        while ( this.position < index ) {
+            length = this.append(length, (char)this.buffer[this.position++]);
+        }
+
+        /* Decode the rest of the string */
+        while ( true ) {
+
+            if ( (this.position == this.limit) && (this.fill(1) == false) ) {
+                throw this.syntaxError("Unterminated string");
+            }
+
+            final int b = this.buffer[this.position++];
+
+            /* End of the string */
+            if ( b == '"' ) {
+                return (new String(this.charBuffer, 0, length));
+            }
+
+            /* Escape */
+            else if ( b == '\\' ) {
+                length = this.append(length, this.readEscape());
+            }
+
+            /* ASCII */
+            else if ( b >= 0x20 ) {
+                length = this.append(length, (char)b);
+            }
+
+            /* Control characters must be escaped */
+            else if ( b >= 0 ) {
+                throw this.syntaxError("Unescaped control character in string");
+            }
+
+            /* Multi-byte UTF-8 sequence */
+            else {
+                final int codePoint = this.readCodePoint(b);
+                if ( codePoint >= 0x10000 ) {
+                    length = this.append(length, Character.highSurrogate(codePoint));
+                    length = this.append(length, Character.lowSurrogate(codePoint));
+                }
+                else {
+                    length = this.append(length, (char)codePoint);
+                }
+            }
+        }
+
+    }
+
+
+
+    /**
+     * Read an escape sequence, the backslash has been consumed
+     *
+     * @return  the escaped character
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private char readEscape() throws IOException {
+
+        if ( this.fill(1) == false ) {
+            throw this.syntaxError("Unterminated escape sequence");
+        }
+
+        final byte b = this.buffer[this.position++];
+
+        switch ( b ) {
+
+            case '"':
+            case '\\':
+            case '/':
+                return ((char)b);
+
+            case 'b':
+                return ('\b');
+
+            case 't':
+                return ('\t');
+
+            case 'n':
+                return ('\n');
+
+            case 'f':
+                return ('\f');
+
+            case 'r':
+                return ('\r');
+
+            case 'u':
+                if ( this.fill(4) == false ) {
+                    throw this.syntaxError("Unterminated escape sequence");
+                }
+                int c = 0;
+                for ( int i = 0; i < 4; i++ ) {
+                    final int digit = Character.digit(this.buffer[this.position++], 16);
+                    if ( digit < 0 ) {
+                        throw this.syntaxError("Invalid escape sequence");
+                    }
+                    c = (c << 4) | digit;
+                }
+                return ((char)c);
+
+            default:
+                throw this.syntaxError("Invalid escape sequence");
+        }
+
+    }
+
+
+
+    /**
+     * Read the rest of a multi-byte UTF-8 sequence, malformed sequences
+     * are decoded as the replacement character
+     *
+     * @param   leadByte    the lead byte, already consumed
+     *
+     * @return  the code point
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private int readCodePoint(final int leadByte) throws IOException {
+
+        /* Get the sequence length and the lead byte bits */
+        int continuationBytes = 0;
+        int codePoint = 0;
+        if ( (leadByte & 0xE0) == 0xC0 ) {
+            continuationBytes = 1;
+            codePoint = leadByte & 0x1F;
+        }
+        else if ( (leadByte & 0xF0) == 0xE0 ) {
+            continuationBytes = 2;
+            codePoint = leadByte & 0x0F;
+        }
+        else if ( (leadByte & 0xF8) == 0xF0 ) {
+            continuationBytes = 3;
+            codePoint = leadByte & 0x07;
+        }
+        else {
+            return (0xFFFD);
+        }
+
+        /* Add the continuation bytes, stopping at the first malformed byte */
+        this.fill(continuationBytes);
+        for ( int i = 0; i < continuationBytes; i++ ) {
+            if ( (this.position == this.limit) || ((this.buffer[this.position] & 0xC0) != 0x80) ) {
+                return (0xFFFD);
+            }
+            codePoint = (codePoint << 6) | (this.buffer[this.position++] & 0x3F);
+        }
+
+        return ((codePoint <= Character.MAX_CODE_POINT) ? codePoint : 0xFFFD);
+
+    }
+
+
+
+    /**
+     * Append a character to the character buffer, growing it if needed
+     *
+     * @param   length  the character buffer length
+     * @param   c       the character
+     *
+     * @return  the new character buffer length
+     */
+    private int append(final int length, final char c) {
+
+        if ( length == this.maxStringLength ) {
+            throw this.limitError(ParseLimit.STRING_LENGTH, this.maxStringLength);
+        }
+
+        if ( length == this.charBuffer.length ) {
+            this.charBuffer = Arrays.copyOf(this.charBuffer, length * 2);
+        }
+
+        this.charBuffer[length] = c;
+        return (length + 1);
+
+    }
+
+
+
+    /**
+     * Read a number
+     *
+     * @return  the number text
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private String readNumber() throws IOException {
+
+        /* Keep the number in the buffer while it is read */
+        final long start = this.getOffset();
+        final boolean marked = (this.mark >= 0);
+        if ( marked == false ) {
+            this.mark = this.position;
+        }
+
+        try {
+            this.skipNumber();
+            final int index = (int)(start - this.bufferOffset);
+            return (new String(this.buffer, index, this.position - index, StandardCharsets.ISO_8859_1));
+        }
+        finally {
+            if ( marked == false ) {
+                this.mark = -1;
+            }
+        }
+
+    }
+
+
+
+    /**
+     * Skip a number, checking it against the JSON number grammar, an optional
+     * minus sign, an integer part without leading zeros, and an optional
+     * fraction and exponent
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private void skipNumber() throws IOException {
+
+        /* Sign */
+        int b = this.peekByte();
+        if ( b == '-' ) {
+            this.position++;
+            b = this.peekByte();
+        }
+
+        /* Integer part */
+        if ( b == '0' ) {
+            this.position++;
+            b = this.peekByte();
+        }
+        else if ( (b >= '1') && (b <= '9') ) {
+            b = this.skipDigits();
+        }
+        else {
+            throw this.syntaxError("Invalid number");
+        }
+
+        /* Fraction */
+        if ( b == '.' ) {
+            this.position++;
+            b = this.peekByte();
+            if ( (b < '0') || (b > '9') ) {
+                throw this.syntaxError("Invalid number");
+            }
+            b = this.skipDigits();
+        }
+
+        /* Exponent */
+        if ( (b == 'e') || (b == 'E') ) {
+            this.position++;
+            b = this.peekByte();
+            if ( (b == '+') || (b == '-') ) {
+                this.position++;
+                b = this.peekByte();
+            }
+            if ( (b < '0') || (b > '9') ) {
+                throw this.syntaxError("Invalid number");
+            }
+            this.skipDigits();
+        }
+
+    }
+
+
+
+    /**
+     * Skip digits
+     *
+     * @return  the byte following the digits, unsigned, -1 at the end of the input
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private int skipDigits() throws IOException {
+
+        int b = this.peekByte();
+        while ( (b >= '0') && (b <= '9') ) {
+            this.position++;
+            b = this.peekByte();
+        }
+
+        return (b);
+
+    }
+
+
+
+    /**
+     * Get the byte at the position without consuming it
+     *
+     * @return  the byte, unsigned, -1 at the end of the input
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private int peekByte() throws IOException {
+
+        return (((this.position < this.limit) || (this.fill(1) == true)) ? (this.buffer[this.position] & 0xFF) : -1);
+
+    }
+
+
+
+    /**
+     * Skip a string, the opening quote has been consumed, the escapes are
+     * checked, and the length is counted in characters as the string would
+     * be decoded if it is checked against the maximum string length
+     *
+     * @param   checkLength     true if the length is checked against the maximum string length
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private void skipString(final boolean checkLength) throws IOException {
+
+        /* Length in characters, only counted if it is checked */
+        int length = 0;
+
+        while ( true ) {
+
+            /* Scan the buffer for the closing quote */
+            while ( this.position < this.limit ) {
+                final byte b = this.buffer[this.position++];
+                if ( b == '"' ) {
+                    return;
+                }
+                else if ( b == '\\' ) {
+                    this.skipEscape();
+                }
+                else if ( (b >= 0) && (b < 0x20) ) {
+                    throw this.syntaxError("Unescaped control character in string");
+                }
+                else if ( (b < 0) && (checkLength == true) && (this.readCodePoint(b) >= 0x10000) ) {
+                    length++;
+                }
+
+                /* Check the length, supplementary characters count twice */
+                if ( (checkLength == true) && (++length > this.maxStringLength) ) {
+                    throw this.limitError(ParseLimit.STRING_LENGTH, this.maxStringLength);
+                }
+            }
+
+            if ( this.fill(1) == false ) {
+                throw this.syntaxError("Unterminated string");
+            }
+        }
+
+    }
+
+
+
+    /**
+     * Skip an escape sequence, the backslash has been consumed, the digits
+     * of a unicode escape are checked
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private void skipEscape() throws IOException {
+
+        if ( (this.position == this.limit) && (this.fill(1) == false) ) {
+            throw this.syntaxError("Unterminated string");
+        }
+
+        final byte b = this.buffer[this.position++];
+        if ( JsonTokenizer.isEscapeByte(b) == false ) {
+            throw this.syntaxError("Invalid escape sequence");
+        }
+
+        /* Check the digits of a unicode escape */
+        if ( b == 'u' ) {
+            if ( this.fill(4) == false ) {
+                throw this.syntaxError("Unterminated escape sequence");
+            }
+            for ( int i = 0; i < 4; i++ ) {
+                if ( Character.digit(this.buffer[this.position++], 16) < 0 ) {
+                    throw this.syntaxError("Invalid escape sequence");
+                }
+            }
+        }
+
+    }
+
+
+
+    /**
+     * Check if a byte can follow a backslash in a string
+     *
+     * @param   b   the byte
+     *
+     * @return  true if the byte can follow a backslash
+     */
+    private static boolean isEscapeByte(final byte b) {
+
+        switch ( b ) {
+            case '"':
+            case '\\':
+            case '/':
+            case 'b':
+            case 'f':
+            case 'n':
+            case 'r':
+            case 't':
+            case 'u':
+                return (true);
+            default:
+                return (false);
+        }
+
+    }
+
+
+
+    /**
+     * Skip an object or an array, the opening byte has been consumed, the
+     * members and the elements are checked through the scopes as they are
+     * skipped so the container must be valid JSON
+     *
+     * @param   token   the token of the opening byte
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private void skipContainer(final JsonToken token) throws IOException {
+
+        /* Scope stack size once the container has been skipped */
+        final int scopeStackSize = this.scopeStackSize;
+        this.push((token == JsonToken.BEGIN_OBJECT) ? JsonTokenizer.SCOPE_EMPTY_OBJECT : JsonTokenizer.SCOPE_EMPTY_ARRAY);
+
+        while ( this.scopeStackSize > scopeStackSize ) {
+
+            final JsonToken nextToken = this.peek();
+            this.peekedToken = null;
+
+            switch ( nextToken ) {
+
+                case BEGIN_OBJECT:
+                    this.push(JsonTokenizer.SCOPE_EMPTY_OBJECT);
+                    break;
+
+                case BEGIN_ARRAY:
+                    this.push(JsonTokenizer.SCOPE_EMPTY_ARRAY);
+                    break;
+
+                case END_OBJECT:
+                case END_ARRAY:
+                    this.scopeStackSize--;
+                    break;
+
+                case NAME:
+                case STRING:
+                    this.skipString(false);
+                    break;
+
+                case NUMBER:
+                    this.skipNumber();
+                    break;
+
+                /* Literals were consumed when they were peeked */
+                default:
+                    break;
+            }
+        }
+
+    }
+
+
+
+    /**
+     * Create a syntax error exception
+     *
+     * @param   message     the message
+     *
+     * @return  the exception
+     */
+    private JSONException syntaxError(final String message) {
+
+        return (new JSONException(message + " at offset " + this.getOffset()));
+
+    }
+
+
+
+    /**
+     * Create a parse limit exception
+     *
+     * @param   limit       the limit which was exceeded
+     * @param   maximum     the maximum value of the limit
+     *
+     * @return  the exception
+     */
+    private ParseLimitException limitError(final ParseLimit limit, final long maximum) {
+
+        return (new ParseLimitException(limit, maximum, "Maximum " + limit.getDescription() + " of " + maximum + " exceeded at offset " + this.getOffset()));
+
+    }
+
+
+
+    /**
+     * Input stream over a byte buffer
+     */
+    static final class ByteBufferInputStream extends InputStream {
+
+
+        /**
+         * Byte buffer
+         */
+        private final ByteBuffer byteBuffer;
+
+
+
+        /**
+         * Constructor
+         *
+         * @param   byteBuffer  the byte buffer
+         */
+        ByteBufferInputStream(final ByteBuffer byteBuffer) {
+
+            this.byteBuffer = byteBuffer;
+
+        }
+
+
+
+        @Override
+        public int read() {
+
+            return ((this.byteBuffer.hasRemaining() == true) ? (this.byteBuffer.get() & 0xFF) : -1);
+
+        }
+
+
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+
+            if ( this.byteBuffer.hasRemaining() == false ) {
+                return (-1);
+            }
+
+            final int bytesRead = Math.min(length, this.byteBuffer.remaining());
+            this.byteBuffer.get(bytes, offset, bytesRead);
+            return (bytesRead);
+
+        }
+
+
+    }
+
+
+
+    /**
+     * Input stream which encodes a reader to UTF-8
+     */
+    private static final class ReaderInputStream extends InputStream {
+
+
+        /**
+         * Reader
+         */
+        private final Reader reader;
+
+
+        /**
+         * UTF-8 encoder
+         */
+        private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+
+        /**
+         * Characters read from the reader
+         */
+        private final CharBuffer charBuffer = CharBuffer.allocate(4096);
+
+
+        /**
+         * Encoded bytes, large enough to hold a full character buffer
+         */
+        private final ByteBuffer byteBuffer = ByteBuffer.allocate(4096 * 4);
+
+
+        /**
+         * End of input flag
+         */
+        private boolean endOfInput = false;
+
+
+        /**
+         * Encoder flushed flag
+         */
+        private boolean flushed = false;
+
+
+
+        /**
+         * Constructor
+         *
+         * @param   reader  the reader
+         */
+        ReaderInputStream(final Reader reader) {
+
+            this.reader = reader;
+            this.charBuffer.flip();
+            this.byteBuffer.flip();
+
+        }
+
+
+
+        @Override
+        public int read() throws IOException {
+
+            final byte[] bytes = new byte[1];
+            return ((this.read(bytes, 0, 1) < 0) ? -1 : (bytes[0] & 0xFF));
+
+        }
+
+
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+
+            /* Encode more characters when all the bytes have been read */
+            while ( this.byteBuffer.hasRemaining() == false ) {
+
+                if ( this.flushed == true ) {
+                    return (-1);
+                }
+
+                this.byteBuffer.clear();
+
+                if ( this.endOfInput == false ) {
+                    this.charBuffer.compact();
+                    final int charactersRead = this.reader.read(this.charBuffer);
+                    this.charBuffer.flip();
+                    if ( charactersRead < 0 ) {
+                        this.endOfInput = true;
+                    }
+                }
+
+                this.encoder.encode(this.charBuffer, this.byteBuffer, this.endOfInput);
+
+                if ( this.endOfInput == true ) {
+                    this.encoder.flush(this.byteBuffer);
+                    this.flushed = true;
+                }
+
+                this.byteBuffer.flip();
+            }
+
+            final int bytesRead = Math.min(length, this.byteBuffer.remaining());
+            this.byteBuffer.get(bytes, offset, bytesRead);
+            return (bytesRead);
+
+        }
+
+
+
+        @Override
+        public void close() throws IOException {
+
+            this.reader.close();
+
+        }
+
+
+    }
+
+
+}
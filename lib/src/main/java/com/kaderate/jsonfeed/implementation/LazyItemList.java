@@ -0,0 +1,469 @@
+/**
+ * LazyItemList.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Item;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
+import com.kaderate.jsonfeed.implementation.DefaultItem;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+import com.kaderate.jsonfeed.spi.JsonToken;
+
+
+/**
+ * Item list backed by the byte offsets of the items in the feed bytes,
+ * an item is decoded when it is first accessed and then cached
+ *
+ * Read errors are thrown as UncheckedIOException, invalid URIs
+ * are thrown as IllegalArgumentException when an item is decoded.
+ *
+ * The list is read-only and is not safe for concurrent access, all the
+ * items can also be decoded up front in parallel.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+final class LazyItemList extends AbstractList<Item> {
+
+
+    /**
+     * Feed bytes
+     */
+    private final ByteBuffer byteBuffer;
+
+
+    /**
+     * Item start offsets in the feed bytes
+     */
+    private final int[] startOffsets;
+
+
+    /**
+     * Item end offsets in the feed bytes
+     */
+    private final int[] endOffsets;
+
+
+    /**
+     * Decoded items, null until decoded
+     */
+    private final Item[] items;
+
+
+    /**
+     * Parse options
+     */
+    private final ParseOptions parseOptions;
+
+
+    /**
+     * Feed, decoded items are upgraded to its version
+     */
+    private final DefaultFeed feed;
+
+
+    /**
+     * True if version 1.1 elements were detected in the items
+     */
+    private final boolean detectedVersion_1_1;
+
+
+
+    /**
+     * Locate the items in the JSON array at the tokenizer position and return the lazy item list,
+     * items past the maximum item count are skipped if they are truncated
+     *
+     * @param   tokenizer       the JSON tokenizer over a byte buffer
+     * @param   parseOptions    the parse options
+     * @param   feed            the feed, marked as truncated if items are skipped
+     *
+     * @return  the lazy item list
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   ParseLimitException
+     *              If there are more items than the maximum item count and they are not truncated
+     */
+    static LazyItemList fromTokenizer(final JsonTokenizer tokenizer, final ParseOptions parseOptions, final DefaultFeed feed) throws IOException {
+
+        /* Item offsets */
+        int[] startOffsets = new int[64];
+        int[] endOffsets = new int[64];
+        int itemCount = 0;
+        boolean detectedVersion_1_1 = false;
+
+        /* Skip over the items, recording their offsets and checking them for version 1.1 elements */
+        tokenizer.beginArray();
+        while ( tokenizer.hasNext() == true ) {
+            if ( parseOptions.checkItemLimit(itemCount) == false ) {
+                while ( tokenizer.hasNext() == true ) {
+                    tokenizer.skipValue();
+                }
+                feed.setTruncated(true);
+                break;
+            }
+            if ( itemCount == startOffsets.length ) {
+                startOffsets = Arrays.copyOf(startOffsets, itemCount * 2);
+                endOffsets = Arrays.copyOf(endOffsets, itemCount * 2);
+            }
+            tokenizer.peek();
+            startOffsets[itemCount] = (int)tokenizer.getTokenOffset();
+            if ( LazyItemList.skipItem(tokenizer, parseOptions) == true ) {
+                detectedVersion_1_1 = true;
+            }
+            endOffsets[itemCount] = (int)tokenizer.getOffset();
+            itemCount++;
+        }
+        tokenizer.endArray();
+
+        /* Return the lazy item list */
+        return (new LazyItemList(tokenizer.getByteBuffer(), Arrays.copyOf(startOffsets, itemCount),
+                Arrays.copyOf(endOffsets, itemCount), parseOptions, feed, detectedVersion_1_1));
+
+    }
+
+
+
+    /**
+     * Skip over the item at the tokenizer position, checking its members for the
+     * version 1.1 elements the feed normalization looks for, a language or an author list
+     *
+     * @param   tokenizer       the JSON tokenizer
+     * @param   parseOptions    the parse options
+     *
+     * @return  true if version 1.1 elements were detected
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     */
+    private static boolean skipItem(final JsonTokenizer tokenizer, final ParseOptions parseOptions) throws IOException {
+
+        /* Skip anything which is not an object, it fails when it is decoded */
+        if ( tokenizer.peek() != JsonToken.BEGIN_OBJECT ) {
+            tokenizer.skipValue();
+            return (false);
+        }
+
+        boolean detectedVersion_1_1 = false;
+
+        /* Process the JSON object members */
+        tokenizer.beginObject();
+        while ( tokenizer.hasNext() == true ) {
+
+            final String name = tokenizer.nextName();
+
+            /* Check the language */
+            if ( (name.equals("language") == true) && (parseOptions.isItemFieldSelected(name) == true) && (tokenizer.peek() != JsonToken.NULL) ) {
+                detectedVersion_1_1 = true;
+            }
+
+            /* Check the author list */
+            else if ( (name.equals("authors") == true) && (parseOptions.isItemFieldSelected(name) == true) && (tokenizer.peek() == JsonToken.BEGIN_ARRAY) ) {
+                tokenizer.beginArray();
+                if ( tokenizer.hasNext() == true ) {
+                    detectedVersion_1_1 = true;
+                }
+                while ( tokenizer.hasNext() == true ) {
+                    tokenizer.skipValue();
+                }
+                tokenizer.endArray();
+                continue;
+            }
+
+            tokenizer.skipValue();
+        }
+        tokenizer.endObject();
+
+        return (detectedVersion_1_1);
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   byteBuffer              the feed bytes
+     * @param   startOffsets            the item start offsets
+     * @param   endOffsets              the item end offsets
+     * @param   parseOptions            the parse options
+     * @param   feed                    the feed
+     * @param   detectedVersion_1_1     true if version 1.1 elements were detected in the items
+     */
+    private LazyItemList(final ByteBuffer byteBuffer, final int[] startOffsets, final int[] endOffsets,
+            final ParseOptions parseOptions, final DefaultFeed feed, final boolean detectedVersion_1_1) {
+
+        this.byteBuffer = byteBuffer;
+        this.startOffsets = startOffsets;
+        this.endOffsets = endOffsets;
+        this.items = new Item[startOffsets.length];
+        this.parseOptions = parseOptions;
+        this.feed = feed;
+        this.detectedVersion_1_1 = detectedVersion_1_1;
+
+    }
+
+
+
+    /**
+     * Check whether version 1.1 elements were detected in the items when they were located,
+     * so the feed is normalized as it would be if the items were decoded
+     *
+     * @return  true if version 1.1 elements were detected
+     */
+    boolean isVersion_1_1Detected() {
+
+        return (this.detectedVersion_1_1);
+
+    }
+
+
+
+    /**
+     * Get an item, decoding it if needed
+     *
+     * @param   index   the item index
+     *
+     * @return  the item
+     */
+    @Override
+    public Item get(final int index) {
+
+        /* Return the item if it was decoded */
+        if ( this.items[index] != null ) {
+            return (this.items[index]);
+        }
+
+        try {
+
+            /* Decode the item */
+            return (this.decode(index));
+
+        }
+        catch ( final IOException exception ) {
+            throw new UncheckedIOException(exception);
+        }
+        catch ( final URISyntaxException exception ) {
+            throw new IllegalArgumentException(exception);
+        }
+
+    }
+
+
+
+    /**
+     * Get the number of items
+     *
+     * @return  the number of items
+     */
+    @Override
+    public int size() {
+
+        return (this.items.length);
+
+    }
+
+
+
+    /**
+     * Decode all the items, in chunks on the executor if there are more items than
+     * the chunk size, and return them, the error for the first invalid item is reported
+     *
+     * @param   executor    the executor
+     * @param   chunkSize   the chunk size
+     *
+     * @return  the decoded item list
+     *
+     * @exception   IOException
+     *              If an item could not be read
+     *
+     * @exception   URISyntaxException
+     *              If an item URI is invalid
+     */
+    List<Item> decodeAll(final Executor executor, final int chunkSize) throws URISyntaxException, IOException {
+
+        final int itemCount = this.items.length;
+
+        /* Decode the items on this thread if there are too few to share */
+        if ( itemCount <= chunkSize ) {
+            this.decodeChunk(0, itemCount);
+        }
+
+        /* Decode the chunks on the executor */
+        else {
+
+            final List<CompletableFuture<Void>> futureList = new ArrayList<CompletableFuture<Void>>();
+            for ( int start = 0; start < itemCount; start += chunkSize ) {
+                final int chunkStart = start;
+                final int chunkEnd = Math.min(start + chunkSize, itemCount);
+                futureList.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        this.decodeChunk(chunkStart, chunkEnd);
+                    }
+                    catch ( final URISyntaxException | IOException exception ) {
+                        throw new CompletionException(exception);
+                    }
+                }, executor));
+            }
+
+            /* Wait for the chunks in item order, so the first failed chunk holds the first invalid item */
+            for ( int i = 0; i < futureList.size(); i++ ) {
+                try {
+                    futureList.get(i).join();
+                }
+                catch ( final CompletionException exception ) {
+                    for ( int j = i + 1; j < futureList.size(); j++ ) {
+                        futureList.get(j).cancel(false);
+                    }
+                    LazyItemList.rethrow(exception.getCause());
+                }
+            }
+        }
+
+        /* Return the items */
+        return (new ArrayList<Item>(Arrays.asList(this.items)));
+
+    }
+
+
+
+    /**
+     * Get the items which have been decoded so far
+     *
+     * @return  the decoded item list
+     */
+    List<Item> getDecodedItemList() {
+
+        final List<Item> itemList = new ArrayList<Item>();
+
+        for ( final Item item : this.items ) {
+            if ( item != null ) {
+                itemList.add(item);
+            }
+        }
+
+        return (itemList);
+
+    }
+
+
+
+    /**
+     * Decode an item, upgrade it to the feed version and cache it
+     *
+     * @param   index   the item index
+     *
+     * @return  the item
+     *
+     * @exception   IOException
+     *              If the item could not be read
+     *
+     * @exception   URISyntaxException
+     *              If an item URI is invalid
+     */
+    private Item decode(final int index) throws URISyntaxException, IOException {
+
+        /* Get the item bytes */
+        final ByteBuffer itemByteBuffer = this.byteBuffer.duplicate();
+        itemByteBuffer.limit(this.endOffsets[index]);
+        itemByteBuffer.position(this.startOffsets[index]);
+
+        /* Decode the item with the limits and upgrade it to the feed version */
+        final JsonTokenizer tokenizer = new JsonTokenizer(itemByteBuffer);
+        tokenizer.setLimits(this.parseOptions);
+        final DefaultItem item = new DefaultItem(tokenizer, this.parseOptions);
+        item.upgrade(this.feed.getVersion());
+
+        /* Cache and return the item */
+        this.items[index] = item;
+        return (item);
+
+    }
+
+
+
+    /**
+     * Decode a chunk of items, stopping at the first invalid item
+     *
+     * @param   start   the index of the first item
+     * @param   end     the index after the last item
+     *
+     * @exception   IOException
+     *              If an item could not be read
+     *
+     * @exception   URISyntaxException
+     *              If an item URI is invalid
+     */
+    private void decodeChunk(final int start, final int end) throws URISyntaxException, IOException {
+
+        for ( int i = start; i < end; i++ ) {
+            this.decode(i);
+        }
+
+    }
+
+
+
+    /**
+     * Rethrow the cause of a failed chunk
+     *
+     * @param   cause   the cause
+     *
+     * @exception   IOException
+     *              If the cause is an IOException
+     *
+     * @exception   URISyntaxException
+     *              If the cause is a URISyntaxException
+     */
+    private static void rethrow(final Throwable cause) throws URISyntaxException, IOException {
+
+        if ( cause instanceof URISyntaxException ) {
+            throw (URISyntaxException)cause;
+        }
+        else if ( cause instanceof IOException ) {
+            throw (IOException)cause;
+        }
+        else if ( cause instanceof RuntimeException ) {
+            throw (RuntimeException)cause;
+        }
+        else if ( cause instanceof Error ) {
+            throw (Error)cause;
+        }
+
+        throw new IllegalStateException(cause);
+
+    }
+
+
+}
@@ -0,0 +1,331 @@
+/**
+ * LazyText.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 18, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.implementation.JsonTokenizer;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+import com.kaderate.jsonfeed.spi.JsonParser;
+
+
+/**
+ * Text kept as a view over the JSON string in the feed bytes, the string
+ * is only decoded when it is first requested
+ *
+ * Text which is all ASCII without escapes, which is most text, is read
+ * straight from the feed bytes as a character sequence, and text without
+ * escapes is returned as a slice of the feed bytes, so neither needs a
+ * string. Anything else is decoded on first access. The text holds on to
+ * the feed bytes, which must not be changed while it is in use. Its
+ * escapes and its length are checked when it is parsed, malformed UTF-8
+ * sequences are only replaced when it is decoded.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public final class LazyText implements CharSequence {
+
+
+    /**
+     * Kinds
+     */
+    private static final int KIND_UNKNOWN = 0;
+    private static final int KIND_ASCII = 1;
+    private static final int KIND_UTF_8 = 2;
+    private static final int KIND_ESCAPED = 3;
+
+
+    /**
+     * JSON string bytes, including the quotes, null if the text is all ASCII
+     */
+    private final ByteBuffer jsonByteBuffer;
+
+
+    /**
+     * Text bytes, excluding the quotes
+     */
+    private final ByteBuffer byteBuffer;
+
+
+    /**
+     * Kind, unknown until the text bytes are scanned
+     */
+    private int kind;
+
+
+    /**
+     * Decoded string, null until requested
+     */
+    private String string = null;
+
+
+
+    /**
+     * Create the text from the next string value of the tokenizer, as a view
+     * over the feed bytes if the parse options ask for lazy content and the
+     * tokenizer is reading feed bytes which it keeps
+     *
+     * @param   tokenizer       the JSON tokenizer
+     * @param   parseOptions    the parse options
+     *
+     * @return  the text, a string if it is not a view, null if the value is null
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     */
+    static CharSequence fromTokenizer(final JsonParser tokenizer, final ParseOptions parseOptions) throws IOException {
+
+        /* Get the text view */
+        if ( parseOptions.isLazyContent() == true ) {
+            final LazyText lazyText = JsonTokenizer.nextLazyText(tokenizer);
+            if ( lazyText != null ) {
+                return (lazyText);
+            }
+        }
+
+        return (tokenizer.nextOptString());
+
+    }
+
+
+
+    /**
+     * Create the text for a JSON string in a byte buffer
+     *
+     * @param   byteBuffer  the byte buffer
+     * @param   start       the offset of the opening quote
+     * @param   end         the offset past the closing quote
+     *
+     * @return  the text
+     */
+    static LazyText fromByteBuffer(final ByteBuffer byteBuffer, final int start, final int end) {
+
+        return (new LazyText(LazyText.slice(byteBuffer, start, end), LazyText.slice(byteBuffer, start + 1, end - 1), LazyText.KIND_UNKNOWN));
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   jsonByteBuffer  the JSON string bytes, null if the text is all ASCII
+     * @param   byteBuffer      the text bytes
+     * @param   kind            the kind
+     */
+    private LazyText(final ByteBuffer jsonByteBuffer, final ByteBuffer byteBuffer, final int kind) {
+
+        this.jsonByteBuffer = jsonByteBuffer;
+        this.byteBuffer = byteBuffer;
+        this.kind = kind;
+
+    }
+
+
+
+    /**
+     * Get the length of the text
+     *
+     * @return  the length
+     */
+    @Override
+    public int length() {
+
+        return ((this.getKind() == LazyText.KIND_ASCII) ? this.byteBuffer.remaining() : this.toString().length());
+
+    }
+
+
+
+    /**
+     * Get a character of the text
+     *
+     * @param   index   the index
+     *
+     * @return  the character
+     */
+    @Override
+    public char charAt(final int index) {
+
+        if ( this.getKind() == LazyText.KIND_ASCII ) {
+            if ( (index < 0) || (index >= this.byteBuffer.remaining()) ) {
+                throw new IndexOutOfBoundsException("Invalid index: " + index);
+            }
+            return ((char)this.byteBuffer.get(index));
+        }
+
+        return (this.toString().charAt(index));
+
+    }
+
+
+
+    /**
+     * Get part of the text, ASCII text stays a view over the feed bytes
+     *
+     * @param   start   the start index
+     * @param   end     the end index
+     *
+     * @return  the part of the text
+     */
+    @Override
+    public CharSequence subSequence(final int start, final int end) {
+
+        if ( this.getKind() == LazyText.KIND_ASCII ) {
+            if ( (start < 0) || (end > this.byteBuffer.remaining()) || (start > end) ) {
+                throw new IndexOutOfBoundsException("Invalid range: " + start + " to " + end);
+            }
+            return (new LazyText(null, LazyText.slice(this.byteBuffer, start, end), LazyText.KIND_ASCII));
+        }
+
+        return (this.toString().subSequence(start, end));
+
+    }
+
+
+
+    /**
+     * Get the UTF-8 bytes of the text, a read-only slice of the feed bytes
+     * unless the JSON string has escapes
+     *
+     * @return  the UTF-8 bytes
+     *
+     * @exception   org.json.JSONException
+     *              If the text has escapes and is not a valid JSON string
+     */
+    public ByteBuffer getByteBuffer() {
+
+        if ( this.getKind() == LazyText.KIND_ESCAPED ) {
+            return (ByteBuffer.wrap(this.toString().getBytes(StandardCharsets.UTF_8)).asReadOnlyBuffer());
+        }
+
+        return (this.byteBuffer.asReadOnlyBuffer());
+
+    }
+
+
+
+    /**
+     * Check if the text has been decoded to a string
+     *
+     * @return  true if the text has been decoded to a string
+     */
+    public boolean isDecoded() {
+
+        return (this.string != null);
+
+    }
+
+
+
+    /**
+     * Get the text as a string, decoding it the first time
+     *
+     * @return  the text
+     *
+     * @exception   org.json.JSONException
+     *              If the text is not a valid JSON string
+     */
+    @Override
+    public String toString() {
+
+        if ( this.string == null ) {
+
+            /* ASCII text maps byte for character */
+            if ( this.getKind() == LazyText.KIND_ASCII ) {
+                final byte[] bytes = new byte[this.byteBuffer.remaining()];
+                this.byteBuffer.duplicate().get(bytes);
+                this.string = new String(bytes, StandardCharsets.ISO_8859_1);
+            }
+
+            /* Everything else is decoded and checked by the tokenizer */
+            else {
+                try {
+                    final JsonTokenizer tokenizer = new JsonTokenizer(this.jsonByteBuffer.duplicate());
+                    this.string = tokenizer.nextString();
+                    tokenizer.endDocument();
+                }
+                catch ( final IOException exception ) {
+                    throw new UncheckedIOException(exception);
+                }
+            }
+        }
+
+        return (this.string);
+
+    }
+
+
+
+    /**
+     * Get the kind, scanning the text bytes the first time
+     *
+     * @return  the kind
+     */
+    private int getKind() {
+
+        if ( this.kind == LazyText.KIND_UNKNOWN ) {
+            int kind = LazyText.KIND_ASCII;
+            for ( int i = this.byteBuffer.position(); i < this.byteBuffer.limit(); i++ ) {
+                final byte b = this.byteBuffer.get(i);
+                if ( b == '\\' ) {
+                    kind = LazyText.KIND_ESCAPED;
+                    break;
+                }
+                else if ( b < 0 ) {
+                    kind = LazyText.KIND_UTF_8;
+                }
+            }
+            this.kind = kind;
+        }
+
+        return (this.kind);
+
+    }
+
+
+
+    /**
+     * Get a slice of a byte buffer
+     *
+     * @param   byteBuffer  the byte buffer
+     * @param   start       the start index
+     * @param   end         the end index
+     *
+     * @return  the slice, its index 0 is at the start index
+     */
+    private static ByteBuffer slice(final ByteBuffer byteBuffer, final int start, final int end) {
+
+        final ByteBuffer slice = byteBuffer.duplicate();
+        slice.limit(byteBuffer.position() + end);
+        slice.position(byteBuffer.position() + start);
+
+        return (slice.slice());
+
+    }
+
+
+}
@@ -0,0 +1,347 @@
+/**
+ * LazyUri.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.spi.JsonParser;
+
+
+/**
+ * URI kept as its string, the URI object is only created when it is first requested
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+final class LazyUri {
+
+
+    /**
+     * URI string
+     */
+    private final String string;
+
+
+    /**
+     * URI, null until requested
+     */
+    private URI uri;
+
+
+
+    /**
+     * Create a lazy URI from a URI string
+     *
+     * @param   string      the URI string
+     * @param   validate    true if the URI string syntax should be checked
+     *
+     * @return  the lazy URI
+     *
+     * @exception   URISyntaxException
+     *              If the URI string syntax is invalid
+     */
+    static LazyUri fromString(final String string, final boolean validate) throws URISyntaxException {
+
+        /* Check the URI string syntax */
+        if ( validate == true ) {
+            LazyUri.validate(string);
+        }
+
+        return (new LazyUri(string, null));
+
+    }
+
+
+
+    /**
+     * Create a lazy URI from the next string value of the tokenizer, going through
+     * the parse cache of the tokenizer if it has one
+     *
+     * @param   tokenizer       the JSON tokenizer
+     * @param   parseOptions    the parse options
+     *
+     * @return  the lazy URI
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the URI string syntax is invalid
+     */
+    static LazyUri fromTokenizer(final JsonParser tokenizer, final ParseOptions parseOptions) throws URISyntaxException, IOException {
+
+        return (LazyUri.fromTokenizer(tokenizer, parseOptions, false));
+
+    }
+
+
+
+    /**
+     * Create a lazy URI from the next string value of the tokenizer, going through
+     * the parse cache of the tokenizer if it has one, and through the string pool
+     * of the parse options for URIs which repeat across feeds
+     *
+     * @param   tokenizer       the JSON tokenizer
+     * @param   parseOptions    the parse options
+     * @param   pooled          true if the URI string should go through the string pool
+     *
+     * @return  the lazy URI
+     *
+     * @exception   IOException
+     *              If the tokenizer could not be read
+     *
+     * @exception   URISyntaxException
+     *              If the URI string syntax is invalid
+     */
+    static LazyUri fromTokenizer(final JsonParser tokenizer, final ParseOptions parseOptions, final boolean pooled) throws URISyntaxException, IOException {
+
+        final String string = (pooled == true) ? parseOptions.intern(tokenizer.nextString()) : tokenizer.nextString();
+        final ParseCache parseCache = JsonTokenizer.getParseCache(tokenizer);
+
+        /* Get the URI string from the parse cache */
+        if ( parseCache != null ) {
+            return (new LazyUri(parseCache.getUri(string, parseOptions.isValidateUris()), null));
+        }
+
+        return (LazyUri.fromString(string, parseOptions.isValidateUris()));
+
+    }
+
+
+
+    /**
+     * Create a lazy URI from a URI
+     *
+     * @param   uri     the URI, may be null
+     *
+     * @return  the lazy URI, null if the URI is null
+     */
+    static LazyUri fromUri(final URI uri) {
+
+        return ((uri != null) ? new LazyUri(uri.toString(), uri) : null);
+
+    }
+
+
+
+    /**
+     * Check the URI string syntax as java.net.URI does without allocating, the
+     * scheme, the scheme-specific part, the authority and the characters are
+     * checked, non-ASCII characters are allowed as they are by java.net.URI.
+     * Brackets are only allowed in IPv6 host literals, queries and fragments
+     * so URI strings with brackets are checked by java.net.URI itself.
+     *
+     * @param   string  the URI string
+     *
+     * @exception   URISyntaxException
+     *              If the URI string syntax is invalid
+     */
+    static void validate(final String string) throws URISyntaxException {
+
+        /* Let java.net.URI check URI strings with brackets */
+        if ( (string.indexOf('[') >= 0) || (string.indexOf(']') >= 0) ) {
+            new URI(string);
+            return;
+        }
+
+        /* Check the scheme, which ends at the first colon before any path, query or fragment */
+        int schemeEnd = -1;
+        for ( int i = 0; i < string.length(); i++ ) {
+            final char c = string.charAt(i);
+            if ( c == ':' ) {
+                if ( i == 0 ) {
+                    throw new URISyntaxException(string, "Expected scheme name", i);
+                }
+                for ( int j = 0; j < i; j++ ) {
+                    if ( LazyUri.isSchemeChar(string.charAt(j), j) == false ) {
+                        throw new URISyntaxException(string, "Illegal character in scheme name", j);
+                    }
+                }
+                schemeEnd = i;
+                break;
+            }
+            else if ( (c == '/') || (c == '?') || (c == '#') ) {
+                break;
+            }
+        }
+
+        /* Check the scheme-specific part */
+        final int start = schemeEnd + 1;
+        if ( (schemeEnd >= 0) && ((start == string.length()) || (string.charAt(start) == '#')) ) {
+            throw new URISyntaxException(string, "Expected scheme-specific part", start);
+        }
+
+        /* Check the authority, it can only be empty if a path, query or fragment follows it */
+        if ( (string.startsWith("//", start) == true) && (start + 2 == string.length()) ) {
+            throw new URISyntaxException(string, "Expected authority", start + 2);
+        }
+
+        /* Check the characters */
+        boolean fragment = false;
+        for ( int i = 0; i < string.length(); i++ ) {
+
+            final char c = string.charAt(i);
+
+            /* Check percent escapes */
+            if ( c == '%' ) {
+                if ( (i + 2 >= string.length()) || (LazyUri.isHexChar(string.charAt(i + 1)) == false) || (LazyUri.isHexChar(string.charAt(i + 2)) == false) ) {
+                    throw new URISyntaxException(string, "Malformed escape pair", i);
+                }
+                i += 2;
+            }
+
+            /* Check there is only one fragment */
+            else if ( c == '#' ) {
+                if ( fragment == true ) {
+                    throw new URISyntaxException(string, "Illegal character in fragment", i);
+                }
+                fragment = true;
+            }
+
+            /* Check everything else */
+            else if ( LazyUri.isUriChar(c) == false ) {
+                throw new URISyntaxException(string, "Illegal character in URI", i);
+            }
+        }
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   string  the URI string
+     * @param   uri     the URI, null if not created yet
+     */
+    private LazyUri(final String string, final URI uri) {
+
+        this.string = string;
+        this.uri = uri;
+
+    }
+
+
+
+    /**
+     * Get the URI, creating it if needed
+     *
+     * @return  the URI
+     *
+     * @exception   IllegalArgumentException
+     *              If the URI string is invalid
+     */
+    URI getUri() {
+
+        if ( this.uri == null ) {
+            this.uri = URI.create(this.string);
+        }
+
+        return (this.uri);
+
+    }
+
+
+
+    /**
+     * Get the URI string
+     *
+     * @return  the URI string
+     */
+    @Override
+    public String toString() {
+
+        return (this.string);
+
+    }
+
+
+
+    /**
+     * Check if a character is allowed in a scheme name
+     *
+     * @param   c       the character
+     * @param   index   the character index
+     *
+     * @return  true if the character is allowed
+     */
+    private static boolean isSchemeChar(final char c, final int index) {
+
+        if ( ((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z')) ) {
+            return (true);
+        }
+
+        return ((index > 0) && (((c >= '0') && (c <= '9')) || (c == '+') || (c == '-') || (c == '.')));
+
+    }
+
+
+
+    /**
+     * Check if a character is a hexadecimal digit
+     *
+     * @param   c   the character
+     *
+     * @return  true if the character is a hexadecimal digit
+     */
+    private static boolean isHexChar(final char c) {
+
+        return (((c >= '0') && (c <= '9')) || ((c >= 'a') && (c <= 'f')) || ((c >= 'A') && (c <= 'F')));
+
+    }
+
+
+
+    /**
+     * Check if a character is allowed in a URI, unreserved and reserved characters
+     * other than brackets, and non-ASCII characters other than controls and spaces
+     *
+     * @param   c   the character
+     *
+     * @return  true if the character is allowed
+     */
+    private static boolean isUriChar(final char c) {
+
+        if ( c >= 0x80 ) {
+            return ((Character.isISOControl(c) == false) && (Character.isSpaceChar(c) == false));
+        }
+
+        if ( ((c >= 'a') && (c <= 'z')) || ((c >= 'A') && (c <= 'Z')) || ((c >= '0') && (c <= '9')) ) {
+            return (true);
+        }
+
+        switch ( c ) {
+            case '-': case '.': case '_': case '~':
+            case ':': case '/': case '?': case '#': case '@':
+            case '!': case '$': case '&': case '\'': case '(': case ')':
+            case '*': case '+': case ',': case ';': case '=':
+                return (true);
+            default:
+                return (false);
+        }
+
+    }
+
+
+}
@@ -0,0 +1,236 @@
+/**
+ * MappedFileInputStream.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.InputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * Input stream over a read-only memory mapping of a file
+ *
+ * The file is mapped one segment at a time so files larger than
+ * the maximum byte buffer size can be read, the file contents are
+ * never copied onto the heap as a whole.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+final class MappedFileInputStream extends InputStream {
+
+
+    /**
+     * Default segment size
+     */
+    private static final int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+
+    /**
+     * File channel
+     */
+    private final FileChannel fileChannel;
+
+
+    /**
+     * File size
+     */
+    private final long fileSize;
+
+
+    /**
+     * Segment size
+     */
+    private final int segmentSize;
+
+
+    /**
+     * Current segment, null before the first read
+     */
+    private MappedByteBuffer segment = null;
+
+
+    /**
+     * Offset of the next segment in the file
+     */
+    private long nextSegmentOffset = 0;
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   path    the file path
+     *
+     * @exception   IOException
+     *              If the file could not be opened
+     */
+    MappedFileInputStream(final Path path) throws IOException {
+
+        this(path, MappedFileInputStream.DEFAULT_SEGMENT_SIZE);
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   path            the file path
+     * @param   segmentSize     the segment size
+     *
+     * @exception   IOException
+     *              If the file could not be opened
+     */
+    MappedFileInputStream(final Path path, final int segmentSize) throws IOException {
+
+        this.fileChannel = FileChannel.open(path, StandardOpenOption.READ);
+        this.fileSize = this.fileChannel.size();
+        this.segmentSize = segmentSize;
+
+    }
+
+
+
+    /**
+     * Map a region of the file, the region must be smaller than
+     * the maximum byte buffer size
+     *
+     * @param   offset  the region offset
+     * @param   length  the region length
+     *
+     * @return  the read-only byte buffer for the region
+     *
+     * @exception   IOException
+     *              If the region could not be mapped
+     */
+    ByteBuffer map(final long offset, final int length) throws IOException {
+
+        return (this.fileChannel.map(FileChannel.MapMode.READ_ONLY, offset, length));
+
+    }
+
+
+
+    /**
+     * Get the file size
+     *
+     * @return  the file size
+     */
+    long size() {
+
+        return (this.fileSize);
+
+    }
+
+
+
+    @Override
+    public int read() throws IOException {
+
+        return ((this.nextSegment() == true) ? (this.segment.get() & 0xFF) : -1);
+
+    }
+
+
+
+    @Override
+    public int read(final byte[] bytes, final int offset, final int length) throws IOException {
+
+        if ( this.nextSegment() == false ) {
+            return (-1);
+        }
+
+        final int bytesRead = Math.min(length, this.segment.remaining());
+        this.segment.get(bytes, offset, bytesRead);
+        return (bytesRead);
+
+    }
+
+
+
+    @Override
+    public long skip(final long length) throws IOException {
+
+        long bytesSkipped = 0;
+
+        while ( (bytesSkipped < length) && (this.nextSegment() == true) ) {
+            final int segmentBytesSkipped = (int)Math.min(length - bytesSkipped, this.segment.remaining());
+            this.segment.position(this.segment.position() + segmentBytesSkipped);
+            bytesSkipped += segmentBytesSkipped;
+        }
+
+        return (bytesSkipped);
+
+    }
+
+
+
+    @Override
+    public int available() {
+
+        return ((this.segment != null) ? this.segment.remaining() : 0);
+
+    }
+
+
+
+    @Override
+    public void close() throws IOException {
+
+        this.segment = null;
+        this.fileChannel.close();
+
+    }
+
+
+
+    /**
+     * Make sure the current segment has bytes remaining, mapping the next segment if needed
+     *
+     * @return  true if there are bytes remaining, false at the end of the file
+     *
+     * @exception   IOException
+     *              If the next segment could not be mapped
+     */
+    private boolean nextSegment() throws IOException {
+
+        /* Map the next segment when the current segment is exhausted */
+        while ( (this.segment == null) || (this.segment.hasRemaining() == false) ) {
+
+            if ( this.nextSegmentOffset >= this.fileSize ) {
+                return (false);
+            }
+
+            final int length = (int)Math.min(this.segmentSize, this.fileSize - this.nextSegmentOffset);
+            this.segment = this.fileChannel.map(FileChannel.MapMode.READ_ONLY, this.nextSegmentOffset, length);
+            this.nextSegmentOffset += length;
+        }
+
+        return (true);
+
+    }
+
+
+}
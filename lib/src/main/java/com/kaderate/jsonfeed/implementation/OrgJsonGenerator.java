@@ -0,0 +1,424 @@
+/**
+ * OrgJsonGenerator.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+
+/* Import JSON stuff */
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.spi.JsonGenerator;
+
+
+/**
+ * JSON generator backed by org.json, the document is built as org.json
+ * objects and written to the writer once it is complete, so the output
+ * is the same as the org.json JSON string representation
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+final class OrgJsonGenerator implements JsonGenerator {
+
+
+    /**
+     * Writer
+     */
+    private final Writer writer;
+
+
+    /**
+     * Container stack, the innermost object or array is first
+     */
+    private final Deque<Object> containerStack = new ArrayDeque<Object>();
+
+
+    /**
+     * Name of the member whose value is next, null if a name is next
+     */
+    private String name = null;
+
+
+    /**
+     * Document written flag
+     */
+    private boolean documentWritten = false;
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   writer  the JSON writer
+     */
+    OrgJsonGenerator(final Writer writer) {
+
+        this.writer = writer;
+
+    }
+
+
+
+    /**
+     * Start an object
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator beginObject() throws IOException {
+
+        final JSONObject jsonObject = new JSONObject();
+        this.add(jsonObject);
+        this.containerStack.push(jsonObject);
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * End an object
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator endObject() throws IOException {
+
+        if ( ((this.containerStack.peek() instanceof JSONObject) == false) || (this.name != null) ) {
+            throw new JSONException("Unexpected end of object");
+        }
+
+        this.end();
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Start an array
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator beginArray() throws IOException {
+
+        final JSONArray jsonArray = new JSONArray();
+        this.add(jsonArray);
+        this.containerStack.push(jsonArray);
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * End an array
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator endArray() throws IOException {
+
+        if ( (this.containerStack.peek() instanceof JSONArray) == false ) {
+            throw new JSONException("Unexpected end of array");
+        }
+
+        this.end();
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write an object member name, the value must follow
+     *
+     * @param   name    the name
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator name(final String name) throws IOException {
+
+        if ( ((this.containerStack.peek() instanceof JSONObject) == false) || (this.name != null) ) {
+            throw new JSONException("Unexpected name '" + name + "'");
+        }
+
+        this.name = name;
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write a string value
+     *
+     * @param   value   the string, null is written as null
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator value(final String value) throws IOException {
+
+        this.add(value);
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write a boolean value
+     *
+     * @param   value   the boolean
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator value(final boolean value) throws IOException {
+
+        this.add(Boolean.valueOf(value));
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write a number value
+     *
+     * @param   value   the number, null is written as null
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator value(final Number value) throws IOException {
+
+        this.add(value);
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write a null value
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator nullValue() throws IOException {
+
+        this.add(null);
+
+        return (this);
+
+    }
+
+
+
+    /**
+     * Write an org.json value, JSON objects and JSON arrays are added as they are
+     *
+     * @param   value   the value, null and JSONObject.NULL are written as null
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    @Override
+    public JsonGenerator value(final Object value) throws IOException {
+
+        /* Add JSON objects and JSON arrays without copying them */
+        if ( (value instanceof JSONObject) || (value instanceof JSONArray) ) {
+            this.add(value);
+            return (this);
+        }
+
+        return (JsonGenerator.super.value(value));
+
+    }
+
+
+
+    /**
+     * Flush the writer
+     *
+     * @exception   IOException
+     *              If the writer could not be flushed
+     */
+    @Override
+    public void flush() throws IOException {
+
+        this.writer.flush();
+
+    }
+
+
+
+    /**
+     * Close the generator and the writer
+     *
+     * @exception   IOException
+     *              If the writer could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+
+        this.writer.close();
+
+    }
+
+
+
+    /**
+     * Add a value to the current container, the document is written
+     * if the value is not in a container
+     *
+     * @param   value   the value, null is added as JSONObject.NULL
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    private void add(final Object value) throws IOException {
+
+        final Object jsonValue = (value == null) ? JSONObject.NULL : value;
+        final Object container = this.containerStack.peek();
+
+        /* Document */
+        if ( container == null ) {
+            if ( this.documentWritten == true ) {
+                throw new JSONException("Only one document can be written");
+            }
+            if ( ((jsonValue instanceof JSONObject) == false) && ((jsonValue instanceof JSONArray) == false) ) {
+                this.write(jsonValue);
+            }
+        }
+
+        /* Object member value */
+        else if ( container instanceof JSONObject ) {
+            if ( this.name == null ) {
+                throw new JSONException("Expected a name");
+            }
+            ((JSONObject)container).put(this.name, jsonValue);
+            this.name = null;
+        }
+
+        /* Array element */
+        else {
+            ((JSONArray)container).put(jsonValue);
+        }
+
+    }
+
+
+
+    /**
+     * End the current container, the document is written if it was the outermost container
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    private void end() throws IOException {
+
+        final Object container = this.containerStack.pop();
+        if ( this.containerStack.isEmpty() == true ) {
+            this.write(container);
+        }
+
+    }
+
+
+
+    /**
+     * Write the document
+     *
+     * @param   document    the document
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    private void write(final Object document) throws IOException {
+
+        if ( document instanceof JSONObject ) {
+            ((JSONObject)document).write(this.writer);
+        }
+        else if ( document instanceof JSONArray ) {
+            ((JSONArray)document).write(this.writer);
+        }
+        else if ( document instanceof String ) {
+            this.writer.write(JSONObject.quote((String)document));
+        }
+        else {
+            this.writer.write(document.toString());
+        }
+
+        this.documentWritten = true;
+
+    }
+
+
+}
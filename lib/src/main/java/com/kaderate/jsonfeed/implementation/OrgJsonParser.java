@@ -0,0 +1,592 @@
+/**
+ * OrgJsonParser.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+
+
+/* Import JSON stuff */
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONTokener;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.spi.JsonParser;
+import com.kaderate.jsonfeed.spi.JsonToken;
+
+
+/**
+ * JSON parser backed by org.json, the document is parsed into org.json
+ * objects when the first token is peeked and the tokens are then read
+ * from the objects
+ *
+ * Object members are returned in the order org.json keeps them, which
+ * is not necessarily the document order.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+final class OrgJsonParser implements JsonParser {
+
+
+    /**
+     * Reader
+     */
+    private final Reader reader;
+
+
+    /**
+     * Scope stack, the innermost object or array is first
+     */
+    private final Deque<Scope> scopeStack = new ArrayDeque<Scope>();
+
+
+    /**
+     * Document, null until the document is parsed
+     */
+    private Object document = null;
+
+
+    /**
+     * Document consumed flag
+     */
+    private boolean documentConsumed = false;
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   reader  the JSON reader
+     */
+    OrgJsonParser(final Reader reader) {
+
+        this.reader = reader;
+
+    }
+
+
+
+    /**
+     * Peek at the next token without consuming it
+     *
+     * @return  the next token
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     *
+     * @exception   JSONException
+     *              If the input is not valid JSON
+     */
+    @Override
+    public JsonToken peek() throws IOException {
+
+        /* Parse the document */
+        this.parse();
+
+        /* Document */
+        final Scope scope = this.scopeStack.peek();
+        if ( scope == null ) {
+            return ((this.documentConsumed == true) ? JsonToken.END_DOCUMENT : OrgJsonParser.getToken(this.document));
+        }
+
+        /* Object member name or value */
+        else if ( scope.jsonObject != null ) {
+            if ( scope.name != null ) {
+                return (OrgJsonParser.getToken(scope.jsonObject.opt(scope.name)));
+            }
+            return ((scope.keyIterator.hasNext() == true) ? JsonToken.NAME : JsonToken.END_OBJECT);
+        }
+
+        /* Array element */
+        return ((scope.index < scope.jsonArray.length()) ? OrgJsonParser.getToken(scope.jsonArray.opt(scope.index)) : JsonToken.END_ARRAY);
+
+    }
+
+
+
+    /**
+     * Check if the current object or array has another element
+     *
+     * @return  true if there is another element
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public boolean hasNext() throws IOException {
+
+        final JsonToken token = this.peek();
+        return ((token != JsonToken.END_OBJECT) && (token != JsonToken.END_ARRAY) && (token != JsonToken.END_DOCUMENT));
+
+    }
+
+
+
+    /**
+     * Consume the start of an object
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void beginObject() throws IOException {
+
+        this.expect(JsonToken.BEGIN_OBJECT);
+        this.scopeStack.push(new Scope((JSONObject)this.consume()));
+
+    }
+
+
+
+    /**
+     * Consume the end of an object
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void endObject() throws IOException {
+
+        this.expect(JsonToken.END_OBJECT);
+        this.scopeStack.pop();
+
+    }
+
+
+
+    /**
+     * Consume the start of an array
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void beginArray() throws IOException {
+
+        this.expect(JsonToken.BEGIN_ARRAY);
+        this.scopeStack.push(new Scope((JSONArray)this.consume()));
+
+    }
+
+
+
+    /**
+     * Consume the end of an array
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void endArray() throws IOException {
+
+        this.expect(JsonToken.END_ARRAY);
+        this.scopeStack.pop();
+
+    }
+
+
+
+    /**
+     * Consume the end of the document
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void endDocument() throws IOException {
+
+        this.expect(JsonToken.END_DOCUMENT);
+
+    }
+
+
+
+    /**
+     * Get the next object member name
+     *
+     * @return  the name
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public String nextName() throws IOException {
+
+        this.expect(JsonToken.NAME);
+
+        final Scope scope = this.scopeStack.peek();
+        scope.name = scope.keyIterator.next();
+
+        return (scope.name);
+
+    }
+
+
+
+    /**
+     * Get the next string value, the value must be a string
+     *
+     * @return  the string
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public String nextString() throws IOException {
+
+        this.expect(JsonToken.STRING);
+        return ((String)this.consume());
+
+    }
+
+
+
+    /**
+     * Get the next boolean value, the strings "true" and "false" are accepted
+     *
+     * @return  the boolean
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public boolean nextBoolean() throws IOException {
+
+        /* Boolean value */
+        if ( this.peek() == JsonToken.BOOLEAN ) {
+            return ((Boolean)this.consume());
+        }
+
+        /* Boolean string */
+        else if ( this.peek() == JsonToken.STRING ) {
+            final String string = this.nextString();
+            if ( string.equalsIgnoreCase("true") == true ) {
+                return (true);
+            }
+            else if ( string.equalsIgnoreCase("false") == true ) {
+                return (false);
+            }
+        }
+
+        throw new JSONException("Expected a boolean");
+
+    }
+
+
+
+    /**
+     * Consume the next null value
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void nextNull() throws IOException {
+
+        this.expect(JsonToken.NULL);
+        this.consume();
+
+    }
+
+
+
+    /**
+     * Get the next number as its JSON text
+     *
+     * @return  the number text
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public String nextNumber() throws IOException {
+
+        this.expect(JsonToken.NUMBER);
+        return (this.consume().toString());
+
+    }
+
+
+
+    /**
+     * Get the next value as an org.json value, the parsed value is returned as it is
+     *
+     * @return  the value
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public Object nextValue() throws IOException {
+
+        final JsonToken token = this.peek();
+        if ( OrgJsonParser.isValue(token) == false ) {
+            throw new JSONException("Expected a value but was " + token);
+        }
+
+        final Object value = this.consume();
+        return ((value == null) ? JSONObject.NULL : value);
+
+    }
+
+
+
+    /**
+     * Skip the next value, or the next member name
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    @Override
+    public void skipValue() throws IOException {
+
+        final JsonToken token = this.peek();
+
+        if ( token == JsonToken.NAME ) {
+            this.nextName();
+        }
+        else if ( OrgJsonParser.isValue(token) == true ) {
+            this.consume();
+        }
+        else {
+            throw new JSONException("Expected a value but was " + token);
+        }
+
+    }
+
+
+
+    /**
+     * Close the parser and the underlying reader
+     *
+     * @exception   IOException
+     *              If the reader could not be closed
+     */
+    @Override
+    public void close() throws IOException {
+
+        this.reader.close();
+
+    }
+
+
+
+    /**
+     * Parse the document unless it was parsed, a leading byte order mark is skipped
+     *
+     * @exception   IOException
+     *              If the reader could not be read
+     */
+    private void parse() throws IOException {
+
+        if ( this.document != null ) {
+            return;
+        }
+
+        /* Skip the byte order mark */
+        final PushbackReader pushbackReader = new PushbackReader(this.reader, 1);
+        final int c = pushbackReader.read();
+        if ( (c != -1) && (c != '\uFEFF') ) {
+            pushbackReader.unread(c);
+        }
+
+        /* Parse the document, there must be nothing after it */
+        final JSONTokener tokener = new JSONTokener(pushbackReader);
+        this.document = tokener.nextValue();
+        if ( tokener.nextClean() != 0 ) {
+            throw tokener.syntaxError("Unexpected data after the end of the document");
+        }
+
+    }
+
+
+
+    /**
+     * Check the next token
+     *
+     * @param   token   the expected token
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    private void expect(final JsonToken token) throws IOException {
+
+        final JsonToken nextToken = this.peek();
+        if ( nextToken != token ) {
+            throw new JSONException("Expected " + token + " but was " + nextToken);
+        }
+
+    }
+
+
+
+    /**
+     * Consume the next value
+     *
+     * @return  the value
+     */
+    private Object consume() {
+
+        final Scope scope = this.scopeStack.peek();
+
+        /* Document */
+        if ( scope == null ) {
+            this.documentConsumed = true;
+            return (this.document);
+        }
+
+        /* Object member value */
+        else if ( scope.jsonObject != null ) {
+            final Object value = scope.jsonObject.opt(scope.name);
+            scope.name = null;
+            return (value);
+        }
+
+        /* Array element */
+        return (scope.jsonArray.opt(scope.index++));
+
+    }
+
+
+
+    /**
+     * Get the token for a value
+     *
+     * @param   value   the value
+     *
+     * @return  the token
+     */
+    private static JsonToken getToken(final Object value) {
+
+        if ( (value == null) || (JSONObject.NULL.equals(value) == true) ) {
+            return (JsonToken.NULL);
+        }
+        else if ( value instanceof JSONObject ) {
+            return (JsonToken.BEGIN_OBJECT);
+        }
+        else if ( value instanceof JSONArray ) {
+            return (JsonToken.BEGIN_ARRAY);
+        }
+        else if ( value instanceof Boolean ) {
+            return (JsonToken.BOOLEAN);
+        }
+        else if ( value instanceof Number ) {
+            return (JsonToken.NUMBER);
+        }
+
+        return (JsonToken.STRING);
+
+    }
+
+
+
+    /**
+     * Check if a token is a value
+     *
+     * @param   token   the token
+     *
+     * @return  true if the token is a value
+     */
+    private static boolean isValue(final JsonToken token) {
+
+        return ((token != JsonToken.NAME) && (token != JsonToken.END_OBJECT) && (token != JsonToken.END_ARRAY) && (token != JsonToken.END_DOCUMENT));
+
+    }
+
+
+
+    /**
+     * Scope, an object or an array being read
+     */
+    private static final class Scope {
+
+
+        /**
+         * JSON object, null if the scope is an array
+         */
+        private final JSONObject jsonObject;
+
+
+        /**
+         * JSON object key iterator
+         */
+        private final Iterator<String> keyIterator;
+
+
+        /**
+         * Name of the member whose value is next, null if a name is next
+         */
+        private String name = null;
+
+
+        /**
+         * JSON array, null if the scope is an object
+         */
+        private final JSONArray jsonArray;
+
+
+        /**
+         * Index of the next array element
+         */
+        private int index = 0;
+
+
+
+        /**
+         * Constructor
+         *
+         * @param   jsonObject  the JSON object
+         */
+        Scope(final JSONObject jsonObject) {
+
+            this.jsonObject = jsonObject;
+            this.keyIterator = jsonObject.keySet().iterator();
+            this.jsonArray = null;
+
+        }
+
+
+
+        /**
+         * Constructor
+         *
+         * @param   jsonArray   the JSON array
+         */
+        Scope(final JSONArray jsonArray) {
+
+            this.jsonObject = null;
+            this.keyIterator = null;
+            this.jsonArray = jsonArray;
+
+        }
+
+
+    }
+
+
+}
@@ -0,0 +1,153 @@
+/**
+ * OrgJsonProvider.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.implementation.OrgJsonGenerator;
+import com.kaderate.jsonfeed.implementation.OrgJsonParser;
+import com.kaderate.jsonfeed.spi.JsonGenerator;
+import com.kaderate.jsonfeed.spi.JsonParser;
+import com.kaderate.jsonfeed.spi.JsonProvider;
+
+
+/**
+ * JSON provider backed by org.json, the default provider
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class OrgJsonProvider implements JsonProvider {
+
+
+    /**
+     * Provider name
+     */
+    public static final String NAME = "org.json";
+
+
+    /**
+     * Provider priority, lower than the default priority so any other provider is preferred
+     */
+    public static final int PRIORITY = 0;
+
+
+
+    /**
+     * Constructor
+     */
+    public OrgJsonProvider() {
+
+    }
+
+
+
+    /**
+     * Get the name of the provider
+     *
+     * @return  the name
+     */
+    @Override
+    public String getName() {
+
+        return (OrgJsonProvider.NAME);
+
+    }
+
+
+
+    /**
+     * Get the priority of the provider
+     *
+     * @return  the priority
+     */
+    @Override
+    public int getPriority() {
+
+        return (OrgJsonProvider.PRIORITY);
+
+    }
+
+
+
+    /**
+     * Create a parser for a UTF-8 encoded JSON stream
+     *
+     * @param   inputStream     the JSON stream
+     *
+     * @return  the parser
+     *
+     * @exception   IOException
+     *              If the parser could not be created
+     */
+    @Override
+    public JsonParser createParser(final InputStream inputStream) throws IOException {
+
+        return (new OrgJsonParser(new InputStreamReader(inputStream, StandardCharsets.UTF_8)));
+
+    }
+
+
+
+    /**
+     * Create a parser for a JSON reader
+     *
+     * @param   reader  the JSON reader
+     *
+     * @return  the parser
+     *
+     * @exception   IOException
+     *              If the parser could not be created
+     */
+    @Override
+    public JsonParser createParser(final Reader reader) throws IOException {
+
+        return (new OrgJsonParser(reader));
+
+    }
+
+
+
+    /**
+     * Create a generator for a JSON writer
+     *
+     * @param   writer  the JSON writer
+     *
+     * @return  the generator
+     *
+     * @exception   IOException
+     *              If the generator could not be created
+     */
+    @Override
+    public JsonGenerator createGenerator(final Writer writer) throws IOException {
+
+        return (new OrgJsonGenerator(writer));
+
+    }
+
+
+}
@@ -0,0 +1,214 @@
+/**
+ * ParseCache.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+
+/**
+ * Parse cache, a symbol table for member names and caches for dates and URIs,
+ * owned by a feed parser and attached to its tokenizer
+ *
+ * The symbol table is a direct-mapped table of ASCII member names, so the
+ * member names of every document share the same strings. The date and URI
+ * caches map the strings seen in a document to their parsed dates and
+ * validated URI strings, they are bounded and cleared between documents.
+ *
+ * The cache is not safe for concurrent access.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+final class ParseCache {
+
+
+    /**
+     * Symbol table size, a power of two
+     */
+    private static final int SYMBOL_TABLE_SIZE = 512;
+
+
+    /**
+     * Maximum member name length kept in the symbol table
+     */
+    private static final int MAX_SYMBOL_LENGTH = 64;
+
+
+    /**
+     * Maximum number of cached dates and URIs
+     */
+    private static final int MAX_CACHE_SIZE = 1024;
+
+
+    /**
+     * Symbol bytes
+     */
+    private final byte[][] symbolBytes = new byte[ParseCache.SYMBOL_TABLE_SIZE][];
+
+
+    /**
+     * Symbol strings
+     */
+    private final String[] symbolStrings = new String[ParseCache.SYMBOL_TABLE_SIZE];
+
+
+    /**
+     * Date map
+     */
+    private final Map<String, Instant> dateMap = new HashMap<String, Instant>();
+
+
+    /**
+     * Validated URI map, the URI strings are mapped to themselves
+     */
+    private final Map<String, String> uriMap = new HashMap<String, String>();
+
+
+
+    /**
+     * Constructor
+     */
+    ParseCache() {
+
+    }
+
+
+
+    /**
+     * Get the symbol for an ASCII member name
+     *
+     * @param   bytes   the bytes
+     * @param   offset  the offset of the member name
+     * @param   length  the length of the member name
+     *
+     * @return  the member name
+     */
+    String getSymbol(final byte[] bytes, final int offset, final int length) {
+
+        /* Long member names are not kept */
+        if ( length > ParseCache.MAX_SYMBOL_LENGTH ) {
+            return (new String(bytes, offset, length, StandardCharsets.ISO_8859_1));
+        }
+
+        /* Hash the member name */
+        int hash = 0;
+        for ( int i = offset; i < offset + length; i++ ) {
+            hash = (31 * hash) + bytes[i];
+        }
+        final int index = (hash ^ (hash >>> 16)) & (ParseCache.SYMBOL_TABLE_SIZE - 1);
+
+        /* Return the symbol if it is in the table */
+        final byte[] symbolBytes = this.symbolBytes[index];
+        if ( (symbolBytes != null) && (Arrays.equals(symbolBytes, 0, symbolBytes.length, bytes, offset, offset + length) == true) ) {
+            return (this.symbolStrings[index]);
+        }
+
+        /* Add the symbol, replacing the one with the same index */
+        final String symbol = new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+        this.symbolBytes[index] = Arrays.copyOfRange(bytes, offset, offset + length);
+        this.symbolStrings[index] = symbol;
+
+        return (symbol);
+
+    }
+
+
+
+    /**
+     * Parse a date, using the cached date if it was already parsed
+     *
+     * @param   string  the date string
+     *
+     * @return  the date
+     *
+     * @exception   java.time.format.DateTimeParseException
+     *              If the date string could not be parsed
+     */
+    Instant parseDate(final String string) {
+
+        /* Return the cached date */
+        Instant date = this.dateMap.get(string);
+        if ( date != null ) {
+            return (date);
+        }
+
+        /* Parse and cache the date */
+        date = Rfc3339DateCodec.parse(string);
+        if ( this.dateMap.size() < ParseCache.MAX_CACHE_SIZE ) {
+            this.dateMap.put(string, date);
+        }
+
+        return (date);
+
+    }
+
+
+
+    /**
+     * Get a URI string, validating it if needed unless it was already validated,
+     * the cached URI string is returned so repeated URIs share the same string
+     *
+     * @param   string      the URI string
+     * @param   validate    true if the URI string syntax should be checked
+     *
+     * @return  the URI string
+     *
+     * @exception   URISyntaxException
+     *              If the URI string syntax is invalid
+     */
+    String getUri(final String string, final boolean validate) throws URISyntaxException {
+
+        /* Return the cached URI string */
+        final String uriString = this.uriMap.get(string);
+        if ( uriString != null ) {
+            return (uriString);
+        }
+
+        /* Validate the URI string, only validated URI strings are cached */
+        if ( validate == true ) {
+            LazyUri.validate(string);
+            if ( this.uriMap.size() < ParseCache.MAX_CACHE_SIZE ) {
+                this.uriMap.put(string, string);
+            }
+        }
+
+        return (string);
+
+    }
+
+
+
+    /**
+     * Clear the date and URI caches, the symbol table is kept
+     */
+    void clear() {
+
+        this.dateMap.clear();
+        this.uriMap.clear();
+
+    }
+
+
+}
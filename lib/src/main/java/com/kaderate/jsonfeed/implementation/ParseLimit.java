@@ -0,0 +1,72 @@
+/**
+ * ParseLimit.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 18, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/**
+ * Parse limit enum, the resource limits which can be set in the parse options
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public enum ParseLimit {
+
+
+    /**
+     * Limit constants
+     */
+    BYTES("byte count"),
+    ITEMS("item count"),
+    STRING_LENGTH("string length"),
+    DEPTH("nesting depth"),
+    EXTENSION_SIZE("extension size");
+
+
+    /**
+     * Description
+     */
+    private final String description;
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   description     the description
+     */
+    private ParseLimit(final String description) {
+
+        this.description = description;
+
+    }
+
+
+
+    /**
+     * Get the description
+     *
+     * @return  the description
+     */
+    public String getDescription() {
+
+        return (this.description);
+
+    }
+
+
+}
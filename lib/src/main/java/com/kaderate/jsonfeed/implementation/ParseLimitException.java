@@ -0,0 +1,114 @@
+/**
+ * ParseLimitException.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 18, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import JSON stuff */
+import org.json.JSONException;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.implementation.ParseLimit;
+
+
+/**
+ * Parse limit exception, thrown when a feed exceeds one of the limits set in
+ * the parse options, the parse is abandoned as soon as the limit is exceeded
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class ParseLimitException extends JSONException {
+
+
+    /**
+     * Serial version UID
+     */
+    private static final long serialVersionUID = 1L;
+
+
+    /**
+     * Limit
+     */
+    private final ParseLimit limit;
+
+
+    /**
+     * Maximum value
+     */
+    private final long maximum;
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   limit       the limit which was exceeded
+     * @param   maximum     the maximum value of the limit
+     * @param   message     the message
+     */
+    public ParseLimitException(final ParseLimit limit, final long maximum, final String message) {
+
+        super(message);
+        this.limit = limit;
+        this.maximum = maximum;
+
+    }
+
+
+
+    /**
+     * Constructor, the message names the limit
+     *
+     * @param   limit       the limit which was exceeded
+     * @param   maximum     the maximum value of the limit
+     */
+    public ParseLimitException(final ParseLimit limit, final long maximum) {
+
+        this(limit, maximum, "Maximum " + limit.getDescription() + " of " + maximum + " exceeded");
+
+    }
+
+
+
+    /**
+     * Get the limit which was exceeded
+     *
+     * @return  the limit
+     */
+    public ParseLimit getLimit() {
+
+        return (this.limit);
+
+    }
+
+
+
+    /**
+     * Get the maximum value of the limit
+     *
+     * @return  the maximum value
+     */
+    public long getMaximum() {
+
+        return (this.maximum);
+
+    }
+
+
+}
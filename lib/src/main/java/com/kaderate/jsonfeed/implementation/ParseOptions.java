@@ -0,0 +1,984 @@
+/**
+ * ParseOptions.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Item;
+import com.kaderate.jsonfeed.implementation.ParseLimit;
+import com.kaderate.jsonfeed.implementation.ParseLimitException;
+import com.kaderate.jsonfeed.implementation.StringPool;
+
+
+/**
+ * Parse options, control how a feed is decoded by the streaming parsers
+ *
+ * Fields are selected by their JSON member name (e.g. "id", "url",
+ * "date_published"), fields which are not selected are skipped by
+ * the tokenizer without being decoded. Extensions are selected by their
+ * own name (e.g. "_blue_shed"), or all together with "_".
+ *
+ * Lazy items are located when the feed is parsed but only decoded when
+ * they are first accessed in the item list. This needs the feed bytes,
+ * so it applies to byte buffers, files and streams (which are read whole)
+ * but not to readers, the feed bytes must not be changed while the items
+ * are in use. Items are still checked for version 1.1 elements (a language
+ * or an author list) when they are located, so the feed version is detected
+ * as if they had been decoded.
+ *
+ * Parallel items are located when the feed is parsed and then decoded in
+ * chunks on an executor, the common fork join pool by default. Like lazy
+ * items this needs the feed bytes. The item order is preserved and if
+ * several items are invalid the error for the first one is reported.
+ *
+ * A watermark, the id and/or publication date of the newest item already
+ * seen, stops item decoding at the first item which matches the id or is
+ * not published after the date, so only the newer items at the head of the
+ * feed are returned and the rest are skipped without being decoded. Items
+ * are decoded in turn when a watermark is set, neither lazily nor in parallel,
+ * and the watermark fields are always decoded.
+ *
+ * Lazy content keeps the item content text and HTML as views over the
+ * feed bytes, a string is only created when one is requested. Like lazy
+ * items this needs the feed bytes, and they must not be changed while
+ * the items are in use. The content is checked against the maximum
+ * string length and its escapes are checked when the feed is parsed,
+ * malformed UTF-8 sequences in it are only replaced when it is decoded.
+ *
+ * URIs are kept as strings and only converted to java.net.URI when they
+ * are requested. Their syntax is checked when they are parsed unless URI
+ * validation is turned off, in which case an invalid URI is reported as
+ * an IllegalArgumentException when it is requested.
+ *
+ * A string pool deduplicates the short values which repeat across items
+ * and feeds, the author names and URIs, tags, languages, mime types, and
+ * hub types and URIs, the pool can be shared by several parse options.
+ *
+ * Limits bound the resources a single feed can use, they are enforced
+ * while the feed is read so a feed which exceeds one is abandoned before
+ * it is read whole: the byte count, the item count, the string length (in
+ * characters), the nesting depth, and the extension value size (in bytes).
+ * A feed which exceeds a limit is rejected with a ParseLimitException,
+ * except that items past the item limit can instead be skipped, in which
+ * case the feed is marked as truncated. No limits are set by default.
+ *
+ * The JSON provider decodes the feed, it can be named in the options,
+ * otherwise the default provider is used. With the org.json provider as
+ * the default strings are decoded by org.json and streams, byte buffers
+ * and files by the streaming tokenizer. Lazy items, parallel items and
+ * lazy content need the streaming tokenizer, with another provider the
+ * items and content are decoded when the feed is parsed.
+ *
+ * The options should not be changed while a feed is being parsed.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class ParseOptions {
+
+
+    /**
+     * Extensions selector
+     */
+    private static final String EXTENSIONS_SELECTOR = "_";
+
+
+    /**
+     * Selected feed field set, null if all the fields are selected
+     */
+    private Set<String> feedFieldSet = null;
+
+
+    /**
+     * Selected item field set, null if all the fields are selected
+     */
+    private Set<String> itemFieldSet = null;
+
+
+    /**
+     * Lazy items flag
+     */
+    private boolean lazyItems = false;
+
+
+    /**
+     * Lazy content flag
+     */
+    private boolean lazyContent = false;
+
+
+    /**
+     * Validate URIs flag
+     */
+    private boolean validateUris = true;
+
+
+    /**
+     * Parallel items flag
+     */
+    private boolean parallelItems = false;
+
+
+    /**
+     * Parallel items executor, null for the common fork join pool
+     */
+    private Executor executor = null;
+
+
+    /**
+     * Parallel items chunk size
+     */
+    private int itemChunkSize = 256;
+
+
+    /**
+     * Watermark item id, null if not set
+     */
+    private String watermarkItemId = null;
+
+
+    /**
+     * Watermark date published, null if not set
+     */
+    private Instant watermarkDatePublished = null;
+
+
+    /**
+     * String pool, null if strings are not deduplicated
+     */
+    private StringPool stringPool = null;
+
+
+    /**
+     * Maximum byte count, 0 if there is no limit
+     */
+    private long maxBytes = 0;
+
+
+    /**
+     * Maximum item count, 0 if there is no limit
+     */
+    private int maxItems = 0;
+
+
+    /**
+     * Truncate items flag, items past the maximum item count are skipped rather than rejected
+     */
+    private boolean truncateItems = false;
+
+
+    /**
+     * Maximum string length, 0 if there is no limit
+     */
+    private int maxStringLength = 0;
+
+
+    /**
+     * Maximum nesting depth, 0 if there is no limit
+     */
+    private int maxDepth = 0;
+
+
+    /**
+     * Maximum extension size, 0 if there is no limit
+     */
+    private int maxExtensionSize = 0;
+
+
+    /**
+     * JSON provider name, null for the default provider
+     */
+    private String jsonProvider = null;
+
+
+
+    /**
+     * Constructor, all the fields are selected
+     */
+    public ParseOptions() {
+
+    }
+
+
+
+    /**
+     * Get the selected feed field set
+     *
+     * @return  the selected feed field set, null if all the fields are selected
+     */
+    public Set<String> getFeedFieldSet() {
+
+        return (this.feedFieldSet);
+
+    }
+
+
+
+    /**
+     * Select the feed fields to decode, the version is always decoded,
+     * the items are only decoded if "items" is selected
+     *
+     * @param   feedFields  the feed field names, null to select all the fields
+     *
+     * @return  the parse options
+     */
+    public ParseOptions setFeedFields(final String... feedFields) {
+
+        this.feedFieldSet = (feedFields != null) ? new HashSet<String>(Arrays.asList(feedFields)) : null;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the selected item field set
+     *
+     * @return  the selected item field set, null if all the fields are selected
+     */
+    public Set<String> getItemFieldSet() {
+
+        return (this.itemFieldSet);
+
+    }
+
+
+
+    /**
+     * Select the item fields to decode
+     *
+     * @param   itemFields  the item field names, null to select all the fields
+     *
+     * @return  the parse options
+     */
+    public ParseOptions setItemFields(final String... itemFields) {
+
+        this.itemFieldSet = (itemFields != null) ? new HashSet<String>(Arrays.asList(itemFields)) : null;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Check if items are decoded lazily
+     *
+     * @return  true if items are decoded lazily
+     */
+    public boolean isLazyItems() {
+
+        return (this.lazyItems);
+
+    }
+
+
+
+    /**
+     * Set whether items are decoded lazily, when they are first accessed in the item list
+     *
+     * @param   lazyItems   true if items are decoded lazily
+     *
+     * @return  the parse options
+     */
+    public ParseOptions setLazyItems(final boolean lazyItems) {
+
+        this.lazyItems = lazyItems;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Check if the item content is kept as views over the feed bytes
+     *
+     * @return  true if the item content is kept as views over the feed bytes
+     */
+    public boolean isLazyContent() {
+
+        return (this.lazyContent);
+
+    }
+
+
+
+    /**
+     * Set whether the item content text and HTML are kept as views over the
+     * feed bytes, strings are only created when they are requested
+     *
+     * @param   lazyContent     true if the item content is kept as views over the feed bytes
+     *
+     * @return  the parse options
+     */
+    public ParseOptions setLazyContent(final boolean lazyContent) {
+
+        this.lazyContent = lazyContent;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Check if URIs are validated when they are parsed
+     *
+     * @return  true if URIs are validated when they are parsed
+     */
+    public boolean isValidateUris() {
+
+        return (this.validateUris);
+
+    }
+
+
+
+    /**
+     * Set whether URIs are validated when they are parsed, the syntax check
+     * does not allocate, defaults to true
+     *
+     * @param   validateUris    true if URIs are validated when they are parsed
+     *
+     * @return  the parse options
+     */
+    public ParseOptions setValidateUris(final boolean validateUris) {
+
+        this.validateUris = validateUris;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Check if items are decoded in parallel
+     *
+     * @return  true if items are decoded in parallel
+     */
+    public boolean isParallelItems() {
+
+        return (this.parallelItems);
+
+    }
+
+
+
+    /**
+     * Set whether items are decoded in parallel, lazy items take precedence
+     *
+     * @param   parallelItems   true if items are decoded in parallel
+     *
+     * @return  the parse options
+     */
+    public ParseOptions setParallelItems(final boolean parallelItems) {
+
+        this.parallelItems = parallelItems;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the executor on which parallel items are decoded
+     *
+     * @return  the executor, the common fork join pool if none was set
+     */
+    public Executor getExecutor() {
+
+        return ((this.executor != null) ? this.executor : ForkJoinPool.commonPool());
+
+    }
+
+
+
+    /**
+     * Set the executor on which parallel items are decoded
+     *
+     * @param   executor    the executor, null for the common fork join pool
+     *
+     * @return  the parse options
+     */
+    public ParseOptions setExecutor(final Executor executor) {
+
+        this.executor = executor;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the number of items decoded together when decoding in parallel
+     *
+     * @return  the item chunk size
+     */
+    public int getItemChunkSize() {
+
+        return (this.itemChunkSize);
+
+    }
+
+
+
+    /**
+     * Set the number of items decoded together when decoding in parallel,
+     * feeds with no more items than this are decoded on the calling thread
+     *
+     * @param   itemChunkSize   the item chunk size
+     *
+     * @return  the parse options
+     *
+     * @exception   IllegalArgumentException
+     *              If the item chunk size is less than 1
+     */
+    public ParseOptions setItemChunkSize(final int itemChunkSize) {
+
+        if ( itemChunkSize < 1 ) {
+            throw new IllegalArgumentException("Invalid item chunk size: " + itemChunkSize);
+        }
+
+        this.itemChunkSize = itemChunkSize;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the watermark item id
+     *
+     * @return  the watermark item id, null if not set
+     */
+    public String getWatermarkItemId() {
+
+        return (this.watermarkItemId);
+
+    }
+
+
+
+    /**
+     * Set the watermark item id, item decoding stops at the item with this id
+     *
+     * @param   watermarkItemId     the watermark item id, null to clear it
+     *
+     * @return  the parse options
+     */
+    public ParseOptions setWatermarkItemId(final String watermarkItemId) {
+
+        this.watermarkItemId = watermarkItemId;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the watermark date published
+     *
+     * @return  the watermark date published, null if not set
+     */
+    public Instant getWatermarkDatePublished() {
+
+        return (this.watermarkDatePublished);
+
+    }
+
+
+
+    /**
+     * Set the watermark date published, item decoding stops at the first
+     * item published at or before this date, undated items do not stop it
+     *
+     * @param   watermarkDatePublished  the watermark date published, null to clear it
+     *
+     * @return  the parse options
+     */
+    public ParseOptions setWatermarkDatePublished(final Instant watermarkDatePublished) {
+
+        this.watermarkDatePublished = watermarkDatePublished;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the string pool
+     *
+     * @return  the string pool, null if strings are not deduplicated
+     */
+    public StringPool getStringPool() {
+
+        return (this.stringPool);
+
+    }
+
+
+
+    /**
+     * Set the string pool with which repeated values are deduplicated
+     *
+     * @param   stringPool  the string pool, null to not deduplicate strings
+     *
+     * @return  the parse options
+     */
+    public ParseOptions setStringPool(final StringPool stringPool) {
+
+        this.stringPool = stringPool;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the canonical instance of a string from the string pool
+     *
+     * @param   string  the string, may be null
+     *
+     * @return  the canonical string, the string itself if there is no string pool
+     */
+    public String intern(final String string) {
+
+        return ((this.stringPool != null) ? this.stringPool.intern(string) : string);
+
+    }
+
+
+
+    /**
+     * Get the maximum number of bytes in a feed
+     *
+     * @return  the maximum byte count, 0 if there is no limit
+     */
+    public long getMaxBytes() {
+
+        return (this.maxBytes);
+
+    }
+
+
+
+    /**
+     * Set the maximum number of bytes in a feed, after any gzip or deflate
+     * encoding is inflated, for item lines this is the maximum line length
+     *
+     * @param   maxBytes    the maximum byte count, 0 for no limit
+     *
+     * @return  the parse options
+     *
+     * @exception   IllegalArgumentException
+     *              If the maximum byte count is negative
+     */
+    public ParseOptions setMaxBytes(final long maxBytes) {
+
+        if ( maxBytes < 0 ) {
+            throw new IllegalArgumentException("Invalid maximum byte count: " + maxBytes);
+        }
+
+        this.maxBytes = maxBytes;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the maximum number of items in a feed
+     *
+     * @return  the maximum item count, 0 if there is no limit
+     */
+    public int getMaxItems() {
+
+        return (this.maxItems);
+
+    }
+
+
+
+    /**
+     * Set the maximum number of items in a feed
+     *
+     * @param   maxItems    the maximum item count, 0 for no limit
+     *
+     * @return  the parse options
+     *
+     * @exception   IllegalArgumentException
+     *              If the maximum item count is negative
+     */
+    public ParseOptions setMaxItems(final int maxItems) {
+
+        if ( maxItems < 0 ) {
+            throw new IllegalArgumentException("Invalid maximum item count: " + maxItems);
+        }
+
+        this.maxItems = maxItems;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Check if items past the maximum item count are skipped rather than rejected
+     *
+     * @return  true if items past the maximum item count are skipped
+     */
+    public boolean isTruncateItems() {
+
+        return (this.truncateItems);
+
+    }
+
+
+
+    /**
+     * Set whether items past the maximum item count are skipped without being
+     * decoded and the feed marked as truncated, rather than the feed rejected
+     *
+     * @param   truncateItems   true if items past the maximum item count are skipped
+     *
+     * @return  the parse options
+     */
+    public ParseOptions setTruncateItems(final boolean truncateItems) {
+
+        this.truncateItems = truncateItems;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the maximum length of a string
+     *
+     * @return  the maximum string length, 0 if there is no limit
+     */
+    public int getMaxStringLength() {
+
+        return (this.maxStringLength);
+
+    }
+
+
+
+    /**
+     * Set the maximum length of a string in characters, member names included
+     *
+     * @param   maxStringLength     the maximum string length, 0 for no limit
+     *
+     * @return  the parse options
+     *
+     * @exception   IllegalArgumentException
+     *              If the maximum string length is negative
+     */
+    public ParseOptions setMaxStringLength(final int maxStringLength) {
+
+        if ( maxStringLength < 0 ) {
+            throw new IllegalArgumentException("Invalid maximum string length: " + maxStringLength);
+        }
+
+        this.maxStringLength = maxStringLength;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the maximum nesting depth
+     *
+     * @return  the maximum nesting depth, 0 if there is no limit
+     */
+    public int getMaxDepth() {
+
+        return (this.maxDepth);
+
+    }
+
+
+
+    /**
+     * Set the maximum nesting depth of objects and arrays, the feed object is at
+     * depth 1, the items array at depth 2 and the items at depth 3, skipped values
+     * are checked too
+     *
+     * @param   maxDepth    the maximum nesting depth, 0 for no limit
+     *
+     * @return  the parse options
+     *
+     * @exception   IllegalArgumentException
+     *              If the maximum nesting depth is negative
+     */
+    public ParseOptions setMaxDepth(final int maxDepth) {
+
+        if ( maxDepth < 0 ) {
+            throw new IllegalArgumentException("Invalid maximum nesting depth: " + maxDepth);
+        }
+
+        this.maxDepth = maxDepth;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the maximum size of an extension value
+     *
+     * @return  the maximum extension size, 0 if there is no limit
+     */
+    public int getMaxExtensionSize() {
+
+        return (this.maxExtensionSize);
+
+    }
+
+
+
+    /**
+     * Set the maximum size of an extension value in bytes, extensions which
+     * are not selected are skipped and not checked
+     *
+     * @param   maxExtensionSize    the maximum extension size, 0 for no limit
+     *
+     * @return  the parse options
+     *
+     * @exception   IllegalArgumentException
+     *              If the maximum extension size is negative
+     */
+    public ParseOptions setMaxExtensionSize(final int maxExtensionSize) {
+
+        if ( maxExtensionSize < 0 ) {
+            throw new IllegalArgumentException("Invalid maximum extension size: " + maxExtensionSize);
+        }
+
+        this.maxExtensionSize = maxExtensionSize;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Get the name of the JSON provider which decodes the feed
+     *
+     * @return  the JSON provider name, null for the default provider
+     */
+    public String getJsonProvider() {
+
+        return (this.jsonProvider);
+
+    }
+
+
+
+    /**
+     * Set the name of the JSON provider which decodes the feed, for
+     * example "org.json" or "jsonfeed", the provider is looked up when
+     * the feed is parsed
+     *
+     * @param   jsonProvider    the JSON provider name, null for the default provider
+     *
+     * @return  the parse options
+     */
+    public ParseOptions setJsonProvider(final String jsonProvider) {
+
+        this.jsonProvider = jsonProvider;
+        return (this);
+
+    }
+
+
+
+    /**
+     * Check if the feed bytes are needed, which is the case for lazy
+     * items, parallel items and lazy content
+     *
+     * @return  true if the feed bytes are needed
+     */
+    boolean isFeedBytesNeeded() {
+
+        return ((this.lazyItems == true) || (this.parallelItems == true) || (this.lazyContent == true));
+
+    }
+
+
+
+    /**
+     * Get the name of the option which needs the feed bytes, for messages
+     *
+     * @return  the option name, null if the feed bytes are not needed
+     */
+    String getFeedBytesOptionName() {
+
+        if ( this.lazyItems == true ) {
+            return ("lazy items");
+        }
+        else if ( this.parallelItems == true ) {
+            return ("parallel items");
+        }
+        else if ( this.lazyContent == true ) {
+            return ("lazy content");
+        }
+
+        return (null);
+
+    }
+
+
+
+    /**
+     * Check that the item limit allows another item, the items are truncated or
+     * the feed is rejected once the maximum item count has been reached
+     *
+     * @param   itemCount   the number of items read so far
+     *
+     * @return  true if there is room for another item, false if the items are truncated
+     *
+     * @exception   ParseLimitException
+     *              If the maximum item count has been reached and items are not truncated
+     */
+    boolean checkItemLimit(final int itemCount) {
+
+        if ( (this.maxItems == 0) || (itemCount < this.maxItems) ) {
+            return (true);
+        }
+
+        if ( this.truncateItems == false ) {
+            throw new ParseLimitException(ParseLimit.ITEMS, this.maxItems);
+        }
+
+        return (false);
+
+    }
+
+
+
+    /**
+     * Check if a watermark is set
+     *
+     * @return  true if a watermark is set
+     */
+    public boolean hasWatermark() {
+
+        return ((this.watermarkItemId != null) || (this.watermarkDatePublished != null));
+
+    }
+
+
+
+    /**
+     * Check if an item is at the watermark, either it has the watermark
+     * item id or it was published at or before the watermark date
+     *
+     * @param   item    the item
+     *
+     * @return  true if the item is at the watermark
+     */
+    public boolean isWatermarkItem(final Item item) {
+
+        /* Check the id */
+        if ( (this.watermarkItemId != null) && (this.watermarkItemId.equals(item.getID()) == true) ) {
+            return (true);
+        }
+
+        /* Check the date published */
+        if ( (this.watermarkDatePublished != null) && (item.getDatePublished() != null)
+                && (item.getDatePublished().isAfter(this.watermarkDatePublished) == false) ) {
+            return (true);
+        }
+
+        return (false);
+
+    }
+
+
+
+    /**
+     * Check if a feed field is selected
+     *
+     * @param   name    the feed field name
+     *
+     * @return  true if the feed field is selected
+     */
+    public boolean isFeedFieldSelected(final String name) {
+
+        return ((name.equals("version") == true) || ParseOptions.isFieldSelected(this.feedFieldSet, name));
+
+    }
+
+
+
+    /**
+     * Check if an item field is selected
+     *
+     * @param   name    the item field name
+     *
+     * @return  true if the item field is selected
+     */
+    public boolean isItemFieldSelected(final String name) {
+
+        /* The watermark fields are always selected */
+        if ( ((this.watermarkItemId != null) && (name.equals("id") == true))
+                || ((this.watermarkDatePublished != null) && (name.equals("date_published") == true)) ) {
+            return (true);
+        }
+
+        return (ParseOptions.isFieldSelected(this.itemFieldSet, name));
+
+    }
+
+
+
+    /**
+     * Check if a field is selected in a field set
+     *
+     * @param   fieldSet    the field set, null if all the fields are selected
+     * @param   name        the field name
+     *
+     * @return  true if the field is selected
+     */
+    private static boolean isFieldSelected(final Set<String> fieldSet, final String name) {
+
+        /* All the fields are selected */
+        if ( fieldSet == null ) {
+            return (true);
+        }
+
+        /* Extensions are selected by name or all together */
+        if ( name.startsWith(ParseOptions.EXTENSIONS_SELECTOR) == true ) {
+            return ((fieldSet.contains(ParseOptions.EXTENSIONS_SELECTOR) == true) || (fieldSet.contains(name) == true));
+        }
+
+        return (fieldSet.contains(name));
+
+    }
+
+
+}
@@ -0,0 +1,356 @@
+/**
+ * Rfc3339DateCodec.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.time.Instant;
+import java.time.OffsetDateTime;
+
+
+/**
+ * RFC 3339 date codec, parses and formats dates directly to and from
+ * epoch seconds and nanoseconds
+ *
+ * The parser handles the usual "yyyy-MM-ddTHH:mm:ss[.fraction](Z|+HH:MM)" form
+ * itself and hands anything else to OffsetDateTime.parse(), so it accepts and
+ * rejects the same dates. The formatter produces the same strings as Instant.toString().
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+final class Rfc3339DateCodec {
+
+
+    /**
+     * Seconds per day
+     */
+    private static final int SECONDS_PER_DAY = 86400;
+
+
+    /**
+     * Days in a 400 year cycle
+     */
+    private static final long DAYS_PER_CYCLE = 146097;
+
+
+    /**
+     * Days from 0000-01-01 to 1970-01-01
+     */
+    private static final long DAYS_0000_TO_1970 = 719528;
+
+
+    /**
+     * Epoch seconds of 0001-01-01T00:00:00Z
+     */
+    private static final long MIN_FAST_EPOCH_SECOND = -62135596800L;
+
+
+    /**
+     * Epoch seconds of 9999-12-31T23:59:59Z
+     */
+    private static final long MAX_FAST_EPOCH_SECOND = 253402300799L;
+
+
+    /**
+     * Maximum formatted date length, "yyyy-MM-ddTHH:mm:ss.nnnnnnnnnZ"
+     */
+    private static final int MAX_FORMATTED_LENGTH = 30;
+
+
+    /**
+     * Powers of ten for the fraction
+     */
+    private static final int[] POWERS_OF_TEN = { 1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000 };
+
+
+
+    /**
+     * Constructor, not instantiable
+     */
+    private Rfc3339DateCodec() {
+
+    }
+
+
+
+    /**
+     * Parse an RFC 3339 date
+     *
+     * @param   string  the date string
+     *
+     * @return  the instant
+     *
+     * @exception   java.time.format.DateTimeParseException
+     *              If the date string could not be parsed
+     */
+    static Instant parse(final CharSequence string) {
+
+        /* Parse the usual form */
+        final int length = string.length();
+        if ( (length >= 20)
+                && (string.charAt(4) == '-') && (string.charAt(7) == '-')
+                && ((string.charAt(10) == 'T') || (string.charAt(10) == 't'))
+                && (string.charAt(13) == ':') && (string.charAt(16) == ':') ) {
+
+            final int year = Rfc3339DateCodec.digits(string, 0, 4);
+            final int month = Rfc3339DateCodec.digits(string, 5, 2);
+            final int day = Rfc3339DateCodec.digits(string, 8, 2);
+            final int hour = Rfc3339DateCodec.digits(string, 11, 2);
+            final int minute = Rfc3339DateCodec.digits(string, 14, 2);
+            final int second = Rfc3339DateCodec.digits(string, 17, 2);
+
+            /* Get the fraction */
+            int position = 19;
+            int nano = 0;
+            if ( string.charAt(position) == '.' ) {
+                final int start = ++position;
+                while ( (position < length) && (position - start < 10) && (string.charAt(position) >= '0') && (string.charAt(position) <= '9') ) {
+                    nano = (nano * 10) + (string.charAt(position) - '0');
+                    position++;
+                }
+                final int fractionLength = position - start;
+                nano = ((fractionLength >= 1) && (fractionLength <= 9)) ? nano * Rfc3339DateCodec.POWERS_OF_TEN[9 - fractionLength] : -1;
+            }
+
+            /* Get the offset */
+            boolean offsetFound = false;
+            int offsetSeconds = 0;
+            if ( position < length ) {
+                final char c = string.charAt(position);
+                if ( ((c == 'Z') || (c == 'z')) && (position + 1 == length) ) {
+                    offsetFound = true;
+                }
+                else if ( ((c == '+') || (c == '-')) && (position + 6 == length) && (string.charAt(position + 3) == ':') ) {
+                    final int offsetHours = Rfc3339DateCodec.digits(string, position + 1, 2);
+                    final int offsetMinutes = Rfc3339DateCodec.digits(string, position + 4, 2);
+                    if ( (offsetHours >= 0) && (offsetMinutes >= 0) && (offsetMinutes <= 59) && (((offsetHours * 60) + offsetMinutes) <= (18 * 60)) ) {
+                        offsetSeconds = ((offsetHours * 3600) + (offsetMinutes * 60)) * ((c == '-') ? -1 : 1);
+                        offsetFound = true;
+                    }
+                }
+            }
+
+            /* Check the fields */
+            if ( (offsetFound == true) && (nano >= 0) && (year >= 0) && (month >= 1) && (month <= 12)
+                    && (day >= 1) && (day <= Rfc3339DateCodec.lengthOfMonth(year, month))
+                    && (hour >= 0) && (hour <= 23) && (minute >= 0) && (minute <= 59) && (second >= 0) && (second <= 59) ) {
+
+                final long epochSecond = (Rfc3339DateCodec.toEpochDay(year, month, day) * Rfc3339DateCodec.SECONDS_PER_DAY)
+                        + (hour * 3600) + (minute * 60) + second - offsetSeconds;
+
+                return (Instant.ofEpochSecond(epochSecond, nano));
+            }
+        }
+
+        /* Parse anything else the general way */
+        return (OffsetDateTime.parse(string).toInstant());
+
+    }
+
+
+
+    /**
+     * Format an instant as an RFC 3339 date, the same way as Instant.toString()
+     *
+     * @param   instant     the instant
+     *
+     * @return  the date string
+     */
+    static String format(final Instant instant) {
+
+        final long epochSecond = instant.getEpochSecond();
+
+        /* Format dates outside years 0001 to 9999 the general way */
+        if ( (epochSecond < Rfc3339DateCodec.MIN_FAST_EPOCH_SECOND) || (epochSecond > Rfc3339DateCodec.MAX_FAST_EPOCH_SECOND) ) {
+            return (instant.toString());
+        }
+
+        /* Split the epoch seconds into days and seconds of the day */
+        final long epochDay = Math.floorDiv(epochSecond, (long)Rfc3339DateCodec.SECONDS_PER_DAY);
+        final int secondOfDay = (int)Math.floorMod(epochSecond, (long)Rfc3339DateCodec.SECONDS_PER_DAY);
+
+        /* Get the date from the days, counting from 0000-03-01 so the leap day is at the end of the year */
+        final long zeroDay = epochDay + Rfc3339DateCodec.DAYS_0000_TO_1970 - 60;
+        long year = ((400 * zeroDay) + 591) / Rfc3339DateCodec.DAYS_PER_CYCLE;
+        long dayOfYear = zeroDay - ((365 * year) + (year / 4) - (year / 100) + (year / 400));
+        if ( dayOfYear < 0 ) {
+            year--;
+            dayOfYear = zeroDay - ((365 * year) + (year / 4) - (year / 100) + (year / 400));
+        }
+        final int marchMonth = (((int)dayOfYear * 5) + 2) / 153;
+        final int month = ((marchMonth + 2) % 12) + 1;
+        final int day = (int)dayOfYear - (((marchMonth * 306) + 5) / 10) + 1;
+        year += marchMonth / 10;
+
+        /* Write the date */
+        final char[] chars = new char[Rfc3339DateCodec.MAX_FORMATTED_LENGTH];
+        Rfc3339DateCodec.writeDigits(chars, 0, (int)year, 4);
+        chars[4] = '-';
+        Rfc3339DateCodec.writeDigits(chars, 5, month, 2);
+        chars[7] = '-';
+        Rfc3339DateCodec.writeDigits(chars, 8, day, 2);
+        chars[10] = 'T';
+        Rfc3339DateCodec.writeDigits(chars, 11, secondOfDay / 3600, 2);
+        chars[13] = ':';
+        Rfc3339DateCodec.writeDigits(chars, 14, (secondOfDay / 60) % 60, 2);
+        chars[16] = ':';
+        Rfc3339DateCodec.writeDigits(chars, 17, secondOfDay % 60, 2);
+        int length = 19;
+
+        /* Write the fraction in groups of three digits */
+        final int nano = instant.getNano();
+        if ( nano > 0 ) {
+            chars[length++] = '.';
+            if ( (nano % 1000000) == 0 ) {
+                length = Rfc3339DateCodec.writeDigits(chars, length, nano / 1000000, 3);
+            }
+            else if ( (nano % 1000) == 0 ) {
+                length = Rfc3339DateCodec.writeDigits(chars, length, nano / 1000, 6);
+            }
+            else {
+                length = Rfc3339DateCodec.writeDigits(chars, length, nano, 9);
+            }
+        }
+        chars[length++] = 'Z';
+
+        return (new String(chars, 0, length));
+
+    }
+
+
+
+    /**
+     * Parse a fixed number of ASCII digits
+     *
+     * @param   string  the string
+     * @param   offset  the offset of the first digit
+     * @param   count   the number of digits
+     *
+     * @return  the value, -1 if a character is not a digit
+     */
+    private static int digits(final CharSequence string, final int offset, final int count) {
+
+        int value = 0;
+
+        for ( int i = offset; i < offset + count; i++ ) {
+            final char c = string.charAt(i);
+            if ( (c < '0') || (c > '9') ) {
+                return (-1);
+            }
+            value = (value * 10) + (c - '0');
+        }
+
+        return (value);
+
+    }
+
+
+
+    /**
+     * Write a value as a fixed number of zero padded digits
+     *
+     * @param   chars   the characters
+     * @param   offset  the offset of the first digit
+     * @param   value   the value
+     * @param   count   the number of digits
+     *
+     * @return  the offset after the digits
+     */
+    private static int writeDigits(final char[] chars, final int offset, final int value, final int count) {
+
+        int remainder = value;
+
+        for ( int i = offset + count - 1; i >= offset; i-- ) {
+            chars[i] = (char)('0' + (remainder % 10));
+            remainder /= 10;
+        }
+
+        return (offset + count);
+
+    }
+
+
+
+    /**
+     * Get the length of a month
+     *
+     * @param   year    the year
+     * @param   month   the month, 1 to 12
+     *
+     * @return  the length of the month
+     */
+    private static int lengthOfMonth(final int year, final int month) {
+
+        switch ( month ) {
+            case 2:
+                return (Rfc3339DateCodec.isLeapYear(year) ? 29 : 28);
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return (30);
+            default:
+                return (31);
+        }
+
+    }
+
+
+
+    /**
+     * Check if a year is a leap year
+     *
+     * @param   year    the year
+     *
+     * @return  true if the year is a leap year
+     */
+    private static boolean isLeapYear(final int year) {
+
+        return (((year & 3) == 0) && (((year % 100) != 0) || ((year % 400) == 0)));
+
+    }
+
+
+
+    /**
+     * Get the epoch day of a date in years 0000 to 9999
+     *
+     * @param   year    the year
+     * @param   month   the month, 1 to 12
+     * @param   day     the day of the month
+     *
+     * @return  the epoch day
+     */
+    private static long toEpochDay(final int year, final int month, final int day) {
+
+        long days = (365L * year) + ((year + 3) / 4) - ((year + 99) / 100) + ((year + 399) / 400);
+        days += ((367 * month) - 362) / 12;
+        days += day - 1;
+
+        /* Account for February */
+        if ( month > 2 ) {
+            days -= (Rfc3339DateCodec.isLeapYear(year) == true) ? 1 : 2;
+        }
+
+        return (days - Rfc3339DateCodec.DAYS_0000_TO_1970);
+
+    }
+
+
+}
@@ -0,0 +1,183 @@
+/**
+ * StringPool.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+
+/**
+ * String pool, a bounded deduplication table which returns a canonical
+ * instance for short strings which repeat from item to item and from feed
+ * to feed (e.g. author names, tags, mime types, hub types and languages),
+ * so the decoded feeds share the same strings rather than holding copies
+ *
+ * The pool is a direct-mapped table, a string replaces the string with the
+ * same index, so the pool never grows past its capacity and the strings
+ * which are seen most often stay in it. Strings longer than the maximum
+ * string length are returned as they are.
+ *
+ * The pool is safe for concurrent access and can be shared by parse options
+ * used on several threads, or held per parser. A race between two threads
+ * only costs a missed deduplication.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class StringPool {
+
+
+    /**
+     * Default capacity
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+
+    /**
+     * Default maximum string length
+     */
+    public static final int DEFAULT_MAX_STRING_LENGTH = 64;
+
+
+    /**
+     * String table, its size is a power of two
+     */
+    private final AtomicReferenceArray<String> stringTable;
+
+
+    /**
+     * Maximum string length
+     */
+    private final int maxStringLength;
+
+
+
+    /**
+     * Constructor, with the default capacity and maximum string length
+     */
+    public StringPool() {
+
+        this(StringPool.DEFAULT_CAPACITY, StringPool.DEFAULT_MAX_STRING_LENGTH);
+
+    }
+
+
+
+    /**
+     * Constructor
+     *
+     * @param   capacity            the capacity, rounded up to a power of two
+     * @param   maxStringLength     the maximum length of the strings kept in the pool
+     *
+     * @exception   IllegalArgumentException
+     *              If the capacity is less than 1 or more than 2^30
+     *
+     * @exception   IllegalArgumentException
+     *              If the maximum string length is less than 0
+     */
+    public StringPool(final int capacity, final int maxStringLength) {
+
+        if ( (capacity < 1) || (capacity > (1 << 30)) ) {
+            throw new IllegalArgumentException("Invalid capacity: " + capacity);
+        }
+
+        if ( maxStringLength < 0 ) {
+            throw new IllegalArgumentException("Invalid maximum string length: " + maxStringLength);
+        }
+
+        this.stringTable = new AtomicReferenceArray<String>((capacity == 1) ? 1 : Integer.highestOneBit(capacity - 1) << 1);
+        this.maxStringLength = maxStringLength;
+
+    }
+
+
+
+    /**
+     * Get the capacity
+     *
+     * @return  the capacity
+     */
+    public int getCapacity() {
+
+        return (this.stringTable.length());
+
+    }
+
+
+
+    /**
+     * Get the maximum length of the strings kept in the pool
+     *
+     * @return  the maximum string length
+     */
+    public int getMaxStringLength() {
+
+        return (this.maxStringLength);
+
+    }
+
+
+
+    /**
+     * Get the canonical instance of a string, the string is added to the pool
+     * if it is not there
+     *
+     * @param   string  the string, may be null
+     *
+     * @return  the canonical string, the string itself if it is null or too long
+     */
+    public String intern(final String string) {
+
+        /* Null and long strings are not kept */
+        if ( (string == null) || (string.length() > this.maxStringLength) ) {
+            return (string);
+        }
+
+        /* Hash the string */
+        final int hash = string.hashCode();
+        final int index = (hash ^ (hash >>> 16)) & (this.stringTable.length() - 1);
+
+        /* Return the canonical string if it is in the pool */
+        final String poolString = this.stringTable.get(index);
+        if ( (poolString != null) && (poolString.hashCode() == hash) && (poolString.equals(string) == true) ) {
+            return (poolString);
+        }
+
+        /* Add the string, replacing the one with the same index */
+        this.stringTable.set(index, string);
+
+        return (string);
+
+    }
+
+
+
+    /**
+     * Clear the pool
+     */
+    public void clear() {
+
+        for ( int i = 0; i < this.stringTable.length(); i++ ) {
+            this.stringTable.set(i, null);
+        }
+
+    }
+
+
+}
@@ -0,0 +1,174 @@
+/**
+ * TokenizerJsonProvider.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.InputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.implementation.JsonByteGenerator;
+import com.kaderate.jsonfeed.implementation.JsonStreamGenerator;
+import com.kaderate.jsonfeed.implementation.JsonTokenizer;
+import com.kaderate.jsonfeed.spi.JsonGenerator;
+import com.kaderate.jsonfeed.spi.JsonParser;
+import com.kaderate.jsonfeed.spi.JsonProvider;
+
+
+/**
+ * JSON provider backed by the streaming tokenizer the feed entry points use,
+ * and a streaming generator, it is only used when it is asked for by name
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class TokenizerJsonProvider implements JsonProvider {
+
+
+    /**
+     * Provider name
+     */
+    public static final String NAME = "jsonfeed";
+
+
+    /**
+     * Provider priority, lower than the org.json provider priority so it is never the default
+     */
+    public static final int PRIORITY = -1;
+
+
+
+    /**
+     * Constructor
+     */
+    public TokenizerJsonProvider() {
+
+    }
+
+
+
+    /**
+     * Get the name of the provider
+     *
+     * @return  the name
+     */
+    @Override
+    public String getName() {
+
+        return (TokenizerJsonProvider.NAME);
+
+    }
+
+
+
+    /**
+     * Get the priority of the provider
+     *
+     * @return  the priority
+     */
+    @Override
+    public int getPriority() {
+
+        return (TokenizerJsonProvider.PRIORITY);
+
+    }
+
+
+
+    /**
+     * Create a parser for a UTF-8 encoded JSON stream
+     *
+     * @param   inputStream     the JSON stream
+     *
+     * @return  the parser
+     *
+     * @exception   IOException
+     *              If the parser could not be created
+     */
+    @Override
+    public JsonParser createParser(final InputStream inputStream) throws IOException {
+
+        return (new JsonTokenizer(inputStream));
+
+    }
+
+
+
+    /**
+     * Create a parser for a JSON reader
+     *
+     * @param   reader  the JSON reader
+     *
+     * @return  the parser
+     *
+     * @exception   IOException
+     *              If the parser could not be created
+     */
+    @Override
+    public JsonParser createParser(final Reader reader) throws IOException {
+
+        return (new JsonTokenizer(reader));
+
+    }
+
+
+
+    /**
+     * Create a generator for a JSON writer
+     *
+     * @param   writer  the JSON writer
+     *
+     * @return  the generator
+     *
+     * @exception   IOException
+     *              If the generator could not be created
+     */
+    @Override
+    public JsonGenerator createGenerator(final Writer writer) throws IOException {
+
+        return (new JsonStreamGenerator(writer));
+
+    }
+
+
+
+    /**
+     * Create a generator for a UTF-8 encoded JSON stream, the JSON is
+     * encoded straight to bytes
+     *
+     * @param   outputStream    the JSON stream
+     *
+     * @return  the generator
+     *
+     * @exception   IOException
+     *              If the generator could not be created
+     */
+    @Override
+    public JsonGenerator createGenerator(final OutputStream outputStream) throws IOException {
+
+        return (new JsonByteGenerator(outputStream));
+
+    }
+
+
+}
@@ -0,0 +1,242 @@
+/**
+ * JsonGenerator.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.spi;
+
+
+/* Import Java stuff */
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+
+
+/* Import JSON stuff */
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+import org.json.JSONString;
+import org.json.JSONTokener;
+
+
+/**
+ * JSON generator interface, the feed model is encoded to a generator
+ * one token at a time
+ *
+ * A generator writes a single JSON document. Objects and arrays are started
+ * and ended with the begin and end methods, and members are written as a name
+ * followed by a value. Misuse, such as a value without a name in an object,
+ * is reported with a JSONException.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public interface JsonGenerator extends Closeable, Flushable {
+
+
+    /**
+     * Start an object
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    public JsonGenerator beginObject() throws IOException;
+
+
+    /**
+     * End an object
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    public JsonGenerator endObject() throws IOException;
+
+
+    /**
+     * Start an array
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    public JsonGenerator beginArray() throws IOException;
+
+
+    /**
+     * End an array
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    public JsonGenerator endArray() throws IOException;
+
+
+    /**
+     * Write an object member name, the value must follow
+     *
+     * @param   name    the name
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    public JsonGenerator name(String name) throws IOException;
+
+
+    /**
+     * Write a string value
+     *
+     * @param   value   the string, null is written as null
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    public JsonGenerator value(String value) throws IOException;
+
+
+    /**
+     * Write a boolean value
+     *
+     * @param   value   the boolean
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    public JsonGenerator value(boolean value) throws IOException;
+
+
+    /**
+     * Write a number value
+     *
+     * @param   value   the number, null is written as null
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    public JsonGenerator value(Number value) throws IOException;
+
+
+    /**
+     * Write a null value
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    public JsonGenerator nullValue() throws IOException;
+
+
+    /**
+     * Write an org.json value, JSON objects and JSON arrays are written member
+     * by member, objects implementing JSONString are written from their JSON
+     * text, and other objects are wrapped as org.json would wrap them
+     *
+     * @param   value   the value, null and JSONObject.NULL are written as null
+     *
+     * @return  this generator
+     *
+     * @exception   IOException
+     *              If the output could not be written
+     */
+    public default JsonGenerator value(final Object value) throws IOException {
+
+        /* Null */
+        if ( (value == null) || (JSONObject.NULL.equals(value) == true) ) {
+            return (this.nullValue());
+        }
+
+        /* Scalars */
+        else if ( value instanceof String ) {
+            return (this.value((String)value));
+        }
+        else if ( value instanceof Boolean ) {
+            return (this.value(((Boolean)value).booleanValue()));
+        }
+        else if ( value instanceof Number ) {
+            return (this.value((Number)value));
+        }
+
+        /* JSON object */
+        else if ( value instanceof JSONObject ) {
+            final JSONObject jsonObject = (JSONObject)value;
+            this.beginObject();
+            for ( final String key : jsonObject.keySet() ) {
+                this.name(key).value(jsonObject.opt(key));
+            }
+            return (this.endObject());
+        }
+
+        /* JSON array */
+        else if ( value instanceof JSONArray ) {
+            this.beginArray();
+            for ( final Object element : (JSONArray)value ) {
+                this.value(element);
+            }
+            return (this.endArray());
+        }
+
+        /* JSON string */
+        else if ( value instanceof JSONString ) {
+            return (this.value(new JSONTokener(((JSONString)value).toJSONString()).nextValue()));
+        }
+
+        /* Everything else, wrapped as org.json would wrap it */
+        final Object wrappedValue = JSONObject.wrap(value);
+        if ( (wrappedValue == null) || (wrappedValue == value) ) {
+            throw new JSONException("Unsupported value type " + value.getClass().getName());
+        }
+
+        return (this.value(wrappedValue));
+
+    }
+
+
+    /**
+     * Flush the output
+     *
+     * @exception   IOException
+     *              If the output could not be flushed
+     */
+    @Override
+    public void flush() throws IOException;
+
+
+    /**
+     * Close the generator and the underlying output
+     *
+     * @exception   IOException
+     *              If the output could not be closed
+     */
+    @Override
+    public void close() throws IOException;
+
+
+}
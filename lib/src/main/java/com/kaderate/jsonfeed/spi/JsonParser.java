@@ -0,0 +1,342 @@
+/**
+ * JsonParser.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.spi;
+
+
+/* Import Java stuff */
+import java.io.Closeable;
+import java.io.IOException;
+import java.math.BigDecimal;
+
+
+/* Import JSON stuff */
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.spi.JsonToken;
+
+
+/**
+ * JSON parser interface, a pull parser the feed model is decoded from, one
+ * token at a time
+ *
+ * A parser reads a single JSON document. Objects and arrays are entered and
+ * left with the begin and end methods, members are read as a name followed
+ * by a value, and values that are not needed are skipped with skipValue().
+ * Invalid JSON is reported with a JSONException.
+ *
+ * Only the basic token methods need to be implemented, the convenience
+ * methods are implemented on top of them.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public interface JsonParser extends Closeable {
+
+
+    /**
+     * Peek at the next token without consuming it
+     *
+     * @return  the next token
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     *
+     * @exception   JSONException
+     *              If the input is not valid JSON
+     */
+    public JsonToken peek() throws IOException;
+
+
+    /**
+     * Check if the current object or array has another element
+     *
+     * @return  true if there is another element
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public boolean hasNext() throws IOException;
+
+
+    /**
+     * Consume the start of an object
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public void beginObject() throws IOException;
+
+
+    /**
+     * Consume the end of an object
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public void endObject() throws IOException;
+
+
+    /**
+     * Consume the start of an array
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public void beginArray() throws IOException;
+
+
+    /**
+     * Consume the end of an array
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public void endArray() throws IOException;
+
+
+    /**
+     * Consume the end of the document, there must be no data after the document
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public void endDocument() throws IOException;
+
+
+    /**
+     * Get the next object member name
+     *
+     * @return  the name
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public String nextName() throws IOException;
+
+
+    /**
+     * Get the next string value, the value must be a string
+     *
+     * @return  the string
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public String nextString() throws IOException;
+
+
+    /**
+     * Get the next boolean value, the strings "true" and "false" are accepted
+     *
+     * @return  the boolean
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public boolean nextBoolean() throws IOException;
+
+
+    /**
+     * Consume the next null value
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public void nextNull() throws IOException;
+
+
+    /**
+     * Get the next number as its JSON text
+     *
+     * @return  the number text
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public String nextNumber() throws IOException;
+
+
+    /**
+     * Skip the next value, or the next member name and its value
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public void skipValue() throws IOException;
+
+
+    /**
+     * Get the next value as a string, null values are returned as null and
+     * other values are returned as their JSON text
+     *
+     * @return  the string, null if the value is null
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public default String nextOptString() throws IOException {
+
+        switch ( this.peek() ) {
+
+            case STRING:
+                return (this.nextString());
+
+            case NULL:
+                this.nextNull();
+                return (null);
+
+            case NUMBER:
+                return (this.nextNumber());
+
+            case BOOLEAN:
+                return ((this.nextBoolean() == true) ? "true" : "false");
+
+            default:
+                return (this.nextValue().toString());
+        }
+
+    }
+
+
+    /**
+     * Get the next int value, numeric strings are accepted
+     *
+     * @return  the int
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public default int nextInt() throws IOException {
+
+        /* Get the number text */
+        final JsonToken token = this.peek();
+        if ( (token != JsonToken.NUMBER) && (token != JsonToken.STRING) ) {
+            throw new JSONException("Expected a number but was " + token);
+        }
+        final String number = (token == JsonToken.NUMBER) ? this.nextNumber() : this.nextString();
+
+        /* Parse the number text */
+        try {
+            return (Integer.parseInt(number));
+        }
+        catch ( final NumberFormatException integerException ) {
+            try {
+                return (new BigDecimal(number).intValue());
+            }
+            catch ( final NumberFormatException decimalException ) {
+                throw new JSONException("Invalid number '" + number + "'");
+            }
+        }
+
+    }
+
+
+    /**
+     * Get the next int value, returning zero if the value is not a number
+     *
+     * @return  the int, zero if the value is not a number
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public default int nextOptInt() throws IOException {
+
+        /* Skip values that are not numbers */
+        final JsonToken token = this.peek();
+        if ( (token != JsonToken.NUMBER) && (token != JsonToken.STRING) ) {
+            this.skipValue();
+            return (0);
+        }
+
+        try {
+            return (this.nextInt());
+        }
+        catch ( final JSONException exception ) {
+            return (0);
+        }
+
+    }
+
+
+    /**
+     * Get the next value as an org.json value, objects are returned as
+     * JSON objects, arrays as JSON arrays, and null as JSONObject.NULL
+     *
+     * @return  the value
+     *
+     * @exception   IOException
+     *              If the input could not be read
+     */
+    public default Object nextValue() throws IOException {
+
+        switch ( this.peek() ) {
+
+            case BEGIN_OBJECT:
+                final JSONObject jsonObject = new JSONObject();
+                this.beginObject();
+                while ( this.hasNext() == true ) {
+                    final String name = this.nextName();
+                    jsonObject.put(name, this.nextValue());
+                }
+                this.endObject();
+                return (jsonObject);
+
+            case BEGIN_ARRAY:
+                final JSONArray jsonArray = new JSONArray();
+                this.beginArray();
+                while ( this.hasNext() == true ) {
+                    jsonArray.put(this.nextValue());
+                }
+                this.endArray();
+                return (jsonArray);
+
+            case STRING:
+                return (this.nextString());
+
+            case NUMBER:
+                return (JSONObject.stringToValue(this.nextNumber()));
+
+            case BOOLEAN:
+                return (this.nextBoolean());
+
+            case NULL:
+                this.nextNull();
+                return (JSONObject.NULL);
+
+            default:
+                throw new JSONException("Expected a value but was " + this.peek());
+        }
+
+    }
+
+
+    /**
+     * Close the parser and the underlying input
+     *
+     * @exception   IOException
+     *              If the input could not be closed
+     */
+    @Override
+    public void close() throws IOException;
+
+
+}
@@ -0,0 +1,134 @@
+/**
+ * JsonProvider.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.spi;
+
+
+/* Import Java stuff */
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.spi.JsonGenerator;
+import com.kaderate.jsonfeed.spi.JsonParser;
+
+
+/**
+ * JSON provider interface, a JSON backend which creates parsers and generators
+ *
+ * Providers are loaded with ServiceLoader, they are registered in
+ * META-INF/services/com.kaderate.jsonfeed.spi.JsonProvider and must
+ * have a public no argument constructor.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public interface JsonProvider {
+
+
+    /**
+     * Default priority
+     */
+    public static final int DEFAULT_PRIORITY = 100;
+
+
+
+    /**
+     * Get the name of the provider
+     *
+     * @return  the name
+     */
+    public String getName();
+
+
+    /**
+     * Get the priority of the provider, the provider with the
+     * highest priority is the default provider
+     *
+     * @return  the priority
+     */
+    public default int getPriority() {
+
+        return (JsonProvider.DEFAULT_PRIORITY);
+
+    }
+
+
+    /**
+     * Create a parser for a UTF-8 encoded JSON stream
+     *
+     * @param   inputStream     the JSON stream
+     *
+     * @return  the parser
+     *
+     * @exception   IOException
+     *              If the parser could not be created
+     */
+    public JsonParser createParser(InputStream inputStream) throws IOException;
+
+
+    /**
+     * Create a parser for a JSON reader
+     *
+     * @param   reader  the JSON reader
+     *
+     * @return  the parser
+     *
+     * @exception   IOException
+     *              If the parser could not be created
+     */
+    public JsonParser createParser(Reader reader) throws IOException;
+
+
+    /**
+     * Create a generator for a JSON writer
+     *
+     * @param   writer  the JSON writer
+     *
+     * @return  the generator
+     *
+     * @exception   IOException
+     *              If the generator could not be created
+     */
+    public JsonGenerator createGenerator(Writer writer) throws IOException;
+
+
+    /**
+     * Create a generator for a UTF-8 encoded JSON stream
+     *
+     * @param   outputStream    the JSON stream
+     *
+     * @return  the generator
+     *
+     * @exception   IOException
+     *              If the generator could not be created
+     */
+    public default JsonGenerator createGenerator(final OutputStream outputStream) throws IOException {
+
+        return (this.createGenerator(new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8))));
+
+    }
+
+
+}
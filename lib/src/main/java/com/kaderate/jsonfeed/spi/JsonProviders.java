@@ -0,0 +1,167 @@
+/**
+ * JsonProviders.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.spi;
+
+
+/* Import Java stuff */
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.ServiceLoader;
+
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.spi.JsonProvider;
+
+
+/**
+ * JSON providers, loads the JSON providers with ServiceLoader
+ *
+ * The default provider is the one named by the "com.kaderate.jsonfeed.spi.JsonProvider"
+ * system property if it is set, otherwise the provider with the highest priority.
+ * Two providers are built in, "org.json" which is the default unless another
+ * provider is dropped in, and "jsonfeed", the streaming tokenizer, which is
+ * only used when it is asked for by name.
+ *
+ * The feed entry points parse with the provider named in the parse options,
+ * otherwise with the default provider. With the org.json provider as the
+ * default they keep their built-in decoding, strings are decoded by org.json
+ * and streams, byte buffers and files by the streaming tokenizer.
+ *
+ * The providers are loaded once, the system property is read every time
+ * the default provider is requested.
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public final class JsonProviders {
+
+
+    /**
+     * Default provider system property
+     */
+    public static final String PROVIDER_PROPERTY = "com.kaderate.jsonfeed.spi.JsonProvider";
+
+
+    /**
+     * Providers, loaded once
+     */
+    private static volatile List<JsonProvider> providerList = null;
+
+
+
+    /**
+     * Constructor
+     */
+    private JsonProviders() {
+
+    }
+
+
+
+    /**
+     * Get the providers
+     *
+     * @return  the providers, the list can not be modified
+     */
+    public static List<JsonProvider> getProviders() {
+
+        /* Return the providers if they were loaded */
+        List<JsonProvider> providerList = JsonProviders.providerList;
+        if ( providerList != null ) {
+            return (providerList);
+        }
+
+        /* Load the providers */
+        providerList = new ArrayList<JsonProvider>();
+        for ( final JsonProvider provider : ServiceLoader.load(JsonProvider.class, JsonProviders.class.getClassLoader()) ) {
+            providerList.add(provider);
+        }
+        providerList = Collections.unmodifiableList(providerList);
+        JsonProviders.providerList = providerList;
+
+        return (providerList);
+
+    }
+
+
+
+    /**
+     * Get a provider by name
+     *
+     * @param   name    the provider name
+     *
+     * @return  the provider
+     *
+     * @exception   IllegalArgumentException
+     *              If there is no provider with that name
+     */
+    public static JsonProvider getProvider(final String name) {
+
+        /* Find the provider */
+        for ( final JsonProvider provider : JsonProviders.getProviders() ) {
+            if ( provider.getName().equals(name) == true ) {
+                return (provider);
+            }
+        }
+
+        throw new IllegalArgumentException("Unknown JSON provider: " + name);
+
+    }
+
+
+
+    /**
+     * Get the default provider
+     *
+     * @return  the default provider
+     *
+     * @exception   IllegalArgumentException
+     *              If the provider named by the system property does not exist
+     *
+     * @exception   IllegalStateException
+     *              If there are no providers
+     */
+    public static JsonProvider getProvider() {
+
+        JsonProvider provider = null;
+
+        /* Get the provider named by the system property */
+        final String name = System.getProperty(JsonProviders.PROVIDER_PROPERTY);
+        if ( name != null ) {
+            provider = JsonProviders.getProvider(name);
+        }
+
+        /* Get the provider with the highest priority */
+        else {
+            for ( final JsonProvider candidateProvider : JsonProviders.getProviders() ) {
+                if ( (provider == null) || (candidateProvider.getPriority() > provider.getPriority()) ) {
+                    provider = candidateProvider;
+                }
+            }
+            if ( provider == null ) {
+                throw new IllegalStateException("There are no JSON providers");
+            }
+        }
+
+        return (provider);
+
+    }
+
+
+}
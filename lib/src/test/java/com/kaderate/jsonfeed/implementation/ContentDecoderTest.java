@@ -0,0 +1,186 @@
+/**
+ * ContentDecoderTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+
+/* Import HTTP server stuff */
+import com.sun.net.httpserver.HttpServer;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+
+/**
+ * Content Decoder tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class ContentDecoderTest {
+
+
+    /**
+     * Test bytes
+     */
+    private static final byte[] TEST_BYTES = "{\"version\": \"https://jsonfeed.org/version/1.1\", \"title\": \"Compressed\"}".getBytes(StandardCharsets.UTF_8);
+
+
+
+    /**
+     * Gzip the bytes
+     */
+    static byte[] gzip(final byte[] bytes) throws IOException {
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try ( OutputStream outputStream = new GZIPOutputStream(byteArrayOutputStream) ) {
+            outputStream.write(bytes);
+        }
+        return (byteArrayOutputStream.toByteArray());
+
+    }
+
+
+    /**
+     * Deflate the bytes, with or without a zlib header
+     */
+    static byte[] deflate(final byte[] bytes, final boolean nowrap) throws IOException {
+
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try ( OutputStream outputStream = new DeflaterOutputStream(byteArrayOutputStream, new Deflater(Deflater.DEFAULT_COMPRESSION, nowrap)) ) {
+            outputStream.write(bytes);
+        }
+        return (byteArrayOutputStream.toByteArray());
+
+    }
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws IOException {
+
+        /* Streams are recognized by their first bytes */
+        try ( InputStream inputStream = ContentDecoder.detect(new ByteArrayInputStream(ContentDecoderTest.TEST_BYTES)) ) {
+            assertArrayEquals(inputStream.readAllBytes(), ContentDecoderTest.TEST_BYTES);
+        }
+        try ( InputStream inputStream = ContentDecoder.detect(new ByteArrayInputStream(ContentDecoderTest.gzip(ContentDecoderTest.TEST_BYTES))) ) {
+            assertArrayEquals(inputStream.readAllBytes(), ContentDecoderTest.TEST_BYTES);
+        }
+        try ( InputStream inputStream = ContentDecoder.detect(new ByteArrayInputStream(ContentDecoderTest.deflate(ContentDecoderTest.TEST_BYTES, false))) ) {
+            assertArrayEquals(inputStream.readAllBytes(), ContentDecoderTest.TEST_BYTES);
+        }
+
+        /* Short streams are returned intact */
+        try ( InputStream inputStream = ContentDecoder.detect(new ByteArrayInputStream(new byte[] { '{' })) ) {
+            assertArrayEquals(inputStream.readAllBytes(), new byte[] { '{' });
+        }
+        try ( InputStream inputStream = ContentDecoder.detect(new ByteArrayInputStream(new byte[0])) ) {
+            assertEquals(inputStream.read(), -1);
+        }
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws IOException {
+
+        /* Streams are decoded according to their content encoding */
+        try ( InputStream inputStream = ContentDecoder.decode(new ByteArrayInputStream(ContentDecoderTest.gzip(ContentDecoderTest.TEST_BYTES)), "GZIP") ) {
+            assertArrayEquals(inputStream.readAllBytes(), ContentDecoderTest.TEST_BYTES);
+        }
+        try ( InputStream inputStream = ContentDecoder.decode(new ByteArrayInputStream(ContentDecoderTest.deflate(ContentDecoderTest.TEST_BYTES, false)), "deflate") ) {
+            assertArrayEquals(inputStream.readAllBytes(), ContentDecoderTest.TEST_BYTES);
+        }
+        try ( InputStream inputStream = ContentDecoder.decode(new ByteArrayInputStream(ContentDecoderTest.deflate(ContentDecoderTest.TEST_BYTES, true)), "deflate") ) {
+            assertArrayEquals(inputStream.readAllBytes(), ContentDecoderTest.TEST_BYTES);
+        }
+        try ( InputStream inputStream = ContentDecoder.decode(new ByteArrayInputStream(ContentDecoderTest.TEST_BYTES), "identity") ) {
+            assertArrayEquals(inputStream.readAllBytes(), ContentDecoderTest.TEST_BYTES);
+        }
+
+        /* Unsupported content encodings */
+        assertThrows(IOException.class, () -> ContentDecoder.decode(new ByteArrayInputStream(ContentDecoderTest.TEST_BYTES), "br"));
+
+    }
+
+
+    /**
+     * Test 3
+     */
+    @Test
+    public void test3() throws Exception {
+
+        byte[] gzipBytes = ContentDecoderTest.gzip(ContentDecoderTest.TEST_BYTES);
+
+        /* Serve the gzipped bytes when they are accepted */
+        HttpServer httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.createContext("/feed.json", (exchange) -> {
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            boolean gzip = (acceptEncoding != null) && (acceptEncoding.contains("gzip") == true);
+            byte[] responseBytes = (gzip == true) ? gzipBytes : ContentDecoderTest.TEST_BYTES;
+            if ( gzip == true ) {
+                exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            }
+            exchange.sendResponseHeaders(200, responseBytes.length);
+            try ( OutputStream outputStream = exchange.getResponseBody() ) {
+                outputStream.write(responseBytes);
+            }
+        });
+        httpServer.start();
+
+        try {
+
+            URI uri = new URI("http://" + httpServer.getAddress().getHostString() + ":" + httpServer.getAddress().getPort() + "/feed.json");
+
+            try ( InputStream inputStream = ContentDecoder.openUri(uri) ) {
+                assertArrayEquals(inputStream.readAllBytes(), ContentDecoderTest.TEST_BYTES);
+            }
+
+            assertEquals(DefaultFeed.fromUri(uri).getTitle(), "Compressed");
+
+        }
+        finally {
+            httpServer.stop(0);
+        }
+
+    }
+
+
+}
@@ -22,7 +22,6 @@ package com.kaderate.jsonfeed.implementation;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
-import java.util.HashMap;
 
 
 /* Import JSON stuff */
@@ -94,11 +93,11 @@ public class DefaultAttachmentTest {
 
         assertNotNull(attachment.getExtensionsJSONObject());
         assertNotNull(attachment.getExtensionsJSONObject().get("_blue_shed"));
-        assertEquals(((HashMap)attachment.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
-        assertEquals(((HashMap)attachment.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
-        assertEquals(((HashMap)attachment.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
-        assertEquals(((HashMap)attachment.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
-        assertEquals(((HashMap)attachment.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
+        assertEquals(((JSONObject)attachment.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
+        assertEquals(((JSONObject)attachment.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
+        assertEquals(((JSONObject)attachment.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
+        assertEquals(((JSONObject)attachment.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
+        assertEquals(((JSONObject)attachment.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
 
         assertNotNull(attachment.toJSONString());
 
@@ -22,7 +22,6 @@ package com.kaderate.jsonfeed.implementation;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
-import java.util.HashMap;
 
 
 /* Import JSON stuff */
@@ -90,11 +89,11 @@ public class DefaultAuthorTest {
 
         assertNotNull(author.getExtensionsJSONObject());
         assertNotNull(author.getExtensionsJSONObject().get("_blue_shed"));
-        assertEquals(((HashMap)author.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
-        assertEquals(((HashMap)author.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
-        assertEquals(((HashMap)author.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
-        assertEquals(((HashMap)author.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
-        assertEquals(((HashMap)author.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
+        assertEquals(((JSONObject)author.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
+        assertEquals(((JSONObject)author.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
+        assertEquals(((JSONObject)author.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
+        assertEquals(((JSONObject)author.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
+        assertEquals(((JSONObject)author.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
 
         assertNotNull(author.toJSONString());
 
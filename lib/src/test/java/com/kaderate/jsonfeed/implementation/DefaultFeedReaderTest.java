@@ -0,0 +1,377 @@
+/**
+ * DefaultFeedReaderTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.NoSuchElementException;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.FeedReader;
+import com.kaderate.jsonfeed.Item;
+import com.kaderate.jsonfeed.Version;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
+import com.kaderate.jsonfeed.implementation.DefaultFeedReader;
+
+
+
+/**
+ * Default Feed Reader tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class DefaultFeedReaderTest {
+
+
+    private static final String TEST_STRING_1_0 = "{" +
+            "\"version\": \"https://jsonfeed.org/version/1.0\"," +
+            "\"title\": \"Feed Feed\"," +
+            "\"home_page_url\": \"https://ham.org/\"," +
+            "\"feed_url\": \"https://ham.org/feed.json\"," +
+            "\"description\": \"Ham Feed Description\"," +
+            "\"user_comment\": \"Ham Feed User Comment\"," +
+            "\"next_url\": \"https://ham.org/feed.json?page=2\"," +
+            "\"icon\": \"https://ham.org/icon.jpg\"," +
+            "\"favicon\": \"https://ham.org/favicon.jpg\"," +
+            "\"expired\": true," +
+            "\"author\": { " +
+                "\"name\": \"Dalek Caan\"," +
+                "\"url\": \"https://ham.org/authorCaan.html\"," +
+                "\"avatar\": \"https://ham.org/avatarCaan.html\"" +
+            "}, " +
+            "\"items\": [ "+
+                "{" +
+                    "\"id\": \"2\"," +
+                    "\"content_text\": \"This is a second item.\"," +
+                    "\"url\": \"https://example.org/second-item\"," +
+                    "\"author\": { " +
+                        "\"name\": \"Dalek Jast\"," +
+                        "\"url\": \"https://ham.org/authorJast.html\"," +
+                        "\"avatar\": \"https://ham.org/avatarJast.html\"" +
+                    "}," +
+                    "\"attachments\": [" +
+                        "{" +
+                            "\"url\": \"https://ham.org/doctorRevenge.m4v\"," +
+                            "\"mime_type\": \"video/x-m4v\"," +
+                            "\"title\": \"Doctor's Revenge\"," +
+                            "\"size_in_bytes\": 300," +
+                            "\"duration_in_seconds\": 400" +
+                        "} " +
+                    "] " +
+                "}, " +
+                "{ "+
+                    "\"id\": \"1\", " +
+                    "\"content_html\": \"<p>Hello, world!</p>\", " +
+                    "\"url\": \"https://example.org/initial-post\"," +
+                    "\"author\": { " +
+                        "\"name\": \"Dalek Thay\"," +
+                        "\"url\": \"https://ham.org/authorThay.html\"," +
+                        "\"avatar\": \"https://ham.org/avatarThay.html\"" +
+                    "}," +
+                    "\"attachments\": [" +
+                        "{" +
+                            "\"url\": \"https://ham.org/dalekInvasion.m4v\"," +
+                            "\"mime_type\": \"video/x-m4v\"," +
+                            "\"title\": \"Dalek Invasion\"," +
+                            "\"size_in_bytes\": 100," +
+                            "\"duration_in_seconds\": 200" +
+                        "} " +
+                    "] " +
+                "} " +
+            "], " +
+            "\"hubs\": [ "+
+                "{" +
+                    "\"type\": \"Tardis\"," +
+                    "\"url\": \"https://ham.org/tardis.html\"" +
+                "} " +
+            "], " +
+            "\"_blue_shed\": { " +
+                "\"about\": \"https://blueshed-podcasts.com/json-feed-extension-docs\"," +
+                "\"explicit\": false," +
+                "\"copyright\": \"1948 by George Orwell\"," +
+                "\"owner\": \"Big Brother and the Holding Company\"," +
+                "\"subtitle\": \"All shouting, all the time. Double. Plus. Good.\"" +
+            "} " +
+        "}";
+
+
+    /**
+     * Input stream generating a feed with a number of items on the fly
+     */
+    private static final class GeneratedFeedInputStream extends InputStream {
+
+        private final int itemCount;
+        private int itemIndex = -1;
+        private byte[] chunk = "{\"version\": \"https://jsonfeed.org/version/1.1\", \"title\": \"Generated\", \"items\": [".getBytes(StandardCharsets.UTF_8);
+        private int chunkPosition = 0;
+
+        GeneratedFeedInputStream(int itemCount) {
+            this.itemCount = itemCount;
+        }
+
+        @Override
+        public int read() {
+            if ( this.chunkPosition == this.chunk.length ) {
+                this.itemIndex++;
+                if ( this.itemIndex < this.itemCount ) {
+                    String item = ((this.itemIndex > 0) ? "," : "") + "{\"id\": \"" + this.itemIndex + "\", \"content_text\": \"Item text " + this.itemIndex + "\"}";
+                    this.chunk = item.getBytes(StandardCharsets.UTF_8);
+                }
+                else if ( this.itemIndex == this.itemCount ) {
+                    this.chunk = "]}".getBytes(StandardCharsets.UTF_8);
+                }
+                else {
+                    return (-1);
+                }
+                this.chunkPosition = 0;
+            }
+            return (this.chunk[this.chunkPosition++] & 0xFF);
+        }
+
+    }
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws URISyntaxException, IOException {
+
+        try ( FeedReader feedReader = DefaultFeedReader.fromReader(new StringReader(DefaultFeedReaderTest.TEST_STRING_1_0)) ) {
+
+            Feed feed = feedReader.getFeed();
+
+            assertNotNull(feed);
+            assertEquals(feed.getVersion(), Version.VERSION_1_0);
+            assertEquals(feed.getTitle(), "Feed Feed");
+            assertEquals(feed.getHomePageUri().toString(), "https://ham.org/");
+            assertEquals(feed.getNextUri().toString(), "https://ham.org/feed.json?page=2");
+            assertEquals(feed.getExpired(), true);
+            assertEquals(feed.getAuthor().getName(), "Dalek Caan");
+            assertTrue(feed.getItemList().isEmpty());
+
+            /* Hubs and extensions follow the items */
+            assertTrue(feed.getHubList().isEmpty());
+
+            assertTrue(feedReader.hasNext());
+            Item item = feedReader.next();
+            assertTrue(item.isValid());
+            assertEquals(item.getID(), "2");
+            assertEquals(item.getContentText(), "This is a second item.");
+            assertEquals(item.getUri().toString(), "https://example.org/second-item");
+            assertEquals(item.getAuthor().getName(), "Dalek Jast");
+            assertEquals(item.getAttachmentList().size(), 1);
+            assertEquals(item.getAttachmentList().get(0).getTitle(), "Doctor's Revenge");
+            assertEquals(item.getAttachmentList().get(0).getSizeInBytes().intValue(), 300);
+            assertEquals(item.getAttachmentList().get(0).getDurationInSeconds().intValue(), 400);
+
+            assertTrue(feedReader.hasNext());
+            item = feedReader.next();
+            assertEquals(item.getID(), "1");
+            assertEquals(item.getContentHtml(), "<p>Hello, world!</p>");
+
+            assertFalse(feedReader.hasNext());
+            assertFalse(feedReader.hasNext());
+
+            assertEquals(feed.getHubList().size(), 1);
+            assertEquals(feed.getHubList().get(0).getType(), "Tardis");
+            assertEquals(feed.getExtensionsJSONObject().getJSONObject("_blue_shed").get("copyright"), "1948 by George Orwell");
+
+        }
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws URISyntaxException, IOException {
+
+        int itemCount = 100000;
+        int itemIndex = 0;
+
+        try ( FeedReader feedReader = DefaultFeedReader.fromInputStream(new GeneratedFeedInputStream(itemCount)) ) {
+
+            assertEquals(feedReader.getFeed().getVersion(), Version.VERSION_1_1);
+            assertEquals(feedReader.getFeed().getTitle(), "Generated");
+
+            while ( feedReader.hasNext() == true ) {
+                Item item = feedReader.next();
+                assertEquals(item.getID(), Integer.toString(itemIndex));
+                assertEquals(item.getContentText(), "Item text " + itemIndex);
+                itemIndex++;
+            }
+
+        }
+
+        assertEquals(itemIndex, itemCount);
+
+    }
+
+
+    /**
+     * Test 3
+     */
+    @Test
+    public void test3() throws URISyntaxException, IOException {
+
+        String feedString = "{\"title\": \"No Version\", \"items\": [ { \"id\": \"1\" } ]}";
+
+        /* The items are held back until the version is found, so none is returned */
+        try {
+            DefaultFeedReader.fromInputStream(new ByteArrayInputStream(feedString.getBytes(StandardCharsets.UTF_8)));
+            fail("Expected a missing version exception");
+        }
+        catch ( IllegalArgumentException exception ) {
+            assertEquals(exception.getMessage(), "Missing version");
+        }
+
+        /* Items before the version are held back until it is found and upgraded to it */
+        feedString = "{" +
+                "\"items\": [ { \"id\": \"1\", \"author\": { \"name\": \"Dalek Caan\" } }, { \"id\": \"2\" } ]," +
+                "\"version\": \"https://jsonfeed.org/version/1.1\"," +
+                "\"title\": \"Feed Feed\"" +
+            "}";
+        Feed expectedFeed = DefaultFeed.fromString(feedString);
+
+        try ( FeedReader feedReader = DefaultFeedReader.fromInputStream(new ByteArrayInputStream(feedString.getBytes(StandardCharsets.UTF_8))) ) {
+            assertEquals(feedReader.getFeed().getVersion(), Version.VERSION_1_1);
+            assertEquals(feedReader.getFeed().getTitle(), "Feed Feed");
+            for ( int i = 0; i < 2; i++ ) {
+                assertTrue(feedReader.hasNext());
+                assertEquals(feedReader.next().toJSONString(), expectedFeed.getItemList().get(i).toJSONString());
+            }
+            assertFalse(feedReader.hasNext());
+        }
+
+        /* The item limit and the watermark apply to the items held back */
+        try ( FeedReader feedReader = DefaultFeedReader.fromReader(new StringReader(feedString), new ParseOptions().setMaxItems(1).setTruncateItems(true)) ) {
+            assertEquals(feedReader.next().getID(), "1");
+            assertFalse(feedReader.hasNext());
+            assertTrue(feedReader.getFeed().isTruncated());
+        }
+        try ( FeedReader feedReader = DefaultFeedReader.fromReader(new StringReader(feedString), new ParseOptions().setWatermarkItemId("2")) ) {
+            assertEquals(feedReader.next().getID(), "1");
+            assertFalse(feedReader.hasNext());
+        }
+
+    }
+
+
+    /**
+     * Test 4
+     */
+    @Test(expected = NoSuchElementException.class)
+    public void test4() throws URISyntaxException, IOException {
+
+        String feedString = "{\"version\": \"https://jsonfeed.org/version/1\", \"items\": []}";
+
+        try ( FeedReader feedReader = DefaultFeedReader.fromReader(new StringReader(feedString)) ) {
+
+            assertFalse(feedReader.hasNext());
+            feedReader.next();
+
+        }
+
+    }
+
+
+    /**
+     * Test 5
+     */
+    @Test
+    public void test5() throws URISyntaxException, IOException {
+
+        int itemCount = 20000;
+        int itemIndex = 0;
+
+        Path feedPath = Files.createTempFile("feed", ".json");
+
+        try {
+
+            try ( InputStream inputStream = new GeneratedFeedInputStream(itemCount) ) {
+                Files.copy(inputStream, feedPath, StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            try ( FeedReader feedReader = DefaultFeedReader.fromPath(feedPath) ) {
+
+                assertEquals(feedReader.getFeed().getTitle(), "Generated");
+
+                while ( feedReader.hasNext() == true ) {
+                    assertEquals(feedReader.next().getID(), Integer.toString(itemIndex));
+                    itemIndex++;
+                }
+
+            }
+
+            assertEquals(itemIndex, itemCount);
+
+        }
+        finally {
+            Files.delete(feedPath);
+        }
+
+    }
+
+
+    /**
+     * Test 6
+     */
+    @Test
+    public void test6() throws URISyntaxException, IOException {
+
+        int itemIndex = 0;
+
+        /* Items end at the watermark item, the members after the items are still read */
+        ParseOptions parseOptions = new ParseOptions().setItemFields("content_text").setWatermarkItemId("3");
+        try ( FeedReader feedReader = DefaultFeedReader.fromInputStream(new GeneratedFeedInputStream(1000), parseOptions) ) {
+
+            while ( feedReader.hasNext() == true ) {
+                Item item = feedReader.next();
+                assertEquals(item.getID(), Integer.toString(itemIndex));
+                itemIndex++;
+            }
+
+            assertFalse(feedReader.hasNext());
+            assertThrows(NoSuchElementException.class, () -> feedReader.next());
+        }
+
+        assertEquals(itemIndex, 3);
+
+    }
+
+
+}
@@ -19,20 +19,34 @@ package com.kaderate.jsonfeed.implementation;
 
 
 /* Import Java stuff */
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.InputStreamReader;
 import java.io.IOException;
+import java.io.RandomAccessFile;
 import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.lang.StringBuilder;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.HashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 
 /* Import JSON stuff */
 import org.json.JSONArray;
+import org.json.JSONException;
 import org.json.JSONObject;
 
 
@@ -52,6 +66,7 @@ import com.kaderate.jsonfeed.implementation.DefaultAuthor;
 import com.kaderate.jsonfeed.implementation.DefaultFeed;
 import com.kaderate.jsonfeed.implementation.DefaultHub;
 import com.kaderate.jsonfeed.implementation.DefaultItem;
+import com.kaderate.jsonfeed.implementation.FeedHeader;
 
 
 
@@ -298,11 +313,11 @@ public class DefaultFeedTest {
 
         assertNotNull(feed.getExtensionsJSONObject());
         assertNotNull(feed.getExtensionsJSONObject().get("_blue_shed"));
-        assertEquals(((HashMap)feed.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
-        assertEquals(((HashMap)feed.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
-        assertEquals(((HashMap)feed.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
-        assertEquals(((HashMap)feed.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
-        assertEquals(((HashMap)feed.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
+        assertEquals(((JSONObject)feed.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
+        assertEquals(((JSONObject)feed.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
+        assertEquals(((JSONObject)feed.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
+        assertEquals(((JSONObject)feed.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
+        assertEquals(((JSONObject)feed.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
 
         assertNotNull(feed.toJSONString());
 
@@ -393,11 +408,11 @@ public class DefaultFeedTest {
 
         assertNotNull(feed.getExtensionsJSONObject());
         assertNotNull(feed.getExtensionsJSONObject().get("_blue_shed"));
-        assertEquals(((HashMap)feed.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
-        assertEquals(((HashMap)feed.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
-        assertEquals(((HashMap)feed.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
-        assertEquals(((HashMap)feed.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
-        assertEquals(((HashMap)feed.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
+        assertEquals(((JSONObject)feed.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
+        assertEquals(((JSONObject)feed.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
+        assertEquals(((JSONObject)feed.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
+        assertEquals(((JSONObject)feed.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
+        assertEquals(((JSONObject)feed.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
 
         assertNotNull(feed.toJSONString());
 
@@ -623,4 +638,574 @@ public class DefaultFeedTest {
     }
 
 
+    /**
+     * Test 7
+     */
+    @Test
+    public void test7() throws URISyntaxException, IOException {
+
+        byte[] feedBytes = DefaultFeedTest.TEST_STRING_1_1.getBytes(StandardCharsets.UTF_8);
+        byte[] feedBytesWithBom = new byte[feedBytes.length + 3];
+        feedBytesWithBom[0] = (byte)0xEF;
+        feedBytesWithBom[1] = (byte)0xBB;
+        feedBytesWithBom[2] = (byte)0xBF;
+        System.arraycopy(feedBytes, 0, feedBytesWithBom, 3, feedBytes.length);
+
+        List<Feed> feedList = new ArrayList<Feed>();
+        feedList.add(DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes)));
+        feedList.add(DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytesWithBom)));
+        feedList.add(DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytesWithBom)));
+        feedList.add(DefaultFeed.fromByteBuffer(ByteBuffer.allocateDirect(feedBytes.length).put(feedBytes).flip()));
+        feedList.add(DefaultFeed.fromReader(new StringReader(DefaultFeedTest.TEST_STRING_1_1)));
+
+        for ( Feed feed : feedList ) {
+
+            assertNotNull(feed);
+            assertTrue(feed.isValid());
+
+            assertEquals(feed.getVersion(), Version.VERSION_1_1);
+            assertEquals(feed.getTitle(), "Feed Feed");
+            assertEquals(feed.getHomePageUri().toString(), "https://ham.org/");
+            assertEquals(feed.getNextUri().toString(), "https://ham.org/feed.json?page=2");
+            assertEquals(feed.getLanguage(), "en-US");
+            assertEquals(feed.getExpired(), true);
+            assertEquals(feed.getAuthorList().size(), 2);
+            assertEquals(feed.getAuthorList().get(1).getName(), "Dalek Jast");
+
+            assertEquals(feed.getItemList().size(), 2);
+            assertEquals(feed.getItemList().get(0).getID(), "2");
+            assertEquals(feed.getItemList().get(0).getAuthorList().get(0).getName(), "Dalek Sec");
+            assertEquals(feed.getItemList().get(0).getAttachmentList().get(0).getSizeInBytes().intValue(), 300);
+            assertEquals(feed.getItemList().get(1).getContentHtml(), "<p>Hello, world!</p>");
+
+            assertEquals(feed.getHubList().size(), 1);
+            assertEquals(feed.getHubList().get(0).getType(), "Tardis");
+
+            assertEquals(feed.getExtensionsJSONObject().getJSONObject("_blue_shed").get("owner"), "Big Brother and the Holding Company");
+
+        }
+
+    }
+
+
+    /**
+     * Test 8
+     */
+    @Test
+    public void test8() throws URISyntaxException, IOException {
+
+        /* Version 1.0 items are upgraded when the feed is 1.1, even if the version follows the items */
+        String feedString = "{" +
+                "\"items\": [ { \"id\": \"1\", \"author\": { \"name\": \"Dalek Caan\" } } ]," +
+                "\"version\": \"https://jsonfeed.org/version/1.1\"," +
+                "\"title\": \"Feed Feed\"" +
+            "}";
+
+        Feed feed = DefaultFeed.fromInputStream(new ByteArrayInputStream(feedString.getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(feed.getVersion(), Version.VERSION_1_1);
+        assertNull(feed.getItemList().get(0).getAuthor());
+        assertEquals(feed.getItemList().get(0).getAuthorList().get(0).getName(), "Dalek Caan");
+
+    }
+
+
+    /**
+     * Test 9
+     */
+    @Test(expected = IllegalArgumentException.class)
+    public void test9() throws URISyntaxException, IOException {
+
+        String feedString = "{ \"title\": \"Feed Feed\", \"items\": [] }";
+
+        DefaultFeed.fromInputStream(new ByteArrayInputStream(feedString.getBytes(StandardCharsets.UTF_8)));
+
+    }
+
+
+    /**
+     * Test 10
+     */
+    @Test
+    public void test10() throws URISyntaxException, IOException {
+
+        Path feedPath = Files.createTempFile("feed", ".json");
+
+        try {
+
+            Files.write(feedPath, DefaultFeedTest.TEST_STRING_1_0.getBytes(StandardCharsets.UTF_8));
+
+            Feed feed = DefaultFeed.fromPath(feedPath);
+
+            assertNotNull(feed);
+            assertTrue(feed.isValid());
+            assertEquals(feed.getVersion(), Version.VERSION_1_0);
+            assertEquals(feed.getTitle(), "Feed Feed");
+            assertEquals(feed.getAuthor().getName(), "Dalek Caan");
+            assertEquals(feed.getItemList().size(), 2);
+            assertEquals(feed.getItemList().get(1).getAttachmentList().get(0).getTitle(), "Dalek Invasion");
+            assertEquals(feed.getHubList().get(0).getUri().toString(), "https://ham.org/tardis.html");
+
+        }
+        finally {
+            Files.delete(feedPath);
+        }
+
+    }
+
+
+    /**
+     * Test 11
+     */
+    @Test
+    public void test11() throws URISyntaxException, IOException {
+
+        /* Item field projection */
+        ParseOptions parseOptions = new ParseOptions().setItemFields("id", "url", "date_published", "title");
+        Feed feed = DefaultFeed.fromInputStream(new ByteArrayInputStream(DefaultFeedTest.TEST_STRING_1_0.getBytes(StandardCharsets.UTF_8)), parseOptions);
+
+        assertEquals(feed.getTitle(), "Feed Feed");
+        assertEquals(feed.getAuthor().getName(), "Dalek Caan");
+        assertEquals(feed.getHubList().size(), 1);
+        assertEquals(feed.getExtensionsJSONObject().length(), 1);
+        assertEquals(feed.getItemList().size(), 2);
+        assertEquals(feed.getItemList().get(1).getID(), "1");
+        assertEquals(feed.getItemList().get(1).getUri().toString(), "https://example.org/initial-post");
+        assertNull(feed.getItemList().get(1).getContentHtml());
+        assertNull(feed.getItemList().get(1).getAuthor());
+        assertEquals(feed.getItemList().get(1).getAttachmentList().size(), 0);
+
+        /* Feed field projection, the version is always decoded */
+        parseOptions = new ParseOptions().setFeedFields("title", "_blue_shed");
+        feed = DefaultFeed.fromReader(new StringReader(DefaultFeedTest.TEST_STRING_1_0), parseOptions);
+
+        assertEquals(feed.getVersion(), Version.VERSION_1_0);
+        assertEquals(feed.getTitle(), "Feed Feed");
+        assertNull(feed.getHomePageUri());
+        assertNull(feed.getAuthor());
+        assertEquals(feed.getItemList().size(), 0);
+        assertEquals(feed.getHubList().size(), 0);
+        assertEquals(feed.getExtensionsJSONObject().length(), 1);
+
+    }
+
+
+    /**
+     * Test 12
+     */
+    @Test
+    public void test12() throws URISyntaxException, IOException {
+
+        byte[] feedBytes = DefaultFeedTest.TEST_STRING_1_1.getBytes(StandardCharsets.UTF_8);
+        ParseOptions parseOptions = new ParseOptions().setLazyItems(true);
+
+        Feed eagerFeed = DefaultFeed.fromString(DefaultFeedTest.TEST_STRING_1_1);
+
+        ByteBuffer directByteBuffer = ByteBuffer.allocateDirect(feedBytes.length);
+        directByteBuffer.put(feedBytes).flip();
+
+        Path feedPath = Files.createTempFile("feed", ".json");
+        Files.write(feedPath, feedBytes);
+
+        try {
+
+            List<Feed> feedList = new ArrayList<Feed>();
+            feedList.add(DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), parseOptions));
+            feedList.add(DefaultFeed.fromByteBuffer(directByteBuffer, parseOptions));
+            feedList.add(DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes), parseOptions));
+            feedList.add(DefaultFeed.fromPath(feedPath, parseOptions));
+
+            for ( Feed feed : feedList ) {
+
+                assertEquals(feed.getVersion(), eagerFeed.getVersion());
+                assertEquals(feed.getTitle(), eagerFeed.getTitle());
+                assertEquals(feed.getItemList().size(), eagerFeed.getItemList().size());
+
+                for ( int i = 0; i < feed.getItemList().size(); i++ ) {
+                    Item item = feed.getItemList().get(i);
+                    assertSame(feed.getItemList().get(i), item);
+                    assertEquals(item.toJSONString(), eagerFeed.getItemList().get(i).toJSONString());
+                }
+            }
+
+            /* Files too large to be mapped whole are rejected by the options which need the feed bytes, the file is sparse */
+            try ( RandomAccessFile feedFile = new RandomAccessFile(feedPath.toFile(), "rw") ) {
+                feedFile.setLength(Integer.MAX_VALUE + 1L);
+            }
+            IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> DefaultFeed.fromPath(feedPath, parseOptions));
+            assertTrue(exception.getMessage().contains("lazy items"));
+            exception = assertThrows(IllegalArgumentException.class, () -> new FeedParser(new ParseOptions().setLazyContent(true)).parse(feedPath));
+            assertTrue(exception.getMessage().contains("lazy content"));
+
+        }
+        finally {
+            Files.delete(feedPath);
+        }
+
+    }
+
+
+    /**
+     * Test 13
+     */
+    @Test
+    public void test13() throws URISyntaxException, IOException {
+
+        String feedString = "{" +
+                "\"version\": \"https://jsonfeed.org/version/1.1\"," +
+                "\"home_page_url\": \"https://ham.org/dalek invasion\"," +
+                "\"items\": [ { \"id\": \"1\", \"url\": \"https://ham.org/a%20b\" } ]" +
+            "}";
+
+        /* Invalid URIs are found when parsed by default */
+        try {
+            DefaultFeed.fromReader(new StringReader(feedString));
+            fail("Expected a URISyntaxException");
+        }
+        catch ( URISyntaxException exception ) {
+            assertEquals(exception.getInput(), "https://ham.org/dalek invasion");
+        }
+
+        /* Invalid URIs are found when requested if they are not validated */
+        Feed feed = DefaultFeed.fromReader(new StringReader(feedString), new ParseOptions().setValidateUris(false));
+        assertThrows(IllegalArgumentException.class, () -> feed.getHomePageUri());
+        assertEquals(feed.getItemList().get(0).getUri().getPath(), "/a b");
+
+        /* URIs are written back as they were read */
+        assertTrue(feed.toJSONString().contains("https://ham.org/dalek invasion"));
+        assertTrue(feed.getItemList().get(0).toJSONString().contains("https://ham.org/a%20b"));
+
+    }
+
+
+    /**
+     * Test 14
+     */
+    @Test
+    public void test14() throws URISyntaxException, IOException {
+
+        StringBuilder feedStringBuilder = new StringBuilder("{\"version\": \"https://jsonfeed.org/version/1.1\", \"title\": \"Parallel\", \"items\": [");
+        for ( int i = 0; i < 1000; i++ ) {
+            feedStringBuilder.append((i > 0) ? "," : "").append("{\"id\": \"").append(i).append("\", \"url\": \"https://ham.org/").append(i)
+                    .append("\", \"date_published\": \"2020-11-03T10:30:00Z\"}");
+        }
+        feedStringBuilder.append("]}");
+        byte[] feedBytes = feedStringBuilder.toString().getBytes(StandardCharsets.UTF_8);
+
+        Feed eagerFeed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes));
+
+        /* Items are decoded in order on the common pool and on a caller executor */
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Feed> feedList = new ArrayList<Feed>();
+            feedList.add(DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setParallelItems(true).setItemChunkSize(64)));
+            feedList.add(DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes), new ParseOptions().setParallelItems(true).setItemChunkSize(10).setExecutor(executorService)));
+
+            for ( Feed feed : feedList ) {
+                assertEquals(feed.getTitle(), eagerFeed.getTitle());
+                assertEquals(feed.getItemList().size(), 1000);
+                for ( int i = 0; i < feed.getItemList().size(); i++ ) {
+                    assertEquals(feed.getItemList().get(i).toJSONString(), eagerFeed.getItemList().get(i).toJSONString());
+                }
+            }
+        }
+        finally {
+            executorService.shutdown();
+        }
+
+        /* The error for the first invalid item is reported */
+        String invalidFeedString = feedStringBuilder.toString().replace("https://ham.org/990\"", "https://ham.org/9 90\"")
+                .replace("https://ham.org/250\"", "https://ham.org/2 50\"");
+        for ( int i = 0; i < 10; i++ ) {
+            try {
+                DefaultFeed.fromByteBuffer(ByteBuffer.wrap(invalidFeedString.getBytes(StandardCharsets.UTF_8)),
+                        new ParseOptions().setParallelItems(true).setItemChunkSize(16));
+                fail("Expected a URISyntaxException");
+            }
+            catch ( URISyntaxException exception ) {
+                assertEquals(exception.getInput(), "https://ham.org/2 50");
+            }
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> new ParseOptions().setItemChunkSize(0));
+
+    }
+
+
+    /**
+     * Test 15
+     */
+    @Test
+    public void test15() throws URISyntaxException, IOException {
+
+        String itemsString = "[ { \"id\": \"1\", \"content_text\": \"[{\\\"\" }, { \"id\": \"2\", \"url\": \"not a uri\" } ]";
+        String feedString = "{" +
+                "\"version\": \"https://jsonfeed.org/version/1.1\"," +
+                "\"items\": " + itemsString + "," +
+                "\"title\": \"Header\"," +
+                "\"next_url\": \"https://ham.org/feed?page=2\"," +
+                "\"expired\": true," +
+                "\"hubs\": [ { \"type\": \"WebSub\", \"url\": \"https://ham.org/hub\" } ]" +
+            "}";
+        byte[] feedBytes = feedString.getBytes(StandardCharsets.UTF_8);
+
+        /* The header is read without decoding the items, even those after the items, gzip and deflate encoded feeds are inflated */
+        List<FeedHeader> feedHeaderList = new ArrayList<FeedHeader>();
+        feedHeaderList.add(DefaultFeed.parseHeader(ByteBuffer.wrap(feedBytes)));
+        feedHeaderList.add(DefaultFeed.parseHeader(new ByteArrayInputStream(feedBytes)));
+        feedHeaderList.add(DefaultFeed.parseHeader(ByteBuffer.wrap(ContentDecoderTest.gzip(feedBytes))));
+        feedHeaderList.add(DefaultFeed.parseHeader(new ByteArrayInputStream(ContentDecoderTest.deflate(feedBytes, false))));
+        Path feedPath = Files.createTempFile("feed", ".json.gz");
+        try {
+            Files.write(feedPath, ContentDecoderTest.gzip(feedBytes));
+            feedHeaderList.add(DefaultFeed.parseHeader(feedPath));
+        }
+        finally {
+            Files.delete(feedPath);
+        }
+
+        for ( FeedHeader feedHeader : feedHeaderList ) {
+            Feed feed = feedHeader.getFeed();
+            assertEquals(feed.getVersion(), Version.VERSION_1_1);
+            assertEquals(feed.getTitle(), "Header");
+            assertEquals(feed.getNextUri(), new URI("https://ham.org/feed?page=2"));
+            assertEquals(feed.getExpired(), Boolean.TRUE);
+            assertEquals(feed.getHubList().size(), 1);
+            assertEquals(feed.getItemList().size(), 0);
+            assertEquals(feedHeader.getItemsOffset(), feedString.indexOf(itemsString));
+            assertEquals(feedHeader.getItemsEndOffset(), feedString.indexOf(itemsString) + itemsString.length());
+        }
+
+        /* Feeds without items */
+        FeedHeader feedHeader = DefaultFeed.parseHeader(ByteBuffer.wrap("{\"version\": \"https://jsonfeed.org/version/1\"}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals(feedHeader.getItemsOffset(), -1);
+        assertEquals(feedHeader.getItemsEndOffset(), -1);
+
+        /* Projection applies to the header */
+        feedHeader = DefaultFeed.parseHeader(ByteBuffer.wrap(feedBytes), new ParseOptions().setFeedFields("expired"));
+        assertNull(feedHeader.getFeed().getTitle());
+        assertEquals(feedHeader.getFeed().getExpired(), Boolean.TRUE);
+
+    }
+
+
+    /**
+     * Test 16
+     */
+    @Test
+    public void test16() throws URISyntaxException, IOException {
+
+        String feedString = "{" +
+                "\"version\": \"https://jsonfeed.org/version/1.1\"," +
+                "\"items\": [" +
+                    "{ \"id\": \"4\", \"date_published\": \"2020-11-04T10:00:00Z\" }," +
+                    "{ \"id\": \"3\" }," +
+                    "{ \"id\": \"2\", \"date_published\": \"2020-11-02T10:00:00Z\" }," +
+                    "{ \"id\": \"1\", \"url\": \"not a uri\" }" +
+                "]," +
+                "\"title\": \"Watermark\"" +
+            "}";
+        byte[] feedBytes = feedString.getBytes(StandardCharsets.UTF_8);
+
+        /* Items stop at the watermark item id, the items after it are not decoded */
+        Feed feed = DefaultFeed.fromReader(new StringReader(feedString), new ParseOptions().setWatermarkItemId("2"));
+        assertEquals(feed.getTitle(), "Watermark");
+        assertEquals(feed.getItemList().size(), 2);
+        assertEquals(feed.getItemList().get(0).getID(), "4");
+        assertEquals(feed.getItemList().get(1).getID(), "3");
+
+        /* Items stop at the watermark date published, undated items do not stop them */
+        feed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setWatermarkDatePublished(Instant.parse("2020-11-03T00:00:00Z")).setLazyItems(true));
+        assertEquals(feed.getItemList().size(), 2);
+        assertEquals(feed.getItemList().get(1).getID(), "3");
+
+        /* Both watermarks, the first one reached stops the items, the watermark fields are always decoded */
+        feed = DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes), new ParseOptions().setItemFields("url")
+                .setWatermarkItemId("3").setWatermarkDatePublished(Instant.parse("2020-11-01T00:00:00Z")));
+        assertEquals(feed.getItemList().size(), 1);
+        assertEquals(feed.getItemList().get(0).getID(), "4");
+
+    }
+
+
+    /**
+     * Test 17
+     */
+    @Test
+    public void test17() throws Exception {
+
+        byte[] feedBytes = DefaultFeedTest.TEST_STRING_1_1.getBytes(StandardCharsets.UTF_8);
+        String expectedJsonString = DefaultFeed.fromString(DefaultFeedTest.TEST_STRING_1_1).toJSONString();
+
+        Path feedPath = Files.createTempFile("feed", ".json");
+        Files.write(feedPath, feedBytes);
+
+        ExecutorService fetchExecutorService = Executors.newFixedThreadPool(2);
+        ExecutorService parseExecutorService = Executors.newFixedThreadPool(2);
+
+        try {
+
+            /* Fetch and parse on separate executors */
+            List<CompletableFuture<Feed>> feedFutureList = new ArrayList<CompletableFuture<Feed>>();
+            for ( int i = 0; i < 10; i++ ) {
+                feedFutureList.add(DefaultFeed.fromUriAsync(feedPath.toUri(), fetchExecutorService, parseExecutorService, new ParseOptions()));
+                feedFutureList.add(DefaultFeed.fromInputStreamAsync(() -> new ByteArrayInputStream(feedBytes), fetchExecutorService));
+            }
+            for ( CompletableFuture<Feed> feedFuture : feedFutureList ) {
+                assertEquals(feedFuture.get().toJSONString(), expectedJsonString);
+            }
+
+            /* Errors from the supplier and from parsing are the future causes */
+            CompletableFuture<Feed> feedFuture = DefaultFeed.fromInputStreamAsync(() -> { throw new IOException("Unreachable"); }, fetchExecutorService);
+            ExecutionException executionException = assertThrows(ExecutionException.class, () -> feedFuture.get());
+            assertTrue(executionException.getCause() instanceof IOException);
+
+            CompletableFuture<Feed> invalidFeedFuture = DefaultFeed.fromInputStreamAsync(() -> new ByteArrayInputStream(
+                    "{\"version\": \"https://jsonfeed.org/version/1.1\", \"icon\": \"a b\"}".getBytes(StandardCharsets.UTF_8)), fetchExecutorService);
+            executionException = assertThrows(ExecutionException.class, () -> invalidFeedFuture.get());
+            assertTrue(executionException.getCause() instanceof URISyntaxException);
+
+        }
+        finally {
+            fetchExecutorService.shutdown();
+            parseExecutorService.shutdown();
+            Files.delete(feedPath);
+        }
+
+    }
+
+
+    /**
+     * Test 18
+     */
+    @Test
+    public void test18() throws Exception {
+
+        String expectedJsonString = DefaultFeed.fromString(DefaultFeedTest.TEST_STRING_1_1).toJSONString();
+        byte[] feedBytes = DefaultFeedTest.TEST_STRING_1_1.getBytes(StandardCharsets.UTF_8);
+
+        /* Gzip and deflate encoded feed streams are inflated as they are read */
+        for ( byte[] encodedFeedBytes : new byte[][] { ContentDecoderTest.gzip(feedBytes), ContentDecoderTest.deflate(feedBytes, false) } ) {
+            assertEquals(DefaultFeed.fromInputStream(new ByteArrayInputStream(encodedFeedBytes)).toJSONString(), expectedJsonString);
+            assertEquals(DefaultFeed.fromInputStream(new ByteArrayInputStream(encodedFeedBytes), new ParseOptions().setLazyItems(true)).toJSONString(), expectedJsonString);
+            assertEquals(DefaultFeed.fromInputStreamAsync(() -> new ByteArrayInputStream(encodedFeedBytes), Runnable::run).get().toJSONString(), expectedJsonString);
+            assertEquals(new FeedParser().parse(new ByteArrayInputStream(encodedFeedBytes)).toJSONString(), expectedJsonString);
+        }
+
+        /* Gzip encoded feed files */
+        Path feedPath = Files.createTempFile("feed", ".json.gz");
+        try {
+            Files.write(feedPath, ContentDecoderTest.gzip(feedBytes));
+            assertEquals(DefaultFeed.fromUri(feedPath.toUri()).toJSONString(), expectedJsonString);
+            assertEquals(DefaultFeed.fromPath(feedPath).toJSONString(), expectedJsonString);
+
+            /* Encoded files are inflated when the options need the feed bytes too */
+            for ( ParseOptions parseOptions : new ParseOptions[] { new ParseOptions().setLazyItems(true), new ParseOptions().setParallelItems(true), new ParseOptions().setLazyContent(true) } ) {
+                assertEquals(DefaultFeed.fromPath(feedPath, parseOptions).toJSONString(), expectedJsonString);
+                assertEquals(new FeedParser(parseOptions).parse(feedPath).toJSONString(), expectedJsonString);
+            }
+            Files.write(feedPath, ContentDecoderTest.deflate(feedBytes, false));
+            assertEquals(DefaultFeed.fromPath(feedPath, new ParseOptions().setLazyItems(true)).toJSONString(), expectedJsonString);
+        }
+        finally {
+            Files.delete(feedPath);
+        }
+
+    }
+
+
+    /**
+     * Test 19
+     */
+    @Test
+    public void test19() throws URISyntaxException, IOException {
+
+        /* The JSON object members are decoded in a single pass, the feed is the same as the tokenizer feed */
+        for ( String feedString : new String[] { DefaultFeedTest.TEST_STRING_1_0, DefaultFeedTest.TEST_STRING_1_1 } ) {
+            assertEquals(DefaultFeed.fromString(feedString).toJSONString(), DefaultFeed.fromReader(new StringReader(feedString)).toJSONString());
+        }
+
+        /* The items are upgraded to the version wherever the version is */
+        Feed feed = DefaultFeed.fromString("{\"items\": [ { \"id\": \"1\", \"author\": { \"name\": \"Dalek\" } } ], \"version\": \"https://jsonfeed.org/version/1.1\"}");
+        assertEquals(feed.getItemList().get(0).getAuthorList().get(0).getName(), "Dalek");
+
+        /* The version is required and must be valid, member values must have the expected types */
+        assertThrows(IllegalArgumentException.class, () -> DefaultFeed.fromString("{\"title\": \"Title\", \"items\": []}"));
+        assertThrows(IllegalArgumentException.class, () -> DefaultFeed.fromString("{\"version\": \"https://jsonfeed.org/version/2\"}"));
+        assertThrows(JSONException.class, () -> DefaultFeed.fromString("{\"version\": \"https://jsonfeed.org/version/1.1\", \"expired\": [] }"));
+        assertThrows(JSONException.class, () -> DefaultFeed.fromString("{\"version\": \"https://jsonfeed.org/version/1.1\", \"items\": [ { \"tags\": \"a\" } ]}"));
+
+    }
+
+
+    /**
+     * Test 20
+     */
+    @Test
+    public void test20() throws URISyntaxException, IOException {
+
+        /* The feed is streamed to writers and streams, it reads back as the same feed */
+        for ( String feedString : new String[] { DefaultFeedTest.TEST_STRING_1_0, DefaultFeedTest.TEST_STRING_1_1 } ) {
+            Feed feed = DefaultFeed.fromString(feedString);
+            StringWriter writer = new StringWriter();
+            feed.writeTo(writer);
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            feed.writeTo(outputStream);
+            assertEquals(new String(outputStream.toByteArray(), StandardCharsets.UTF_8), writer.toString());
+            Feed writtenFeed = DefaultFeed.fromString(writer.toString());
+            assertEquals(writtenFeed.toJSONString(), feed.toJSONString());
+            assertEquals(writtenFeed.getNextUri(), feed.getNextUri());
+        }
+
+        /* The feed parts are streamed as they are within the feed */
+        Feed feed = DefaultFeed.fromString(DefaultFeedTest.TEST_STRING_1_1);
+        StringWriter writer = new StringWriter();
+        feed.writeTo(writer);
+        JSONObject feedJsonObject = new JSONObject(writer.toString());
+        JSONObject itemJsonObject = feedJsonObject.getJSONArray("items").getJSONObject(1);
+        Item item = feed.getItemList().get(1);
+        writer = new StringWriter();
+        item.writeTo(writer);
+        assertTrue(new JSONObject(writer.toString()).similar(itemJsonObject));
+        writer = new StringWriter();
+        item.getAuthorList().get(0).writeTo(writer);
+        assertTrue(new JSONObject(writer.toString()).similar(itemJsonObject.getJSONArray("authors").getJSONObject(0)));
+        writer = new StringWriter();
+        item.getAttachmentList().get(0).writeTo(writer);
+        assertTrue(new JSONObject(writer.toString()).similar(itemJsonObject.getJSONArray("attachments").getJSONObject(0)));
+        assertEquals(new JSONObject(writer.toString()).getString("mime_type"), "video/x-m4v");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        feed.getHubList().get(0).writeTo(outputStream);
+        assertTrue(new JSONObject(new String(outputStream.toByteArray(), StandardCharsets.UTF_8)).similar(feedJsonObject.getJSONArray("hubs").getJSONObject(0)));
+
+        /* Strings are escaped */
+        writer = new StringWriter();
+        new DefaultItem("1").setTitle("\"Quoted\"\n\u2028").writeTo(writer);
+        assertEquals(writer.toString(), "{\"id\":\"1\",\"title\":\"\\\"Quoted\\\"\\n\\u2028\"}");
+
+    }
+
+
+    /**
+     * Test 21
+     */
+    @Test
+    public void test21() throws URISyntaxException, IOException {
+
+        /* The streamed feed and the JSON string read back as the same feed */
+        for ( String feedString : new String[] { DefaultFeedTest.TEST_STRING_1_0, DefaultFeedTest.TEST_STRING_1_1 } ) {
+            Feed feed = DefaultFeed.fromString(feedString);
+            StringWriter writer = new StringWriter();
+            feed.writeTo(writer);
+            Feed writtenFeed = DefaultFeed.fromString(writer.toString());
+            Feed stringFeed = DefaultFeed.fromString(feed.toJSONString());
+            assertTrue(new JSONObject(writer.toString()).similar(new JSONObject(feed.toJSONString())));
+            assertEquals(stringFeed.getFeedUri(), writtenFeed.getFeedUri());
+            assertEquals(stringFeed.getNextUri(), writtenFeed.getNextUri());
+            assertEquals(stringFeed.getNextUri(), feed.getNextUri());
+        }
+
+    }
+
+
 }
@@ -22,7 +22,6 @@ package com.kaderate.jsonfeed.implementation;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
-import java.util.HashMap;
 
 
 /* Import JSON stuff */
@@ -88,11 +87,11 @@ public class DefaultHubTest {
 
         assertNotNull(hub.getExtensionsJSONObject());
         assertNotNull(hub.getExtensionsJSONObject().get("_blue_shed"));
-        assertEquals(((HashMap)hub.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
-        assertEquals(((HashMap)hub.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
-        assertEquals(((HashMap)hub.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
-        assertEquals(((HashMap)hub.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
-        assertEquals(((HashMap)hub.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
+        assertEquals(((JSONObject)hub.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
+        assertEquals(((JSONObject)hub.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
+        assertEquals(((JSONObject)hub.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
+        assertEquals(((JSONObject)hub.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
+        assertEquals(((JSONObject)hub.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
 
         assertNotNull(hub.toJSONString());
 
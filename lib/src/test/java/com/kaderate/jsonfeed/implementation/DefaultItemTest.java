@@ -24,7 +24,6 @@ import java.net.URISyntaxException;
 import java.time.OffsetDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.HashMap;
 
 
 /* Import JSON stuff */
@@ -211,11 +210,11 @@ public class DefaultItemTest {
 
         assertNotNull(item.getExtensionsJSONObject());
         assertNotNull(item.getExtensionsJSONObject().get("_blue_shed"));
-        assertEquals(((HashMap)item.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
-        assertEquals(((HashMap)item.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
-        assertEquals(((HashMap)item.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
-        assertEquals(((HashMap)item.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
-        assertEquals(((HashMap)item.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
+        assertEquals(((JSONObject)item.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
+        assertEquals(((JSONObject)item.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
+        assertEquals(((JSONObject)item.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
+        assertEquals(((JSONObject)item.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
+        assertEquals(((JSONObject)item.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
 
         assertNotNull(item.toJSONString());
 
@@ -348,11 +347,11 @@ public class DefaultItemTest {
 
         assertNotNull(item.getExtensionsJSONObject());
         assertNotNull(item.getExtensionsJSONObject().get("_blue_shed"));
-        assertEquals(((HashMap)item.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
-        assertEquals(((HashMap)item.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
-        assertEquals(((HashMap)item.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
-        assertEquals(((HashMap)item.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
-        assertEquals(((HashMap)item.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
+        assertEquals(((JSONObject)item.getExtensionsJSONObject().get("_blue_shed")).get("about"), "https://blueshed-podcasts.com/json-feed-extension-docs");
+        assertEquals(((JSONObject)item.getExtensionsJSONObject().get("_blue_shed")).get("explicit"), false);
+        assertEquals(((JSONObject)item.getExtensionsJSONObject().get("_blue_shed")).get("copyright"), "1948 by George Orwell");
+        assertEquals(((JSONObject)item.getExtensionsJSONObject().get("_blue_shed")).get("owner"), "Big Brother and the Holding Company");
+        assertEquals(((JSONObject)item.getExtensionsJSONObject().get("_blue_shed")).get("subtitle"), "All shouting, all the time. Double. Plus. Good.");
 
         assertNotNull(item.toJSONString());
 
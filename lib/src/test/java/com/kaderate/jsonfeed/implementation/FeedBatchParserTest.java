@@ -0,0 +1,229 @@
+/**
+ * FeedBatchParserTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+
+/* Import JSON stuff */
+import org.json.JSONException;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.implementation.FeedBatch;
+import com.kaderate.jsonfeed.implementation.FeedBatchParser;
+import com.kaderate.jsonfeed.implementation.FeedBatchResult;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+import com.kaderate.jsonfeed.implementation.StringPool;
+
+
+
+/**
+ * Feed batch parser tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class FeedBatchParserTest {
+
+
+    private static final String TEST_STRING = "{" +
+            "\"version\": \"https://jsonfeed.org/version/1.1\"," +
+            "\"title\": \"Batch %d\"," +
+            "\"items\": [" +
+                "{ \"id\": \"1\", \"url\": \"https://ham.org/1\", \"tags\": [ \"news\" ] }," +
+                "{ \"id\": \"2\", \"url\": \"https://ham.org/2\", \"tags\": [ \"news\" ] }" +
+            "]" +
+        "}";
+
+
+
+    /**
+     * Get the bytes of a test feed, every fifth feed is invalid
+     *
+     * @param   i   the feed number
+     *
+     * @return  the feed bytes
+     */
+    private static byte[] getFeedBytes(final int i) {
+
+        final String feedString = ((i % 5) == 4) ? "{ \"title\": \"Broken\"" : String.format(FeedBatchParserTest.TEST_STRING, i);
+        return (feedString.getBytes(StandardCharsets.UTF_8));
+
+    }
+
+
+
+    /**
+     * Check a feed batch of 20 documents
+     *
+     * @param   feedBatch   the feed batch
+     * @param   byteCount   the expected byte count
+     */
+    private static void checkFeedBatch(final FeedBatch feedBatch, final long byteCount) {
+
+        /* The results are in document order, the invalid documents are kept as errors */
+        assertEquals(feedBatch.getDocumentCount(), 20);
+        assertEquals(feedBatch.getParsedCount(), 16);
+        assertEquals(feedBatch.getErrorCount(), 4);
+        assertEquals(feedBatch.getFeedList().size(), 16);
+        assertEquals(feedBatch.getItemCount(), 32);
+        assertEquals(feedBatch.getByteCount(), byteCount);
+
+        for ( int i = 0; i < 20; i++ ) {
+            FeedBatchResult result = feedBatch.getResultList().get(i);
+            assertEquals(result.getIndex(), i);
+            if ( (i % 5) == 4 ) {
+                assertFalse(result.isParsed());
+                assertNull(result.getFeed());
+                assertTrue(result.getException() instanceof JSONException);
+            }
+            else {
+                assertTrue(result.isParsed());
+                assertNull(result.getException());
+                assertEquals(result.getFeed().getTitle(), "Batch " + i);
+            }
+        }
+        assertEquals(feedBatch.getErrorList().get(0).getIndex(), 4);
+
+        /* Throughput statistics */
+        assertTrue(feedBatch.getElapsedNanos() > 0);
+        assertTrue(feedBatch.getParseNanos() > 0);
+        assertTrue(feedBatch.getDocumentsPerSecond() > 0);
+        assertTrue(feedBatch.getBytesPerSecond() > 0);
+
+    }
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws IOException {
+
+        List<byte[]> feedBytesList = new ArrayList<byte[]>();
+        long byteCount = 0;
+        for ( int i = 0; i < 20; i++ ) {
+            feedBytesList.add(FeedBatchParserTest.getFeedBytes(i));
+            byteCount += feedBytesList.get(i).length;
+        }
+
+        /* Byte arrays, gzip encoded byte arrays too */
+        FeedBatchParserTest.checkFeedBatch(new FeedBatchParser().parseByteArrays(feedBytesList.stream()), byteCount);
+
+        List<byte[]> encodedFeedBytesList = new ArrayList<byte[]>();
+        long encodedByteCount = 0;
+        for ( byte[] feedBytes : feedBytesList ) {
+            encodedFeedBytesList.add(ContentDecoderTest.gzip(feedBytes));
+            encodedByteCount += encodedFeedBytesList.get(encodedFeedBytesList.size() - 1).length;
+        }
+        FeedBatchParserTest.checkFeedBatch(new FeedBatchParser().parseByteArrays(encodedFeedBytesList.stream()), encodedByteCount);
+
+        /* Streams */
+        List<InputStream> feedStreamList = new ArrayList<InputStream>();
+        for ( byte[] feedBytes : feedBytesList ) {
+            feedStreamList.add(new ByteArrayInputStream(feedBytes));
+        }
+        FeedBatchParserTest.checkFeedBatch(new FeedBatchParser().parseInputStreams(feedStreamList), byteCount);
+
+        /* Files, a missing file is an error */
+        List<Path> feedPathList = new ArrayList<Path>();
+        try {
+            for ( byte[] feedBytes : feedBytesList ) {
+                Path feedPath = Files.createTempFile("feed", ".json");
+                Files.write(feedPath, feedBytes);
+                feedPathList.add(feedPath);
+            }
+            FeedBatch feedBatch = new FeedBatchParser().parsePaths(feedPathList.stream());
+            FeedBatchParserTest.checkFeedBatch(feedBatch, byteCount);
+            assertEquals(feedBatch.getResultList().get(3).getPath(), feedPathList.get(3));
+
+            feedBatch = new FeedBatchParser().parsePaths(Stream.of(feedPathList.get(0), feedPathList.get(0).resolveSibling("missing.json")));
+            assertEquals(feedBatch.getParsedCount(), 1);
+            assertTrue(feedBatch.getResultList().get(1).getException() instanceof IOException);
+        }
+        finally {
+            for ( Path feedPath : feedPathList ) {
+                Files.delete(feedPath);
+            }
+        }
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws URISyntaxException, IOException {
+
+        List<byte[]> feedBytesList = new ArrayList<byte[]>();
+        long byteCount = 0;
+        for ( int i = 0; i < 20; i++ ) {
+            feedBytesList.add(FeedBatchParserTest.getFeedBytes(i));
+            byteCount += feedBytesList.get(i).length;
+        }
+
+        /* A fixed thread pool with few pending documents, the string pool is shared by the batch */
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            StringPool stringPool = new StringPool();
+            FeedBatchParser feedBatchParser = new FeedBatchParser(new ParseOptions().setStringPool(stringPool).setLazyItems(true), executorService, 2);
+            FeedBatch feedBatch = feedBatchParser.parseByteArrays(feedBytesList.stream());
+            FeedBatchParserTest.checkFeedBatch(feedBatch, byteCount);
+
+            List<Feed> feedList = feedBatch.getFeedList();
+            assertSame(feedList.get(0).getItemList().get(0).getTagList().get(0), feedList.get(15).getItemList().get(1).getTagList().get(0));
+
+            /* The batch parser can be reused */
+            FeedBatchParserTest.checkFeedBatch(feedBatchParser.parseByteArrays(feedBytesList.stream()), byteCount);
+        }
+        finally {
+            executorService.shutdown();
+        }
+
+        /* The caller thread as the executor, an empty batch */
+        FeedBatchParserTest.checkFeedBatch(new FeedBatchParser(new ParseOptions(), Runnable::run).parseByteArrays(feedBytesList.stream()), byteCount);
+        assertEquals(new FeedBatchParser().parseByteArrays(Stream.empty()).getDocumentCount(), 0);
+        assertEquals(new FeedBatchParser().parseByteArrays(Stream.empty()).getDocumentsPerSecond(), 0d, 0d);
+
+        assertThrows(IllegalArgumentException.class, () -> new FeedBatchParser(new ParseOptions(), Runnable::run, 0));
+
+    }
+
+
+}
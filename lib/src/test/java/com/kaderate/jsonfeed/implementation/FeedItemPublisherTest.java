@@ -0,0 +1,289 @@
+/**
+ * FeedItemPublisherTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Item;
+import com.kaderate.jsonfeed.implementation.DefaultFeedReader;
+import com.kaderate.jsonfeed.implementation.FeedItemPublisher;
+
+
+
+/**
+ * Feed item publisher tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class FeedItemPublisherTest {
+
+
+    private static final int ITEM_COUNT = 50000;
+
+
+    /**
+     * Subscriber collecting the items, requesting them on demand
+     */
+    private static final class CollectingSubscriber implements Flow.Subscriber<Item> {
+
+        private final List<Item> itemList = new ArrayList<Item>();
+        private final CompletableFuture<List<Item>> itemListFuture = new CompletableFuture<List<Item>>();
+        private final CompletableFuture<Void> firstItemsFuture = new CompletableFuture<Void>();
+        private final int firstItemCount;
+        private Flow.Subscription subscription;
+
+        CollectingSubscriber(int firstItemCount) {
+            this.firstItemCount = firstItemCount;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(this.firstItemCount);
+        }
+
+        @Override
+        public void onNext(Item item) {
+            this.itemList.add(item);
+            if ( this.itemList.size() == this.firstItemCount ) {
+                this.firstItemsFuture.complete(null);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.itemListFuture.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            this.itemListFuture.complete(this.itemList);
+        }
+
+    }
+
+
+    /**
+     * Subscriber recording the signals, throwing from onNext at an item or from onComplete
+     */
+    private static final class ThrowingSubscriber implements Flow.Subscriber<Item> {
+
+        private final List<String> signalList = new ArrayList<String>();
+        private final int throwingItemCount;
+
+        ThrowingSubscriber(int throwingItemCount) {
+            this.throwingItemCount = throwingItemCount;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(Item item) {
+            this.signalList.add("onNext");
+            if ( this.signalList.size() == this.throwingItemCount ) {
+                throw new IllegalStateException("onNext");
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.signalList.add("onError");
+        }
+
+        @Override
+        public void onComplete() {
+            this.signalList.add("onComplete");
+            throw new IllegalStateException("onComplete");
+        }
+
+    }
+
+
+    /**
+     * Generate a feed
+     */
+    private static byte[] generateFeed(int itemCount) {
+
+        StringBuilder feedStringBuilder = new StringBuilder("{\"version\": \"https://jsonfeed.org/version/1.1\", \"title\": \"Generated\", \"items\": [");
+        for ( int i = 0; i < itemCount; i++ ) {
+            feedStringBuilder.append((i > 0) ? "," : "").append("{\"id\": \"").append(i).append("\", \"content_text\": \"Item text ").append(i).append("\"}");
+        }
+        feedStringBuilder.append("]}");
+
+        return (feedStringBuilder.toString().getBytes(StandardCharsets.UTF_8));
+
+    }
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws Exception {
+
+        byte[] feedBytes = FeedItemPublisherTest.generateFeed(FeedItemPublisherTest.ITEM_COUNT);
+        AtomicLong bytesRead = new AtomicLong(0);
+        InputStream feedStream = new ByteArrayInputStream(feedBytes) {
+            @Override
+            public synchronized int read(byte[] bytes, int offset, int length) {
+                int count = super.read(bytes, offset, length);
+                bytesRead.addAndGet(Math.max(count, 0));
+                return (count);
+            }
+        };
+
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+
+            FeedItemPublisher feedItemPublisher = new FeedItemPublisher(DefaultFeedReader.fromInputStream(feedStream), executorService);
+            CollectingSubscriber subscriber = new CollectingSubscriber(5);
+            feedItemPublisher.subscribe(subscriber);
+
+            /* Only the requested items are read */
+            subscriber.firstItemsFuture.get(10, TimeUnit.SECONDS);
+            assertTrue(bytesRead.get() < feedBytes.length / 10);
+
+            /* Request the rest of the items */
+            subscriber.subscription.request(Long.MAX_VALUE);
+            List<Item> itemList = subscriber.itemListFuture.get(10, TimeUnit.SECONDS);
+            assertEquals(itemList.size(), FeedItemPublisherTest.ITEM_COUNT);
+            for ( int i = 0; i < itemList.size(); i++ ) {
+                assertEquals(itemList.get(i).getID(), Integer.toString(i));
+            }
+
+            /* Only one subscriber */
+            CollectingSubscriber secondSubscriber = new CollectingSubscriber(1);
+            feedItemPublisher.subscribe(secondSubscriber);
+            assertThrows(Exception.class, () -> secondSubscriber.itemListFuture.get(10, TimeUnit.SECONDS));
+
+        }
+        finally {
+            executorService.shutdown();
+        }
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws Exception {
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+
+            /* Exactly requested items still complete */
+            CollectingSubscriber subscriber = new CollectingSubscriber(3);
+            new FeedItemPublisher(DefaultFeedReader.fromInputStream(new ByteArrayInputStream(FeedItemPublisherTest.generateFeed(3))), executorService).subscribe(subscriber);
+            assertEquals(subscriber.itemListFuture.get(10, TimeUnit.SECONDS).size(), 3);
+
+            /* Invalid items are signalled as errors */
+            byte[] invalidFeedBytes = new String(FeedItemPublisherTest.generateFeed(3), StandardCharsets.UTF_8)
+                    .replace("\"id\": \"2\"", "\"id\": \"2\", \"url\": \"a b\"").getBytes(StandardCharsets.UTF_8);
+            CollectingSubscriber invalidSubscriber = new CollectingSubscriber(10);
+            new FeedItemPublisher(DefaultFeedReader.fromInputStream(new ByteArrayInputStream(invalidFeedBytes)), executorService).subscribe(invalidSubscriber);
+            try {
+                invalidSubscriber.itemListFuture.get(10, TimeUnit.SECONDS);
+                fail("Expected an error");
+            }
+            catch ( ExecutionException exception ) {
+                assertTrue(exception.getCause() instanceof IllegalArgumentException);
+                assertEquals(invalidSubscriber.itemList.size(), 2);
+            }
+
+            /* Invalid requests are signalled as errors */
+            CollectingSubscriber zeroSubscriber = new CollectingSubscriber(0);
+            new FeedItemPublisher(DefaultFeedReader.fromInputStream(new ByteArrayInputStream(FeedItemPublisherTest.generateFeed(3))), executorService).subscribe(zeroSubscriber);
+            assertThrows(Exception.class, () -> zeroSubscriber.itemListFuture.get(10, TimeUnit.SECONDS));
+
+        }
+        finally {
+            executorService.shutdown();
+        }
+
+    }
+
+
+
+    /**
+     * Test 3
+     */
+    @Test
+    public void test3() throws Exception {
+
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        try {
+
+            /* A subscriber which throws from onNext has cancelled, it is not signalled again and the feed reader is closed */
+            AtomicBoolean closed = new AtomicBoolean(false);
+            InputStream feedStream = new ByteArrayInputStream(FeedItemPublisherTest.generateFeed(5)) {
+                @Override
+                public void close() throws IOException {
+                    closed.set(true);
+                    super.close();
+                }
+            };
+            ThrowingSubscriber subscriber = new ThrowingSubscriber(2);
+            new FeedItemPublisher(DefaultFeedReader.fromInputStream(feedStream), executorService).subscribe(subscriber);
+            executorService.submit(() -> {}).get(10, TimeUnit.SECONDS);
+            assertEquals(subscriber.signalList, List.of("onNext", "onNext"));
+            assertTrue(closed.get());
+
+            /* A subscriber which throws from onComplete is not signalled an error */
+            ThrowingSubscriber completeSubscriber = new ThrowingSubscriber(0);
+            new FeedItemPublisher(DefaultFeedReader.fromInputStream(new ByteArrayInputStream(FeedItemPublisherTest.generateFeed(2))), executorService).subscribe(completeSubscriber);
+            executorService.submit(() -> {}).get(10, TimeUnit.SECONDS);
+            assertEquals(completeSubscriber.signalList, List.of("onNext", "onNext", "onComplete"));
+
+        }
+        finally {
+            executorService.shutdown();
+        }
+
+    }
+
+
+}
@@ -0,0 +1,149 @@
+/**
+ * FeedParserTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+
+/* Import JSON stuff */
+import org.json.JSONException;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
+import com.kaderate.jsonfeed.implementation.FeedParser;
+import com.kaderate.jsonfeed.implementation.ParseCache;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+
+
+
+/**
+ * Feed parser tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class FeedParserTest {
+
+
+    private static final String TEST_STRING = "{" +
+            "\"version\": \"https://jsonfeed.org/version/1.1\"," +
+            "\"title\": \"Parser\"," +
+            "\"home_page_url\": \"https://ham.org/\"," +
+            "\"items\": [" +
+                "{ \"id\": \"2\", \"url\": \"https://ham.org/2\", \"date_published\": \"2020-11-03T10:30:00Z\", \"date_modified\": \"2020-11-03T10:30:00Z\", " +
+                    "\"authors\": [ { \"name\": \"Dalek\", \"url\": \"https://ham.org/\" } ] }," +
+                "{ \"id\": \"1\", \"url\": \"https://ham.org/1\", \"date_published\": \"2020-11-03T10:30:00Z\", \"title\": \"Café\" }" +
+            "]" +
+        "}";
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws URISyntaxException, IOException {
+
+        byte[] feedBytes = FeedParserTest.TEST_STRING.getBytes(StandardCharsets.UTF_8);
+        String expectedJsonString = DefaultFeed.fromString(FeedParserTest.TEST_STRING).toJSONString();
+
+        ByteBuffer directByteBuffer = ByteBuffer.allocateDirect(feedBytes.length);
+        directByteBuffer.put(feedBytes).flip();
+
+        Path feedPath = Files.createTempFile("feed", ".json");
+        Files.write(feedPath, feedBytes);
+
+        /* The same parser parses one feed after another from any input */
+        FeedParser feedParser = new FeedParser();
+        try {
+            for ( int i = 0; i < 3; i++ ) {
+                assertEquals(feedParser.parse(new StringReader(FeedParserTest.TEST_STRING)).toJSONString(), expectedJsonString);
+                assertEquals(feedParser.parse(new ByteArrayInputStream(feedBytes)).toJSONString(), expectedJsonString);
+                assertEquals(feedParser.parse(ByteBuffer.wrap(feedBytes)).toJSONString(), expectedJsonString);
+                assertEquals(feedParser.parse(directByteBuffer.duplicate()).toJSONString(), expectedJsonString);
+                assertEquals(feedParser.parse(feedPath).toJSONString(), expectedJsonString);
+            }
+        }
+        finally {
+            Files.delete(feedPath);
+        }
+
+        /* The parser recovers from an invalid feed */
+        assertThrows(JSONException.class, () -> feedParser.parse(new StringReader("{\"version\": \"https://jsonfeed.org/version/1.1\", \"items\": [")));
+        assertThrows(URISyntaxException.class, () -> feedParser.parse(new StringReader("{\"version\": \"https://jsonfeed.org/version/1.1\", \"icon\": \"a b\"}")));
+        Feed feed = feedParser.parse(ByteBuffer.wrap(feedBytes));
+        assertEquals(feed.getTitle(), "Parser");
+        assertEquals(feed.getItemList().get(1).getTitle(), "Café");
+
+        /* Parse options apply to every feed */
+        FeedParser lazyFeedParser = new FeedParser(new ParseOptions().setLazyItems(true));
+        assertEquals(lazyFeedParser.parse(new ByteArrayInputStream(feedBytes)).toJSONString(), expectedJsonString);
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws URISyntaxException {
+
+        ParseCache parseCache = new ParseCache();
+        byte[] bytes = "{\"date_published\"".getBytes(StandardCharsets.US_ASCII);
+
+        /* Member names share the same string */
+        String symbol = parseCache.getSymbol(bytes, 2, 14);
+        assertEquals(symbol, "date_published");
+        assertSame(parseCache.getSymbol(bytes.clone(), 2, 14), symbol);
+        assertEquals(parseCache.getSymbol(bytes, 2, 4), "date");
+
+        /* Dates and URIs are cached */
+        Instant date = parseCache.parseDate(new String("2020-11-03T10:30:00Z"));
+        assertEquals(date, Instant.parse("2020-11-03T10:30:00Z"));
+        assertSame(parseCache.parseDate(new String("2020-11-03T10:30:00Z")), date);
+
+        String uri = parseCache.getUri(new String("https://ham.org/"), true);
+        assertSame(parseCache.getUri(new String("https://ham.org/"), true), uri);
+        assertThrows(URISyntaxException.class, () -> parseCache.getUri("https://ham.org/dalek invasion", true));
+        assertEquals(parseCache.getUri("https://ham.org/dalek invasion", false), "https://ham.org/dalek invasion");
+
+        /* Clearing keeps the symbol table */
+        parseCache.clear();
+        assertNotSame(parseCache.parseDate(new String("2020-11-03T10:30:00Z")), date);
+        assertSame(parseCache.getSymbol(bytes, 2, 14), symbol);
+
+    }
+
+
+}
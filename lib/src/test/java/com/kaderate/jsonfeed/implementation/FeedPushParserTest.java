@@ -0,0 +1,231 @@
+/**
+ * FeedPushParserTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/* Import JSON stuff */
+import org.json.JSONException;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.FeedListener;
+import com.kaderate.jsonfeed.Item;
+import com.kaderate.jsonfeed.Version;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
+import com.kaderate.jsonfeed.implementation.FeedPushParser;
+
+
+
+/**
+ * Feed push parser tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class FeedPushParserTest {
+
+
+    private static final String TEST_STRING = "﻿{" +
+            "\"version\": \"https://jsonfeed.org/version/1\"," +
+            "\"title\": \"Push \\\"parser\\\" {[\"," +
+            "\"author\": { \"name\": \"Dalek\", \"url\": \"https://ham.org/\" }," +
+            "\"items\": [" +
+                "{ \"id\": \"3\", \"content_text\": \"]}, {\", \"author\": { \"name\": \"Dalek\" }, \"tags\": [ \"a\", \"b\" ] }," +
+                "{ \"id\": \"2\", \"content_html\": \"<p>Café 😀</p>\", \"_blue_shed\": { \"about\": [ 1, { \"x\": [] } ] } }," +
+                "{ \"id\": \"1\", \"url\": \"https://ham.org/1\", \"date_published\": \"2020-11-03T10:30:00Z\" }" +
+            "] ," +
+            "\"home_page_url\": \"https://ham.org/\"," +
+            "\"_blue_shed\": { \"about\": \"https://blueshed-podcasts.com/json-feed-extension-docs\" }" +
+        "}\n";
+
+
+    /**
+     * Listener collecting the feed and its items
+     */
+    private static final class CollectingListener implements FeedListener {
+
+        private final List<String> eventList = new ArrayList<String>();
+        private final List<Item> itemList = new ArrayList<Item>();
+        private Feed feed = null;
+
+        @Override
+        public void onFeed(Feed feed) {
+            this.eventList.add("feed:" + feed.getTitle() + ":" + feed.getHomePageUri());
+        }
+
+        @Override
+        public void onItem(Item item) {
+            this.eventList.add("item");
+            this.itemList.add(item);
+        }
+
+        @Override
+        public void onEnd(Feed feed) {
+            this.eventList.add("end");
+            this.feed = feed;
+        }
+
+    }
+
+
+    /**
+     * Push the bytes in chunks
+     */
+    private static CollectingListener push(byte[] bytes, int chunkSize) throws URISyntaxException, IOException {
+
+        CollectingListener listener = new CollectingListener();
+        FeedPushParser feedPushParser = new FeedPushParser(listener);
+
+        for ( int i = 0; i < bytes.length; i += chunkSize ) {
+            feedPushParser.feed(ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i)));
+        }
+        feedPushParser.end();
+
+        return (listener);
+
+    }
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws URISyntaxException, IOException {
+
+        byte[] feedBytes = FeedPushParserTest.TEST_STRING.getBytes(StandardCharsets.UTF_8);
+        Feed expectedFeed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes));
+
+        /* The results do not depend on the chunk boundaries */
+        for ( int chunkSize : new int[] { 1, 2, 3, 7, 64, 100000 } ) {
+
+            CollectingListener listener = FeedPushParserTest.push(feedBytes, chunkSize);
+
+            /* The feed is passed when the items are reached, the members after the items are set at the end */
+            assertEquals(listener.eventList.get(0), "feed:Push \"parser\" {[:null");
+            assertEquals(listener.eventList.get(listener.eventList.size() - 1), "end");
+            assertEquals(listener.itemList.size(), 3);
+            for ( int i = 0; i < listener.itemList.size(); i++ ) {
+                assertEquals(listener.itemList.get(i).toJSONString(), expectedFeed.getItemList().get(i).toJSONString());
+            }
+
+            assertEquals(listener.feed.getVersion(), Version.VERSION_1_0);
+            assertEquals(listener.feed.getTitle(), expectedFeed.getTitle());
+            assertEquals(listener.feed.getHomePageUri(), expectedFeed.getHomePageUri());
+            assertEquals(listener.feed.getAuthor().getName(), "Dalek");
+            assertEquals(listener.feed.getExtensionsJSONObject().toString(), expectedFeed.getExtensionsJSONObject().toString());
+        }
+
+        /* Feeds without items */
+        CollectingListener listener = FeedPushParserTest.push("{ \"version\": \"https://jsonfeed.org/version/1.1\", \"title\": \"Empty\" }".getBytes(StandardCharsets.UTF_8), 5);
+        assertEquals(listener.eventList.toString(), "[feed:Empty:null, end]");
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws URISyntaxException, IOException {
+
+        String[] invalidFeedStrings = {
+            "{ \"version\": \"https://jsonfeed.org/version/1.1\", \"items\": [ {} ",
+            "{ \"version\": \"https://jsonfeed.org/version/1.1\", \"items\": [ {}, ] }",
+            "{ \"version\": \"https://jsonfeed.org/version/1.1\", \"items\": [ {} {} ] }",
+            "{ \"version\": \"https://jsonfeed.org/version/1.1\", \"items\": [ { \"id\": } ] }",
+            "{ \"version\": \"https://jsonfeed.org/version/1.1\", \"items\": [] \"title\": \"\" }",
+            "{ \"version\": \"https://jsonfeed.org/version/1.1\", , \"title\": \"\" }",
+            "{ \"version\": \"https://jsonfeed.org/version/1.1\" } {}",
+            "[]",
+            "{ \"version\": \"https://jsonfeed.org/version/1.1\", \"title\": \"Unterminated }"
+        };
+
+        for ( String invalidFeedString : invalidFeedStrings ) {
+            try {
+                FeedPushParserTest.push(invalidFeedString.getBytes(StandardCharsets.UTF_8), 4);
+                fail("Expected a JSONException for: " + invalidFeedString);
+            }
+            catch ( JSONException exception ) {
+            }
+        }
+
+        /* Missing version and invalid URIs */
+        assertThrows(IllegalArgumentException.class, () -> FeedPushParserTest.push("{ \"items\": [] }".getBytes(StandardCharsets.UTF_8), 4));
+        assertThrows(URISyntaxException.class, () -> FeedPushParserTest.push("{ \"items\": [ { \"url\": \"a b\" } ] }".getBytes(StandardCharsets.UTF_8), 4));
+
+        /* The parser can not be used after an error */
+        FeedPushParser feedPushParser = new FeedPushParser(new CollectingListener());
+        assertThrows(JSONException.class, () -> feedPushParser.feed(ByteBuffer.wrap("[".getBytes(StandardCharsets.UTF_8))));
+        assertThrows(IllegalStateException.class, () -> feedPushParser.end());
+
+    }
+
+
+    /**
+     * Test 3
+     */
+    @Test
+    public void test3() throws URISyntaxException, IOException {
+
+        /* Items before the version are held back until it is found and upgraded to it */
+        String feedString = "{ \"title\": \"Late\", \"items\": [ { \"id\": \"1\", \"author\": { \"name\": \"Dalek\" } }, { \"id\": \"2\" } ], " +
+                "\"version\": \"https://jsonfeed.org/version/1.1\", \"home_page_url\": \"https://ham.org/\" }";
+        Feed expectedFeed = DefaultFeed.fromString(feedString);
+        for ( int chunkSize : new int[] { 1, 5, 100000 } ) {
+            CollectingListener listener = FeedPushParserTest.push(feedString.getBytes(StandardCharsets.UTF_8), chunkSize);
+            assertEquals(listener.eventList.toString(), "[feed:Late:null, item, item, end]");
+            assertNull(listener.itemList.get(0).getAuthor());
+            assertEquals(listener.itemList.get(0).getAuthorList().get(0).getName(), "Dalek");
+            for ( int i = 0; i < listener.itemList.size(); i++ ) {
+                assertEquals(listener.itemList.get(i).toJSONString(), expectedFeed.getItemList().get(i).toJSONString());
+            }
+        }
+
+        /* Nothing is passed when the version is missing */
+        CollectingListener listener = new CollectingListener();
+        FeedPushParser feedPushParser = new FeedPushParser(listener);
+        feedPushParser.feed(ByteBuffer.wrap("{ \"items\": [ { \"id\": \"1\" } ] }".getBytes(StandardCharsets.UTF_8)));
+        assertThrows(IllegalArgumentException.class, () -> feedPushParser.end());
+        assertEquals(listener.eventList.size(), 0);
+
+        /* Whitespace can follow the byte order mark */
+        byte[] feedBytes = "\ufeff\n\t{ \"version\": \"https://jsonfeed.org/version/1.1\", \"title\": \"Marked\" }".getBytes(StandardCharsets.UTF_8);
+        for ( int chunkSize : new int[] { 1, 2, 100000 } ) {
+            assertEquals(FeedPushParserTest.push(feedBytes, chunkSize).eventList.toString(), "[feed:Marked:null, end]");
+        }
+        assertThrows(JSONException.class, () -> FeedPushParserTest.push(new byte[] { (byte)0xEF, (byte)0xBB, ' ', '{', '}' }, 1));
+
+    }
+
+
+}
@@ -0,0 +1,239 @@
+/**
+ * ItemLinesTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/* Import JSON stuff */
+import org.json.JSONException;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Item;
+import com.kaderate.jsonfeed.implementation.DefaultAuthor;
+import com.kaderate.jsonfeed.implementation.DefaultItem;
+import com.kaderate.jsonfeed.implementation.ItemLinesIndex;
+import com.kaderate.jsonfeed.implementation.ItemLinesReader;
+import com.kaderate.jsonfeed.implementation.ItemLinesWriter;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+
+
+
+/**
+ * Item lines tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class ItemLinesTest {
+
+
+    /**
+     * Create a test item
+     *
+     * @param   i   the item number
+     *
+     * @return  the item
+     */
+    private static Item createItem(final int i) throws URISyntaxException {
+
+        final Item item = new DefaultItem(Integer.toString(i))
+                .setUri(new URI("https://ham.org/" + i))
+                .setTitle("Item " + i)
+                .setContentText("Line\nBreak " + i)
+                .setDatePublished(Instant.ofEpochSecond(1600000000L + i))
+                .setTagList(Arrays.asList("news", "tag" + i));
+        item.getAuthorList().add(new DefaultAuthor("Dalek", null, null));
+
+        return (item);
+
+    }
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws URISyntaxException, IOException {
+
+        /* Write the items, one per line */
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try ( ItemLinesWriter itemLinesWriter = ItemLinesWriter.fromOutputStream(outputStream) ) {
+            for ( int i = 0; i < 100; i++ ) {
+                itemLinesWriter.write(ItemLinesTest.createItem(i));
+            }
+            assertEquals(itemLinesWriter.getLineCount(), 100);
+        }
+        String lines = new String(outputStream.toByteArray(), StandardCharsets.UTF_8);
+        assertEquals(lines.split("\n", -1).length, 101);
+
+        /* Read them back, each item decodes as it was encoded */
+        try ( ItemLinesReader itemLinesReader = ItemLinesReader.fromInputStream(new ByteArrayInputStream(outputStream.toByteArray())) ) {
+            int i = 0;
+            while ( itemLinesReader.hasNext() == true ) {
+                Item item = itemLinesReader.next();
+                Item expectedItem = ItemLinesTest.createItem(i);
+                assertEquals(itemLinesReader.getLineNumber(), i);
+                assertEquals(item.getID(), expectedItem.getID());
+                assertEquals(item.getUri(), expectedItem.getUri());
+                assertEquals(item.getContentText(), expectedItem.getContentText());
+                assertEquals(item.getDatePublished(), expectedItem.getDatePublished());
+                assertEquals(item.getTagList(), expectedItem.getTagList());
+                assertEquals(item.getAuthorList().get(0).getName(), "Dalek");
+                i++;
+            }
+            assertEquals(i, 100);
+        }
+
+        /* Blank lines, CR LF, no final newline, and lines longer than the buffer */
+        String longText = new String(new char[100000]).replace('\0', 'x');
+        String crlfLines = "{\"id\": \"a\"}\r\n\r\n   \n{\"id\": \"b\", \"content_text\": \"" + longText + "\"}\r\n{\"id\": \"c\"}";
+        try ( ItemLinesReader itemLinesReader = ItemLinesReader.fromInputStream(new ByteArrayInputStream(crlfLines.getBytes(StandardCharsets.UTF_8))) ) {
+            assertEquals(itemLinesReader.next().getID(), "a");
+            Item item = itemLinesReader.next();
+            assertEquals(item.getID(), "b");
+            assertEquals(item.getContentText(), longText);
+            assertEquals(itemLinesReader.getLineNumber(), 3);
+            assertEquals(itemLinesReader.next().getID(), "c");
+            assertEquals(itemLinesReader.getLineNumber(), 4);
+            assertFalse(itemLinesReader.hasNext());
+        }
+
+        /* Gzip encoded lines */
+        try ( ItemLinesReader itemLinesReader = ItemLinesReader.fromInputStream(new ByteArrayInputStream(ContentDecoderTest.gzip(outputStream.toByteArray()))) ) {
+            assertEquals(itemLinesReader.skipLines(99), 99);
+            assertEquals(itemLinesReader.next().getID(), "99");
+            assertEquals(itemLinesReader.skipLines(10), 0);
+        }
+
+        /* An invalid line is reported with its line number */
+        try ( ItemLinesReader itemLinesReader = ItemLinesReader.fromInputStream(new ByteArrayInputStream("{\"id\": \"a\"}\n{\"id\": \"b\"} x\n".getBytes(StandardCharsets.UTF_8))) ) {
+            assertEquals(itemLinesReader.next().getID(), "a");
+            JSONException exception = assertThrows(JSONException.class, () -> itemLinesReader.next());
+            assertTrue(exception.getMessage().startsWith("Invalid item on line 1"));
+        }
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws URISyntaxException, IOException {
+
+        Path path = Files.createTempFile("items", ".jsonl");
+        Path indexPath = Files.createTempFile("items", ".index");
+        try {
+
+            /* Write the items to a file and append to it */
+            try ( ItemLinesWriter itemLinesWriter = ItemLinesWriter.fromPath(path) ) {
+                for ( int i = 0; i < 50; i++ ) {
+                    itemLinesWriter.write(ItemLinesTest.createItem(i));
+                }
+            }
+            ItemLinesIndex index = ItemLinesIndex.fromPath(path, 8);
+            assertEquals(index.getLineCount(), 50);
+            assertEquals(index.getInterval(), 8);
+            assertEquals(index.getIndexedLineNumber(20), 16);
+            assertEquals(index.getOffset(0), 0);
+            assertThrows(IllegalArgumentException.class, () -> index.getOffset(3));
+
+            try ( ItemLinesWriter itemLinesWriter = ItemLinesWriter.fromPath(path, true) ) {
+                for ( int i = 50; i < 60; i++ ) {
+                    itemLinesWriter.write(ItemLinesTest.createItem(i));
+                }
+            }
+
+            /* Read every line through the index, lines appended since the index was built too */
+            for ( int i = 0; i < 60; i++ ) {
+                try ( ItemLinesReader itemLinesReader = ItemLinesReader.fromPath(path, index, i, new ParseOptions()) ) {
+                    Item item = itemLinesReader.next();
+                    assertEquals(item.getID(), Integer.toString(i));
+                    assertEquals(itemLinesReader.getLineNumber(), i);
+                }
+            }
+            try ( ItemLinesReader itemLinesReader = ItemLinesReader.fromPath(path, index, 60, new ParseOptions()) ) {
+                assertFalse(itemLinesReader.hasNext());
+            }
+            assertThrows(IllegalArgumentException.class, () -> ItemLinesReader.fromPath(path, index, -1, new ParseOptions()));
+
+            /* The index is written out and read back */
+            try ( OutputStream outputStream = Files.newOutputStream(indexPath) ) {
+                index.writeTo(outputStream);
+            }
+            ItemLinesIndex readIndex;
+            try ( InputStream inputStream = Files.newInputStream(indexPath) ) {
+                readIndex = ItemLinesIndex.fromInputStream(inputStream);
+            }
+            assertEquals(readIndex.getLineCount(), 50);
+            assertEquals(readIndex.getOffset(40), index.getOffset(40));
+            try ( ItemLinesReader itemLinesReader = ItemLinesReader.fromPath(path, readIndex, 45, new ParseOptions().setItemFields("id")) ) {
+                Item item = itemLinesReader.next();
+                assertEquals(item.getID(), "45");
+                assertNull(item.getTitle());
+            }
+
+            /* Read the whole file */
+            List<String> idList = new ArrayList<String>();
+            try ( ItemLinesReader itemLinesReader = ItemLinesReader.fromPath(path) ) {
+                itemLinesReader.forEachRemaining(item -> idList.add(item.getID()));
+            }
+            assertEquals(idList.size(), 60);
+
+            /* Encoded files and empty files */
+            Files.write(indexPath, ContentDecoderTest.gzip(Files.readAllBytes(path)));
+            assertThrows(IOException.class, () -> ItemLinesIndex.fromPath(indexPath));
+            Files.write(indexPath, new byte[0]);
+            ItemLinesIndex emptyIndex = ItemLinesIndex.fromPath(indexPath);
+            assertEquals(emptyIndex.getLineCount(), 0);
+            try ( ItemLinesReader itemLinesReader = ItemLinesReader.fromPath(indexPath, emptyIndex, 0, new ParseOptions()) ) {
+                assertFalse(itemLinesReader.hasNext());
+            }
+
+        }
+        finally {
+            Files.delete(path);
+            Files.delete(indexPath);
+        }
+
+    }
+
+
+}
@@ -0,0 +1,201 @@
+/**
+ * JsonByteGeneratorTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 18, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.net.URISyntaxException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+
+/* Import JSON stuff */
+import org.json.JSONException;
+import org.json.JSONObject;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
+import com.kaderate.jsonfeed.implementation.JsonByteGenerator;
+import com.kaderate.jsonfeed.implementation.JsonStreamGenerator;
+import com.kaderate.jsonfeed.spi.JsonGenerator;
+
+
+
+/**
+ * JSON byte generator tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class JsonByteGeneratorTest {
+
+
+    private static final String TEST_STRING = "{" +
+            "\"version\": \"https://jsonfeed.org/version/1.1\"," +
+            "\"title\": \"Caf\u00e9 \\\"Feed\\\"\"," +
+            "\"home_page_url\": \"https://ham.org/\"," +
+            "\"expired\": false," +
+            "\"hubs\": [ { \"type\": \"WebSub\", \"url\": \"https://ham.org/hub\" } ]," +
+            "\"items\": [" +
+                "{ \"id\": \"1\", \"content_html\": \"<p>Hello\\nworld \ud83d\ude00</p>\", \"date_published\": \"2020-01-01T00:00:00Z\"," +
+                    "\"tags\": [ \"a\", \"\u00e9\" ], \"attachments\": [ { \"url\": \"https://ham.org/a.m4v\", \"mime_type\": \"video/x-m4v\", \"size_in_bytes\": 300 } ] }" +
+            "]," +
+            "\"_blue_shed\": { \"about\": \"https://blueshed.org/\", \"size\": 1.5 }" +
+        "}";
+
+
+
+    /**
+     * Write a document with both generators, the bytes must be the same
+     *
+     * @param   strings     the strings to write
+     */
+    private static void checkStrings(final String... strings) throws IOException {
+
+        ByteArrayOutputStream expectedOutputStream = new ByteArrayOutputStream();
+        try ( JsonGenerator generator = new JsonStreamGenerator(new OutputStreamWriter(expectedOutputStream, StandardCharsets.UTF_8)) ) {
+            JsonByteGeneratorTest.writeStrings(generator, strings);
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try ( JsonGenerator generator = new JsonByteGenerator(outputStream) ) {
+            JsonByteGeneratorTest.writeStrings(generator, strings);
+        }
+
+        assertArrayEquals(outputStream.toByteArray(), expectedOutputStream.toByteArray());
+
+    }
+
+
+
+    /**
+     * Write strings as names and values
+     *
+     * @param   generator   the generator
+     * @param   strings     the strings to write
+     */
+    private static void writeStrings(final JsonGenerator generator, final String... strings) throws IOException {
+
+        generator.beginObject();
+        for ( final String string : strings ) {
+            generator.name(string).value(string);
+        }
+        generator.name("content_html").beginArray().value(true).value(false).nullValue().value(42).value(new BigDecimal("1.25")).endArray();
+        generator.endObject();
+
+    }
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws URISyntaxException, IOException {
+
+        /* Escapes and UTF-8 sequences are written as the writer would write them */
+        JsonByteGeneratorTest.checkStrings("", "plain", "title", "\"quoted\\", "\b\f\n\r\t\u0000\u001f", "caf\u00e9", "\u20ac\u2028\u2029", "\ud83d\ude00", "lone \ud83d and \ude00");
+
+        /* Long strings are split across the buffer, multi-byte sequences too */
+        char[] chars = new char[20000];
+        Arrays.fill(chars, 'x');
+        for ( int offset = 8180; offset < 8200; offset++ ) {
+            char[] offsetChars = chars.clone();
+            offsetChars[offset] = '\u20ac';
+            offsetChars[offset + 100] = '\ud83d';
+            offsetChars[offset + 101] = '\ude00';
+            offsetChars[offset + 8192] = '"';
+            JsonByteGeneratorTest.checkStrings(new String(offsetChars));
+        }
+
+        /* Feeds are written as the writer would write them */
+        Feed feed = DefaultFeed.fromString(JsonByteGeneratorTest.TEST_STRING);
+        StringWriter writer = new StringWriter();
+        feed.writeTo(writer);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        feed.writeTo(outputStream);
+        assertArrayEquals(outputStream.toByteArray(), writer.toString().getBytes(StandardCharsets.UTF_8));
+        assertTrue(new JSONObject(writer.toString()).similar(new JSONObject(new String(outputStream.toByteArray(), StandardCharsets.UTF_8))));
+
+        /* Generator misuse */
+        assertThrows(JSONException.class, () -> new JsonByteGenerator(new ByteArrayOutputStream()).beginObject().value("a"));
+        assertThrows(JSONException.class, () -> new JsonByteGenerator(new ByteArrayOutputStream()).beginArray().name("a"));
+        assertThrows(JSONException.class, () -> new JsonByteGenerator(new ByteArrayOutputStream()).beginArray().endObject());
+        assertThrows(JSONException.class, () -> new JsonByteGenerator(new ByteArrayOutputStream()).beginArray().value(Double.NaN));
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws URISyntaxException, IOException {
+
+        Feed feed = DefaultFeed.fromString(JsonByteGeneratorTest.TEST_STRING);
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        feed.writeTo(outputStream);
+        byte[] feedBytes = outputStream.toByteArray();
+
+        /* Byte buffers backed by an array, at an offset, and direct byte buffers */
+        ByteBuffer arrayByteBuffer = ByteBuffer.wrap(new byte[feedBytes.length + 20], 5, feedBytes.length + 10).slice();
+        ByteBuffer directByteBuffer = ByteBuffer.allocateDirect(feedBytes.length + 10);
+        for ( ByteBuffer byteBuffer : new ByteBuffer[] { arrayByteBuffer, directByteBuffer } ) {
+            byteBuffer.position(3);
+            feed.writeTo(byteBuffer);
+            assertEquals(byteBuffer.position(), feedBytes.length + 3);
+            byte[] bytes = new byte[feedBytes.length];
+            byteBuffer.flip();
+            byteBuffer.position(3);
+            byteBuffer.get(bytes);
+            assertArrayEquals(bytes, feedBytes);
+        }
+
+        /* Feeds bigger than the generator buffer are written to direct byte buffers through the buffer */
+        feed.getItemList().get(0).setContentText(new String(new char[20000]).replace('\0', 'y'));
+        directByteBuffer = ByteBuffer.allocateDirect(30000);
+        feed.writeTo(directByteBuffer);
+        directByteBuffer.flip();
+        assertEquals(new JSONObject(StandardCharsets.UTF_8.decode(directByteBuffer).toString()).getJSONArray("items").getJSONObject(0).getString("content_text").length(), 20000);
+
+        /* Byte buffers which are too small are left as they were */
+        for ( ByteBuffer byteBuffer : new ByteBuffer[] { ByteBuffer.allocate(10000), ByteBuffer.allocateDirect(10000) } ) {
+            byteBuffer.position(7);
+            assertThrows(BufferOverflowException.class, () -> feed.writeTo(byteBuffer));
+            assertEquals(byteBuffer.position(), 7);
+        }
+        assertThrows(ReadOnlyBufferException.class, () -> feed.writeTo(ByteBuffer.allocate(30000).asReadOnlyBuffer()));
+
+    }
+
+
+}
@@ -0,0 +1,247 @@
+/**
+ * JsonProviderTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/* Import JSON stuff */
+import org.json.JSONArray;
+import org.json.JSONException;
+import org.json.JSONObject;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.FeedReader;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
+import com.kaderate.jsonfeed.implementation.DefaultFeedReader;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+import com.kaderate.jsonfeed.spi.JsonGenerator;
+import com.kaderate.jsonfeed.spi.JsonParser;
+import com.kaderate.jsonfeed.spi.JsonProvider;
+import com.kaderate.jsonfeed.spi.JsonProviders;
+import com.kaderate.jsonfeed.spi.JsonToken;
+
+
+
+/**
+ * JSON provider tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class JsonProviderTest {
+
+
+    private static final String TEST_STRING = "\uFEFF{" +
+            "\"version\": \"https://jsonfeed.org/version/1.1\"," +
+            "\"title\": \"Provider \\\"Feed\\\"\"," +
+            "\"home_page_url\": \"https://ham.org/\"," +
+            "\"next_url\": \"https://ham.org/next\"," +
+            "\"expired\": false," +
+            "\"hubs\": [ { \"type\": \"WebSub\", \"url\": \"https://ham.org/hub\" } ]," +
+            "\"_extension\": { \"about\": \"https://ham.org/\", \"count\": 3, \"list\": [ true, null, 1.5 ] }," +
+            "\"items\": [" +
+                "{ \"id\": \"2\", \"url\": \"https://ham.org/2\", \"date_published\": \"2020-11-03T10:30:00Z\", \"tags\": [ \"a\", \"b\" ], " +
+                    "\"authors\": [ { \"name\": \"Dalek\", \"url\": \"https://ham.org/\" } ], " +
+                    "\"attachments\": [ { \"url\": \"https://ham.org/2.mp3\", \"mime_type\": \"audio/mpeg\", \"title\": \"Episode\", \"size_in_bytes\": 1000 } ] }," +
+                "{ \"id\": 1, \"url\": \"https://ham.org/1\", \"content_text\": \"Line\\nBreak\\u2028\", \"title\": \"Café\" }" +
+            "]" +
+        "}";
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() {
+
+        /* Both built-in providers are loaded */
+        List<String> nameList = new ArrayList<String>();
+        for ( JsonProvider provider : JsonProviders.getProviders() ) {
+            nameList.add(provider.getName());
+        }
+        assertTrue(nameList.contains("org.json"));
+        assertTrue(nameList.contains("jsonfeed"));
+
+        /* org.json is the default provider */
+        assertEquals(JsonProviders.getProvider().getName(), "org.json");
+        assertTrue(JsonProviders.getProvider("jsonfeed") instanceof TokenizerJsonProvider);
+        assertThrows(IllegalArgumentException.class, () -> JsonProviders.getProvider("unknown"));
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws URISyntaxException, IOException {
+
+        String expectedJsonString = DefaultFeed.fromString(JsonProviderTest.TEST_STRING.substring(1)).toJSONString();
+
+        for ( JsonProvider provider : JsonProviders.getProviders() ) {
+
+            /* Decode the feed from the provider parser */
+            final Feed feed = DefaultFeed.fromParser(provider.createParser(new StringReader(JsonProviderTest.TEST_STRING)));
+            assertEquals(feed.toJSONString(), expectedJsonString);
+
+            final Feed idFeed = DefaultFeed.fromParser(provider.createParser(new ByteArrayInputStream(JsonProviderTest.TEST_STRING.getBytes(StandardCharsets.UTF_8))),
+                    new ParseOptions().setItemFields("id"));
+            assertEquals(idFeed.getItemList().size(), 2);
+            assertNull(idFeed.getItemList().get(0).getUri());
+
+            try ( FeedReader feedReader = DefaultFeedReader.fromParser(provider.createParser(new StringReader(JsonProviderTest.TEST_STRING)), new ParseOptions()) ) {
+                int itemCount = 0;
+                while ( feedReader.hasNext() == true ) {
+                    feedReader.next();
+                    itemCount++;
+                }
+                assertEquals(itemCount, 2);
+            }
+
+            /* Encode the feed to the provider generator, the encoded feed decodes to the same feed */
+            StringWriter stringWriter = new StringWriter();
+            try ( JsonGenerator generator = provider.createGenerator(stringWriter) ) {
+                ((DefaultFeed)feed).encode(generator);
+            }
+            assertEquals(DefaultFeed.fromString(stringWriter.toString()).toJSONString(), expectedJsonString);
+
+            Feed encodedFeed = DefaultFeed.fromString(stringWriter.toString());
+            assertEquals(encodedFeed.getNextUri().toString(), "https://ham.org/next");
+            assertEquals(encodedFeed.getItemList().get(0).getAttachmentList().get(0).getTitle(), "Episode");
+            assertEquals(encodedFeed.getItemList().get(0).getAttachmentList().get(0).getMimeType(), "audio/mpeg");
+            assertEquals(encodedFeed.getItemList().get(1).getContentText(), "Line\nBreak\u2028");
+            assertTrue(new JSONObject(stringWriter.toString()).getJSONObject("_extension").similar(
+                    new JSONObject("{ \"about\": \"https://ham.org/\", \"count\": 3, \"list\": [ true, null, 1.5 ] }")));
+
+        }
+
+    }
+
+
+    /**
+     * Test 3
+     */
+    @Test
+    public void test3() throws IOException {
+
+        for ( JsonProvider provider : JsonProviders.getProviders() ) {
+
+            /* Tokens */
+            try ( JsonParser parser = provider.createParser(new StringReader("[ 1, \"2\", true, null, { \"a\": [] } ]")) ) {
+                parser.beginArray();
+                assertEquals(parser.nextInt(), 1);
+                assertEquals(parser.nextInt(), 2);
+                assertEquals(parser.peek(), JsonToken.BOOLEAN);
+                assertEquals(parser.nextOptString(), "true");
+                assertNull(parser.nextOptString());
+                assertTrue(parser.nextValue() instanceof JSONObject);
+                parser.endArray();
+                parser.endDocument();
+            }
+
+            /* Invalid JSON */
+            assertThrows(JSONException.class, () -> {
+                JsonParser parser = provider.createParser(new StringReader("{ \"a\": 1 } x"));
+                parser.beginObject();
+                while ( parser.hasNext() == true ) {
+                    parser.nextName();
+                    parser.skipValue();
+                }
+                parser.endObject();
+                parser.endDocument();
+            });
+            assertThrows(JSONException.class, () -> provider.createParser(new StringReader("[ 1 ]")).beginObject());
+
+            /* Generator values */
+            StringWriter stringWriter = new StringWriter();
+            try ( JsonGenerator generator = provider.createGenerator(stringWriter) ) {
+                generator.beginArray().value("a\"b\\").value(1).value(false).nullValue().value(new JSONArray("[ 2 ]")).beginObject().endObject().endArray();
+            }
+            assertTrue(new JSONArray(stringWriter.toString()).similar(new JSONArray("[ \"a\\\"b\\\\\", 1, false, null, [ 2 ], {} ]")));
+
+            /* Generator misuse */
+            assertThrows(JSONException.class, () -> provider.createGenerator(new StringWriter()).beginObject().value("a"));
+            assertThrows(JSONException.class, () -> provider.createGenerator(new StringWriter()).beginArray().name("a"));
+            assertThrows(JSONException.class, () -> provider.createGenerator(new StringWriter()).beginArray().endObject());
+
+        }
+
+    }
+
+
+
+    /**
+     * Test 4
+     */
+    @Test
+    public void test4() throws URISyntaxException, IOException {
+
+        /* Single quotes are accepted by org.json but not by the streaming tokenizer */
+        String feedString = "{ 'version': 'https://jsonfeed.org/version/1.1', 'title': 'Lenient', 'items': [ { 'id': '1' } ] }";
+        byte[] feedBytes = feedString.getBytes(StandardCharsets.UTF_8);
+
+        /* The default provider keeps the built-in decoding */
+        assertEquals(DefaultFeed.fromString(feedString).getTitle(), "Lenient");
+        assertThrows(JSONException.class, () -> DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes)));
+
+        /* The provider named in the parse options decodes the feed */
+        ParseOptions parseOptions = new ParseOptions().setJsonProvider("org.json");
+        assertEquals(DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes), parseOptions).getTitle(), "Lenient");
+        assertEquals(DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), parseOptions).getItemList().get(0).getID(), "1");
+        assertEquals(DefaultFeed.fromReader(new StringReader(feedString), parseOptions).getItemList().size(), 1);
+        try ( FeedReader feedReader = DefaultFeedReader.fromInputStream(new ByteArrayInputStream(feedBytes), parseOptions) ) {
+            assertEquals(feedReader.getFeed().getTitle(), "Lenient");
+            assertEquals(feedReader.next().getID(), "1");
+            assertFalse(feedReader.hasNext());
+        }
+        assertThrows(IllegalArgumentException.class, () -> DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes), new ParseOptions().setJsonProvider("unknown")));
+
+        /* The provider named by the system property decodes the feed */
+        System.setProperty(JsonProviders.PROVIDER_PROPERTY, "jsonfeed");
+        try {
+            assertEquals(JsonProviders.getProvider().getName(), "jsonfeed");
+            assertThrows(JSONException.class, () -> DefaultFeed.fromString(feedString));
+            assertEquals(DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes), parseOptions).getTitle(), "Lenient");
+        }
+        finally {
+            System.clearProperty(JsonProviders.PROVIDER_PROPERTY);
+        }
+        assertEquals(JsonProviders.getProvider().getName(), "org.json");
+
+    }
+
+
+}
@@ -0,0 +1,284 @@
+/**
+ * JsonTokenizerTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/* Import JSON stuff */
+import org.json.JSONException;
+import org.json.JSONObject;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.spi.JsonToken;
+
+
+
+/**
+ * JSON Tokenizer tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class JsonTokenizerTest {
+
+
+    private static final String TEST_STRING = "{" +
+            "\"string\": \"Café \\\"Dalek\\\" \\u00e9\\n 🚀\"," +
+            "\"number\": -12.5e3," +
+            "\"integer\": 42," +
+            "\"true\": true," +
+            "\"false\": false," +
+            "\"null\": null," +
+            "\"array\": [ 1, \"two\", { \"three\": [ 3 ] }, [] ]," +
+            "\"object\": { \"nested\": { \"deeper\": \"}]\\\"\" } }" +
+        "}";
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws IOException {
+
+        JsonTokenizer tokenizer = new JsonTokenizer(new StringReader(JsonTokenizerTest.TEST_STRING));
+
+        assertEquals(tokenizer.peek(), JsonToken.BEGIN_OBJECT);
+        tokenizer.beginObject();
+
+        assertEquals(tokenizer.nextName(), "string");
+        assertEquals(tokenizer.nextString(), "Café \"Dalek\" é\n 🚀");
+
+        assertEquals(tokenizer.nextName(), "number");
+        assertEquals(tokenizer.nextNumber(), "-12.5e3");
+
+        assertEquals(tokenizer.nextName(), "integer");
+        assertEquals(tokenizer.nextInt(), 42);
+
+        assertEquals(tokenizer.nextName(), "true");
+        assertTrue(tokenizer.nextBoolean());
+
+        assertEquals(tokenizer.nextName(), "false");
+        assertFalse(tokenizer.nextBoolean());
+
+        assertEquals(tokenizer.nextName(), "null");
+        assertEquals(tokenizer.peek(), JsonToken.NULL);
+        tokenizer.nextNull();
+
+        assertEquals(tokenizer.nextName(), "array");
+        tokenizer.skipValue();
+
+        assertEquals(tokenizer.nextName(), "object");
+        assertEquals(tokenizer.nextRawValue(), "{ \"nested\": { \"deeper\": \"}]\\\"\" } }");
+
+        assertFalse(tokenizer.hasNext());
+        tokenizer.endObject();
+        tokenizer.endDocument();
+        assertEquals(tokenizer.peek(), JsonToken.END_DOCUMENT);
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws IOException {
+
+        JsonTokenizer tokenizer = new JsonTokenizer(new ByteArrayInputStream(JsonTokenizerTest.TEST_STRING.getBytes(StandardCharsets.UTF_8)));
+
+        Object value = tokenizer.nextValue();
+        tokenizer.endDocument();
+
+        assertTrue(value instanceof JSONObject);
+        JSONObject jsonObject = (JSONObject)value;
+        assertEquals(jsonObject.getString("string"), "Café \"Dalek\" é\n 🚀");
+        assertEquals(jsonObject.getInt("integer"), 42);
+        assertEquals(jsonObject.getBoolean("true"), true);
+        assertEquals(jsonObject.get("null"), JSONObject.NULL);
+        assertEquals(jsonObject.getJSONArray("array").length(), 4);
+        assertEquals(jsonObject.getJSONObject("object").getJSONObject("nested").getString("deeper"), "}]\"");
+
+    }
+
+
+    /**
+     * Test 3
+     */
+    @Test
+    public void test3() throws IOException {
+
+        /* Build a document larger than the tokenizer buffer */
+        StringBuilder stringBuilder = new StringBuilder("[");
+        for ( int i = 0; i < 5000; i++ ) {
+            stringBuilder.append((i > 0) ? "," : "").append("\"élément ").append(i).append("\"");
+        }
+        stringBuilder.append("]");
+
+        JsonTokenizer tokenizer = new JsonTokenizer(new ByteArrayInputStream(stringBuilder.toString().getBytes(StandardCharsets.UTF_8)));
+
+        int count = 0;
+        tokenizer.beginArray();
+        while ( tokenizer.hasNext() == true ) {
+            assertEquals(tokenizer.nextString(), "élément " + count);
+            count++;
+        }
+        tokenizer.endArray();
+        tokenizer.endDocument();
+
+        assertEquals(count, 5000);
+
+    }
+
+
+    /**
+     * Test 4
+     */
+    @Test(expected = JSONException.class)
+    public void test4() throws IOException {
+
+        JsonTokenizer tokenizer = new JsonTokenizer(new StringReader("{ \"a\": 1 \"b\": 2 }"));
+
+        tokenizer.beginObject();
+        assertEquals(tokenizer.nextName(), "a");
+        assertEquals(tokenizer.nextInt(), 1);
+        tokenizer.nextName();
+
+    }
+
+
+    /**
+     * Test 5
+     */
+    @Test(expected = JSONException.class)
+    public void test5() throws IOException {
+
+        JsonTokenizer tokenizer = new JsonTokenizer(new StringReader("{ \"a\": [ 1, { \"b\": 2 ]"));
+
+        tokenizer.beginObject();
+        tokenizer.nextName();
+        tokenizer.skipValue();
+
+    }
+
+
+    /**
+     * Test 6
+     */
+    @Test
+    public void test6() throws IOException {
+
+        /* Valid escapes are decoded, when read and when skipped */
+        JsonTokenizer tokenizer = new JsonTokenizer(new StringReader("[ \"\\\" \\\\ \\/ \\b \\f \\n \\r \\t \\u00e9\", \"\\/\" ]"));
+        tokenizer.beginArray();
+        assertEquals(tokenizer.nextString(), "\" \\ / \b \f \n \r \t \u00e9");
+        tokenizer.skipValue();
+        tokenizer.endArray();
+        tokenizer.endDocument();
+
+        /* Invalid escapes, read and skipped */
+        assertThrows(JSONException.class, () -> new JsonTokenizer(new StringReader("\"\\x\"")).nextString());
+        assertThrows(JSONException.class, () -> new JsonTokenizer(new StringReader("[ \"\\x\" ]")).skipValue());
+
+        /* Unescaped control characters, in values, names and skipped values */
+        assertThrows(JSONException.class, () -> new JsonTokenizer(new StringReader("\"a\tb\"")).nextString());
+        assertThrows(JSONException.class, () -> new JsonTokenizer(new StringReader("\"caf\u00e9\nb\"")).nextString());
+        assertThrows(JSONException.class, () -> {
+            JsonTokenizer nameTokenizer = new JsonTokenizer(new StringReader("{ \"a\u0001\": 1 }"));
+            nameTokenizer.beginObject();
+            nameTokenizer.nextName();
+        });
+        assertThrows(JSONException.class, () -> new JsonTokenizer(new StringReader("[ \"a\u001fb\" ]")).skipValue());
+
+        /* A trailing 0xFF byte is not the end of the input */
+        byte[] bytes = new byte[] { '{', '}', (byte)0xFF };
+        assertThrows(JSONException.class, () -> {
+            JsonTokenizer byteTokenizer = new JsonTokenizer(new ByteArrayInputStream(bytes));
+            byteTokenizer.skipValue();
+            byteTokenizer.endDocument();
+        });
+        assertThrows(JSONException.class, () -> {
+            JsonTokenizer byteTokenizer = new JsonTokenizer(ByteBuffer.wrap(bytes));
+            byteTokenizer.skipValue();
+            byteTokenizer.endDocument();
+        });
+
+    }
+
+
+    /**
+     * Test 7
+     */
+    @Test
+    public void test7() throws IOException {
+
+        /* Valid containers and numbers are skipped */
+        JsonTokenizer tokenizer = new JsonTokenizer(new StringReader("[ { \"a\": [ 0, -1, 1.5, 2e10, -0.25E-3, 1E+2 ], \"b\": {}, \"c\": [ true, false, null ] }, -0 ]"));
+        tokenizer.skipValue();
+        tokenizer.endDocument();
+
+        /* Mismatched brackets, missing and extra separators */
+        String[] invalidContainers = {
+            "{ \"_x\": [1} }",
+            "[ { ] }",
+            "{ \"a\" 1 2 ,, }",
+            "{ \"a\": 1, }",
+            "[ 1, ]",
+            "[ 1 2 ]",
+            "{ 1: 2 }",
+            "[ tru ]",
+            "[ 1"
+        };
+        for ( String invalidContainer : invalidContainers ) {
+            assertThrows(invalidContainer, JSONException.class, () -> new JsonTokenizer(new StringReader(invalidContainer)).skipValue());
+            assertThrows(invalidContainer, JSONException.class, () -> DefaultFeedReader.fromInputStream(new ByteArrayInputStream(
+                    ("{ \"version\": \"https://jsonfeed.org/version/1.1\", \"other\": " + invalidContainer + " }").getBytes(StandardCharsets.UTF_8))));
+        }
+
+        /* Numbers which do not follow the number grammar, skipped and read */
+        String[] invalidNumbers = { "1-2e+.", "01", "-", "1.", ".5", "1e", "1e+", "--1", "+1", "1.e5", "0x10" };
+        for ( String invalidNumber : invalidNumbers ) {
+            assertThrows(invalidNumber, JSONException.class, () -> {
+                JsonTokenizer numberTokenizer = new JsonTokenizer(new StringReader("[ " + invalidNumber + " ]"));
+                numberTokenizer.skipValue();
+                numberTokenizer.endDocument();
+            });
+            assertThrows(invalidNumber, JSONException.class, () -> {
+                JsonTokenizer numberTokenizer = new JsonTokenizer(new StringReader("[ " + invalidNumber + " ]"));
+                numberTokenizer.beginArray();
+                numberTokenizer.nextNumber();
+                numberTokenizer.endArray();
+            });
+        }
+
+    }
+
+
+}
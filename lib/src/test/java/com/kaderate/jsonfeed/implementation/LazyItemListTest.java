@@ -0,0 +1,138 @@
+/**
+ * LazyItemListTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.Item;
+import com.kaderate.jsonfeed.Version;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+
+
+
+/**
+ * Lazy Item List tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class LazyItemListTest {
+
+
+    private static final String TEST_STRING = "{" +
+            "\"version\": \"https://jsonfeed.org/version/1.1\"," +
+            "\"title\": \"Feed Feed\"," +
+            "\"items\": [ "+
+                "{ \"id\": \"1\", \"title\": \"Café\", \"author\": { \"name\": \"Dalek Caan\" } }, " +
+                "{ \"id\": \"2\", \"url\": \"https://ham.org/dalek invasion\" }, " +
+                "{ \"id\": \"3\", \"tags\": [ \"}\", \"]\" ] }" +
+            "]" +
+        "}";
+
+
+    private static final String TEST_STRING_MIXED = "{" +
+            "\"version\": \"https://jsonfeed.org/version/1\"," +
+            "\"title\": \"Feed Feed\"," +
+            "\"items\": [ "+
+                "{ \"id\": \"1\", \"author\": { \"name\": \"Dalek Caan\" } }, " +
+                "{ \"id\": \"2\", \"authors\": [] }, " +
+                "{ \"id\": \"3\", \"language\": \"en-CA\", \"authors\": [ { \"name\": \"Davros\" } ] }" +
+            "]" +
+        "}";
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws URISyntaxException, IOException {
+
+        ParseOptions parseOptions = new ParseOptions().setLazyItems(true);
+        Feed feed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(LazyItemListTest.TEST_STRING.getBytes(StandardCharsets.UTF_8)), parseOptions);
+
+        List<Item> itemList = feed.getItemList();
+        assertTrue(itemList instanceof LazyItemList);
+        assertEquals(itemList.size(), 3);
+        assertEquals(((LazyItemList)itemList).getDecodedItemList().size(), 0);
+
+        /* Items are decoded when accessed */
+        assertEquals(itemList.get(2).getTagList().get(1), "]");
+        assertEquals(((LazyItemList)itemList).getDecodedItemList().size(), 1);
+
+        /* Decoded items are upgraded to the feed version */
+        assertEquals(feed.getVersion(), Version.VERSION_1_1);
+        assertNull(itemList.get(0).getAuthor());
+        assertEquals(itemList.get(0).getAuthorList().get(0).getName(), "Dalek Caan");
+        assertEquals(itemList.get(0).getTitle(), "Café");
+
+        /* The invalid URI is only found when the item is decoded */
+        try {
+            itemList.get(1);
+            fail("Expected an IllegalArgumentException");
+        }
+        catch ( IllegalArgumentException exception ) {
+            assertTrue(exception.getCause() instanceof URISyntaxException);
+        }
+
+    }
+
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws URISyntaxException, IOException {
+
+        /* Version 1.1 items in a version 1.0 feed are found when the items are located */
+        byte[] feedBytes = LazyItemListTest.TEST_STRING_MIXED.getBytes(StandardCharsets.UTF_8);
+        Feed expectedFeed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes));
+        Feed feed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setLazyItems(true));
+        assertEquals(expectedFeed.getVersion(), Version.VERSION_1_1);
+        assertEquals(feed.getVersion(), Version.VERSION_1_1);
+
+        /* The item author is folded into the authors when the item is decoded */
+        assertNull(feed.getItemList().get(0).getAuthor());
+        assertEquals(feed.getItemList().get(0).getAuthorList().get(0).getName(), "Dalek Caan");
+        assertEquals(feed.toJSONString(), expectedFeed.toJSONString());
+
+        /* Empty author lists are not version 1.1 elements */
+        String feedString = LazyItemListTest.TEST_STRING_MIXED.replace("\"language\": \"en-CA\", ", "").replace("{ \"name\": \"Davros\" }", "");
+        feed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedString.getBytes(StandardCharsets.UTF_8)), new ParseOptions().setLazyItems(true));
+        assertEquals(feed.getVersion(), Version.VERSION_1_0);
+        assertEquals(feed.toJSONString(), DefaultFeed.fromString(feedString).toJSONString());
+
+    }
+
+
+}
@@ -0,0 +1,177 @@
+/**
+ * LazyTextTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 18, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+
+/* Import JSON stuff */
+import org.json.JSONException;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.Item;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
+import com.kaderate.jsonfeed.implementation.ItemLinesReader;
+import com.kaderate.jsonfeed.implementation.LazyText;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+
+
+
+/**
+ * Lazy text tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class LazyTextTest {
+
+
+    private static final String TEST_STRING = "{" +
+            "\"version\": \"https://jsonfeed.org/version/1.1\"," +
+            "\"title\": \"Lazy content\"," +
+            "\"items\": [" +
+                "{ \"id\": \"1\", \"content_text\": \"Plain ASCII text\", \"content_html\": \"<p>Caf\u00e9 \ud83d\ude00</p>\" }," +
+                "{ \"id\": \"2\", \"content_text\": \"Line\\nbreak \\u00e9\", \"content_html\": null }," +
+                "{ \"id\": \"3\", \"content_text\": 42 }" +
+            "]" +
+        "}";
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws URISyntaxException, IOException {
+
+        byte[] feedBytes = LazyTextTest.TEST_STRING.getBytes(StandardCharsets.UTF_8);
+        Feed expectedFeed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes));
+        Feed feed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setLazyContent(true));
+
+        /* The content is the same as when it is decoded */
+        for ( int i = 0; i < 3; i++ ) {
+            assertEquals(feed.getItemList().get(i).getContentText(), expectedFeed.getItemList().get(i).getContentText());
+            assertEquals(feed.getItemList().get(i).getContentHtml(), expectedFeed.getItemList().get(i).getContentHtml());
+            assertEquals(feed.getItemList().get(i).toJSONString(), expectedFeed.getItemList().get(i).toJSONString());
+        }
+        assertTrue(expectedFeed.getItemList().get(0).getContentTextSequence() instanceof String);
+
+        /* ASCII text is read from the feed bytes */
+        Item item = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setLazyContent(true)).getItemList().get(0);
+        LazyText lazyText = (LazyText)item.getContentTextSequence();
+        assertEquals(lazyText.length(), 16);
+        assertEquals(lazyText.charAt(6), 'A');
+        assertEquals(lazyText.subSequence(6, 11).toString(), "ASCII");
+        assertTrue(lazyText.subSequence(6, 11) instanceof LazyText);
+        assertThrows(IndexOutOfBoundsException.class, () -> lazyText.charAt(16));
+        assertEquals(StandardCharsets.UTF_8.decode(lazyText.getByteBuffer()).toString(), "Plain ASCII text");
+        assertFalse(lazyText.isDecoded());
+        assertEquals(lazyText.toString(), "Plain ASCII text");
+        assertTrue(lazyText.isDecoded());
+        assertSame(lazyText.toString(), lazyText.toString());
+
+        /* UTF-8 text is a slice of the feed bytes, it is decoded for characters */
+        LazyText utf8Text = (LazyText)item.getContentHtmlSequence();
+        assertTrue(utf8Text.getByteBuffer().isReadOnly());
+        assertEquals(StandardCharsets.UTF_8.decode(utf8Text.getByteBuffer()).toString(), "<p>Caf\u00e9 \ud83d\ude00</p>");
+        assertFalse(utf8Text.isDecoded());
+        assertEquals(utf8Text.length(), 14);
+        assertTrue(utf8Text.isDecoded());
+
+        /* Escaped text is decoded for its bytes */
+        LazyText escapedText = (LazyText)feed.getItemList().get(1).getContentTextSequence();
+        assertEquals(StandardCharsets.UTF_8.decode(escapedText.getByteBuffer()).toString(), "Line\nbreak \u00e9");
+        assertNull(feed.getItemList().get(1).getContentHtmlSequence());
+        assertEquals(feed.getItemList().get(2).getContentTextSequence(), "42");
+
+        /* Streams are read whole, and lazy items get views too */
+        feed = DefaultFeed.fromInputStream(new ByteArrayInputStream(ContentDecoderTest.gzip(feedBytes)), new ParseOptions().setLazyContent(true).setLazyItems(true));
+        assertTrue(feed.getItemList().get(0).getContentTextSequence() instanceof LazyText);
+        assertEquals(feed.getItemList().get(0).getContentText(), "Plain ASCII text");
+
+        /* Read-only and direct byte buffers */
+        ByteBuffer directByteBuffer = ByteBuffer.allocateDirect(feedBytes.length);
+        directByteBuffer.put(feedBytes).flip();
+        for ( ByteBuffer byteBuffer : new ByteBuffer[] { ByteBuffer.wrap(feedBytes).asReadOnlyBuffer(), directByteBuffer } ) {
+            feed = DefaultFeed.fromByteBuffer(byteBuffer, new ParseOptions().setLazyContent(true));
+            assertTrue(feed.getItemList().get(0).getContentHtmlSequence() instanceof LazyText);
+            assertEquals(feed.getItemList().get(0).getContentHtml(), "<p>Caf\u00e9 \ud83d\ude00</p>");
+        }
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws URISyntaxException, IOException {
+
+        /* Content is kept as strings from readers and transient inputs */
+        Feed feed = DefaultFeed.fromReader(new java.io.StringReader(LazyTextTest.TEST_STRING), new ParseOptions().setLazyContent(true));
+        assertTrue(feed.getItemList().get(0).getContentTextSequence() instanceof String);
+
+        String lines = "{\"id\": \"a\", \"content_text\": \"Text a\"}\n{\"id\": \"b\", \"content_text\": \"Text b\"}\n";
+        try ( ItemLinesReader itemLinesReader = ItemLinesReader.fromInputStream(new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)), new ParseOptions().setLazyContent(true)) ) {
+            Item item = itemLinesReader.next();
+            assertTrue(item.getContentTextSequence() instanceof String);
+            itemLinesReader.next();
+            assertEquals(item.getContentText(), "Text a");
+        }
+
+        /* Malformed UTF-8 is replaced when the text is decoded */
+        byte[] feedBytes = "{\"version\": \"https://jsonfeed.org/version/1.1\", \"items\": [{\"id\": \"1\", \"content_text\": \"Bad \u00ff\"}]}".getBytes(StandardCharsets.ISO_8859_1);
+        feed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setLazyContent(true));
+        LazyText lazyText = (LazyText)feed.getItemList().get(0).getContentTextSequence();
+        assertEquals(lazyText.getByteBuffer().remaining(), 5);
+        assertEquals(lazyText.toString(), "Bad \ufffd");
+        assertEquals(lazyText.toString(), DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes)).getItemList().get(0).getContentText());
+
+        /* Invalid escapes are found when the feed is parsed, also when the content is skipped */
+        byte[] invalidBytes = "{\"version\": \"https://jsonfeed.org/version/1.1\", \"items\": [{\"id\": \"1\", \"content_text\": \"Bad \\u00zz\"}]}".getBytes(StandardCharsets.UTF_8);
+        assertThrows(JSONException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(invalidBytes), new ParseOptions().setLazyContent(true)));
+        assertThrows(JSONException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(invalidBytes), new ParseOptions().setItemFields("id")));
+        assertThrows(JSONException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(invalidBytes)));
+
+        /* The length is checked when the feed is parsed, in characters as the text is decoded */
+        String longText = "Long text, longer than the version URI: caf\u00e9\n\ud83d\ude00";
+        byte[] longBytes = ("{\"version\": \"https://jsonfeed.org/version/1.1\", \"items\": [{\"id\": \"1\", \"content_text\": \"" +
+                longText.replace("\n", "\\n") + "\"}]}").getBytes(StandardCharsets.UTF_8);
+        for ( boolean lazyContent : new boolean[] { true, false } ) {
+            feed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(longBytes), new ParseOptions().setLazyContent(lazyContent).setMaxStringLength(longText.length()));
+            assertEquals(feed.getItemList().get(0).getContentText(), longText);
+            assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(longBytes), new ParseOptions().setLazyContent(lazyContent).setMaxStringLength(longText.length() - 1)));
+        }
+        assertTrue(DefaultFeed.fromByteBuffer(ByteBuffer.wrap(longBytes), new ParseOptions().setLazyContent(true).setMaxStringLength(longText.length())).getItemList().get(0).getContentTextSequence() instanceof LazyText);
+
+    }
+
+
+}
@@ -0,0 +1,137 @@
+/**
+ * LazyUriTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.net.URI;
+import java.net.URISyntaxException;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.implementation.LazyUri;
+
+
+
+/**
+ * Lazy URI tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class LazyUriTest {
+
+
+    private static final String[] VALID_URIS = {
+            "https://ham.org/",
+            "https://ham.org/feed.json?page=2",
+            "https://ham.org/a%20b#top",
+            "mailto:dalek@ham.org",
+            "/relative/path",
+            "relative:colon/after",
+            "https://ham.org/café",
+            "urn:isbn:0451450523",
+            "http://[::1]:8080/feed.json",
+            "https://ham.org/feed.json?page[number]=2#[top]",
+            "file:///tmp/feed.json",
+            "http://?query",
+            ""
+        };
+
+
+    private static final String[] INVALID_URIS = {
+            "https://ham.org/dalek invasion",
+            "https://ham.org/%2",
+            "https://ham.org/%zz",
+            "https://ham.org/a#b#c",
+            "1ttp://ham.org/",
+            ":ham",
+            "https://ham.org/<tardis>",
+            "https://ham.org/\"quoted\"",
+            "https://ham.org/a[1].html",
+            "http:",
+            "http:#fragment",
+            "http://",
+            "http://[bad/x"
+        };
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws URISyntaxException {
+
+        /* The validation matches java.net.URI */
+        for ( String string : LazyUriTest.VALID_URIS ) {
+            LazyUri.validate(string);
+            new URI(string);
+        }
+
+        for ( String string : LazyUriTest.INVALID_URIS ) {
+
+            try {
+                LazyUri.validate(string);
+                fail("Expected a URISyntaxException for: " + string);
+            }
+            catch ( URISyntaxException exception ) {
+                assertEquals(exception.getInput(), string);
+            }
+
+            try {
+                new URI(string);
+                fail("Expected a URISyntaxException from java.net.URI for: " + string);
+            }
+            catch ( URISyntaxException exception ) {
+            }
+        }
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws URISyntaxException {
+
+        /* The URI is created when requested and then kept */
+        LazyUri lazyUri = LazyUri.fromString("https://ham.org/feed.json", true);
+        assertEquals(lazyUri.toString(), "https://ham.org/feed.json");
+        assertEquals(lazyUri.getUri(), new URI("https://ham.org/feed.json"));
+        assertSame(lazyUri.getUri(), lazyUri.getUri());
+
+        /* An invalid URI is only reported when requested if it was not validated */
+        LazyUri invalidLazyUri = LazyUri.fromString("https://ham.org/dalek invasion", false);
+        assertEquals(invalidLazyUri.toString(), "https://ham.org/dalek invasion");
+        assertThrows(IllegalArgumentException.class, () -> invalidLazyUri.getUri());
+
+        /* From a URI */
+        URI uri = new URI("https://ham.org/");
+        assertSame(LazyUri.fromUri(uri).getUri(), uri);
+        assertNull(LazyUri.fromUri(null));
+
+    }
+
+
+}
@@ -0,0 +1,119 @@
+/**
+ * MappedFileInputStreamTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+
+
+/**
+ * Mapped File Input Stream tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class MappedFileInputStreamTest {
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws IOException {
+
+        byte[] fileBytes = new byte[1000];
+        for ( int i = 0; i < fileBytes.length; i++ ) {
+            fileBytes[i] = (byte)i;
+        }
+
+        Path filePath = Files.createTempFile("mapped", ".bin");
+
+        try {
+
+            Files.write(filePath, fileBytes);
+
+            /* Read across many small segments */
+            try ( InputStream inputStream = new MappedFileInputStream(filePath, 7) ) {
+
+                ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+                byte[] buffer = new byte[64];
+                int bytesRead = 0;
+                while ( (bytesRead = inputStream.read(buffer)) >= 0 ) {
+                    byteArrayOutputStream.write(buffer, 0, bytesRead);
+                }
+
+                assertArrayEquals(byteArrayOutputStream.toByteArray(), fileBytes);
+                assertEquals(inputStream.read(), -1);
+
+            }
+
+            /* Skip across segments */
+            try ( MappedFileInputStream inputStream = new MappedFileInputStream(filePath, 7) ) {
+
+                assertEquals(inputStream.size(), 1000);
+                assertEquals(inputStream.skip(500), 500);
+                assertEquals(inputStream.read(), 500 & 0xFF);
+
+                ByteBuffer byteBuffer = inputStream.map(10, 5);
+                assertEquals(byteBuffer.remaining(), 5);
+                assertEquals(byteBuffer.get(), 10);
+
+            }
+
+        }
+        finally {
+            Files.delete(filePath);
+        }
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws IOException {
+
+        Path filePath = Files.createTempFile("mapped", ".bin");
+
+        try ( InputStream inputStream = new MappedFileInputStream(filePath) ) {
+
+            assertEquals(inputStream.read(), -1);
+            assertEquals(inputStream.read(new byte[10], 0, 10), -1);
+
+        }
+        finally {
+            Files.delete(filePath);
+        }
+
+    }
+
+
+}
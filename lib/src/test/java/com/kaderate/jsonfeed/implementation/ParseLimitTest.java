@@ -0,0 +1,283 @@
+/**
+ * ParseLimitTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 18, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.StringReader;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.FeedListener;
+import com.kaderate.jsonfeed.FeedReader;
+import com.kaderate.jsonfeed.Item;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
+import com.kaderate.jsonfeed.implementation.DefaultFeedReader;
+import com.kaderate.jsonfeed.implementation.FeedParser;
+import com.kaderate.jsonfeed.implementation.FeedPushParser;
+import com.kaderate.jsonfeed.implementation.ItemLinesReader;
+import com.kaderate.jsonfeed.implementation.ParseLimit;
+import com.kaderate.jsonfeed.implementation.ParseLimitException;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+
+
+
+/**
+ * Parse limit tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class ParseLimitTest {
+
+
+    /**
+     * Create a feed string
+     *
+     * @param   itemCount   the number of items
+     *
+     * @return  the feed string
+     */
+    private static String createFeedString(final int itemCount) {
+
+        StringBuilder feedString = new StringBuilder("{\"version\": \"https://jsonfeed.org/version/1.1\", \"title\": \"Limits\", \"items\": [");
+        for ( int i = 0; i < itemCount; i++ ) {
+            feedString.append((i > 0) ? "," : "").append("{\"id\": \"").append(i).append("\", \"content_text\": \"Item text ").append(i).append("\"}");
+        }
+        feedString.append("], \"home_page_url\": \"https://ham.org/\"}");
+
+        return (feedString.toString());
+
+    }
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() throws URISyntaxException, IOException {
+
+        byte[] feedBytes = ParseLimitTest.createFeedString(100).getBytes(StandardCharsets.UTF_8);
+
+        /* Too many items are rejected */
+        ParseOptions parseOptions = new ParseOptions().setMaxItems(10);
+        ParseLimitException exception = assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), parseOptions));
+        assertEquals(exception.getLimit(), ParseLimit.ITEMS);
+        assertEquals(exception.getMaximum(), 10);
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxItems(10).setLazyItems(true)));
+        assertEquals(DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxItems(100)).getItemList().size(), 100);
+
+        /* Or truncated, the members after the items are still decoded */
+        parseOptions.setTruncateItems(true);
+        for ( ParseOptions truncateOptions : new ParseOptions[] { parseOptions, new ParseOptions().setMaxItems(10).setTruncateItems(true).setLazyItems(true) } ) {
+            Feed feed = DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes), truncateOptions);
+            assertTrue(feed.isTruncated());
+            assertEquals(feed.getItemList().size(), 10);
+            assertEquals(feed.getItemList().get(9).getID(), "9");
+            assertEquals(feed.getHomePageUri().toString(), "https://ham.org/");
+        }
+        assertFalse(DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes)).isTruncated());
+
+        /* Feed readers */
+        try ( FeedReader feedReader = DefaultFeedReader.fromInputStream(new ByteArrayInputStream(feedBytes), parseOptions) ) {
+            int itemCount = 0;
+            while ( feedReader.hasNext() == true ) {
+                feedReader.next();
+                itemCount++;
+            }
+            assertEquals(itemCount, 10);
+            assertTrue(feedReader.getFeed().isTruncated());
+            assertEquals(feedReader.getFeed().getHomePageUri().toString(), "https://ham.org/");
+        }
+        try ( FeedReader feedReader = DefaultFeedReader.fromInputStream(new ByteArrayInputStream(feedBytes), new ParseOptions().setMaxItems(10)) ) {
+            for ( int i = 0; i < 10; i++ ) {
+                feedReader.next();
+            }
+            assertThrows(ParseLimitException.class, () -> feedReader.hasNext());
+        }
+
+        /* Push parsers */
+        List<Item> itemList = new ArrayList<Item>();
+        List<Feed> feedList = new ArrayList<Feed>();
+        FeedListener feedListener = new FeedListener() {
+            @Override
+            public void onFeed(Feed feed) {
+            }
+            @Override
+            public void onItem(Item item) {
+                itemList.add(item);
+            }
+            @Override
+            public void onEnd(Feed feed) {
+                feedList.add(feed);
+            }
+        };
+        FeedPushParser feedPushParser = new FeedPushParser(feedListener, parseOptions);
+        for ( int i = 0; i < feedBytes.length; i += 100 ) {
+            feedPushParser.feed(ByteBuffer.wrap(feedBytes, i, Math.min(100, feedBytes.length - i)));
+        }
+        feedPushParser.end();
+        assertEquals(itemList.size(), 10);
+        assertTrue(feedList.get(0).isTruncated());
+
+        FeedPushParser limitedFeedPushParser = new FeedPushParser(feedListener, new ParseOptions().setMaxBytes(1000));
+        exception = assertThrows(ParseLimitException.class, () -> limitedFeedPushParser.feed(ByteBuffer.wrap(feedBytes)));
+        assertEquals(exception.getLimit(), ParseLimit.BYTES);
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws URISyntaxException, IOException {
+
+        byte[] feedBytes = ParseLimitTest.createFeedString(100).getBytes(StandardCharsets.UTF_8);
+        ParseOptions parseOptions = new ParseOptions().setMaxBytes(1000);
+
+        /* Byte buffers are checked before they are parsed, streams and readers as they are read */
+        ParseLimitException exception = assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), parseOptions));
+        assertEquals(exception.getLimit(), ParseLimit.BYTES);
+        assertEquals(exception.getMaximum(), 1000);
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes), parseOptions));
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromInputStream(new ByteArrayInputStream(ContentDecoderTest.gzip(feedBytes)), parseOptions));
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromReader(new StringReader(ParseLimitTest.createFeedString(100)), parseOptions));
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes), new ParseOptions().setMaxBytes(1000).setLazyItems(true)));
+        assertThrows(ParseLimitException.class, () -> new FeedParser(parseOptions).parse(new ByteArrayInputStream(feedBytes)));
+        assertEquals(DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxBytes(feedBytes.length)).getItemList().size(), 100);
+
+        /* An endless stream is abandoned once the limit is reached */
+        InputStream endlessStream = new InputStream() {
+            private final byte[] bytes = "{\"id\": \"x\", \"content_text\": \"Text\"},".getBytes(StandardCharsets.UTF_8);
+            private long position = -1;
+            @Override
+            public int read() {
+                if ( this.position < 0 ) {
+                    this.position = 0;
+                    return ('[');
+                }
+                return (this.bytes[(int)(this.position++ % this.bytes.length)]);
+            }
+        };
+        InputStream feedStream = new SequenceInputStream(new ByteArrayInputStream("{\"version\": \"https://jsonfeed.org/version/1.1\", \"items\": ".getBytes(StandardCharsets.UTF_8)), endlessStream);
+        exception = assertThrows(ParseLimitException.class, () -> DefaultFeed.fromInputStream(feedStream, new ParseOptions().setMaxBytes(1024 * 1024)));
+        assertEquals(exception.getLimit(), ParseLimit.BYTES);
+
+    }
+
+
+    /**
+     * Test 3
+     */
+    @Test
+    public void test3() throws URISyntaxException, IOException {
+
+        String longText = new String(new char[20000]).replace('\0', 'x');
+        String feedString = "{\"version\": \"https://jsonfeed.org/version/1.1\", \"title\": \"Limits\", \"items\": [" +
+                "{\"id\": \"1\", \"content_text\": \"" + longText + "\"}," +
+                "{\"id\": \"2\", \"content_html\": \"<p>Café " + longText + "</p>\"}]}";
+        byte[] feedBytes = feedString.getBytes(StandardCharsets.UTF_8);
+
+        /* Long strings, in the buffer or not, with non ASCII characters or not */
+        ParseOptions parseOptions = new ParseOptions().setMaxStringLength(10000);
+        ParseLimitException exception = assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), parseOptions));
+        assertEquals(exception.getLimit(), ParseLimit.STRING_LENGTH);
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes), parseOptions));
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxStringLength(10000).setItemFields("id", "content_html")));
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxStringLength(10000).setLazyItems(true)).getItemList().get(0));
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(("{\"" + longText + "\": 1}").getBytes(StandardCharsets.UTF_8)), parseOptions));
+
+        /* Skipped strings are not decoded so they are not checked */
+        Feed feed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxStringLength(10000).setItemFields("id"));
+        assertEquals(feed.getItemList().size(), 2);
+        feed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxStringLength(20012));
+        assertEquals(feed.getItemList().get(1).getContentHtml().length(), 20012);
+
+    }
+
+
+    /**
+     * Test 4
+     */
+    @Test
+    public void test4() throws URISyntaxException, IOException {
+
+        String nested = new String(new char[500]).replace('\0', '[') + new String(new char[500]).replace('\0', ']');
+        String feedString = "{\"version\": \"https://jsonfeed.org/version/1.1\", \"title\": \"Limits\", \"items\": [" +
+                "{\"id\": \"1\", \"_blue_shed\": { \"about\": " + nested + " }, \"_red_shed\": [ 1, 2, 3 ]}]}";
+        byte[] feedBytes = feedString.getBytes(StandardCharsets.UTF_8);
+
+        /* Deep values are rejected whether they are decoded or skipped */
+        ParseOptions parseOptions = new ParseOptions().setMaxDepth(64);
+        ParseLimitException exception = assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), parseOptions));
+        assertEquals(exception.getLimit(), ParseLimit.DEPTH);
+        assertEquals(exception.getMaximum(), 64);
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxDepth(64).setItemFields("id")));
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxDepth(64).setLazyItems(true)));
+        assertEquals(DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxDepth(504)).getItemList().size(), 1);
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxDepth(503)));
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxDepth(503).setItemFields("id")));
+
+        /* Large extensions are rejected, unless they are not selected */
+        exception = assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxExtensionSize(100)));
+        assertEquals(exception.getLimit(), ParseLimit.EXTENSION_SIZE);
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes), new ParseOptions().setMaxExtensionSize(100)));
+        Feed feed = DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxExtensionSize(100).setItemFields("id", "_red_shed"));
+        assertEquals(feed.getItemList().get(0).getExtensionsJSONObject().toString(), "{\"_red_shed\":[1,2,3]}");
+        assertThrows(ParseLimitException.class, () -> DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxExtensionSize(10).setItemFields("id", "_red_shed")));
+        assertEquals(DefaultFeed.fromByteBuffer(ByteBuffer.wrap(feedBytes), new ParseOptions().setMaxExtensionSize(11).setItemFields("id", "_red_shed")).getItemList().size(), 1);
+
+        /* Item lines, the limits apply to each line */
+        String lines = "{\"id\": \"a\"}\n{\"id\": \"b\", \"content_text\": \"" + new String(new char[100000]).replace('\0', 'x') + "\"}\n";
+        try ( ItemLinesReader itemLinesReader = ItemLinesReader.fromInputStream(new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)), new ParseOptions().setMaxBytes(1000)) ) {
+            assertEquals(itemLinesReader.next().getID(), "a");
+            exception = assertThrows(ParseLimitException.class, () -> itemLinesReader.next());
+            assertEquals(exception.getLimit(), ParseLimit.BYTES);
+            assertTrue(exception.getMessage().startsWith("Invalid item on line 1"));
+        }
+        try ( ItemLinesReader itemLinesReader = ItemLinesReader.fromInputStream(new ByteArrayInputStream(lines.getBytes(StandardCharsets.UTF_8)), new ParseOptions().setMaxStringLength(1000)) ) {
+            assertEquals(itemLinesReader.next().getID(), "a");
+            exception = assertThrows(ParseLimitException.class, () -> itemLinesReader.next());
+            assertEquals(exception.getLimit(), ParseLimit.STRING_LENGTH);
+        }
+
+        /* Invalid limits */
+        assertThrows(IllegalArgumentException.class, () -> new ParseOptions().setMaxBytes(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ParseOptions().setMaxItems(-1));
+        assertThrows(IllegalArgumentException.class, () -> new ParseOptions().setMaxDepth(-1));
+
+    }
+
+
+}
@@ -0,0 +1,85 @@
+/**
+ * ParseOptionsTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+
+
+
+/**
+ * Parse Options tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class ParseOptionsTest {
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() {
+
+        ParseOptions parseOptions = new ParseOptions();
+
+        assertNull(parseOptions.getFeedFieldSet());
+        assertNull(parseOptions.getItemFieldSet());
+        assertTrue(parseOptions.isFeedFieldSelected("items"));
+        assertTrue(parseOptions.isItemFieldSelected("content_html"));
+        assertTrue(parseOptions.isItemFieldSelected("_blue_shed"));
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() {
+
+        ParseOptions parseOptions = new ParseOptions()
+                .setFeedFields("title")
+                .setItemFields("id", "url", "_blue_shed");
+
+        assertTrue(parseOptions.isFeedFieldSelected("version"));
+        assertTrue(parseOptions.isFeedFieldSelected("title"));
+        assertFalse(parseOptions.isFeedFieldSelected("items"));
+
+        assertTrue(parseOptions.isItemFieldSelected("id"));
+        assertTrue(parseOptions.isItemFieldSelected("url"));
+        assertFalse(parseOptions.isItemFieldSelected("content_html"));
+        assertTrue(parseOptions.isItemFieldSelected("_blue_shed"));
+        assertFalse(parseOptions.isItemFieldSelected("_red_shed"));
+
+        parseOptions.setItemFields("id", "_");
+        assertTrue(parseOptions.isItemFieldSelected("_red_shed"));
+
+        parseOptions.setItemFields((String[])null);
+        assertTrue(parseOptions.isItemFieldSelected("content_html"));
+
+    }
+
+
+}
@@ -0,0 +1,126 @@
+/**
+ * Rfc3339DateCodecTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Random;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.implementation.Rfc3339DateCodec;
+
+
+
+/**
+ * RFC 3339 Date Codec tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class Rfc3339DateCodecTest {
+
+
+    private static final String[] VALID_DATES = {
+            "2010-02-07T14:04:00-05:00",
+            "2020-11-03T10:30:00Z",
+            "2020-11-03t10:30:00z",
+            "2020-02-29T23:59:59.5+01:00",
+            "2020-02-29T23:59:59.123456789+18:00",
+            "1969-12-31T23:59:59.999999Z",
+            "0001-01-01T00:00:00Z",
+            "0000-03-01T00:00:00Z",
+            "9999-12-31T23:59:59-18:00",
+            "2020-11-03T10:30Z",
+            "2020-11-03T10:30:00+05:30:15",
+            "2020-11-03T10:30:00-00:00",
+            "2020-11-03T10:30:00.Z"
+        };
+
+
+    private static final String[] INVALID_DATES = {
+            "2019-02-29T10:30:00Z",
+            "2020-13-03T10:30:00Z",
+            "2020-11-03T24:00:00Z",
+            "2020-11-03T10:60:00Z",
+            "2020-11-03T10:30:00",
+            "2020-11-03T10:30:00.1234567890Z",
+            "2020-11-03T10:30:00+19:00",
+            "2020-11-03 10:30:00Z",
+            "2020-11-03"
+        };
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() {
+
+        /* Parsing matches OffsetDateTime */
+        for ( String string : Rfc3339DateCodecTest.VALID_DATES ) {
+            assertEquals(Rfc3339DateCodec.parse(string), OffsetDateTime.parse(string).toInstant());
+        }
+
+        for ( String string : Rfc3339DateCodecTest.INVALID_DATES ) {
+            assertThrows(DateTimeParseException.class, () -> OffsetDateTime.parse(string));
+            assertThrows(DateTimeParseException.class, () -> Rfc3339DateCodec.parse(string));
+        }
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() {
+
+        Random random = new Random(42);
+
+        /* Formatting matches Instant.toString() and parses back */
+        for ( int i = 0; i < 100000; i++ ) {
+            long epochSecond = (random.nextLong() % 400000000000L);
+            int nano = 0;
+            switch ( i % 4 ) {
+                case 1: nano = random.nextInt(1000) * 1000000; break;
+                case 2: nano = random.nextInt(1000000) * 1000; break;
+                case 3: nano = random.nextInt(1000000000); break;
+            }
+            Instant instant = Instant.ofEpochSecond(epochSecond, nano);
+            String string = Rfc3339DateCodec.format(instant);
+            assertEquals(string, instant.toString());
+            assertEquals(Rfc3339DateCodec.parse(string), instant);
+        }
+
+        assertEquals(Rfc3339DateCodec.format(Instant.EPOCH), "1970-01-01T00:00:00Z");
+        assertEquals(Rfc3339DateCodec.format(Instant.MAX), Instant.MAX.toString());
+        assertEquals(Rfc3339DateCodec.format(Instant.MIN), Instant.MIN.toString());
+
+    }
+
+
+}
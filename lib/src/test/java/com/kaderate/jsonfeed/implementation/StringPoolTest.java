@@ -0,0 +1,170 @@
+/**
+ * StringPoolTest.java
+ *
+ * @author Francois Schiettecatte
+ * @version 1.0
+ *
+ * Change History:
+ *    - Oct 17, 2026 - File was created
+ *
+ * TBD:
+ *    -
+ *
+ *
+ */
+
+
+/* Package location */
+package com.kaderate.jsonfeed.implementation;
+
+
+/* Import Java stuff */
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/* Import JUnit stuff */
+import org.junit.Test;
+import static org.junit.Assert.*;
+
+/* Import JSONFeed stuff */
+import com.kaderate.jsonfeed.Feed;
+import com.kaderate.jsonfeed.Item;
+import com.kaderate.jsonfeed.implementation.DefaultFeed;
+import com.kaderate.jsonfeed.implementation.FeedParser;
+import com.kaderate.jsonfeed.implementation.ParseOptions;
+import com.kaderate.jsonfeed.implementation.StringPool;
+
+
+
+/**
+ * String pool tests
+ *
+ * @author François Schiettecatte (fschiettecatte@gmail.com)
+ * @version 1.0.0
+ */
+public class StringPoolTest {
+
+
+    private static final String TEST_STRING = "{" +
+            "\"version\": \"https://jsonfeed.org/version/1.1\"," +
+            "\"title\": \"Pool\"," +
+            "\"language\": \"en\"," +
+            "\"hubs\": [ { \"type\": \"WebSub\", \"url\": \"https://ham.org/hub\" } ]," +
+            "\"items\": [" +
+                "{ \"id\": \"1\", \"tags\": [ \"news\", \"tech\" ], \"authors\": [ { \"name\": \"Dalek\", \"url\": \"https://ham.org/dalek\" } ], " +
+                    "\"attachments\": [ { \"url\": \"https://ham.org/1.mp3\", \"mime_type\": \"audio/mpeg\" } ] }," +
+                "{ \"id\": \"2\", \"tags\": [ \"news\" ], \"authors\": [ { \"name\": \"Dalek\", \"url\": \"https://ham.org/dalek\" } ], " +
+                    "\"attachments\": [ { \"url\": \"https://ham.org/2.mp3\", \"mime_type\": \"audio/mpeg\" } ] }" +
+            "]" +
+        "}";
+
+
+
+    /**
+     * Test 1
+     */
+    @Test
+    public void test1() {
+
+        StringPool stringPool = new StringPool();
+        assertEquals(stringPool.getCapacity(), StringPool.DEFAULT_CAPACITY);
+        assertEquals(stringPool.getMaxStringLength(), StringPool.DEFAULT_MAX_STRING_LENGTH);
+
+        /* Equal strings share the first instance */
+        String string = new String("audio/mpeg");
+        assertSame(stringPool.intern(string), string);
+        assertSame(stringPool.intern(new String("audio/mpeg")), string);
+        assertNull(stringPool.intern(null));
+
+        /* Long strings are not kept */
+        String longString = new String(new char[StringPool.DEFAULT_MAX_STRING_LENGTH + 1]).replace('\0', 'a');
+        assertSame(stringPool.intern(longString), longString);
+        assertNotSame(stringPool.intern(new String(longString)), longString);
+
+        /* The pool is cleared */
+        stringPool.clear();
+        assertNotSame(stringPool.intern(new String("audio/mpeg")), string);
+
+        /* The capacity is rounded up to a power of two and bounds the pool */
+        assertEquals(new StringPool(100, 16).getCapacity(), 128);
+        assertEquals(new StringPool(1, 16).getCapacity(), 1);
+        stringPool = new StringPool(1, 16);
+        stringPool.intern("a");
+        stringPool.intern("b");
+        String a = new String("a");
+        assertSame(stringPool.intern(a), a);
+
+        assertThrows(IllegalArgumentException.class, () -> new StringPool(0, 16));
+        assertThrows(IllegalArgumentException.class, () -> new StringPool(16, -1));
+
+    }
+
+
+    /**
+     * Test 2
+     */
+    @Test
+    public void test2() throws URISyntaxException, IOException {
+
+        byte[] feedBytes = StringPoolTest.TEST_STRING.getBytes(StandardCharsets.UTF_8);
+
+        /* Repeated values are shared across the items and across the feeds */
+        ParseOptions parseOptions = new ParseOptions().setStringPool(new StringPool());
+        Feed feed1 = DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes), parseOptions);
+        Feed feed2 = new FeedParser(parseOptions).parse(new ByteArrayInputStream(feedBytes));
+
+        Item item1 = feed1.getItemList().get(0);
+        Item item2 = feed1.getItemList().get(1);
+        assertSame(item1.getTagList().get(0), item2.getTagList().get(0));
+        assertSame(item1.getAuthorList().get(0).getName(), item2.getAuthorList().get(0).getName());
+        assertSame(item1.getAttachmentList().get(0).getMimeType(), item2.getAttachmentList().get(0).getMimeType());
+        assertSame(item1.getTagList().get(1), feed2.getItemList().get(0).getTagList().get(1));
+        assertSame(feed1.getLanguage(), feed2.getLanguage());
+        assertSame(feed1.getHubList().get(0).getType(), feed2.getHubList().get(0).getType());
+        assertSame(item1.getAuthorList().get(0).getName(), feed2.getItemList().get(1).getAuthorList().get(0).getName());
+
+        /* The feed is the same without a string pool */
+        assertNull(new ParseOptions().getStringPool());
+        assertEquals(feed1.toJSONString(), DefaultFeed.fromInputStream(new ByteArrayInputStream(feedBytes), new ParseOptions()).toJSONString());
+
+    }
+
+
+    /**
+     * Test 3
+     */
+    @Test
+    public void test3() throws Exception {
+
+        /* The pool is shared by concurrent parsers */
+        final StringPool stringPool = new StringPool();
+        final byte[] feedBytes = StringPoolTest.TEST_STRING.getBytes(StandardCharsets.UTF_8);
+        final ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Feed>> feedFutureList = new ArrayList<Future<Feed>>();
+            for ( int i = 0; i < 32; i++ ) {
+                feedFutureList.add(executorService.submit(() -> new FeedParser(new ParseOptions().setStringPool(stringPool)).parse(new ByteArrayInputStream(feedBytes))));
+            }
+            for ( Future<Feed> feedFuture : feedFutureList ) {
+                Feed feed = feedFuture.get();
+                assertEquals(feed.getItemList().get(0).getTagList().get(0), "news");
+                assertEquals(feed.getItemList().get(1).getAuthorList().get(0).getName(), "Dalek");
+            }
+            assertSame(stringPool.intern(new String("news")), stringPool.intern(new String("news")));
+        }
+        finally {
+            executorService.shutdown();
+        }
+
+    }
+
+
+}